@@ -0,0 +1,484 @@
+// Imports
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+
+
+/**
+ * Graph that moves between a ListGraph and a MatrixGraph as its density changes
+ *
+ * <p>Density is {@code edgeCount() / size()^2}, the fraction of possible edges
+ * present. It is checked in constant time after every change. A sparse graph
+ * of at least {@value #MIN_DENSE_SIZE} vertices whose density reaches the
+ * dense threshold is copied into a MatrixGraph, and a dense graph whose
+ * density falls to the sparse threshold is copied back into a ListGraph.
+ * The gap between the two thresholds keeps a graph near either one from
+ * flapping: after a migration, a number of changes proportional to the
+ * edges copied must happen before the next one, so the copying is amortised
+ * over them.</p>
+ *
+ * <p>Iterators come from the current representation. As with any change,
+ * a change that triggers a migration invalidates iterators obtained before
+ * it. Removing through an iterator does not migrate while the iterator is
+ * in use: density is checked once the iterator is exhausted, or on the next
+ * change made through the graph if it is abandoned early.</p>
+ *
+ * @author blee20@georgefox.edu
+ * @param <V> Label type for vertices
+ * @param <E> Label type for edges
+ */
+public class AdaptiveGraph<V, E> extends DirectedGraph<V, E> {
+    // Constants
+    // RetainedHeap density at 2000 vertices measured ListGraph at about 56
+    // bytes per edge and MatrixGraph at 4 bytes per cell, so they cost the
+    // same memory near a density of 1/14. The 109 bytes per edge measured by
+    // RetainedHeap memory is for rows of four edges, where per-vertex
+    // overhead dominates; at the densities where a matrix can win, rows are
+    // much longer and the lower figure applies
+    static final double DEFAULT_SPARSE_THRESHOLD = 1.0 / 32;
+    static final double DEFAULT_DENSE_THRESHOLD = 1.0 / 8;
+    static final int MIN_DENSE_SIZE = 64;
+    private static final double GROWTH_FACTOR = 2.0;
+
+
+    // Internal State
+    private final double _sparseThreshold;
+    private final double _denseThreshold;
+    private final boolean _trackInEdges;
+    private DirectedGraph<V, E> _graph;
+    private boolean _dense;
+    private int _migrations;
+
+
+    // Constructors
+    /**
+     * Creates an empty graph with the default thresholds and no in-edge index
+     */
+    public AdaptiveGraph() {
+        this(false);
+    }
+
+
+    /**
+     * Creates an empty graph with the default thresholds
+     *
+     * @param trackInEdges True to keep an in-edge index in either representation
+     */
+    public AdaptiveGraph(boolean trackInEdges) {
+        this(DEFAULT_SPARSE_THRESHOLD, DEFAULT_DENSE_THRESHOLD, trackInEdges);
+    }
+
+
+    /**
+     * Creates an empty graph, which starts as a ListGraph
+     *
+     * @param sparseThreshold Density at or below which a MatrixGraph becomes a ListGraph
+     * @param denseThreshold Density at or above which a ListGraph becomes a MatrixGraph
+     * @param trackInEdges True to keep an in-edge index in either representation
+     */
+    public AdaptiveGraph(double sparseThreshold, double denseThreshold, boolean trackInEdges) {
+        if (!(sparseThreshold >= 0.0 && sparseThreshold < denseThreshold && denseThreshold <= 1.0)) {
+            throw new IllegalArgumentException("Error: Thresholds must satisfy 0 <= sparse < dense <= 1");
+        }
+
+        _sparseThreshold = sparseThreshold;
+        _denseThreshold = denseThreshold;
+        _trackInEdges = trackInEdges;
+        _graph = new ListGraph<>(trackInEdges);
+    }
+
+
+    // Methods
+    /**
+     * Creates a new vertex and adds it to the graph
+     *
+     * @param u Vertex label
+     */
+    public void add(V u) {
+        _graph.add(u);
+        adapt();
+    }
+
+
+    /**
+     * Adds every label in a collection as a new vertex
+     *
+     * @param labels Vertex labels
+     */
+    public void addAllVertices(Collection<? extends V> labels) {
+        _graph.addAllVertices(labels);
+        adapt();
+    }
+
+
+    /**
+     * Determines if the given label is assigned to a vertex
+     *
+     * @param u Vertex label
+     * @return True if vertex with label exists, else false
+     */
+    public boolean contains(V u) {
+        return _graph.contains(u);
+    }
+
+
+    /**
+     * Fetches the vertex with designated label
+     *
+     * @param u Vertex label
+     * @return Vertex of type V with corresponding label
+     */
+    public Vertex<V> get(V u) {
+        return _graph.get(u);
+    }
+
+
+    /**
+     * Deletes a Vertex object
+     *
+     * @param u Vertex label
+     * @return Deleted vertex's label
+     */
+    public V remove(V u) {
+        V label = _graph.remove(u);
+
+        adapt();
+
+        return label;
+    }
+
+
+    /**
+     * Creates a new edge and assigns it to two vertices on the graph
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @param label Edge label
+     */
+    public void addEdge(V u, V v, E label) {
+        _graph.addEdge(u, v, label);
+        adapt();
+    }
+
+
+    /**
+     * Adds the edges {@code src[i] -> dst[i]} labelled {@code labels[i]}; see
+     * {@link DirectedGraph#addEdges}
+     *
+     * @param src Source vertex labels
+     * @param dst Destination vertex labels, parallel to src
+     * @param labels Edge labels, parallel to src
+     * @param policy What to do with edges that are already present
+     * @return Number of edges newly added
+     */
+    public int addEdges(V[] src, V[] dst, E[] labels, DuplicatePolicy policy) {
+        int added = _graph.addEdges(src, dst, labels, policy);
+
+        adapt();
+
+        return added;
+    }
+
+
+    /**
+     * Determines if the given vertices share an edge
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return True if edge exists from u to v, else false
+     */
+    public boolean containsEdge(V u, V v) {
+        return _graph.containsEdge(u, v);
+    }
+
+
+    /**
+     * Fetches an edge if it exists from u to v
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Edge of type E from u to v
+     */
+    public Edge<V, E> getEdge(V u, V v) {
+        return _graph.getEdge(u, v);
+    }
+
+
+    /**
+     * Deletes an Edge object
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Deleted edge's label
+     */
+    public E removeEdge(V u, V v) {
+        E label = _graph.removeEdge(u, v);
+
+        adapt();
+
+        return label;
+    }
+
+
+    /**
+     * Fetches the size of the graph (number of vertices)
+     *
+     * @return Number of vertices in graph
+     */
+    public int size() {
+        return _graph.size();
+    }
+
+
+    /**
+     * Fetches the number of edges emanating from the given vertex
+     *
+     * @param u Source vertex label
+     * @return Number of edges from u to another vertex
+     */
+    public int degree(V u) {
+        return _graph.degree(u);
+    }
+
+
+    /**
+     * Fetches the number of edges ending at the given vertex
+     *
+     * @param u Destination vertex label
+     * @return Number of edges from another vertex to u
+     */
+    public int inDegree(V u) {
+        return _graph.inDegree(u);
+    }
+
+
+    /**
+     * Fetches the number of edges in the entire graph
+     *
+     * @return Number of edges in graph
+     */
+    public int edgeCount() {
+        return _graph.edgeCount();
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all the vertices
+     *
+     * @return A new vertex iterator object
+     */
+    public Iterator<Vertex<V>> vertices() {
+        return new AdaptingIterator<>(_graph.vertices());
+    }
+
+
+    /**
+     * Creates an iterator for iterating through vertices adjacent to u
+     *
+     * @param u Source vertex
+     * @return A new iterator object
+     */
+    public Iterator<Vertex<V>> adjacent(V u) {
+        return new AdaptingIterator<>(_graph.adjacent(u));
+    }
+
+
+    /**
+     * Creates an iterator for iterating through vertices with an edge into u
+     *
+     * @param u Destination vertex
+     * @return A new iterator object
+     */
+    public Iterator<Vertex<V>> predecessors(V u) {
+        return new AdaptingIterator<>(_graph.predecessors(u));
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all the edges
+     *
+     * @return A new iterator object
+     */
+    public Iterator<Edge<V, E>> edges() {
+        return new AdaptingIterator<>(_graph.edges());
+    }
+
+
+    /**
+     * Creates an iterator for iterating through the edges ending at u
+     *
+     * @param u Destination vertex
+     * @return A new iterator object
+     */
+    public Iterator<Edge<V, E>> inEdges(V u) {
+        return new AdaptingIterator<>(_graph.inEdges(u));
+    }
+
+
+    /**
+     * Clears the existing graph, which becomes an empty ListGraph
+     */
+    public void clear() {
+        if (_dense) {
+            _graph = new ListGraph<>(_trackInEdges);
+            _dense = false;
+        }
+        else {
+            _graph.clear();
+        }
+    }
+
+
+    /**
+     * Determines if the current graph contains any vertices
+     *
+     * @return True if size is 0, else false
+     */
+    public boolean isEmpty() {
+        return _graph.isEmpty();
+    }
+
+
+    /**
+     * Creates an immutable copy of the current representation; see
+     * {@link DirectedGraph#snapshot()}
+     *
+     * @return Immutable graph equal to this one at the time of the call
+     */
+    public DirectedGraph<V, E> snapshot() {
+        return _graph.snapshot();
+    }
+
+
+    /**
+     * Determines if the graph is currently held in a MatrixGraph
+     *
+     * @return True if dense, false if held in a ListGraph
+     */
+    public boolean isDense() {
+        return _dense;
+    }
+
+
+    /**
+     * Fetches the fraction of possible edges present
+     *
+     * @return {@code edgeCount() / size()^2}, or 0 if the graph is empty
+     */
+    public double density() {
+        int n = _graph.size();
+
+        return n == 0 ? 0.0 : _graph.edgeCount() / ((double) n * n);
+    }
+
+
+    /**
+     * Fetches how many times the graph has changed representation
+     *
+     * @return Migration count since the graph was created
+     */
+    public int migrationCount() {
+        return _migrations;
+    }
+
+
+    // Helper Methods
+    /**
+     * Migrates to the other representation if the density has crossed its threshold
+     */
+    private void adapt() {
+        double density = density();
+
+        if (!_dense && density >= _denseThreshold && _graph.size() >= MIN_DENSE_SIZE) {
+            migrate(new MatrixGraph<>(_graph.size(), GROWTH_FACTOR, _trackInEdges));
+            _dense = true;
+        }
+        else if (_dense && density <= _sparseThreshold) {
+            migrate(new ListGraph<>(_trackInEdges));
+            _dense = false;
+        }
+    }
+
+
+    /**
+     * Copies every vertex and edge into an empty graph, which then replaces
+     * the current representation
+     *
+     * @param target Empty graph of the other representation
+     */
+    @SuppressWarnings("unchecked")
+    private void migrate(DirectedGraph<V, E> target) {
+        ArrayList<V> labels = new ArrayList<>(_graph.size());
+
+        for (Iterator<Vertex<V>> it = _graph.vertices(); it.hasNext(); ) {
+            labels.add(it.next().getLabel());
+        }
+
+        int m = _graph.edgeCount();
+        V[] src = (V[]) new Object[m];
+        V[] dst = (V[]) new Object[m];
+        E[] edgeLabels = (E[]) new Object[m];
+        int k = 0;
+
+        for (Iterator<Edge<V, E>> it = _graph.edges(); it.hasNext(); k++) {
+            Edge<V, E> edge = it.next();
+
+            src[k] = edge.getU();
+            dst[k] = edge.getV();
+            edgeLabels[k] = edge.getLabel();
+        }
+
+        target.addAllVertices(labels);
+        target.addEdges(src, dst, edgeLabels, DuplicatePolicy.THROW);
+
+        _graph = target;
+        _migrations++;
+    }
+
+
+    // Inner Classes
+    /**
+     * Forwards to an iterator of the current representation and checks the
+     * density once it is exhausted if anything was removed through it
+     *
+     * @param <T> Element type
+     */
+    private final class AdaptingIterator<T> implements Iterator<T> {
+        private final Iterator<T> _it;
+        private boolean _removed;
+
+        /**
+         * Wraps an iterator
+         *
+         * @param it Iterator of the current representation
+         */
+        AdaptingIterator(Iterator<T> it) {
+            _it = it;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (_it.hasNext()) {
+                return true;
+            }
+
+            if (_removed) {
+                _removed = false;
+                adapt();
+            }
+
+            return false;
+        }
+
+        @Override
+        public T next() {
+            return _it.next();
+        }
+
+        @Override
+        public void remove() {
+            _it.remove();
+            _removed = true;
+        }
+    }
+}
@@ -0,0 +1,878 @@
+// Imports
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Adjacency matrix graph that stores edge presence as one bit per cell
+ *
+ * <p>Each row of the matrix is a {@code long[]} bitset, so presence checks are
+ * a single bit test, {@link #degree} is a {@link Long#bitCount} sum over the
+ * row and {@link #adjacent} walks set bits with
+ * {@link Long#numberOfTrailingZeros}.</p>
+ *
+ * <p>The bitsets are the only dense structure. Edge labels are kept sparsely
+ * beside them, in a small {@link IntObjectHashMap} per row keyed by column
+ * that exists only while some edge of the row has a stored label. A graph
+ * may be given a default label: edges carrying a label equal to it store
+ * nothing but their bit, so a graph whose edges mostly share that label
+ * costs little more than one bit per cell, and each other label costs one
+ * map entry.</p>
+ *
+ * @author blee20@georgefox.edu
+ * @param <V> Label type for vertices
+ * @param <E> Label type for edges
+ */
+public class BitMatrixGraph<V, E> extends DirectedGraph<V, E> implements IndexedGraph<V> {
+    // Constants
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final int NOT_FOUND = -1;
+    private static final int DOUBLE = 2;
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_BITS = 64;
+
+
+    // Instance Variables
+    private Vertex<V>[] _vertices;
+    private final LabelInterner<V> _interner;
+    private final E _defaultLabel;
+    private IntObjectHashMap<E>[] _labels;
+    private long[][] _rows;
+    private int _size;
+    private int _edgeCount;
+    private int _capacity;
+    private int _modCount;
+
+
+    /**
+     * Creates an instance of class BitMatrixGraph object; designates to second constructor
+     */
+    public BitMatrixGraph() {
+        this(DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     * Creates an instance of class BitMatrixGraph object that stores every
+     * edge label; designates to third constructor
+     *
+     * @param initialCapacity Starting capacity of the graph
+     */
+    public BitMatrixGraph(int initialCapacity) {
+        this(initialCapacity, null);
+    }
+
+
+    /**
+     * Creates an instance of class BitMatrixGraph object
+     *
+     * @param initialCapacity Starting capacity of the graph
+     * @param defaultLabel Label that costs no storage, or null to store every label
+     */
+    @SuppressWarnings({"unchecked"})
+    public BitMatrixGraph(int initialCapacity, E defaultLabel) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Error: Capacity cannot be negative");
+        }
+
+        if (initialCapacity == 0) {
+            initialCapacity = DEFAULT_CAPACITY;
+        }
+
+        _vertices = (Vertex<V>[]) new Vertex[initialCapacity];
+        _interner = new LabelInterner<>(initialCapacity);
+        _defaultLabel = defaultLabel;
+        _labels = (IntObjectHashMap<E>[]) new IntObjectHashMap[initialCapacity];
+        _rows = new long[initialCapacity][wordsFor(initialCapacity)];
+
+        _capacity = initialCapacity;
+    }
+
+
+    /**
+     * Creates a new vertex and adds it to the graph
+     *
+     * @param u Vertex label
+     */
+    public void add(V u) {
+        // Null and duplicate vertices are handled within this call
+        duplicateVertex(u);
+
+        // Slots freed by remove are reused before the matrix is allowed to grow
+        if (_interner.freeCount() == 0) {
+            // Array growth handler
+            growArrays();
+        }
+
+        int index = _interner.intern(u);
+
+        _vertices[index] = new Vertex<>(u);
+
+        _size++;
+        _modCount++;
+    }
+
+
+    /**
+     * Determines if the given label is assigned to a vertex
+     *
+     * @param u Vertex label
+     * @return True if vertex with label exists, else false
+     */
+    public boolean contains(V u) {
+        // Null vertices are handled within this call
+        return vertexIndex(u) != NOT_FOUND;
+    }
+
+
+    /**
+     * Fetches the vertex with designated label
+     *
+     * @param u Vertex label
+     * @return Vertex of type V with corresponding label
+     */
+    public Vertex<V> get(V u) {
+        // Null and non-existent vertices are handled within this call
+        return _vertices[existingIndex(u)];
+    }
+
+
+    /**
+     * Deletes a Vertex object
+     *
+     * @param u Vertex label
+     * @return Deleted vertex's label
+     */
+    public V remove(V u) {
+        // Null and non-existent vertices are handled within this call
+        int index = existingIndex(u);
+        V returnValue = _vertices[index].getLabel();
+
+        removeSlot(index);
+        _modCount++;
+
+        return returnValue;
+    }
+
+
+    /**
+     * Creates a new edge and assigns it to two vertices on the graph
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @param label Edge label
+     */
+    public void addEdge(V u, V v, E label) {
+        // Null and non-existent vertices are handled within the following calls
+        int uIndex = existingIndex(u);
+        int vIndex = existingIndex(v);
+
+        // Null edge handler
+        nullEdge(label);
+
+        // Duplicate edge handler
+        if (testBit(uIndex, vIndex)) {
+            throw new DuplicateEdgeException();
+        }
+
+        _rows[uIndex][vIndex >>> WORD_SHIFT] |= 1L << vIndex;
+        setLabel(uIndex, vIndex, label);
+        _edgeCount++;
+        _modCount++;
+    }
+
+
+    /**
+     * Determines if the given vertices share an edge
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return True if edge exists from u to v, else false
+     */
+    public boolean containsEdge(V u, V v) {
+        // Null and non-existent vertices are handled within the following calls
+        return testBit(existingIndex(u), existingIndex(v));
+    }
+
+
+    /**
+     * Fetches an edge if it exists from u to v
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Edge of type E from u to v
+     */
+    public Edge<V, E> getEdge(V u, V v) {
+        // Null and non-existent vertices are handled within the following calls
+        int uIndex = existingIndex(u);
+        int vIndex = existingIndex(v);
+
+        // Non-existent edge handler
+        noEdge(uIndex, vIndex);
+
+        return new Edge<>(u, v, labelAt(uIndex, vIndex));
+    }
+
+
+    /**
+     * Deletes an Edge object
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Deleted edge's label
+     */
+    public E removeEdge(V u, V v) {
+        // Null and non-existent vertices are handled within the following calls
+        int uIndex = existingIndex(u);
+        int vIndex = existingIndex(v);
+
+        // Non-existent edge handler
+        noEdge(uIndex, vIndex);
+
+        E label = labelAt(uIndex, vIndex);
+
+        clearEdge(uIndex, vIndex);
+        _modCount++;
+
+        return label;
+    }
+
+
+    /**
+     * Fetches the size of the graph (number of vertices)
+     *
+     * @return Number of vertices in graph
+     */
+    public int size() {
+        return _size;
+    }
+
+
+    /**
+     * Fetches the number of edges emanating from the given vertex
+     *
+     * @param u Source vertex label
+     * @return Number of edges from u to another vertex
+     */
+    public int degree(V u) {
+        // Null and non-existent vertices are handled within this call
+        long[] row = _rows[existingIndex(u)];
+        int degree = 0;
+
+        for (long word : row) {
+            degree += Long.bitCount(word);
+        }
+
+        return degree;
+    }
+
+
+    /**
+     * Fetches the number of edges in the entire graph
+     *
+     * @return Number of edges in graph
+     */
+    public int edgeCount() {
+        return _edgeCount;
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all the vertices
+     *
+     * <p>The iterator walks the vertex slots directly, fails fast if the graph
+     * is modified other than through the iterator, and its {@code remove}
+     * deletes the vertex together with its incident edges.</p>
+     *
+     * @return A new vertex iterator object
+     */
+    public Iterator<Vertex<V>> vertices() {
+        return new GraphIterator<Vertex<V>>() {
+            private int _next = 0;
+            private int _last;
+
+            @Override
+            boolean advance() {
+                // Skip slots freed by remove
+                while (_next < _interner.bound() && _vertices[_next] == null) {
+                    _next++;
+                }
+
+                return _next < _interner.bound();
+            }
+
+            @Override
+            Vertex<V> current() {
+                _last = _next++;
+
+                return _vertices[_last];
+            }
+
+            @Override
+            void removeCurrent() {
+                removeSlot(_last);
+            }
+        };
+    }
+
+
+    /**
+     * Creates an iterator for iterating through vertices adjacent to u
+     *
+     * <p>The iterator walks the set bits of u's row, fails fast if the graph
+     * is modified other than through the iterator, and its {@code remove}
+     * deletes the edge from u to the last returned vertex.</p>
+     *
+     * @param u Source vertex
+     * @return A new iterator object
+     */
+    public Iterator<Vertex<V>> adjacent(V u) {
+        // Null and non-existent vertices are handled within this call
+        int uIndex = existingIndex(u);
+        BitCursor cursor = new BitCursor(_rows[uIndex]);
+
+        return new GraphIterator<Vertex<V>>() {
+            private int _last;
+
+            @Override
+            boolean advance() {
+                return cursor.hasNext();
+            }
+
+            @Override
+            Vertex<V> current() {
+                _last = cursor.next();
+
+                return _vertices[_last];
+            }
+
+            @Override
+            void removeCurrent() {
+                clearEdge(uIndex, _last);
+            }
+        };
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all the edges
+     *
+     * <p>The iterator walks the set bits in row-major order, fails fast if
+     * the graph is modified other than through the iterator, and its
+     * {@code remove} deletes the last returned edge.</p>
+     *
+     * @return A new iterator object
+     */
+    public Iterator<Edge<V, E>> edges() {
+        return new GraphIterator<Edge<V, E>>() {
+            private int _row = -1;
+            private BitCursor _cursor = new BitCursor(new long[0]);
+            private int _lastRow;
+            private int _lastCol;
+
+            @Override
+            boolean advance() {
+                // Move to the next row that still has set bits
+                while (!_cursor.hasNext() && _row + 1 < _interner.bound()) {
+                    _row++;
+                    _cursor = new BitCursor(_rows[_row]);
+                }
+
+                return _cursor.hasNext();
+            }
+
+            @Override
+            Edge<V, E> current() {
+                _lastRow = _row;
+                _lastCol = _cursor.next();
+
+                return new Edge<>(_vertices[_lastRow].getLabel(), _vertices[_lastCol].getLabel(),
+                        labelAt(_lastRow, _lastCol));
+            }
+
+            @Override
+            void removeCurrent() {
+                clearEdge(_lastRow, _lastCol);
+            }
+        };
+    }
+
+
+    /**
+     * Clears the existing graph
+     */
+    public void clear() {
+        for (int i = 0; i < _interner.bound(); i++) {
+            _vertices[i] = null;
+            _labels[i] = null;
+            Arrays.fill(_rows[i], 0L);
+        }
+
+        _interner.clear();
+        _size = 0;
+        _edgeCount = 0;
+        _modCount++;
+    }
+
+
+    /**
+     * Determines if the current graph contains any vertices
+     *
+     * @return True if size is 0, else false
+     */
+    public boolean isEmpty() {
+        return _size == 0;
+    }
+
+
+    /**
+     * Creates an iterator for iterating through vertices with an edge into u.
+     * The iterator tests u's bit in each row, and its {@code remove} deletes
+     * the edge from the last returned vertex to u
+     *
+     * @param u Destination vertex
+     * @return A new iterator object
+     */
+    public Iterator<Vertex<V>> predecessors(V u) {
+        // Null and non-existent vertices are handled within this call
+        int index = existingIndex(u);
+
+        return new GraphIterator<Vertex<V>>() {
+            private int _next = 0;
+            private int _last;
+
+            @Override
+            boolean advance() {
+                while (_next < _interner.bound() && !testBit(_next, index)) {
+                    _next++;
+                }
+
+                return _next < _interner.bound();
+            }
+
+            @Override
+            Vertex<V> current() {
+                _last = _next++;
+
+                return _vertices[_last];
+            }
+
+            @Override
+            void removeCurrent() {
+                clearEdge(_last, index);
+            }
+        };
+    }
+
+
+    /**
+     * Fetches the number of edges ending at the given vertex
+     *
+     * @param u Destination vertex label
+     * @return Number of edges from another vertex to u
+     */
+    public int inDegree(V u) {
+        // Null and non-existent vertices are handled within this call
+        int index = existingIndex(u);
+        int degree = 0;
+
+        for (int i = 0; i < _interner.bound(); i++) {
+            if (testBit(i, index)) {
+                degree++;
+            }
+        }
+
+        return degree;
+    }
+
+
+    /**
+     * Creates an iterator for iterating through the edges ending at u
+     *
+     * @param u Destination vertex
+     * @return A new iterator object
+     */
+    public Iterator<Edge<V, E>> inEdges(V u) {
+        int index = existingIndex(u);
+        Iterator<Vertex<V>> it = predecessors(u);
+
+        return new Iterator<Edge<V, E>>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public Edge<V, E> next() {
+                V w = it.next().getLabel();
+
+                return new Edge<>(w, u, labelAt(_interner.idOf(w), index));
+            }
+
+            @Override
+            public void remove() {
+                it.remove();
+            }
+        };
+    }
+
+
+    /**
+     * Fetches the slot assigned to a vertex
+     *
+     * @param u Vertex label
+     * @return Slot of vertex, or -1 if absent
+     */
+    public int indexOf(V u) {
+        return vertexIndex(u);
+    }
+
+
+    /**
+     * Fetches an exclusive upper bound on every slot currently in use
+     *
+     * @return Number of slots handed out so far
+     */
+    public int indexBound() {
+        return _interner.bound();
+    }
+
+
+    // Helper Methods
+    /**
+     * Fetches the index of a given vertex
+     *
+     * @param u Vertex label
+     * @return Index of vertex, or -1 if absent
+     */
+    private int vertexIndex(V u) {
+        // Null vertex handler
+        if (u == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        return _interner.idOf(u);
+    }
+
+
+    /**
+     * Fetches the index of a vertex that must exist
+     *
+     * @param u Vertex label
+     * @return Index of vertex
+     */
+    private int existingIndex(V u) {
+        int index = vertexIndex(u);
+
+        // Non-existent vertex handler
+        if (index == NOT_FOUND) {
+            throw new NoSuchVertexException();
+        }
+
+        return index;
+    }
+
+
+    /**
+     * Exception handler for duplicate vertices
+     *
+     * @param u Source vertex label
+     */
+    private void duplicateVertex(V u) {
+        if (contains(u)) {
+            throw new DuplicateVertexException();
+        }
+    }
+
+
+    /**
+     * Exception handler for null-labeled edges
+     *
+     * @param e Edge label
+     */
+    private void nullEdge(E e) {
+        if (e == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+    }
+
+
+    /**
+     * Exception handler for non-existent edges
+     *
+     * @param uIndex Source vertex index
+     * @param vIndex Destination vertex index
+     */
+    private void noEdge(int uIndex, int vIndex) {
+        if (!testBit(uIndex, vIndex)) {
+            throw new NoSuchEdgeException();
+        }
+    }
+
+
+    /**
+     * Tests the bit for cell (uIndex, vIndex)
+     *
+     * @param uIndex Source vertex index
+     * @param vIndex Destination vertex index
+     * @return True if the bit is set, else false
+     */
+    private boolean testBit(int uIndex, int vIndex) {
+        return (_rows[uIndex][vIndex >>> WORD_SHIFT] & (1L << vIndex)) != 0;
+    }
+
+
+    /**
+     * Deletes the edge in cell (uIndex, vIndex), which must be present
+     *
+     * @param uIndex Source vertex index
+     * @param vIndex Destination vertex index
+     */
+    private void clearEdge(int uIndex, int vIndex) {
+        _rows[uIndex][vIndex >>> WORD_SHIFT] &= ~(1L << vIndex);
+
+        IntObjectHashMap<E> row = _labels[uIndex];
+
+        // A row's label map is dropped once it holds no labels
+        if (row != null && row.remove(vIndex) != null && row.isEmpty()) {
+            _labels[uIndex] = null;
+        }
+
+        _edgeCount--;
+    }
+
+
+    /**
+     * Fetches the label of a present edge
+     *
+     * @param uIndex Source vertex index
+     * @param vIndex Destination vertex index
+     * @return Stored label, or the default label if none is stored
+     */
+    private E labelAt(int uIndex, int vIndex) {
+        IntObjectHashMap<E> row = _labels[uIndex];
+        E label = row == null ? null : row.get(vIndex);
+
+        return label != null ? label : _defaultLabel;
+    }
+
+
+    /**
+     * Records the label of an edge, storing nothing for the default label
+     *
+     * @param uIndex Source vertex index
+     * @param vIndex Destination vertex index
+     * @param label Edge label
+     */
+    private void setLabel(int uIndex, int vIndex, E label) {
+        if (label.equals(_defaultLabel)) {
+            return;
+        }
+
+        // Label maps are allocated on first use
+        if (_labels[uIndex] == null) {
+            _labels[uIndex] = new IntObjectHashMap<>();
+        }
+
+        _labels[uIndex].put(vIndex, label);
+    }
+
+
+    /**
+     * Deletes the vertex in a slot together with its incident edges
+     *
+     * @param index Slot of vertex
+     */
+    private void removeSlot(int index) {
+        V label = _vertices[index].getLabel();
+
+        // Outgoing edges are dropped a word at a time
+        long[] row = _rows[index];
+
+        for (int w = 0; w < row.length; w++) {
+            _edgeCount -= Long.bitCount(row[w]);
+            row[w] = 0L;
+        }
+
+        _labels[index] = null;
+
+        // Incoming edges are one bit per row
+        int word = index >>> WORD_SHIFT;
+        long mask = 1L << index;
+
+        for (int i = 0; i < _interner.bound(); i++) {
+            if ((_rows[i][word] & mask) != 0) {
+                clearEdge(i, index);
+            }
+        }
+
+        _vertices[index] = null;
+        _interner.release(label);
+        _size--;
+    }
+
+
+    /**
+     * Fetches the number of words needed to hold one bit per slot
+     *
+     * @param capacity Number of slots
+     * @return Number of longs per row
+     */
+    private static int wordsFor(int capacity) {
+        return (capacity + WORD_BITS - 1) >>> WORD_SHIFT;
+    }
+
+
+    /**
+     * If capacity is reached, increases the capacity of the BitMatrixGraph
+     */
+    private void growArrays() {
+        if (_capacity > Integer.MAX_VALUE / 2) {
+            throw new OutOfMemoryError("Error: Integer limit reached");
+        }
+
+        if (_interner.bound() == _capacity) {
+            int newCapacity = _capacity * DOUBLE;
+            int words = wordsFor(newCapacity);
+            long[][] rows = new long[newCapacity][];
+
+            for (int i = 0; i < _capacity; i++) {
+                rows[i] = Arrays.copyOf(_rows[i], words);
+            }
+
+            for (int i = _capacity; i < newCapacity; i++) {
+                rows[i] = new long[words];
+            }
+
+            // Label maps are keyed by column, so they carry over unchanged
+            _vertices = Arrays.copyOf(_vertices, newCapacity);
+            _labels = Arrays.copyOf(_labels, newCapacity);
+            _rows = rows;
+            _capacity = newCapacity;
+        }
+    }
+
+
+    // Inner Classes
+    /**
+     * Base for the graph's lazy iterators; tracks the graph's modification
+     * count so that outside changes are detected on the next call
+     *
+     * @param <T> Element type
+     */
+    private abstract class GraphIterator<T> implements Iterator<T> {
+        private int _expectedModCount = _modCount;
+        private boolean _canRemove;
+
+        /**
+         * Positions the cursor at the next element, if any
+         *
+         * @return True if another element exists, else false
+         */
+        abstract boolean advance();
+
+        /**
+         * Consumes and returns the element the cursor is positioned at
+         *
+         * @return Next element
+         */
+        abstract T current();
+
+        /**
+         * Deletes the last returned element from the graph
+         */
+        abstract void removeCurrent();
+
+        @Override
+        public boolean hasNext() {
+            checkForComodification();
+
+            return advance();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            _canRemove = true;
+
+            return current();
+        }
+
+        @Override
+        public void remove() {
+            if (!_canRemove) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+            removeCurrent();
+
+            _canRemove = false;
+            _expectedModCount = ++_modCount;
+        }
+
+        /**
+         * Exception handler for modifications made outside this iterator
+         */
+        private void checkForComodification() {
+            if (_modCount != _expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+
+    /**
+     * Walks the set bits of a single row in ascending order
+     */
+    private static class BitCursor {
+        private final long[] _row;
+        private int _word;
+        private long _bits;
+
+        /**
+         * Creates a cursor positioned before the first set bit
+         *
+         * @param row Row bitset
+         */
+        BitCursor(long[] row) {
+            _row = row;
+            _word = 0;
+            _bits = row.length > 0 ? row[0] : 0L;
+        }
+
+        /**
+         * Determines if another set bit remains
+         *
+         * @return True if a set bit remains, else false
+         */
+        boolean hasNext() {
+            while (_bits == 0 && _word + 1 < _row.length) {
+                _bits = _row[++_word];
+            }
+
+            return _bits != 0;
+        }
+
+        /**
+         * Fetches the column of the next set bit
+         *
+         * @return Column index
+         */
+        int next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            int column = (_word << WORD_SHIFT) + Long.numberOfTrailingZeros(_bits);
+            _bits &= _bits - 1;
+
+            return column;
+        }
+    }
+}
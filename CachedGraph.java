@@ -0,0 +1,682 @@
+// Imports
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+
+/**
+ * Decorator that answers reachability and shortest-path queries from a
+ * bounded cache that is kept exact as the graph changes
+ *
+ * <p>Every call is forwarded to a wrapped graph. A query for a pair
+ * {@code (u, v)} runs a breadth-first search from u and caches either the
+ * fewest-edge path it found or the fact that v is unreachable. Once the cache
+ * holds its capacity of pairs, the least recently used pair is evicted.</p>
+ *
+ * <p>Changes invalidate only the answers they can affect. Adding an edge never
+ * breaks an existing path, so cached paths keep answering reachability
+ * queries. Unreachable answers, and the claim that a cached path is the
+ * shortest, both carry the count of edge additions made when they were
+ * computed. Each addition therefore makes them stale in constant time, and
+ * they are recomputed on their next use. Removing an edge or a vertex cannot
+ * make anything newly reachable, so unreachable answers survive it. Every
+ * answer is indexed by the vertices on its path, or by its two endpoints when
+ * there is no path. A removal drops exactly the answers whose path used the
+ * removed edge or vertex.</p>
+ *
+ * <p>The wrapped graph must not be modified directly while the cache is in
+ * use, and iterators from the cache do not support removal. Like the graphs
+ * it wraps, a CachedGraph is not safe for concurrent use.</p>
+ *
+ * @author blee20@georgefox.edu
+ * @param <V> Label type for vertices
+ * @param <E> Label type for edges
+ */
+public class CachedGraph<V, E> extends DirectedGraph<V, E> {
+    // Constants
+    static final int DEFAULT_CAPACITY = 4096;
+    private static final float LOAD_FACTOR = 0.75f;
+
+
+    // Internal State
+    private final DirectedGraph<V, E> _graph;
+    private final int _capacity;
+    private final LinkedHashMap<Pair<V>, Answer<V>> _answers;
+    private final HashMap<V, HashSet<Answer<V>>> _dependents;
+    private int _additions;
+    private long _hits;
+    private long _misses;
+
+
+    // Constructors
+    /**
+     * Creates a cache of {@value #DEFAULT_CAPACITY} queries over a graph
+     *
+     * @param graph Graph to wrap
+     */
+    public CachedGraph(DirectedGraph<V, E> graph) {
+        this(graph, DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     * Creates a cache over a graph
+     *
+     * @param graph Graph to wrap
+     * @param capacity Maximum number of cached queries
+     */
+    public CachedGraph(DirectedGraph<V, E> graph, int capacity) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Error: Capacity must be positive");
+        }
+
+        _graph = graph;
+        _capacity = capacity;
+        _dependents = new HashMap<>();
+        // Access order makes the eldest entry the least recently used one
+        _answers = new LinkedHashMap<Pair<V>, Answer<V>>(16, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Pair<V>, Answer<V>> eldest) {
+                if (size() <= _capacity) {
+                    return false;
+                }
+
+                unregister(eldest.getValue());
+
+                return true;
+            }
+        };
+    }
+
+
+    // Methods
+    /**
+     * Creates a new vertex and adds it to the graph. A vertex with no edges
+     * changes no answer
+     *
+     * @param u Vertex label
+     */
+    public void add(V u) {
+        _graph.add(u);
+    }
+
+
+    /**
+     * Adds every label in a collection as a new vertex
+     *
+     * @param labels Vertex labels
+     */
+    public void addAllVertices(Collection<? extends V> labels) {
+        _graph.addAllVertices(labels);
+    }
+
+
+    /**
+     * Determines if the given label is assigned to a vertex
+     *
+     * @param u Vertex label
+     * @return True if vertex with label exists, else false
+     */
+    public boolean contains(V u) {
+        return _graph.contains(u);
+    }
+
+
+    /**
+     * Fetches the vertex with designated label
+     *
+     * @param u Vertex label
+     * @return Vertex of type V with corresponding label
+     */
+    public Vertex<V> get(V u) {
+        return _graph.get(u);
+    }
+
+
+    /**
+     * Deletes a Vertex object and every cached answer involving it
+     *
+     * @param u Vertex label
+     * @return Deleted vertex's label
+     */
+    public V remove(V u) {
+        V label = _graph.remove(u);
+        HashSet<Answer<V>> affected = _dependents.get(u);
+
+        if (affected != null) {
+            for (Answer<V> answer : new ArrayList<>(affected)) {
+                evict(answer);
+            }
+        }
+
+        return label;
+    }
+
+
+    /**
+     * Creates a new edge and assigns it to two vertices on the graph
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @param label Edge label
+     */
+    public void addEdge(V u, V v, E label) {
+        _graph.addEdge(u, v, label);
+        _additions++;
+    }
+
+
+    /**
+     * Adds the edges {@code src[i] -> dst[i]} labelled {@code labels[i]}; see
+     * {@link DirectedGraph#addEdges}. No policy removes an edge that was
+     * present before the call, so no cached path is broken
+     *
+     * @param src Source vertex labels
+     * @param dst Destination vertex labels, parallel to src
+     * @param labels Edge labels, parallel to src
+     * @param policy What to do with edges that are already present
+     * @return Number of edges newly added
+     */
+    public int addEdges(V[] src, V[] dst, E[] labels, DuplicatePolicy policy) {
+        try {
+            return _graph.addEdges(src, dst, labels, policy);
+        }
+        finally {
+            _additions++;
+        }
+    }
+
+
+    /**
+     * Determines if the given vertices share an edge
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return True if edge exists from u to v, else false
+     */
+    public boolean containsEdge(V u, V v) {
+        return _graph.containsEdge(u, v);
+    }
+
+
+    /**
+     * Fetches an edge if it exists from u to v
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Edge of type E from u to v
+     */
+    public Edge<V, E> getEdge(V u, V v) {
+        return _graph.getEdge(u, v);
+    }
+
+
+    /**
+     * Deletes an Edge object and every cached path that used it
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Deleted edge's label
+     */
+    public E removeEdge(V u, V v) {
+        E label = _graph.removeEdge(u, v);
+        HashSet<Answer<V>> affected = _dependents.get(u);
+
+        if (affected != null) {
+            for (Answer<V> answer : new ArrayList<>(affected)) {
+                if (answer.uses(u, v)) {
+                    evict(answer);
+                }
+            }
+        }
+
+        return label;
+    }
+
+
+    /**
+     * Fetches the size of the graph (number of vertices)
+     *
+     * @return Number of vertices in graph
+     */
+    public int size() {
+        return _graph.size();
+    }
+
+
+    /**
+     * Fetches the number of edges emanating from the given vertex
+     *
+     * @param u Source vertex label
+     * @return Number of edges from u to another vertex
+     */
+    public int degree(V u) {
+        return _graph.degree(u);
+    }
+
+
+    /**
+     * Fetches the number of edges ending at the given vertex
+     *
+     * @param u Destination vertex label
+     * @return Number of edges from another vertex to u
+     */
+    public int inDegree(V u) {
+        return _graph.inDegree(u);
+    }
+
+
+    /**
+     * Fetches the number of edges in the entire graph
+     *
+     * @return Number of edges in graph
+     */
+    public int edgeCount() {
+        return _graph.edgeCount();
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all the vertices
+     *
+     * @return A new vertex iterator object
+     */
+    public Iterator<Vertex<V>> vertices() {
+        return readOnly(_graph.vertices());
+    }
+
+
+    /**
+     * Creates an iterator for iterating through vertices adjacent to u
+     *
+     * @param u Source vertex
+     * @return A new iterator object
+     */
+    public Iterator<Vertex<V>> adjacent(V u) {
+        return readOnly(_graph.adjacent(u));
+    }
+
+
+    /**
+     * Creates an iterator for iterating through vertices with an edge into u
+     *
+     * @param u Destination vertex
+     * @return A new iterator object
+     */
+    public Iterator<Vertex<V>> predecessors(V u) {
+        return readOnly(_graph.predecessors(u));
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all the edges
+     *
+     * @return A new iterator object
+     */
+    public Iterator<Edge<V, E>> edges() {
+        return readOnly(_graph.edges());
+    }
+
+
+    /**
+     * Creates an iterator for iterating through the edges ending at u
+     *
+     * @param u Destination vertex
+     * @return A new iterator object
+     */
+    public Iterator<Edge<V, E>> inEdges(V u) {
+        return readOnly(_graph.inEdges(u));
+    }
+
+
+    /**
+     * Clears the existing graph and every cached answer
+     */
+    public void clear() {
+        _graph.clear();
+        invalidateAll();
+    }
+
+
+    /**
+     * Determines if the current graph contains any vertices
+     *
+     * @return True if size is 0, else false
+     */
+    public boolean isEmpty() {
+        return _graph.isEmpty();
+    }
+
+
+    /**
+     * Creates an immutable copy of the wrapped graph; see
+     * {@link DirectedGraph#snapshot()}
+     *
+     * @return Immutable graph equal to this one at the time of the call
+     */
+    public DirectedGraph<V, E> snapshot() {
+        return _graph.snapshot();
+    }
+
+
+    /**
+     * Determines if there is a path from u to v. Every vertex reaches itself
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return True if v is reachable from u, else false
+     */
+    public boolean isReachable(V u, V v) {
+        Pair<V> pair = pair(u, v);
+        Answer<V> answer = _answers.get(pair);
+
+        // Any surviving path proves reachability, even if a shorter one may now exist
+        if (answer != null && (answer._path != null || answer._additions == _additions)) {
+            _hits++;
+
+            return answer._path != null;
+        }
+
+        return search(pair)._path != null;
+    }
+
+
+    /**
+     * Finds a path from u to v with the fewest edges
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Unmodifiable list of vertex labels from u to v inclusive, or an
+     *         empty list if v is unreachable
+     */
+    public List<V> shortestPath(V u, V v) {
+        Pair<V> pair = pair(u, v);
+        Answer<V> answer = _answers.get(pair);
+
+        if (answer == null || answer._additions != _additions) {
+            answer = search(pair);
+        }
+        else {
+            _hits++;
+        }
+
+        return answer._path == null ? Collections.emptyList() : answer._path;
+    }
+
+
+    /**
+     * Drops every cached answer
+     */
+    public void invalidateAll() {
+        _answers.clear();
+        _dependents.clear();
+    }
+
+
+    /**
+     * Fetches the number of queries currently cached
+     *
+     * @return Cached query count
+     */
+    public int cachedQueries() {
+        return _answers.size();
+    }
+
+
+    /**
+     * Fetches the number of queries answered from the cache
+     *
+     * @return Hit count since the cache was created
+     */
+    public long hitCount() {
+        return _hits;
+    }
+
+
+    /**
+     * Fetches the number of queries that needed a search
+     *
+     * @return Miss count since the cache was created
+     */
+    public long missCount() {
+        return _misses;
+    }
+
+
+    // Helper Methods
+    /**
+     * Validates a query and creates its cache key
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Key for the pair
+     */
+    private Pair<V> pair(V u, V v) {
+        // Null and non-existent vertices are handled within these calls
+        _graph.get(u);
+        _graph.get(v);
+
+        return new Pair<>(u, v);
+    }
+
+
+    /**
+     * Searches breadth-first for a query's answer and caches it, replacing
+     * any stale answer for the same pair
+     *
+     * @param pair Query to answer
+     * @return Fresh answer
+     */
+    private Answer<V> search(Pair<V> pair) {
+        HashMap<V, V> parents = new HashMap<>();
+        ArrayDeque<V> queue = new ArrayDeque<>();
+        boolean found = pair._u.equals(pair._v);
+
+        parents.put(pair._u, pair._u);
+        queue.add(pair._u);
+
+        while (!found && !queue.isEmpty()) {
+            V x = queue.poll();
+
+            for (Iterator<Vertex<V>> it = _graph.adjacent(x); it.hasNext() && !found; ) {
+                V y = it.next().getLabel();
+
+                if (!parents.containsKey(y)) {
+                    parents.put(y, x);
+                    queue.add(y);
+                    found = y.equals(pair._v);
+                }
+            }
+        }
+
+        List<V> path = null;
+
+        if (found) {
+            ArrayList<V> reversed = new ArrayList<>();
+
+            for (V x = pair._v; !x.equals(pair._u); x = parents.get(x)) {
+                reversed.add(x);
+            }
+
+            reversed.add(pair._u);
+            Collections.reverse(reversed);
+            path = Collections.unmodifiableList(reversed);
+        }
+
+        Answer<V> answer = new Answer<>(pair, path, _additions);
+        Answer<V> stale = _answers.put(pair, answer);
+
+        if (stale != null) {
+            unregister(stale);
+        }
+
+        register(answer);
+        _misses++;
+
+        return answer;
+    }
+
+
+    /**
+     * Indexes an answer by every vertex it depends on
+     *
+     * @param answer Newly cached answer
+     */
+    private void register(Answer<V> answer) {
+        for (V x : answer.dependencies()) {
+            _dependents.computeIfAbsent(x, key -> new HashSet<>()).add(answer);
+        }
+    }
+
+
+    /**
+     * Removes an answer from the dependency index
+     *
+     * @param answer Answer leaving the cache
+     */
+    private void unregister(Answer<V> answer) {
+        for (V x : answer.dependencies()) {
+            HashSet<Answer<V>> answers = _dependents.get(x);
+
+            if (answers != null && answers.remove(answer) && answers.isEmpty()) {
+                _dependents.remove(x);
+            }
+        }
+    }
+
+
+    /**
+     * Removes an answer from the cache and the dependency index
+     *
+     * @param answer Answer that is no longer valid
+     */
+    private void evict(Answer<V> answer) {
+        _answers.remove(answer._pair);
+        unregister(answer);
+    }
+
+
+    /**
+     * Wraps an iterator of the wrapped graph so that it cannot remove elements
+     *
+     * @param it Iterator to wrap
+     * @param <T> Element type
+     * @return Iterator without removal
+     */
+    private static <T> Iterator<T> readOnly(Iterator<T> it) {
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return it.next();
+            }
+        };
+    }
+
+
+    // Inner Classes
+    /**
+     * Source and destination of a query
+     *
+     * @param <V> Label type for vertices
+     */
+    private static final class Pair<V> {
+        private final V _u;
+        private final V _v;
+
+        /**
+         * Creates a key
+         *
+         * @param u Source vertex label
+         * @param v Destination vertex label
+         */
+        Pair(V u, V v) {
+            _u = u;
+            _v = v;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Pair)) {
+                return false;
+            }
+
+            Pair<?> other = (Pair<?>) o;
+
+            return _u.equals(other._u) && _v.equals(other._v);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(_u, _v);
+        }
+    }
+
+
+    /**
+     * Cached result of a query. Answers are compared by identity, so the
+     * dependency index can tell a replaced answer from its replacement
+     *
+     * @param <V> Label type for vertices
+     */
+    private static final class Answer<V> {
+        private final Pair<V> _pair;
+        private final List<V> _path;
+        private final int _additions;
+
+        /**
+         * Creates an answer
+         *
+         * @param pair Query answered
+         * @param path Shortest path found, or null if there was none
+         * @param additions Edge additions made before the search
+         */
+        Answer(Pair<V> pair, List<V> path, int additions) {
+            _pair = pair;
+            _path = path;
+            _additions = additions;
+        }
+
+        /**
+         * Fetches the vertices whose removal invalidates this answer
+         *
+         * @return Path vertices, or both endpoints if there is no path
+         */
+        List<V> dependencies() {
+            return _path != null ? _path : List.of(_pair._u, _pair._v);
+        }
+
+        /**
+         * Determines if this answer's path crosses an edge
+         *
+         * @param u Source vertex label
+         * @param v Destination vertex label
+         * @return True if the path steps directly from u to v, else false
+         */
+        boolean uses(V u, V v) {
+            if (_path == null) {
+                return false;
+            }
+
+            int i = _path.indexOf(u);
+
+            return i >= 0 && i + 1 < _path.size() && _path.get(i + 1).equals(v);
+        }
+    }
+}
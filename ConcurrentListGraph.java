@@ -0,0 +1,535 @@
+// Imports
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Thread-safe adjacency-list graph
+ *
+ * <p>Follows the {@link ListGraph} layout, but each vertex owns a
+ * {@link ConcurrentHashMap} of out-edges and the counters are
+ * {@link LongAdder}s, so unrelated operations never contend on a shared lock.
+ * Duplicate checks are folded into {@code putIfAbsent}, which makes
+ * {@link #add} and {@link #addEdge} atomic. Iterators are weakly consistent:
+ * they never throw {@link java.util.ConcurrentModificationException} and may
+ * or may not reflect changes made after they were created.</p>
+ *
+ * @author blee20@georgefox.edu
+ * @param <V> Label type for vertices
+ * @param <E> Label type for edges
+ */
+public class ConcurrentListGraph<V, E> extends DirectedGraph<V, E> {
+    // Internal State
+    private final ConcurrentHashMap<V, Node<V, E>> _nodes;
+    private final LongAdder _size;
+    private final LongAdder _edgeCount;
+
+
+    // Constructor
+    /**
+     * Creates an instance of class ConcurrentListGraph object
+     */
+    public ConcurrentListGraph() {
+        _nodes = new ConcurrentHashMap<>();
+        _size = new LongAdder();
+        _edgeCount = new LongAdder();
+    }
+
+
+    // Methods
+    /**
+     * Creates a new vertex and adds it to the graph
+     *
+     * @param u Vertex label
+     */
+    public void add(V u) {
+        // Null vertex handler
+        nullVertex(u);
+
+        // Duplicate vertex handler; the check and the insert are one atomic step
+        if (_nodes.putIfAbsent(u, new Node<>(u)) != null) {
+            throw new DuplicateVertexException();
+        }
+
+        _size.increment();
+    }
+
+
+    /**
+     * Determines if the given label is assigned to a vertex
+     *
+     * @param u Vertex label
+     * @return True if vertex with label exists, else false
+     */
+    public boolean contains(V u) {
+        // Null vertex handler
+        nullVertex(u);
+
+        return _nodes.containsKey(u);
+    }
+
+
+    /**
+     * Fetches the vertex with designated label
+     *
+     * @param u Vertex label
+     * @return Vertex of type V with corresponding label
+     */
+    public Vertex<V> get(V u) {
+        // Null and non-existent vertex handler
+        return node(u).vertex;
+    }
+
+
+    /**
+     * Deletes a Vertex object along with its incident edges
+     *
+     * @param u Vertex label
+     * @return Deleted vertex's label
+     */
+    public V remove(V u) {
+        // Null vertex handler
+        nullVertex(u);
+
+        Node<V, E> removed = _nodes.remove(u);
+
+        // Non-existent vertex handler
+        if (removed == null) {
+            throw new NoSuchVertexException();
+        }
+
+        _size.decrement();
+
+        // Each edge is counted off by whichever thread actually removes it
+        for (V v : removed.out.keySet()) {
+            if (removed.out.remove(v) != null) {
+                _edgeCount.decrement();
+            }
+        }
+
+        /* Only links into the removed node are swept; u may already have been
+        re-added, and edges into the new vertex must survive */
+        for (Node<V, E> node : _nodes.values()) {
+            Link<V, E> link = node.out.get(u);
+
+            if (link != null && link.target == removed && node.out.remove(u, link)) {
+                _edgeCount.decrement();
+            }
+        }
+
+        return removed.vertex.getLabel();
+    }
+
+
+    /**
+     * Creates a new edge and assigns it to two vertices on the graph
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @param label Edge label
+     */
+    public void addEdge(V u, V v, E label) {
+        // Null and non-existent vertex handler
+        Node<V, E> source = node(u);
+        Node<V, E> target = node(v);
+
+        Link<V, E> link = new Link<>(new Edge<>(u, v, label), target);
+
+        // Duplicate edge handler; the check and the insert are one atomic step
+        for (;;) {
+            Link<V, E> existing = source.out.putIfAbsent(v, link);
+
+            if (existing == null) {
+                _edgeCount.increment();
+                break;
+            }
+
+            if (existing.target == target) {
+                throw new DuplicateEdgeException();
+            }
+
+            /* A link into a removed vertex that its sweep has not reached yet;
+            taking it over leaves the count unchanged and the sweep skips it */
+            if (source.out.replace(v, existing, link)) {
+                break;
+            }
+        }
+
+        /* A concurrent remove of either endpoint may have finished its sweep
+        before the edge went in, so confirm both are still current and back
+        the edge out if not */
+        if (_nodes.get(u) != source || _nodes.get(v) != target) {
+            if (source.out.remove(v, link)) {
+                _edgeCount.decrement();
+            }
+
+            throw new NoSuchVertexException();
+        }
+    }
+
+
+    /**
+     * Determines if the given vertices share an edge
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return True if edge exists from u to v, else false
+     */
+    public boolean containsEdge(V u, V v) {
+        // Null and non-existent vertices handled within
+        Node<V, E> source = node(u);
+        Node<V, E> target = node(v);
+        Link<V, E> link = source.out.get(v);
+
+        return link != null && link.target == target;
+    }
+
+
+    /**
+     * Fetches an edge if it exists from u to v
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Edge of type E from u to v
+     */
+    public Edge<V, E> getEdge(V u, V v) {
+        // Null and non-existent vertices handled within
+        Node<V, E> source = node(u);
+        Node<V, E> target = node(v);
+
+        Link<V, E> link = source.out.get(v);
+
+        // Non-existent edge handler; a link into a removed vertex is not an edge
+        if (link == null || link.target != target) {
+            throw new NoSuchEdgeException();
+        }
+
+        return link.edge;
+    }
+
+
+    /**
+     * Deletes an Edge object
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Deleted edge's label
+     */
+    public E removeEdge(V u, V v) {
+        // Null and non-existent vertices handled within
+        Node<V, E> source = node(u);
+        Node<V, E> target = node(v);
+
+        Link<V, E> link = source.out.get(v);
+
+        // Non-existent edge handler; a link into a removed vertex is left to its sweep
+        if (link == null || link.target != target || !source.out.remove(v, link)) {
+            throw new NoSuchEdgeException();
+        }
+
+        _edgeCount.decrement();
+
+        return link.edge.getLabel();
+    }
+
+
+    /**
+     * Fetches the size of the graph (number of vertices)
+     *
+     * @return Number of vertices in graph
+     */
+    public int size() {
+        return _size.intValue();
+    }
+
+
+    /**
+     * Fetches the number of edges emanating from the given vertex
+     *
+     * @param u Source vertex label
+     * @return Number of edges from u to another vertex
+     */
+    public int degree(V u) {
+        return node(u).out.size();
+    }
+
+
+    /**
+     * Fetches the number of edges in the entire graph
+     *
+     * @return Number of edges in graph
+     */
+    public int edgeCount() {
+        return _edgeCount.intValue();
+    }
+
+
+    /**
+     * Creates a weakly consistent iterator over all the vertices; its
+     * {@code remove} deletes the vertex and its incident edges
+     *
+     * @return A new vertex iterator object
+     */
+    public Iterator<Vertex<V>> vertices() {
+        Iterator<Node<V, E>> it = _nodes.values().iterator();
+
+        return new Iterator<Vertex<V>>() {
+            private V _last;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public Vertex<V> next() {
+                Vertex<V> vertex = it.next().vertex;
+                _last = vertex.getLabel();
+
+                return vertex;
+            }
+
+            @Override
+            public void remove() {
+                if (_last == null) {
+                    throw new IllegalStateException();
+                }
+
+                // Another thread may already have removed it
+                if (_nodes.containsKey(_last)) {
+                    ConcurrentListGraph.this.remove(_last);
+                }
+
+                _last = null;
+            }
+        };
+    }
+
+
+    /**
+     * Creates a weakly consistent iterator over the vertices adjacent to u;
+     * targets removed concurrently are skipped, and {@code remove} deletes the
+     * edge from u to the last returned vertex
+     *
+     * @param u Source vertex
+     * @return A new iterator object
+     */
+    public Iterator<Vertex<V>> adjacent(V u) {
+        Node<V, E> source = node(u);
+        Iterator<Link<V, E>> it = source.out.values().iterator();
+
+        return new Iterator<Vertex<V>>() {
+            private Vertex<V> _next;
+            private Link<V, E> _nextLink;
+            private Link<V, E> _last;
+
+            @Override
+            public boolean hasNext() {
+                // Links into a removed node stay behind until its sweep reaches them
+                while (_next == null && it.hasNext()) {
+                    Link<V, E> link = it.next();
+
+                    if (_nodes.get(link.edge.getV()) == link.target) {
+                        _next = link.target.vertex;
+                        _nextLink = link;
+                    }
+                }
+
+                return _next != null;
+            }
+
+            @Override
+            public Vertex<V> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                Vertex<V> vertex = _next;
+                _next = null;
+                _last = _nextLink;
+
+                return vertex;
+            }
+
+            @Override
+            public void remove() {
+                if (_last == null) {
+                    throw new IllegalStateException();
+                }
+
+                if (source.out.remove(_last.edge.getV(), _last)) {
+                    _edgeCount.decrement();
+                }
+
+                _last = null;
+            }
+        };
+    }
+
+
+    /**
+     * Creates a weakly consistent iterator over all the edges; its
+     * {@code remove} deletes the last returned edge
+     *
+     * @return A new iterator object
+     */
+    public Iterator<Edge<V, E>> edges() {
+        Iterator<Node<V, E>> nodes = _nodes.values().iterator();
+
+        return new Iterator<Edge<V, E>>() {
+            private Iterator<Link<V, E>> _row;
+            private Link<V, E> _last;
+            private Node<V, E> _lastNode;
+            private Node<V, E> _node;
+
+            @Override
+            public boolean hasNext() {
+                // Skip over vertices with no outgoing edges
+                while ((_row == null || !_row.hasNext()) && nodes.hasNext()) {
+                    _node = nodes.next();
+                    _row = _node.out.values().iterator();
+                }
+
+                return _row != null && _row.hasNext();
+            }
+
+            @Override
+            public Edge<V, E> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                _last = _row.next();
+                _lastNode = _node;
+
+                return _last.edge;
+            }
+
+            @Override
+            public void remove() {
+                if (_last == null) {
+                    throw new IllegalStateException();
+                }
+
+                if (_lastNode.out.remove(_last.edge.getV(), _last)) {
+                    _edgeCount.decrement();
+                }
+
+                _last = null;
+            }
+        };
+    }
+
+
+    /**
+     * Clears the existing graph. Vertices are removed one at a time, so
+     * concurrent readers may observe a partially cleared graph
+     */
+    public void clear() {
+        for (V u : _nodes.keySet()) {
+            if (_nodes.containsKey(u)) {
+                try {
+                    remove(u);
+                }
+                catch (NoSuchVertexException e) {
+                    // Removed by another thread in the meantime
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Determines if the current graph contains any vertices
+     *
+     * @return True if size is 0, else false
+     */
+    public boolean isEmpty() {
+        return _nodes.isEmpty();
+    }
+
+
+    // Helper Methods
+    /**
+     * Exception handler for null-labeled vertices
+     *
+     * @param u Source vertex label
+     */
+    private void nullVertex(V u) {
+        if (u == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+    }
+
+
+    /**
+     * Fetches the node for a vertex that must exist
+     *
+     * @param u Vertex label
+     * @return Vertex node
+     */
+    private Node<V, E> node(V u) {
+        // Null vertex handler
+        nullVertex(u);
+
+        Node<V, E> node = _nodes.get(u);
+
+        // Non-existent vertex handler
+        if (node == null) {
+            throw new NoSuchVertexException();
+        }
+
+        return node;
+    }
+
+
+    // Inner Classes
+    /**
+     * A vertex together with its out-edges, published as one map value so
+     * that a vertex is never visible without its adjacency map
+     *
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     */
+    private static class Node<V, E> {
+        final Vertex<V> vertex;
+        final ConcurrentHashMap<V, Link<V, E>> out;
+
+        /**
+         * Creates a node with no out-edges
+         *
+         * @param u Vertex label
+         */
+        Node(V u) {
+            vertex = new Vertex<>(u);
+            out = new ConcurrentHashMap<>();
+        }
+    }
+
+
+    /**
+     * An out-edge tagged with the node it points at, so that a sweep for a
+     * removed vertex can tell its links apart from links to a vertex later
+     * added under the same label
+     *
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     */
+    private static class Link<V, E> {
+        final Edge<V, E> edge;
+        final Node<V, E> target;
+
+        /**
+         * Creates a link to a target node
+         *
+         * @param edge Edge being stored
+         * @param target Node of the edge's destination vertex
+         */
+        Link(Edge<V, E> edge, Node<V, E> target) {
+            this.edge = edge;
+            this.target = target;
+        }
+    }
+}
@@ -0,0 +1,605 @@
+// Imports
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Immutable compressed sparse row (CSR) graph
+ *
+ * <p>Out-edges of vertex {@code i} occupy {@code _targets[_offsets[i]]} up to
+ * {@code _targets[_offsets[i + 1]]}, sorted by target index, with edge labels
+ * held in the parallel {@code _labels} array. The graph is built once and
+ * every mutator throws {@link UnsupportedOperationException}.</p>
+ *
+ * @author blee20@georgefox.edu
+ * @param <V> Label type for vertices
+ * @param <E> Label type for edges
+ */
+public class CsrGraph<V, E> extends DirectedGraph<V, E> implements IndexedGraph<V> {
+    // Constants
+    private static final int NOT_FOUND = -1;
+    private static final int INDEX_BITS = 32;
+    private static final long INDEX_MASK = 0xFFFFFFFFL;
+
+
+    // Internal State
+    private final Vertex<V>[] _vertices;
+    private final HashMap<V, Integer> _indices;
+    private final int[] _offsets;
+    private final int[] _targets;
+    private final E[] _labels;
+
+
+    // Constructors
+    /**
+     * Creates a CSR copy of an existing graph
+     *
+     * @param graph Graph to copy
+     */
+    public CsrGraph(DirectedGraph<V, E> graph) {
+        this(collectVertices(graph), graph.edges(), graph.edgeCount());
+    }
+
+
+    /**
+     * Creates a CSR graph from a vertex list and a stream of edges between those vertices
+     *
+     * @param vertices Vertex labels, in index order
+     * @param edges Edges whose endpoints all appear in {@code vertices}
+     * @param edgeHint Expected number of edges, used to pre-size buffers
+     */
+    @SuppressWarnings("unchecked")
+    private CsrGraph(ArrayList<V> vertices, Iterator<Edge<V, E>> edges, int edgeHint) {
+        int n = vertices.size();
+
+        _vertices = (Vertex<V>[]) new Vertex[n];
+        _indices = new HashMap<>(n * 2);
+
+        for (int i = 0; i < n; i++) {
+            V label = vertices.get(i);
+
+            if (_indices.put(label, i) != null) {
+                throw new DuplicateVertexException();
+            }
+
+            _vertices[i] = new Vertex<>(label);
+        }
+
+        // First pass buffers the edges as index pairs and counts out-degrees
+        int[] sources = new int[Math.max(edgeHint, 1)];
+        int[] targets = new int[sources.length];
+        ArrayList<E> labels = new ArrayList<>(sources.length);
+        int[] counts = new int[n + 1];
+        int m = 0;
+
+        while (edges.hasNext()) {
+            Edge<V, E> edge = edges.next();
+
+            if (m == sources.length) {
+                sources = Arrays.copyOf(sources, m * 2);
+                targets = Arrays.copyOf(targets, m * 2);
+            }
+
+            sources[m] = indexOrThrow(edge.getU());
+            targets[m] = indexOrThrow(edge.getV());
+            labels.add(edge.getLabel());
+            counts[sources[m] + 1]++;
+            m++;
+        }
+
+        // Prefix sums turn the counts into row offsets
+        for (int i = 0; i < n; i++) {
+            counts[i + 1] += counts[i];
+        }
+
+        _offsets = Arrays.copyOf(counts, n + 1);
+
+        // Second pass scatters each edge into its row as (target, edge) keys
+        long[] keys = new long[m];
+        int[] cursor = Arrays.copyOf(counts, n);
+
+        for (int e = 0; e < m; e++) {
+            keys[cursor[sources[e]]++] = ((long) targets[e] << INDEX_BITS) | e;
+        }
+
+        _targets = new int[m];
+        _labels = (E[]) new Object[m];
+
+        for (int i = 0; i < n; i++) {
+            Arrays.sort(keys, _offsets[i], _offsets[i + 1]);
+
+            for (int k = _offsets[i]; k < _offsets[i + 1]; k++) {
+                _targets[k] = (int) (keys[k] >>> INDEX_BITS);
+
+                if (k > _offsets[i] && _targets[k] == _targets[k - 1]) {
+                    throw new DuplicateEdgeException();
+                }
+
+                _labels[k] = labels.get((int) (keys[k] & INDEX_MASK));
+            }
+        }
+    }
+
+
+    /**
+     * Creates a CSR graph from a stream of edges; vertices are taken from the
+     * edge endpoints in order of first appearance
+     *
+     * @param edges Edges to load
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return A new CSR graph
+     */
+    public static <V, E> CsrGraph<V, E> fromEdges(Iterable<Edge<V, E>> edges) {
+        HashMap<V, Integer> seen = new HashMap<>();
+        ArrayList<V> vertices = new ArrayList<>();
+
+        for (Edge<V, E> edge : edges) {
+            if (seen.putIfAbsent(edge.getU(), vertices.size()) == null) {
+                vertices.add(edge.getU());
+            }
+
+            if (seen.putIfAbsent(edge.getV(), vertices.size()) == null) {
+                vertices.add(edge.getV());
+            }
+        }
+
+        return new CsrGraph<>(vertices, edges.iterator(), vertices.size());
+    }
+
+
+    // Methods
+    /**
+     * Unsupported; CSR graphs are immutable
+     *
+     * @param u Vertex label
+     */
+    public void add(V u) {
+        immutable();
+    }
+
+
+    /**
+     * Determines if the given label is assigned to a vertex
+     *
+     * @param u Vertex label
+     * @return True if vertex with label exists, else false
+     */
+    public boolean contains(V u) {
+        return vertexIndex(u) != NOT_FOUND;
+    }
+
+
+    /**
+     * Fetches the vertex with designated label
+     *
+     * @param u Vertex label
+     * @return Vertex of type V with corresponding label
+     */
+    public Vertex<V> get(V u) {
+        return _vertices[existingIndex(u)];
+    }
+
+
+    /**
+     * Unsupported; CSR graphs are immutable
+     *
+     * @param u Vertex label
+     * @return Never returns normally
+     */
+    public V remove(V u) {
+        return immutable();
+    }
+
+
+    /**
+     * Unsupported; CSR graphs are immutable
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @param label Edge label
+     */
+    public void addEdge(V u, V v, E label) {
+        immutable();
+    }
+
+
+    /**
+     * Determines if the given vertices share an edge
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return True if edge exists from u to v, else false
+     */
+    public boolean containsEdge(V u, V v) {
+        return edgeSlot(existingIndex(u), existingIndex(v)) >= 0;
+    }
+
+
+    /**
+     * Fetches an edge if it exists from u to v
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Edge of type E from u to v
+     */
+    public Edge<V, E> getEdge(V u, V v) {
+        int slot = edgeSlot(existingIndex(u), existingIndex(v));
+
+        // Non-existent edge handler
+        if (slot < 0) {
+            throw new NoSuchEdgeException();
+        }
+
+        return new Edge<>(u, v, _labels[slot]);
+    }
+
+
+    /**
+     * Unsupported; CSR graphs are immutable
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Never returns normally
+     */
+    public E removeEdge(V u, V v) {
+        return immutable();
+    }
+
+
+    /**
+     * Fetches the size of the graph (number of vertices)
+     *
+     * @return Number of vertices in graph
+     */
+    public int size() {
+        return _vertices.length;
+    }
+
+
+    /**
+     * Fetches the number of edges emanating from the given vertex
+     *
+     * @param u Source vertex label
+     * @return Number of edges from u to another vertex
+     */
+    public int degree(V u) {
+        int index = existingIndex(u);
+
+        return _offsets[index + 1] - _offsets[index];
+    }
+
+
+    /**
+     * Fetches the number of edges in the entire graph
+     *
+     * @return Number of edges in graph
+     */
+    public int edgeCount() {
+        return _targets.length;
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all the vertices
+     *
+     * @return A new vertex iterator object
+     */
+    public Iterator<Vertex<V>> vertices() {
+        return new VertexIterator(0, _vertices.length, null);
+    }
+
+
+    /**
+     * Creates an iterator for iterating through vertices adjacent to u
+     *
+     * @param u Source vertex
+     * @return A new iterator object
+     */
+    public Iterator<Vertex<V>> adjacent(V u) {
+        int index = existingIndex(u);
+
+        return new VertexIterator(_offsets[index], _offsets[index + 1], _targets);
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all the edges
+     *
+     * @return A new iterator object
+     */
+    public Iterator<Edge<V, E>> edges() {
+        return new Iterator<Edge<V, E>>() {
+            private int _source = 0;
+            private int _next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return _next < _targets.length;
+            }
+
+            @Override
+            public Edge<V, E> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                // Skip rows that have already been exhausted
+                while (_offsets[_source + 1] <= _next) {
+                    _source++;
+                }
+
+                Edge<V, E> edge = new Edge<>(_vertices[_source].getLabel(),
+                        _vertices[_targets[_next]].getLabel(), _labels[_next]);
+                _next++;
+
+                return edge;
+            }
+        };
+    }
+
+
+    /**
+     * Unsupported; CSR graphs are immutable
+     */
+    public void clear() {
+        immutable();
+    }
+
+
+    /**
+     * Determines if the current graph contains any vertices
+     *
+     * @return True if size is 0, else false
+     */
+    public boolean isEmpty() {
+        return _vertices.length == 0;
+    }
+
+
+    /**
+     * Fetches this graph, which is already immutable
+     *
+     * @return This graph
+     */
+    public CsrGraph<V, E> snapshot() {
+        return this;
+    }
+
+
+    /**
+     * Fetches the dense index assigned to a vertex
+     *
+     * @param u Vertex label
+     * @return Index of vertex, or -1 if absent
+     */
+    public int indexOf(V u) {
+        return vertexIndex(u);
+    }
+
+
+    /**
+     * Fetches an exclusive upper bound on every index
+     *
+     * @return Number of vertices
+     */
+    public int indexBound() {
+        return _vertices.length;
+    }
+
+
+    // Array Accessors
+    /**
+     * Fetches the dense index assigned to a vertex label
+     *
+     * @param u Vertex label
+     * @return Index of vertex, or -1 if absent
+     */
+    int vertexIndex(V u) {
+        // Null vertex handler
+        if (u == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        Integer index = _indices.get(u);
+
+        return index == null ? NOT_FOUND : index;
+    }
+
+
+    /**
+     * Fetches the vertex stored at a dense index
+     *
+     * @param index Vertex index
+     * @return Vertex at that index
+     */
+    Vertex<V> vertexAt(int index) {
+        return _vertices[index];
+    }
+
+
+    /**
+     * Fetches the row offsets array; row {@code i} spans {@code [offsets[i], offsets[i + 1])}
+     *
+     * @return Shared offsets array, which must not be modified
+     */
+    int[] offsets() {
+        return _offsets;
+    }
+
+
+    /**
+     * Fetches the target index array, parallel to the edge label array
+     *
+     * @return Shared targets array, which must not be modified
+     */
+    int[] targets() {
+        return _targets;
+    }
+
+
+    /**
+     * Builds the row arrays of the reversed graph: row {@code v} lists the
+     * sources of the edges ending at v, in increasing order
+     *
+     * @return {@code {inOffsets, sources}}, new arrays on every call
+     */
+    int[][] transpose() {
+        int n = _vertices.length;
+        int[] inOffsets = new int[n + 1];
+        int[] sources = new int[_targets.length];
+
+        for (int target : _targets) {
+            inOffsets[target + 1]++;
+        }
+
+        for (int i = 0; i < n; i++) {
+            inOffsets[i + 1] += inOffsets[i];
+        }
+
+        int[] cursor = Arrays.copyOf(inOffsets, n);
+
+        for (int u = 0; u < n; u++) {
+            for (int k = _offsets[u]; k < _offsets[u + 1]; k++) {
+                sources[cursor[_targets[k]]++] = u;
+            }
+        }
+
+        return new int[][] {inOffsets, sources};
+    }
+
+
+    /**
+     * Fetches the label of the edge stored at a position in the targets array
+     *
+     * @param slot Edge position
+     * @return Edge label
+     */
+    E labelAt(int slot) {
+        return _labels[slot];
+    }
+
+
+    // Helper Methods
+    /**
+     * Fetches the index of a vertex that must exist
+     *
+     * @param u Vertex label
+     * @return Index of vertex
+     */
+    private int existingIndex(V u) {
+        int index = vertexIndex(u);
+
+        // Non-existent vertex handler
+        if (index == NOT_FOUND) {
+            throw new NoSuchVertexException();
+        }
+
+        return index;
+    }
+
+
+    /**
+     * Fetches the index of an edge endpoint while the graph is being built
+     *
+     * @param u Vertex label
+     * @return Index of vertex
+     */
+    private int indexOrThrow(V u) {
+        Integer index = _indices.get(u);
+
+        if (index == null) {
+            throw new NoSuchVertexException();
+        }
+
+        return index;
+    }
+
+
+    /**
+     * Binary searches row {@code uIndex} for {@code vIndex}
+     *
+     * @param uIndex Source vertex index
+     * @param vIndex Destination vertex index
+     * @return Position of the edge in the targets array, or a negative value if absent
+     */
+    private int edgeSlot(int uIndex, int vIndex) {
+        int slot = Arrays.binarySearch(_targets, _offsets[uIndex], _offsets[uIndex + 1], vIndex);
+
+        return slot >= 0 ? slot : NOT_FOUND;
+    }
+
+
+    /**
+     * Exception handler for mutators
+     *
+     * @param <T> Declared return type of the calling mutator
+     * @return Never returns normally
+     */
+    private static <T> T immutable() {
+        throw new UnsupportedOperationException("Error: CsrGraph is immutable");
+    }
+
+
+    /**
+     * Copies the vertex labels of a graph into a list
+     *
+     * @param graph Source graph
+     * @param <V> Label type for vertices
+     * @return Vertex labels in iteration order
+     */
+    private static <V> ArrayList<V> collectVertices(DirectedGraph<V, ?> graph) {
+        ArrayList<V> vertices = new ArrayList<>(graph.size());
+        Iterator<Vertex<V>> it = graph.vertices();
+
+        while (it.hasNext()) {
+            vertices.add(it.next().getLabel());
+        }
+
+        return vertices;
+    }
+
+
+    // Inner Classes
+    /**
+     * Cursor over a contiguous range of vertex indices, either directly or
+     * through an indirection array such as a CSR row
+     */
+    private class VertexIterator implements Iterator<Vertex<V>> {
+        private final int _end;
+        private final int[] _indirect;
+        private int _next;
+
+        /**
+         * Creates a cursor over {@code [start, end)}
+         *
+         * @param start First position
+         * @param end One past the last position
+         * @param indirect Array mapping positions to vertex indices, or null for identity
+         */
+        VertexIterator(int start, int end, int[] indirect) {
+            _next = start;
+            _end = end;
+            _indirect = indirect;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return _next < _end;
+        }
+
+        @Override
+        public Vertex<V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            int position = _next++;
+
+            return _vertices[_indirect == null ? position : _indirect[position]];
+        }
+    }
+}
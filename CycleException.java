@@ -0,0 +1,25 @@
+/**
+ * Thrown by ordering operations to indicate that the graph contains a cycle
+ *
+ * @author blee20@georgefox.edu
+ */
+public class CycleException extends RuntimeException {
+    /**
+     * Constructs a {@code CycleException} with {@code null}
+     * as its error message string
+     */
+    public CycleException() {
+        super();
+    }
+
+
+    /**
+     * Constructs a {@code CycleException}, saving a reference
+     * to the error message string {@code msg}
+     *
+     * @param msg The detail message
+     */
+    public CycleException(String msg) {
+        super(msg);
+    }
+}
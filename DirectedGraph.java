@@ -1,3 +1,7 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 
 
@@ -146,5 +150,224 @@ public abstract class DirectedGraph<V, E>
      * @return True if size is 0, else false
      */
     abstract boolean isEmpty();
-}
 
+
+    /**
+     * Creates an iterator set for iterating through vertices with an edge into u.
+     * This default scans every vertex; implementations that index their in-edges
+     * answer in time proportional to u's in-degree
+     *
+     * @param u Destination vertex
+     * @return A new iterator object
+     */
+    Iterator<Vertex<V>> predecessors(V u) {
+        ArrayList<Vertex<V>> arr = new ArrayList<>();
+        Iterator<Edge<V, E>> it = inEdges(u);
+
+        while (it.hasNext()) {
+            arr.add(get(it.next().getU()));
+        }
+
+        return Collections.unmodifiableList(arr).iterator();
+    }
+
+
+    /**
+     * Fetches the number of edges ending at the given vertex
+     *
+     * @param u Destination vertex label
+     * @return Number of edges from another vertex to u
+     */
+    int inDegree(V u) {
+        int degree = 0;
+
+        for (Iterator<Edge<V, E>> it = inEdges(u); it.hasNext(); it.next()) {
+            degree++;
+        }
+
+        return degree;
+    }
+
+
+    /**
+     * Creates an iterator set for iterating through the edges ending at u
+     *
+     * @param u Destination vertex
+     * @return A new iterator object
+     */
+    Iterator<Edge<V, E>> inEdges(V u) {
+        // Non-existent vertex handler
+        if (!contains(u)) {
+            throw new NoSuchVertexException();
+        }
+
+        ArrayList<Edge<V, E>> arr = new ArrayList<>();
+        Iterator<Vertex<V>> it = vertices();
+
+        while (it.hasNext()) {
+            V w = it.next().getLabel();
+
+            if (containsEdge(w, u)) {
+                arr.add(getEdge(w, u));
+            }
+        }
+
+        return Collections.unmodifiableList(arr).iterator();
+    }
+
+
+    /**
+     * Creates an immutable copy of the graph that readers may query from any
+     * thread without locking while this graph keeps changing. This default
+     * copies the whole graph into a {@link CsrGraph}; implementations that
+     * track their changes answer in time proportional to the changes since
+     * their previous snapshot
+     *
+     * @return Immutable graph equal to this one at the time of the call
+     */
+    DirectedGraph<V, E> snapshot() {
+        return new CsrGraph<>(this);
+    }
+
+
+    /**
+     * Adds every label in a collection as a new vertex. The whole batch is
+     * checked before anything is added, so a null or duplicate label leaves
+     * the graph unchanged
+     *
+     * @param labels Vertex labels
+     */
+    void addAllVertices(Collection<? extends V> labels) {
+        checkVertexBatch(labels);
+
+        for (V u : labels) {
+            add(u);
+        }
+    }
+
+
+    /**
+     * Adds every edge in a sequence; see {@link #addEdges}
+     *
+     * @param edges Edges to add, read for their endpoints and labels
+     * @param policy What to do with edges that are already present
+     * @return Number of edges newly added
+     */
+    @SuppressWarnings("unchecked")
+    int addAllEdges(Iterable<Edge<V, E>> edges, DuplicatePolicy policy) {
+        ArrayList<Edge<V, E>> batch = new ArrayList<>();
+
+        for (Edge<V, E> edge : edges) {
+            batch.add(edge);
+        }
+
+        int count = batch.size();
+        V[] src = (V[]) new Object[count];
+        V[] dst = (V[]) new Object[count];
+        E[] labels = (E[]) new Object[count];
+
+        for (int i = 0; i < count; i++) {
+            Edge<V, E> edge = batch.get(i);
+
+            src[i] = edge.getU();
+            dst[i] = edge.getV();
+            labels[i] = edge.getLabel();
+        }
+
+        return addEdges(src, dst, labels, policy);
+    }
+
+
+    /**
+     * Adds the edges {@code src[i] -> dst[i]} labelled {@code labels[i]}. Every
+     * endpoint and label is checked before anything is added, so a null value,
+     * a missing vertex or, under {@link DuplicatePolicy#THROW}, a duplicate
+     * edge leaves the graph unchanged. Under SKIP the first edge between a
+     * pair wins; under OVERWRITE the last one does
+     *
+     * @param src Source vertex labels
+     * @param dst Destination vertex labels, parallel to src
+     * @param labels Edge labels, parallel to src
+     * @param policy What to do with edges that are already present
+     * @return Number of edges newly added
+     */
+    int addEdges(V[] src, V[] dst, E[] labels, DuplicatePolicy policy) {
+        checkEdgeBatch(src, dst, labels, policy);
+
+        for (int i = 0; i < src.length; i++) {
+            // Null and non-existent vertices are handled within these calls
+            if (!contains(src[i]) || !contains(dst[i])) {
+                throw new NoSuchVertexException();
+            }
+        }
+
+        int added = 0;
+
+        for (int i = 0; i < src.length; i++) {
+            if (!containsEdge(src[i], dst[i])) {
+                addEdge(src[i], dst[i], labels[i]);
+                added++;
+            }
+            else if (policy == DuplicatePolicy.THROW) {
+                // Every edge added so far is new, so removing them restores the graph
+                for (int k = i - 1; k >= 0; k--) {
+                    removeEdge(src[k], dst[k]);
+                }
+
+                throw new DuplicateEdgeException();
+            }
+            else if (policy == DuplicatePolicy.OVERWRITE) {
+                removeEdge(src[i], dst[i]);
+                addEdge(src[i], dst[i], labels[i]);
+            }
+        }
+
+        return added;
+    }
+
+
+    /**
+     * Exception handler for a vertex batch; rejects null labels, labels already
+     * in the graph and labels repeated within the batch
+     *
+     * @param labels Vertex labels
+     */
+    final void checkVertexBatch(Collection<? extends V> labels) {
+        HashSet<V> seen = new HashSet<>(labels.size() * 2);
+
+        for (V u : labels) {
+            // Null vertices are handled within this call
+            if (contains(u) || !seen.add(u)) {
+                throw new DuplicateVertexException();
+            }
+        }
+    }
+
+
+    /**
+     * Exception handler for an edge batch; rejects a null policy, mismatched
+     * array lengths and null labels. Endpoints are left to the caller, which
+     * resolves each of them anyway
+     *
+     * @param src Source vertex labels
+     * @param dst Destination vertex labels
+     * @param labels Edge labels
+     * @param policy Duplicate policy
+     */
+    final void checkEdgeBatch(V[] src, V[] dst, E[] labels, DuplicatePolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        if (src.length != dst.length || src.length != labels.length) {
+            throw new IllegalArgumentException("Error: Batch arrays differ in length");
+        }
+
+        for (E label : labels) {
+            // Null edge handler
+            if (label == null) {
+                throw new IllegalArgumentException("Error: Null is considered an invalid value");
+            }
+        }
+    }
+}
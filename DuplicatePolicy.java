@@ -0,0 +1,22 @@
+/**
+ * Decides what a bulk edge load does with an edge whose source and destination
+ * are already joined, either in the graph or earlier in the same batch
+ *
+ * @author blee20@georgefox.edu
+ */
+public enum DuplicatePolicy {
+    /**
+     * Rejects the whole batch with a {@link DuplicateEdgeException}, leaving the graph unchanged
+     */
+    THROW,
+
+    /**
+     * Keeps the edge already present and ignores the new one
+     */
+    SKIP,
+
+    /**
+     * Replaces the label of the edge already present with the new one
+     */
+    OVERWRITE
+}
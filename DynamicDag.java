@@ -0,0 +1,646 @@
+// Imports
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+
+
+/**
+ * Acyclic graph that keeps a topological order up to date as it changes
+ *
+ * <p>Every call is forwarded to a wrapped graph, which stores the labels and
+ * edges. Alongside it the DAG keeps one node per vertex holding its position
+ * in the order and its in- and out-neighbours. An edge that already agrees
+ * with the order costs nothing extra. Otherwise the Pearce-Kelly algorithm
+ * searches only the vertices positioned between the two endpoints, which
+ * finds any cycle the edge would close before anything changes, and then
+ * shuffles just those vertices among their own positions. Removing edges and
+ * vertices never invalidates an order, so {@link #isBefore} is always a
+ * comparison of two stored positions.</p>
+ *
+ * <p>The wrapped graph must not be modified directly while the DAG is in
+ * use, and iterators from the DAG do not support removal.</p>
+ *
+ * @author blee20@georgefox.edu
+ * @param <V> Label type for vertices
+ * @param <E> Label type for edges
+ */
+public class DynamicDag<V, E> extends DirectedGraph<V, E> {
+    // Constants
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DOUBLE = 2;
+    private static final Comparator<Node<?>> BY_POSITION = Comparator.comparingInt(node -> node._position);
+
+
+    // Internal State
+    private final DirectedGraph<V, E> _graph;
+    private final HashMap<V, Node<V>> _nodes;
+    private final List<V> _view;
+    private Node<V>[] _order;
+    private int _end;
+    private int _holes;
+    private int _epoch;
+
+
+    // Constructors
+    /**
+     * Creates an empty DAG stored in a ListGraph
+     */
+    public DynamicDag() {
+        this(new ListGraph<>());
+    }
+
+
+    /**
+     * Creates a DAG over an existing graph, ordering its current vertices once
+     *
+     * @param graph Graph to wrap
+     * @throws CycleException If the graph already contains a cycle
+     */
+    public DynamicDag(DirectedGraph<V, E> graph) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        _graph = graph;
+        _nodes = new HashMap<>();
+        _view = new OrderView();
+        _order = newOrder(Math.max(DEFAULT_CAPACITY, graph.size()));
+
+        GraphTraversal.topological(graph, (u, position) -> {
+            append(u);
+
+            return true;
+        });
+
+        for (Iterator<Edge<V, E>> it = graph.edges(); it.hasNext(); ) {
+            Edge<V, E> edge = it.next();
+
+            link(_nodes.get(edge.getU()), _nodes.get(edge.getV()));
+        }
+    }
+
+
+    // Methods
+    /**
+     * Creates a new vertex and places it last in the order
+     *
+     * @param u Vertex label
+     */
+    public void add(V u) {
+        _graph.add(u);
+        append(u);
+    }
+
+
+    /**
+     * Determines if the given label is assigned to a vertex
+     *
+     * @param u Vertex label
+     * @return True if vertex with label exists, else false
+     */
+    public boolean contains(V u) {
+        return _graph.contains(u);
+    }
+
+
+    /**
+     * Fetches the vertex with designated label
+     *
+     * @param u Vertex label
+     * @return Vertex of type V with corresponding label
+     */
+    public Vertex<V> get(V u) {
+        return _graph.get(u);
+    }
+
+
+    /**
+     * Deletes a Vertex object along with its edges; the order of the other
+     * vertices is kept
+     *
+     * @param u Vertex label
+     * @return Deleted vertex's label
+     */
+    public V remove(V u) {
+        V label = _graph.remove(u);
+        Node<V> node = _nodes.remove(u);
+
+        for (Node<V> w : node._out) {
+            w._in.remove(node);
+        }
+
+        for (Node<V> w : node._in) {
+            w._out.remove(node);
+        }
+
+        _order[node._position] = null;
+        _holes++;
+
+        return label;
+    }
+
+
+    /**
+     * Creates a new edge, moving vertices as needed so that u stays ahead of v
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @param label Edge label
+     * @throws CycleException If v already reaches u, or u and v are the same;
+     *                        the graph and the order are left unchanged
+     */
+    public void addEdge(V u, V v, E label) {
+        Node<V> from = node(u);
+        Node<V> to = node(v);
+
+        if (label == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        if (from == to) {
+            throw new CycleException("Error: Edge would create a cycle");
+        }
+
+        // An edge that already points forward in the order needs no search
+        if (to._position < from._position) {
+            reorder(from, to);
+        }
+
+        _graph.addEdge(u, v, label);
+        link(from, to);
+    }
+
+
+    /**
+     * Determines if the given vertices share an edge
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return True if edge exists from u to v, else false
+     */
+    public boolean containsEdge(V u, V v) {
+        return _graph.containsEdge(u, v);
+    }
+
+
+    /**
+     * Fetches an edge if it exists from u to v
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Edge of type E from u to v
+     */
+    public Edge<V, E> getEdge(V u, V v) {
+        return _graph.getEdge(u, v);
+    }
+
+
+    /**
+     * Deletes an Edge object; the order stays valid without changes
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Deleted edge's label
+     */
+    public E removeEdge(V u, V v) {
+        E label = _graph.removeEdge(u, v);
+        Node<V> from = _nodes.get(u);
+        Node<V> to = _nodes.get(v);
+
+        from._out.remove(to);
+        to._in.remove(from);
+
+        return label;
+    }
+
+
+    /**
+     * Fetches the size of the graph (number of vertices)
+     *
+     * @return Number of vertices in graph
+     */
+    public int size() {
+        return _graph.size();
+    }
+
+
+    /**
+     * Fetches the number of edges starting at the given vertex
+     *
+     * @param u Source vertex label
+     * @return Number of edges from u to another vertex
+     */
+    public int degree(V u) {
+        return _graph.degree(u);
+    }
+
+
+    /**
+     * Fetches the number of edges ending at the given vertex
+     *
+     * @param u Destination vertex label
+     * @return Number of edges from another vertex to u
+     */
+    public int inDegree(V u) {
+        return node(u)._in.size();
+    }
+
+
+    /**
+     * Fetches the number of edges in the graph
+     *
+     * @return Number of edges in graph
+     */
+    public int edgeCount() {
+        return _graph.edgeCount();
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all the vertices
+     *
+     * @return A new iterator object
+     */
+    public Iterator<Vertex<V>> vertices() {
+        return readOnly(_graph.vertices());
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all adjacent vertices of u
+     *
+     * @param u Source vertex
+     * @return A new iterator object
+     */
+    public Iterator<Vertex<V>> adjacent(V u) {
+        return readOnly(_graph.adjacent(u));
+    }
+
+
+    /**
+     * Creates an iterator set for iterating through the vertices with an edge to u
+     *
+     * @param u Destination vertex
+     * @return A new iterator object
+     */
+    public Iterator<Vertex<V>> predecessors(V u) {
+        Iterator<Node<V>> it = node(u)._in.iterator();
+
+        return new Iterator<Vertex<V>>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public Vertex<V> next() {
+                return _graph.get(it.next()._label);
+            }
+        };
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all the edges
+     *
+     * @return A new iterator object
+     */
+    public Iterator<Edge<V, E>> edges() {
+        return readOnly(_graph.edges());
+    }
+
+
+    /**
+     * Clears the existing graph
+     */
+    public void clear() {
+        _graph.clear();
+        _nodes.clear();
+        _order = newOrder(DEFAULT_CAPACITY);
+        _end = 0;
+        _holes = 0;
+    }
+
+
+    /**
+     * Determines if the current graph contains any vertices
+     *
+     * @return True if size is 0, else false
+     */
+    public boolean isEmpty() {
+        return _graph.isEmpty();
+    }
+
+
+    /**
+     * Creates an immutable copy of the wrapped graph; see
+     * {@link DirectedGraph#snapshot()}
+     *
+     * @return Immutable graph equal to this one at the time of the call
+     */
+    public DirectedGraph<V, E> snapshot() {
+        return _graph.snapshot();
+    }
+
+
+    /**
+     * Fetches the current topological order as a read-only view. The view
+     * follows later changes to the DAG
+     *
+     * @return Vertex labels, each ahead of every vertex it has an edge to
+     */
+    public List<V> order() {
+        return _view;
+    }
+
+
+    /**
+     * Determines if u comes before v in the current topological order. This
+     * is always true when v is reachable from u
+     *
+     * @param u First vertex label
+     * @param v Second vertex label
+     * @return True if u is ordered ahead of v, else false
+     */
+    public boolean isBefore(V u, V v) {
+        return node(u)._position < node(v)._position;
+    }
+
+
+    // Helper Methods
+    /**
+     * Fetches the node of a vertex
+     *
+     * @param u Vertex label
+     * @return Node of the vertex
+     */
+    private Node<V> node(V u) {
+        // Null vertex handler
+        if (u == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        Node<V> node = _nodes.get(u);
+
+        // Non-existent vertex handler
+        if (node == null) {
+            throw new NoSuchVertexException();
+        }
+
+        return node;
+    }
+
+
+    /**
+     * Creates a node for a vertex at the end of the order
+     *
+     * @param u Vertex label
+     */
+    private void append(V u) {
+        if (_end == _order.length) {
+            // Reclaim the slots of removed vertices before growing
+            if (_holes * DOUBLE >= _end) {
+                compact();
+            }
+            else {
+                _order = Arrays.copyOf(_order, _order.length * DOUBLE);
+            }
+        }
+
+        Node<V> node = new Node<>(u, _end);
+
+        _order[_end++] = node;
+        _nodes.put(u, node);
+    }
+
+
+    /**
+     * Records an edge between two nodes
+     *
+     * @param from Source node
+     * @param to Destination node
+     */
+    private static <V> void link(Node<V> from, Node<V> to) {
+        from._out.add(to);
+        to._in.add(from);
+    }
+
+
+    /**
+     * Restores the order for a new edge whose destination is currently ahead of
+     * its source. The vertices reachable from the destination and the vertices
+     * reaching the source, both limited to the positions between the two, swap
+     * places: the second group takes the lowest of their combined positions
+     *
+     * @param from Source node of the new edge
+     * @param to Destination node of the new edge
+     * @throws CycleException If the destination reaches the source
+     */
+    private void reorder(Node<V> from, Node<V> to) {
+        int stamp = nextEpoch();
+        ArrayList<Node<V>> forward = search(to, from._position, true, from, stamp);
+        ArrayList<Node<V>> backward = search(from, to._position, false, null, stamp);
+        int[] positions = new int[forward.size() + backward.size()];
+        int k = 0;
+
+        forward.sort(BY_POSITION);
+        backward.sort(BY_POSITION);
+
+        for (Node<V> node : backward) {
+            positions[k++] = node._position;
+        }
+
+        for (Node<V> node : forward) {
+            positions[k++] = node._position;
+        }
+
+        Arrays.sort(positions);
+        k = 0;
+
+        for (Node<V> node : backward) {
+            place(node, positions[k++]);
+        }
+
+        for (Node<V> node : forward) {
+            place(node, positions[k++]);
+        }
+    }
+
+
+    /**
+     * Collects the unmarked nodes reachable from a start node without leaving
+     * the window between the start and a bound
+     *
+     * @param start Start node
+     * @param bound Position the search may not pass
+     * @param forward True to follow out-edges and stay below bound, false to
+     *                follow in-edges and stay above it
+     * @param target Node whose discovery means a cycle, or null
+     * @param stamp Mark for this search
+     * @return Nodes found, including the start
+     */
+    private ArrayList<Node<V>> search(Node<V> start, int bound, boolean forward, Node<V> target, int stamp) {
+        ArrayList<Node<V>> found = new ArrayList<>();
+        ArrayList<Node<V>> stack = new ArrayList<>();
+
+        start._mark = stamp;
+        found.add(start);
+        stack.add(start);
+
+        while (!stack.isEmpty()) {
+            Node<V> u = stack.remove(stack.size() - 1);
+
+            for (Node<V> w : forward ? u._out : u._in) {
+                if (w == target) {
+                    throw new CycleException("Error: Edge would create a cycle");
+                }
+
+                boolean inside = forward ? w._position < bound : w._position > bound;
+
+                if (inside && w._mark != stamp) {
+                    w._mark = stamp;
+                    found.add(w);
+                    stack.add(w);
+                }
+            }
+        }
+
+        return found;
+    }
+
+
+    /**
+     * Moves a node to a position in the order
+     *
+     * @param node Node to move
+     * @param position New position
+     */
+    private void place(Node<V> node, int position) {
+        node._position = position;
+        _order[position] = node;
+    }
+
+
+    /**
+     * Hands out a fresh search mark, clearing every mark when the counter wraps
+     *
+     * @return Mark unused by any node
+     */
+    private int nextEpoch() {
+        if (_epoch == Integer.MAX_VALUE) {
+            for (Node<V> node : _nodes.values()) {
+                node._mark = 0;
+            }
+
+            _epoch = 0;
+        }
+
+        return ++_epoch;
+    }
+
+
+    /**
+     * Closes the gaps left by removed vertices, keeping the relative order
+     */
+    private void compact() {
+        int kept = 0;
+
+        for (int i = 0; i < _end; i++) {
+            if (_order[i] != null) {
+                place(_order[i], kept++);
+            }
+        }
+
+        Arrays.fill(_order, kept, _end, null);
+        _end = kept;
+        _holes = 0;
+    }
+
+
+    /**
+     * Creates an empty order array
+     *
+     * @param capacity Number of positions
+     * @return New array
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> Node<V>[] newOrder(int capacity) {
+        return (Node<V>[]) new Node[capacity];
+    }
+
+
+    /**
+     * Wraps an iterator of the wrapped graph so that it cannot remove elements
+     *
+     * @param it Iterator to wrap
+     * @param <T> Element type
+     * @return Iterator without removal
+     */
+    private static <T> Iterator<T> readOnly(Iterator<T> it) {
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return it.next();
+            }
+        };
+    }
+
+
+    // Inner Classes
+    /**
+     * Position and neighbours of one vertex
+     *
+     * @param <V> Label type for vertices
+     */
+    private static class Node<V> {
+        private final V _label;
+        private final ArrayList<Node<V>> _out = new ArrayList<>();
+        private final ArrayList<Node<V>> _in = new ArrayList<>();
+        private int _position;
+        private int _mark;
+
+        /**
+         * Creates a node without edges
+         *
+         * @param label Vertex label
+         * @param position Position in the order
+         */
+        Node(V label, int position) {
+            _label = label;
+            _position = position;
+        }
+    }
+
+
+    /**
+     * Read-only list over the order, compacting it first if vertices were removed
+     */
+    private class OrderView extends AbstractList<V> {
+        @Override
+        public V get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException();
+            }
+
+            if (_holes > 0) {
+                compact();
+            }
+
+            return _order[index]._label;
+        }
+
+        @Override
+        public int size() {
+            return _nodes.size();
+        }
+    }
+}
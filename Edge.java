@@ -9,6 +9,7 @@ public class Edge<V, E>
     // Internal State
     private final V _u;
     private final V _v;
+    private final int _hash;
     private E _label;
 
 
@@ -30,6 +31,7 @@ public class Edge<V, E>
 
         _u = u;
         _v = v;
+        _hash = 31 * u.hashCode() + v.hashCode();
         _label = label;
     }
 
@@ -79,17 +81,36 @@ public class Edge<V, E>
 
 
     /**
-     * Compares the current Edge object to another existing Edge object
+     * Compares the current Edge object to another object
      *
-     * @param o Another Edge
-     * @return True if source vertex and destination vertex are the same, else false
+     * @param o Another object
+     * @return True if o is an Edge with equal source and destination vertices, else false
      */
-    public boolean equals(Edge<V, E> o) {
-        if (o == null) {
-            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof Edge)) {
+            return false;
         }
 
-        return getU().equals(o.getU()) && getV().equals(o.getV());
+        Edge<?, ?> other = (Edge<?, ?>) o;
+
+        return _hash == other._hash && _u.equals(other._u) && _v.equals(other._v);
+    }
+
+
+    /**
+     * Fetches the hash code of the endpoints, computed once when the edge is
+     * created. The label can change, so it takes no part in equality
+     *
+     * @return Hash code
+     */
+    @Override
+    public int hashCode() {
+        return _hash;
     }
 
 
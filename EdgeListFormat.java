@@ -0,0 +1,61 @@
+/**
+ * Text layouts understood by {@link EdgeLists}; each line holds a source
+ * vertex, a destination vertex and optionally an edge label
+ *
+ * @author blee20@georgefox.edu
+ */
+public enum EdgeListFormat {
+    /**
+     * Comma-separated fields; a field may be wrapped in double quotes, with
+     * embedded quotes doubled, to hold commas, quotes or line breaks
+     */
+    CSV((byte) ','),
+
+    /**
+     * Tab-separated fields
+     */
+    TSV((byte) '\t'),
+
+    /**
+     * Fields separated by any run of spaces or tabs, as in most published
+     * edge-list datasets; leading whitespace is ignored
+     */
+    WHITESPACE((byte) ' ');
+
+
+    // Internal State
+    private final byte _delimiter;
+
+
+    // Constructor
+    /**
+     * Creates a format with the delimiter written between fields
+     *
+     * @param delimiter Field delimiter
+     */
+    EdgeListFormat(byte delimiter) {
+        _delimiter = delimiter;
+    }
+
+
+    // Methods
+    /**
+     * Fetches the byte written between fields
+     *
+     * @return Field delimiter
+     */
+    byte delimiter() {
+        return _delimiter;
+    }
+
+
+    /**
+     * Determines if a byte separates fields in this format
+     *
+     * @param b Byte read from the input
+     * @return True if b is a delimiter, else false
+     */
+    boolean isDelimiter(byte b) {
+        return this == WHITESPACE ? b == ' ' || b == '\t' : b == _delimiter;
+    }
+}
@@ -0,0 +1,583 @@
+// Imports
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+
+
+/**
+ * Streaming import and export of text edge lists
+ *
+ * <p>{@link #read} pulls the file through a {@link FileChannel} into a reusable
+ * buffer and hands each field to a {@link LabelParser} in place, so numeric
+ * ids are parsed without creating a String per field. Parsed edges are
+ * collected into fixed-size batches that are loaded with
+ * {@link DirectedGraph#addEdges}, keeping memory use bounded however large
+ * the file is; vertices are created the first time they appear. Blank lines
+ * and lines starting with {@code #} are skipped.</p>
+ *
+ * <p>{@link #write} streams {@link DirectedGraph#edges()} straight into a
+ * channel buffer, writing each label's {@code toString()}.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+public final class EdgeLists {
+    // Constants
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int BATCH_SIZE = 1 << 16;
+    private static final int MAX_FIELDS = 3;
+    private static final int DOUBLE = 2;
+    private static final byte NEWLINE = '\n';
+    private static final byte RETURN = '\r';
+    private static final byte QUOTE = '"';
+    private static final byte COMMENT = '#';
+
+
+    /**
+     * Prevents instantiation of this utility class
+     */
+    private EdgeLists() {
+    }
+
+
+    // Methods
+    /**
+     * Loads every edge in a text edge list into a graph. Lines with only two
+     * fields pass a zero-length label field to {@code labelParser}; use
+     * {@link LabelParser#constant} for unlabelled files
+     *
+     * @param file File to read
+     * @param format Field layout
+     * @param graph Graph to load into; missing vertices are added
+     * @param vertexParser Parses the source and destination fields
+     * @param labelParser Parses the label field
+     * @param policy What to do with edges that are already present
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return Number of edges newly added
+     * @throws IOException If the file cannot be read or a line is malformed
+     * @throws DuplicateEdgeException If {@code policy} is
+     *                                {@link DuplicatePolicy#THROW} and an edge
+     *                                is already present; edges from batches
+     *                                loaded before the failing one stay in the graph
+     */
+    public static <V, E> long read(Path file, EdgeListFormat format, DirectedGraph<V, E> graph,
+                                   LabelParser<V> vertexParser, LabelParser<E> labelParser,
+                                   DuplicatePolicy policy) throws IOException {
+        Batch<V, E> batch = new Batch<>(graph, policy);
+        LineParser<V, E> lines = new LineParser<>(format, vertexParser, labelParser, batch);
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        boolean eof = false;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (!eof) {
+                // A line longer than the buffer makes the buffer grow
+                if (!buffer.hasRemaining()) {
+                    buffer = ByteBuffer.allocate(buffer.capacity() * DOUBLE).put(buffer.flip());
+                }
+
+                eof = channel.read(buffer) < 0;
+                buffer.flip();
+
+                int start = 0;
+                int limit = buffer.limit();
+
+                for (int end; (end = lineEnd(buffer, start, limit, format)) >= 0; start = end + 1) {
+                    lines.parse(buffer, start, end);
+                }
+
+                // The last line need not end with a newline
+                if (eof && start < limit) {
+                    lines.parse(buffer, start, limit);
+                    start = limit;
+                }
+
+                buffer.position(start);
+                buffer.compact();
+            }
+        }
+
+        batch.flush();
+
+        return batch.added();
+    }
+
+
+    /**
+     * Writes every edge of a graph as one line of a text edge list, replacing
+     * any existing file
+     *
+     * @param graph Graph to write
+     * @param file Destination file
+     * @param format Field layout
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return Number of edges written
+     * @throws IOException If the file cannot be written
+     * @throws IllegalArgumentException If a label cannot be represented in the
+     *                                  format, such as a TSV label containing a tab
+     */
+    public static <V, E> long write(DirectedGraph<V, E> graph, Path file, EdgeListFormat format)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        StringBuilder line = new StringBuilder();
+        long written = 0;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (Iterator<Edge<V, E>> it = graph.edges(); it.hasNext(); ) {
+                Edge<V, E> edge = it.next();
+
+                line.setLength(0);
+                appendField(line, String.valueOf(edge.getU()), format, true);
+                line.append((char) format.delimiter());
+                appendField(line, String.valueOf(edge.getV()), format, false);
+                line.append((char) format.delimiter());
+                appendField(line, String.valueOf(edge.getLabel()), format, false);
+                line.append((char) NEWLINE);
+
+                byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+
+                if (bytes.length > buffer.remaining()) {
+                    flush(channel, buffer);
+                }
+
+                if (bytes.length > buffer.capacity()) {
+                    writeFully(channel, ByteBuffer.wrap(bytes));
+                }
+                else {
+                    buffer.put(bytes);
+                }
+
+                written++;
+            }
+
+            flush(channel, buffer);
+        }
+
+        return written;
+    }
+
+
+    // Helper Methods
+    /**
+     * Finds the newline that ends the line starting at {@code from}; in CSV a
+     * newline inside a quoted field belongs to the field
+     *
+     * @param buffer Input buffer
+     * @param from First byte of the line
+     * @param limit End of the bytes read so far
+     * @param format Field layout
+     * @return Position of the newline, or -1 if the line is not complete yet
+     */
+    private static int lineEnd(ByteBuffer buffer, int from, int limit, EdgeListFormat format) {
+        // Comment lines are never quoted
+        boolean csv = format == EdgeListFormat.CSV && from < limit && buffer.get(from) != COMMENT;
+        boolean quoted = false;
+        boolean fieldStart = true;
+
+        for (int i = from; i < limit; i++) {
+            byte b = buffer.get(i);
+
+            if (quoted) {
+                if (b == QUOTE) {
+                    // A doubled quote may be split across reads
+                    if (i + 1 == limit) {
+                        return -1;
+                    }
+
+                    if (buffer.get(i + 1) == QUOTE) {
+                        i++;
+                    }
+                    else {
+                        quoted = false;
+                    }
+                }
+            }
+            else if (b == NEWLINE) {
+                return i;
+            }
+            else {
+                quoted = csv && fieldStart && b == QUOTE;
+                fieldStart = format.isDelimiter(b);
+            }
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Appends one field, quoting it for CSV when needed
+     *
+     * @param line Line being built
+     * @param value Field text
+     * @param format Field layout
+     * @param first True for the first field, which must not look like a comment
+     */
+    private static void appendField(StringBuilder line, String value, EdgeListFormat format, boolean first) {
+        boolean special = value.isEmpty() || (first && value.charAt(0) == COMMENT);
+
+        for (int i = 0; i < value.length() && !special; i++) {
+            char c = value.charAt(i);
+
+            special = c == NEWLINE || c == RETURN || c == QUOTE || (c < 0x80 && format.isDelimiter((byte) c));
+        }
+
+        if (!special) {
+            line.append(value);
+        }
+        else if (format == EdgeListFormat.CSV) {
+            line.append((char) QUOTE).append(value.replace("\"", "\"\"")).append((char) QUOTE);
+        }
+        else {
+            throw new IllegalArgumentException("Error: Label cannot be written as " + format + ": " + value);
+        }
+    }
+
+
+    /**
+     * Writes everything buffered so far to the channel and empties the buffer
+     *
+     * @param channel Destination
+     * @param buffer Buffer in write mode
+     * @throws IOException If writing fails
+     */
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        writeFully(channel, buffer);
+        buffer.clear();
+    }
+
+
+    /**
+     * Writes the remaining bytes of a buffer to the channel
+     *
+     * @param channel Destination
+     * @param buffer Buffer in read mode
+     * @throws IOException If writing fails
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+
+    // Inner Classes
+    /**
+     * Splits lines into fields and feeds the parsed edges to a batch
+     *
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     */
+    private static class LineParser<V, E> {
+        private final EdgeListFormat _format;
+        private final LabelParser<V> _vertexParser;
+        private final LabelParser<E> _labelParser;
+        private final Batch<V, E> _batch;
+        private final int[] _starts = new int[MAX_FIELDS];
+        private final int[] _ends = new int[MAX_FIELDS];
+        private final ByteBuffer[] _sources = new ByteBuffer[MAX_FIELDS];
+        private long _lineNumber;
+        private long _nextLine = 1;
+
+        /**
+         * Creates a parser that sends edges to a batch
+         *
+         * @param format Field layout
+         * @param vertexParser Parses vertex fields
+         * @param labelParser Parses the label field
+         * @param batch Receives parsed edges
+         */
+        LineParser(EdgeListFormat format, LabelParser<V> vertexParser, LabelParser<E> labelParser,
+                   Batch<V, E> batch) {
+            _format = format;
+            _vertexParser = vertexParser;
+            _labelParser = labelParser;
+            _batch = batch;
+        }
+
+        /**
+         * Parses the line held in {@code buffer[from, to)}, excluding its newline
+         *
+         * @param buffer Input buffer
+         * @param from First byte of the line
+         * @param to One past the last byte of the line
+         * @throws IOException If the line is malformed
+         */
+        void parse(ByteBuffer buffer, int from, int to) throws IOException {
+            _lineNumber = _nextLine++;
+
+            // Quoted CSV fields may span lines
+            for (int i = from; _format == EdgeListFormat.CSV && i < to; i++) {
+                if (buffer.get(i) == NEWLINE) {
+                    _nextLine++;
+                }
+            }
+
+            if (to > from && buffer.get(to - 1) == RETURN) {
+                to--;
+            }
+
+            int i = from;
+
+            if (_format == EdgeListFormat.WHITESPACE) {
+                while (i < to && _format.isDelimiter(buffer.get(i))) {
+                    i++;
+                }
+            }
+
+            if (i == to || buffer.get(i) == COMMENT) {
+                return;
+            }
+
+            int fields = 0;
+
+            while (true) {
+                if (fields == MAX_FIELDS) {
+                    throw malformed("too many fields");
+                }
+
+                i = field(buffer, i, to, fields++);
+
+                if (i == to) {
+                    break;
+                }
+
+                // Step over the delimiter, or the whole run of them for whitespace
+                i++;
+
+                while (_format == EdgeListFormat.WHITESPACE && i < to && _format.isDelimiter(buffer.get(i))) {
+                    i++;
+                }
+
+                if (i == to && _format == EdgeListFormat.WHITESPACE) {
+                    break;
+                }
+            }
+
+            if (fields < 2) {
+                throw malformed("expected at least two fields");
+            }
+
+            V u;
+            V v;
+            E label;
+
+            try {
+                u = parseField(_vertexParser, 0);
+                v = parseField(_vertexParser, 1);
+                label = fields == MAX_FIELDS ? parseField(_labelParser, 2) : _labelParser.parse(buffer, to, 0);
+            }
+            catch (RuntimeException e) {
+                IOException failure = malformed(e.getMessage());
+
+                failure.initCause(e);
+
+                throw failure;
+            }
+
+            // A duplicate found while flushing belongs to the batch, not to this line
+            _batch.add(u, v, label);
+        }
+
+        /**
+         * Records the bounds of one field starting at {@code from}
+         *
+         * @param buffer Input buffer
+         * @param from First byte of the field
+         * @param to End of the line
+         * @param index Field number
+         * @return Position of the delimiter ending the field, or {@code to}
+         * @throws IOException If a quoted field is not closed
+         */
+        private int field(ByteBuffer buffer, int from, int to, int index) throws IOException {
+            if (_format != EdgeListFormat.CSV || from == to || buffer.get(from) != QUOTE) {
+                int i = from;
+
+                while (i < to && !_format.isDelimiter(buffer.get(i))) {
+                    i++;
+                }
+
+                _sources[index] = buffer;
+                _starts[index] = from;
+                _ends[index] = i;
+
+                return i;
+            }
+
+            // Quoted CSV field; doubled quotes force a copy with the escapes removed
+            boolean escaped = false;
+            int i = from + 1;
+
+            while (true) {
+                if (i >= to) {
+                    throw malformed("unterminated quote");
+                }
+
+                if (buffer.get(i) == QUOTE) {
+                    if (i + 1 < to && buffer.get(i + 1) == QUOTE) {
+                        escaped = true;
+                        i += 2;
+                        continue;
+                    }
+
+                    break;
+                }
+
+                i++;
+            }
+
+            if (i + 1 < to && !_format.isDelimiter(buffer.get(i + 1))) {
+                throw malformed("text after closing quote");
+            }
+
+            if (escaped) {
+                byte[] raw = new byte[i - from - 1];
+
+                buffer.get(from + 1, raw);
+
+                byte[] text = new String(raw, StandardCharsets.UTF_8).replace("\"\"", "\"")
+                        .getBytes(StandardCharsets.UTF_8);
+
+                _sources[index] = ByteBuffer.wrap(text);
+                _starts[index] = 0;
+                _ends[index] = text.length;
+            }
+            else {
+                _sources[index] = buffer;
+                _starts[index] = from + 1;
+                _ends[index] = i;
+            }
+
+            return i + 1;
+        }
+
+        /**
+         * Parses a recorded field
+         *
+         * @param parser Parser to apply
+         * @param index Field number
+         * @param <T> Label type
+         * @return Parsed label
+         */
+        private <T> T parseField(LabelParser<T> parser, int index) {
+            return parser.parse(_sources[index], _starts[index], _ends[index] - _starts[index]);
+        }
+
+        /**
+         * Creates the exception for a malformed line
+         *
+         * @param reason Description of the problem
+         * @return Exception naming the line
+         */
+        private IOException malformed(String reason) {
+            return new IOException("Error: Malformed edge on line " + _lineNumber + ": " + reason);
+        }
+    }
+
+
+    /**
+     * Fixed-size buffer of parsed edges, loaded into the graph whenever it fills
+     *
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     */
+    private static class Batch<V, E> {
+        private final DirectedGraph<V, E> _graph;
+        private final DuplicatePolicy _policy;
+        private final V[] _sources;
+        private final V[] _targets;
+        private final E[] _labels;
+        private final HashSet<V> _pending = new HashSet<>();
+        private final ArrayList<V> _newVertices = new ArrayList<>();
+        private int _count;
+        private long _added;
+
+        /**
+         * Creates an empty batch
+         *
+         * @param graph Graph to load into
+         * @param policy Duplicate policy for every flush
+         */
+        @SuppressWarnings("unchecked")
+        Batch(DirectedGraph<V, E> graph, DuplicatePolicy policy) {
+            _graph = graph;
+            _policy = policy;
+            _sources = (V[]) new Object[BATCH_SIZE];
+            _targets = (V[]) new Object[BATCH_SIZE];
+            _labels = (E[]) new Object[BATCH_SIZE];
+        }
+
+        /**
+         * Queues one edge, flushing first if the batch is full
+         *
+         * @param u Source vertex label
+         * @param v Destination vertex label
+         * @param label Edge label
+         */
+        void add(V u, V v, E label) {
+            if (_count == BATCH_SIZE) {
+                flush();
+            }
+
+            addVertex(u);
+            addVertex(v);
+
+            _sources[_count] = u;
+            _targets[_count] = v;
+            _labels[_count] = label;
+            _count++;
+        }
+
+        /**
+         * Loads every queued vertex and edge into the graph
+         */
+        void flush() {
+            if (!_newVertices.isEmpty()) {
+                _graph.addAllVertices(_newVertices);
+            }
+
+            if (_count > 0) {
+                // Only the final, partly filled batch needs trimmed copies
+                boolean full = _count == BATCH_SIZE;
+
+                _added += _graph.addEdges(full ? _sources : Arrays.copyOf(_sources, _count),
+                        full ? _targets : Arrays.copyOf(_targets, _count),
+                        full ? _labels : Arrays.copyOf(_labels, _count), _policy);
+            }
+
+            _newVertices.clear();
+            _pending.clear();
+            _count = 0;
+        }
+
+        /**
+         * Fetches the number of edges newly added so far
+         *
+         * @return Added edge count
+         */
+        long added() {
+            return _added;
+        }
+
+        /**
+         * Queues a vertex for creation if neither the graph nor this batch has it
+         *
+         * @param u Vertex label
+         */
+        private void addVertex(V u) {
+            if (!_pending.contains(u) && !_graph.contains(u)) {
+                _pending.add(u);
+                _newVertices.add(u);
+            }
+        }
+    }
+}
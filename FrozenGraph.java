@@ -0,0 +1,376 @@
+// Imports
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Immutable graph whose rows are shared with other versions of the same graph
+ *
+ * <p>Each vertex maps to a row holding its {@link Vertex} and its out-edges,
+ * both kept in {@link PersistentMap}s. A newer version replaces only the rows
+ * that changed and shares the rest, which is how {@link ListGraph#snapshot()}
+ * produces one in time proportional to the changes since the previous
+ * snapshot. Every field is final and nothing is modified after construction,
+ * so any number of threads may read a FrozenGraph without locking, including
+ * one handed over through a data race. Every mutator throws
+ * {@link UnsupportedOperationException}.</p>
+ *
+ * @author blee20@georgefox.edu
+ * @param <V> Label type for vertices
+ * @param <E> Label type for edges
+ */
+public class FrozenGraph<V, E> extends DirectedGraph<V, E> {
+    // Internal State
+    private final PersistentMap<V, Row<V, E>> _rows;
+    private final int _edgeCount;
+
+
+    // Constructor
+    /**
+     * Creates a graph over a map of rows
+     *
+     * @param rows Row of every vertex
+     * @param edgeCount Total number of edges in the rows
+     */
+    FrozenGraph(PersistentMap<V, Row<V, E>> rows, int edgeCount) {
+        _rows = rows;
+        _edgeCount = edgeCount;
+    }
+
+
+    // Methods
+    /**
+     * Unsupported; frozen graphs are immutable
+     *
+     * @param u Vertex label
+     */
+    public void add(V u) {
+        immutable();
+    }
+
+
+    /**
+     * Determines if the given label is assigned to a vertex
+     *
+     * @param u Vertex label
+     * @return True if vertex with label exists, else false
+     */
+    public boolean contains(V u) {
+        // Null vertices are handled within this call
+        return _rows.containsKey(u);
+    }
+
+
+    /**
+     * Fetches the vertex with designated label
+     *
+     * @param u Vertex label
+     * @return Vertex of type V with corresponding label
+     */
+    public Vertex<V> get(V u) {
+        return row(u)._vertex;
+    }
+
+
+    /**
+     * Unsupported; frozen graphs are immutable
+     *
+     * @param u Vertex label
+     * @return Never returns normally
+     */
+    public V remove(V u) {
+        return immutable();
+    }
+
+
+    /**
+     * Unsupported; frozen graphs are immutable
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @param label Edge label
+     */
+    public void addEdge(V u, V v, E label) {
+        immutable();
+    }
+
+
+    /**
+     * Determines if the given vertices share an edge
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return True if edge exists from u to v, else false
+     */
+    public boolean containsEdge(V u, V v) {
+        Row<V, E> row = row(u);
+
+        row(v);
+
+        return row._edges.containsKey(v);
+    }
+
+
+    /**
+     * Fetches an edge if it exists from u to v. The edge is a new view, so
+     * {@link Edge#setLabel} on it does not change the graph
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Edge of type E from u to v
+     */
+    public Edge<V, E> getEdge(V u, V v) {
+        Row<V, E> row = row(u);
+
+        row(v);
+
+        E label = row._edges.get(v);
+
+        // Non-existent edge handler
+        if (label == null) {
+            throw new NoSuchEdgeException();
+        }
+
+        return new Edge<>(u, v, label);
+    }
+
+
+    /**
+     * Unsupported; frozen graphs are immutable
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Never returns normally
+     */
+    public E removeEdge(V u, V v) {
+        return immutable();
+    }
+
+
+    /**
+     * Fetches the size of the graph (number of vertices)
+     *
+     * @return Number of vertices in graph
+     */
+    public int size() {
+        return _rows.size();
+    }
+
+
+    /**
+     * Fetches the number of edges emanating from the given vertex
+     *
+     * @param u Source vertex label
+     * @return Number of edges from u to another vertex
+     */
+    public int degree(V u) {
+        return row(u)._edges.size();
+    }
+
+
+    /**
+     * Fetches the number of edges in the entire graph
+     *
+     * @return Number of edges in graph
+     */
+    public int edgeCount() {
+        return _edgeCount;
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all the vertices
+     *
+     * @return A new vertex iterator object
+     */
+    public Iterator<Vertex<V>> vertices() {
+        Iterator<Map.Entry<V, Row<V, E>>> it = _rows.iterator();
+
+        return new Iterator<Vertex<V>>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public Vertex<V> next() {
+                return it.next().getValue()._vertex;
+            }
+        };
+    }
+
+
+    /**
+     * Creates an iterator for iterating through vertices adjacent to u
+     *
+     * @param u Source vertex
+     * @return A new iterator object
+     */
+    public Iterator<Vertex<V>> adjacent(V u) {
+        Iterator<Map.Entry<V, E>> it = row(u)._edges.iterator();
+
+        return new Iterator<Vertex<V>>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public Vertex<V> next() {
+                return _rows.get(it.next().getKey())._vertex;
+            }
+        };
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all the edges
+     *
+     * @return A new iterator object
+     */
+    public Iterator<Edge<V, E>> edges() {
+        Iterator<Map.Entry<V, Row<V, E>>> rows = _rows.iterator();
+
+        return new Iterator<Edge<V, E>>() {
+            private V _source;
+            private Iterator<Map.Entry<V, E>> _row;
+
+            @Override
+            public boolean hasNext() {
+                // Skip over vertices with no outgoing edges
+                while ((_row == null || !_row.hasNext()) && rows.hasNext()) {
+                    Map.Entry<V, Row<V, E>> row = rows.next();
+
+                    _source = row.getKey();
+                    _row = row.getValue()._edges.iterator();
+                }
+
+                return _row != null && _row.hasNext();
+            }
+
+            @Override
+            public Edge<V, E> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                Map.Entry<V, E> entry = _row.next();
+
+                return new Edge<>(_source, entry.getKey(), entry.getValue());
+            }
+        };
+    }
+
+
+    /**
+     * Unsupported; frozen graphs are immutable
+     */
+    public void clear() {
+        immutable();
+    }
+
+
+    /**
+     * Determines if the current graph contains any vertices
+     *
+     * @return True if size is 0, else false
+     */
+    public boolean isEmpty() {
+        return _rows.isEmpty();
+    }
+
+
+    /**
+     * Fetches this graph, which is already immutable
+     *
+     * @return This graph
+     */
+    public FrozenGraph<V, E> snapshot() {
+        return this;
+    }
+
+
+    // Row Accessors
+    /**
+     * Fetches the map of rows, for building the next version
+     *
+     * @return Shared row map
+     */
+    PersistentMap<V, Row<V, E>> rows() {
+        return _rows;
+    }
+
+
+    // Helper Methods
+    /**
+     * Fetches the row of a vertex that must exist
+     *
+     * @param u Vertex label
+     * @return Row of the vertex
+     */
+    private Row<V, E> row(V u) {
+        // Null vertices are handled within this call
+        Row<V, E> row = _rows.get(u);
+
+        // Non-existent vertex handler
+        if (row == null) {
+            throw new NoSuchVertexException();
+        }
+
+        return row;
+    }
+
+
+    /**
+     * Exception handler for mutators
+     *
+     * @param <T> Declared return type of the calling mutator
+     * @return Never returns normally
+     */
+    private static <T> T immutable() {
+        throw new UnsupportedOperationException("Error: FrozenGraph is immutable");
+    }
+
+
+    // Inner Classes
+    /**
+     * One vertex and its out-edges
+     *
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     */
+    static final class Row<V, E> {
+        private final Vertex<V> _vertex;
+        private final PersistentMap<V, E> _edges;
+
+        /**
+         * Creates a row
+         *
+         * @param vertex Vertex object
+         * @param edges Edge label of each out-neighbour
+         */
+        Row(Vertex<V> vertex, PersistentMap<V, E> edges) {
+            _vertex = vertex;
+            _edges = edges;
+        }
+
+        /**
+         * Fetches the vertex
+         *
+         * @return Vertex object
+         */
+        Vertex<V> vertex() {
+            return _vertex;
+        }
+
+        /**
+         * Fetches the out-edges
+         *
+         * @return Edge label of each out-neighbour
+         */
+        PersistentMap<V, E> edges() {
+            return _edges;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * JMX view of an {@link InstrumentedGraph}, registered by
+ * {@link InstrumentedGraph#register()}
+ *
+ * <p>Operation names are {@link GraphOperation} constant names such as
+ * {@code "CONTAINS_EDGE"}. Every attribute is a constant-time read of a
+ * counter, so it can be polled from the JMX thread while the graph is in use;
+ * the figures may be momentarily stale.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+public interface GraphMetricsMBean {
+    /**
+     * Determines if operations are currently being timed
+     *
+     * @return True if recording, else false
+     */
+    boolean isEnabled();
+
+
+    /**
+     * Turns recording on or off
+     *
+     * @param enabled True to record
+     */
+    void setEnabled(boolean enabled);
+
+
+    /**
+     * Fetches the names of every timed operation
+     *
+     * @return Operation names
+     */
+    String[] getOperations();
+
+
+    /**
+     * Fetches the number of vertices
+     *
+     * @return Vertex count
+     */
+    int getVertexCount();
+
+
+    /**
+     * Fetches the number of edges
+     *
+     * @return Edge count
+     */
+    int getEdgeCount();
+
+
+    /**
+     * Fetches the mean out-degree
+     *
+     * @return Edges per vertex
+     */
+    double getAverageDegree();
+
+
+    /**
+     * Fetches the largest out-degree, tracked as the graph changes
+     *
+     * @return Maximum out-degree
+     */
+    int getMaxDegree();
+
+
+    /**
+     * Fetches the fraction of adjacency matrix cells, or of ListGraph vertex
+     * table slots, in use
+     *
+     * @return Occupancy, or NaN if the graph is neither a ListGraph nor a MatrixGraph
+     */
+    double getOccupancy();
+
+
+    /**
+     * Fetches how many times the adjacency matrix, or the ListGraph vertex
+     * tables, were resized
+     *
+     * @return Resize count, or -1 if the graph is neither a ListGraph nor a MatrixGraph
+     */
+    long getResizeCount();
+
+
+    /**
+     * Fetches the number of recorded calls to an operation
+     *
+     * @param operation Operation name
+     * @return Call count
+     */
+    long count(String operation);
+
+
+    /**
+     * Fetches the mean latency of an operation
+     *
+     * @param operation Operation name
+     * @return Mean in nanoseconds
+     */
+    double meanNanos(String operation);
+
+
+    /**
+     * Fetches a latency percentile of an operation
+     *
+     * @param operation Operation name
+     * @param percentile Percentage in {@code [0, 100]}
+     * @return Latency in nanoseconds
+     */
+    long percentileNanos(String operation, double percentile);
+
+
+    /**
+     * Fetches the largest latency of an operation
+     *
+     * @param operation Operation name
+     * @return Maximum in nanoseconds
+     */
+    long maxNanos(String operation);
+
+
+    /**
+     * Discards every recorded latency
+     */
+    void reset();
+}
@@ -0,0 +1,101 @@
+/**
+ * DirectedGraph methods timed by an {@link InstrumentedGraph}
+ *
+ * @author blee20@georgefox.edu
+ */
+public enum GraphOperation {
+    /**
+     * {@link DirectedGraph#add}
+     */
+    ADD,
+
+    /**
+     * {@link DirectedGraph#addAllVertices}
+     */
+    ADD_ALL_VERTICES,
+
+    /**
+     * {@link DirectedGraph#contains}
+     */
+    CONTAINS,
+
+    /**
+     * {@link DirectedGraph#get}
+     */
+    GET,
+
+    /**
+     * {@link DirectedGraph#remove}
+     */
+    REMOVE,
+
+    /**
+     * {@link DirectedGraph#addEdge}
+     */
+    ADD_EDGE,
+
+    /**
+     * {@link DirectedGraph#addEdges} and {@link DirectedGraph#addAllEdges}
+     */
+    ADD_EDGES,
+
+    /**
+     * {@link DirectedGraph#containsEdge}
+     */
+    CONTAINS_EDGE,
+
+    /**
+     * {@link DirectedGraph#getEdge}
+     */
+    GET_EDGE,
+
+    /**
+     * {@link DirectedGraph#removeEdge}
+     */
+    REMOVE_EDGE,
+
+    /**
+     * {@link DirectedGraph#degree}
+     */
+    DEGREE,
+
+    /**
+     * {@link DirectedGraph#inDegree}
+     */
+    IN_DEGREE,
+
+    /**
+     * {@link DirectedGraph#vertices}; only creating the iterator is timed
+     */
+    VERTICES,
+
+    /**
+     * {@link DirectedGraph#adjacent}; only creating the iterator is timed
+     */
+    ADJACENT,
+
+    /**
+     * {@link DirectedGraph#predecessors}; only creating the iterator is timed
+     */
+    PREDECESSORS,
+
+    /**
+     * {@link DirectedGraph#edges}; only creating the iterator is timed
+     */
+    EDGES,
+
+    /**
+     * {@link DirectedGraph#inEdges}; only creating the iterator is timed
+     */
+    IN_EDGES,
+
+    /**
+     * {@link DirectedGraph#clear}
+     */
+    CLEAR,
+
+    /**
+     * {@link DirectedGraph#snapshot}
+     */
+    SNAPSHOT
+}
@@ -0,0 +1,196 @@
+// Imports
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+
+/**
+ * Writes any DirectedGraph to the binary snapshot format read by {@link MappedGraph}
+ *
+ * <p>All values are big-endian. The file is a fixed header followed by seven
+ * sections, each starting where the previous one ends:</p>
+ * <ol>
+ *     <li>header: magic, version, vertex count n, edge count m, hash table
+ *         slot count h (ints), then the vertex and edge label byte counts (longs)</li>
+ *     <li>row offsets, {@code int[n + 1]}</li>
+ *     <li>edge targets sorted within each row, {@code int[m]}</li>
+ *     <li>end of each vertex label in the vertex label bytes, {@code int[n + 1]}
+ *         starting with 0</li>
+ *     <li>end of each edge label in the edge label bytes, {@code int[m + 1]}
+ *         starting with 0</li>
+ *     <li>open-addressing table from encoded vertex label to index + 1,
+ *         {@code int[h]}, 0 marking an empty slot</li>
+ *     <li>encoded vertex labels, then encoded edge labels</li>
+ * </ol>
+ *
+ * @author blee20@georgefox.edu
+ */
+public final class GraphSnapshot {
+    // Constants
+    static final int MAGIC = 0x44475348;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 5 * Integer.BYTES + 2 * Long.BYTES;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int FNV_OFFSET = 0x811C9DC5;
+    private static final int FNV_PRIME = 0x01000193;
+    private static final int MIX_MULTIPLIER = 0x85EBCA6B;
+    private static final int HALF_WORD = 16;
+
+
+    /**
+     * Prevents instantiation of this utility class
+     */
+    private GraphSnapshot() {
+    }
+
+
+    // Methods
+    /**
+     * Writes a graph to a snapshot file, replacing any existing file
+     *
+     * @param graph Graph to write
+     * @param file Destination file
+     * @param vertexCodec Encodes vertex labels
+     * @param edgeCodec Encodes edge labels
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @throws IOException If the file cannot be written
+     */
+    @SuppressWarnings("unchecked")
+    public static <V, E> void write(DirectedGraph<V, E> graph, Path file,
+                                    LabelCodec<? super V> vertexCodec,
+                                    LabelCodec<? super E> edgeCodec) throws IOException {
+        // The CSR form supplies dense indices and rows already sorted by target
+        CsrGraph<V, E> csr = graph instanceof CsrGraph ? (CsrGraph<V, E>) graph : new CsrGraph<>(graph);
+        int n = csr.size();
+        int m = csr.edgeCount();
+        int slots = tableSlots(n);
+
+        byte[][] vertexLabels = new byte[n][];
+        byte[][] edgeLabels = new byte[m][];
+        long vertexBytes = 0;
+        long edgeBytes = 0;
+
+        for (int i = 0; i < n; i++) {
+            vertexLabels[i] = vertexCodec.encode(csr.vertexAt(i).getLabel());
+            vertexBytes += vertexLabels[i].length;
+        }
+
+        for (int e = 0; e < m; e++) {
+            edgeLabels[e] = edgeCodec.encode(csr.labelAt(e));
+            edgeBytes += edgeLabels[e].length;
+        }
+
+        // Label sections are mapped as single buffers, so each must fit one
+        if (vertexBytes > Integer.MAX_VALUE || edgeBytes > Integer.MAX_VALUE) {
+            throw new IOException("Error: Label section exceeds 2 GB");
+        }
+
+        int[] table = new int[slots];
+
+        for (int i = 0; i < n; i++) {
+            int slot = hash(vertexLabels[i]) & (slots - 1);
+
+            while (table[slot] != 0) {
+                slot = (slot + 1) & (slots - 1);
+            }
+
+            table[slot] = i + 1;
+        }
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(n);
+            out.writeInt(m);
+            out.writeInt(slots);
+            out.writeLong(vertexBytes);
+            out.writeLong(edgeBytes);
+
+            writeInts(out, csr.offsets(), n + 1);
+            writeInts(out, csr.targets(), m);
+            writeEnds(out, vertexLabels);
+            writeEnds(out, edgeLabels);
+            writeInts(out, table, slots);
+
+            for (byte[] label : vertexLabels) {
+                out.write(label);
+            }
+
+            for (byte[] label : edgeLabels) {
+                out.write(label);
+            }
+        }
+    }
+
+
+    // Helper Methods
+    /**
+     * Hashes an encoded label with FNV-1a; shared by the writer and
+     * {@link MappedGraph} so that lookups probe the same slots the writer filled
+     *
+     * @param bytes Encoded label
+     * @return Hash code
+     */
+    static int hash(byte[] bytes) {
+        int h = FNV_OFFSET;
+
+        for (byte b : bytes) {
+            h = (h ^ (b & 0xFF)) * FNV_PRIME;
+        }
+
+        // Short keys such as encoded ints leave the low bits poorly mixed, and the table uses only those
+        h = (h ^ (h >>> HALF_WORD)) * MIX_MULTIPLIER;
+
+        return h ^ (h >>> HALF_WORD);
+    }
+
+
+    /**
+     * Fetches the number of hash table slots for a vertex count: the smallest
+     * power of two at least twice the count
+     *
+     * @param n Vertex count
+     * @return Slot count
+     */
+    static int tableSlots(int n) {
+        return Integer.highestOneBit(Math.max(n, 1) * 2 - 1) << 1;
+    }
+
+
+    /**
+     * Writes the first {@code count} values of an int array
+     *
+     * @param out Destination
+     * @param values Values
+     * @param count Number of values to write
+     * @throws IOException If writing fails
+     */
+    private static void writeInts(DataOutputStream out, int[] values, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            out.writeInt(values[i]);
+        }
+    }
+
+
+    /**
+     * Writes the running end offset of each label, preceded by 0
+     *
+     * @param out Destination
+     * @param labels Encoded labels
+     * @throws IOException If writing fails
+     */
+    private static void writeEnds(DataOutputStream out, byte[][] labels) throws IOException {
+        int end = 0;
+
+        out.writeInt(end);
+
+        for (byte[] label : labels) {
+            end += label.length;
+            out.writeInt(end);
+        }
+    }
+}
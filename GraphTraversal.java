@@ -0,0 +1,421 @@
+// Imports
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * Breadth-first, depth-first and topological traversals over any DirectedGraph
+ *
+ * <p>Every traversal streams vertices to a {@link VertexVisitor} as they are
+ * reached rather than collecting them, and stops as soon as the visitor
+ * returns false. When the graph is an {@link IndexedGraph} the visited set
+ * is a primitive bitset over vertex indices; otherwise it is a hash set of
+ * labels. The graph must not be modified while a traversal is running.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+public final class GraphTraversal {
+    // Constants
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_BITS = 64;
+    private static final int PARALLEL_THRESHOLD = 1024;
+
+
+    /**
+     * Prevents instantiation of this utility class
+     */
+    private GraphTraversal() {
+    }
+
+
+    // Methods
+    /**
+     * Visits every vertex reachable from {@code start} in breadth-first order;
+     * the depth passed to the visitor is the vertex's distance in edges
+     *
+     * @param graph Graph to traverse
+     * @param start Start vertex label
+     * @param visitor Receives each reached vertex
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     */
+    public static <V, E> void breadthFirst(DirectedGraph<V, E> graph, V start, VertexVisitor<V> visitor) {
+        checkStart(graph, start);
+
+        Visited<V> visited = visitedSet(graph);
+        ArrayDeque<V> current = new ArrayDeque<>();
+        ArrayDeque<V> next = new ArrayDeque<>();
+        int depth = 0;
+
+        visited.mark(start);
+        current.add(start);
+
+        // Levels are kept in separate queues so depths need no per-vertex storage
+        while (!current.isEmpty()) {
+            while (!current.isEmpty()) {
+                V u = current.poll();
+
+                if (!visitor.visit(u, depth)) {
+                    return;
+                }
+
+                for (Iterator<Vertex<V>> it = graph.adjacent(u); it.hasNext(); ) {
+                    V v = it.next().getLabel();
+
+                    if (visited.mark(v)) {
+                        next.add(v);
+                    }
+                }
+            }
+
+            ArrayDeque<V> swap = current;
+            current = next;
+            next = swap;
+            depth++;
+        }
+    }
+
+
+    /**
+     * Visits every vertex reachable from {@code start} in depth-first preorder.
+     * The walk keeps an explicit stack of adjacency iterators, so deep graphs
+     * cannot overflow the call stack; the depth passed to the visitor is the
+     * vertex's depth in the DFS tree
+     *
+     * @param graph Graph to traverse
+     * @param start Start vertex label
+     * @param visitor Receives each reached vertex
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     */
+    public static <V, E> void depthFirst(DirectedGraph<V, E> graph, V start, VertexVisitor<V> visitor) {
+        checkStart(graph, start);
+
+        Visited<V> visited = visitedSet(graph);
+        ArrayDeque<Iterator<Vertex<V>>> stack = new ArrayDeque<>();
+
+        visited.mark(start);
+
+        if (!visitor.visit(start, 0)) {
+            return;
+        }
+
+        stack.push(graph.adjacent(start));
+
+        while (!stack.isEmpty()) {
+            Iterator<Vertex<V>> it = stack.peek();
+
+            if (!it.hasNext()) {
+                stack.pop();
+                continue;
+            }
+
+            V v = it.next().getLabel();
+
+            if (visited.mark(v)) {
+                if (!visitor.visit(v, stack.size())) {
+                    return;
+                }
+
+                stack.push(graph.adjacent(v));
+            }
+        }
+    }
+
+
+    /**
+     * Visits every vertex in a topological order (Kahn's algorithm); the depth
+     * passed to the visitor is the vertex's position in the order
+     *
+     * @param graph Graph to order
+     * @param visitor Receives each vertex in order
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @throws CycleException If the graph contains a cycle; vertices ahead of the
+     *                        cycle may already have been visited
+     */
+    public static <V, E> void topological(DirectedGraph<V, E> graph, VertexVisitor<V> visitor) {
+        HashMap<V, Integer> remaining = new HashMap<>(graph.size() * 2);
+        ArrayDeque<V> ready = new ArrayDeque<>();
+
+        for (Iterator<Vertex<V>> it = graph.vertices(); it.hasNext(); ) {
+            remaining.put(it.next().getLabel(), 0);
+        }
+
+        for (Iterator<Edge<V, E>> it = graph.edges(); it.hasNext(); ) {
+            remaining.merge(it.next().getV(), 1, Integer::sum);
+        }
+
+        for (HashMap.Entry<V, Integer> entry : remaining.entrySet()) {
+            if (entry.getValue() == 0) {
+                ready.add(entry.getKey());
+            }
+        }
+
+        int position = 0;
+
+        while (!ready.isEmpty()) {
+            V u = ready.poll();
+
+            if (!visitor.visit(u, position++)) {
+                return;
+            }
+
+            for (Iterator<Vertex<V>> it = graph.adjacent(u); it.hasNext(); ) {
+                V v = it.next().getLabel();
+
+                if (remaining.merge(v, -1, Integer::sum) == 0) {
+                    ready.add(v);
+                }
+            }
+        }
+
+        // Vertices on or behind a cycle never reach in-degree zero
+        if (position < remaining.size()) {
+            throw new CycleException();
+        }
+    }
+
+
+    /**
+     * Fetches every vertex in a topological order
+     *
+     * @param graph Graph to order
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return Vertex labels in topological order
+     * @throws CycleException If the graph contains a cycle
+     */
+    public static <V, E> List<V> topologicalOrder(DirectedGraph<V, E> graph) {
+        ArrayList<V> order = new ArrayList<>(graph.size());
+
+        topological(graph, (u, position) -> order.add(u));
+
+        return order;
+    }
+
+
+    /**
+     * Level-synchronous parallel breadth-first search. Each level's frontier is
+     * expanded on the common fork-join pool, split into chunks once it exceeds
+     * {@value #PARALLEL_THRESHOLD} vertices; smaller levels are expanded inline.
+     * Vertices within a level reach the visitor in no particular order and, on
+     * large levels, from several threads at once, so the visitor must be
+     * thread-safe. Returning false stops the search after the current level's
+     * in-flight chunks finish
+     *
+     * @param graph Graph to traverse; its read methods must be safe to call concurrently
+     * @param start Start vertex label
+     * @param visitor Thread-safe receiver for each reached vertex
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     */
+    public static <V, E> void parallelBreadthFirst(DirectedGraph<V, E> graph, V start, VertexVisitor<V> visitor) {
+        checkStart(graph, start);
+
+        Visited<V> visited = concurrentVisitedSet(graph);
+        AtomicBoolean stopped = new AtomicBoolean();
+        List<V> frontier = new ArrayList<>();
+        int depth = 0;
+
+        visited.mark(start);
+        frontier.add(start);
+
+        while (!frontier.isEmpty() && !stopped.get()) {
+            frontier = ForkJoinPool.commonPool().invoke(
+                    new ExpandTask<>(graph, frontier, 0, frontier.size(), depth, visited, visitor, stopped));
+            depth++;
+        }
+    }
+
+
+    // Helper Methods
+    /**
+     * Exception handler for a missing start vertex
+     *
+     * @param graph Graph to traverse
+     * @param start Start vertex label
+     */
+    private static void checkStart(DirectedGraph<?, ?> graph, Object start) {
+        @SuppressWarnings("unchecked")
+        DirectedGraph<Object, ?> g = (DirectedGraph<Object, ?>) graph;
+
+        // Null vertices are handled within this call
+        if (!g.contains(start)) {
+            throw new NoSuchVertexException();
+        }
+    }
+
+
+    /**
+     * Creates the cheapest single-threaded visited set the graph allows
+     *
+     * @param graph Graph to traverse
+     * @param <V> Label type for vertices
+     * @return Empty visited set
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> Visited<V> visitedSet(DirectedGraph<V, ?> graph) {
+        if (graph instanceof IndexedGraph) {
+            IndexedGraph<V> indexed = (IndexedGraph<V>) graph;
+            long[] bits = new long[(indexed.indexBound() + WORD_BITS - 1) >>> WORD_SHIFT];
+
+            return u -> {
+                int index = indexed.indexOf(u);
+                long mask = 1L << index;
+                int word = index >>> WORD_SHIFT;
+
+                if ((bits[word] & mask) != 0) {
+                    return false;
+                }
+
+                bits[word] |= mask;
+
+                return true;
+            };
+        }
+
+        HashSet<V> seen = new HashSet<>();
+
+        return seen::add;
+    }
+
+
+    /**
+     * Creates a visited set that may be marked from several threads
+     *
+     * @param graph Graph to traverse
+     * @param <V> Label type for vertices
+     * @return Empty visited set
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> Visited<V> concurrentVisitedSet(DirectedGraph<V, ?> graph) {
+        if (graph instanceof IndexedGraph) {
+            IndexedGraph<V> indexed = (IndexedGraph<V>) graph;
+            AtomicLongArray bits = new AtomicLongArray((indexed.indexBound() + WORD_BITS - 1) >>> WORD_SHIFT);
+
+            return u -> {
+                int index = indexed.indexOf(u);
+                long mask = 1L << index;
+                int word = index >>> WORD_SHIFT;
+
+                // Only the thread whose update sets the bit claims the vertex
+                return (bits.getAndAccumulate(word, mask, (a, b) -> a | b) & mask) == 0;
+            };
+        }
+
+        Set<V> seen = ConcurrentHashMap.newKeySet();
+
+        return seen::add;
+    }
+
+
+    // Inner Classes
+    /**
+     * Set of vertices already reached by a traversal
+     *
+     * @param <V> Label type for vertices
+     */
+    @FunctionalInterface
+    private interface Visited<V> {
+        /**
+         * Marks a vertex as reached
+         *
+         * @param u Vertex label
+         * @return True if the vertex was not reached before, else false
+         */
+        boolean mark(V u);
+    }
+
+
+    /**
+     * Visits and expands one slice of a BFS frontier, returning the vertices
+     * first reached from it
+     *
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     */
+    private static class ExpandTask<V, E> extends RecursiveTask<List<V>> {
+        private final DirectedGraph<V, E> _graph;
+        private final List<V> _frontier;
+        private final int _from;
+        private final int _to;
+        private final int _depth;
+        private final Visited<V> _visited;
+        private final VertexVisitor<V> _visitor;
+        private final AtomicBoolean _stopped;
+
+        /**
+         * Creates a task for {@code frontier[from, to)}
+         *
+         * @param graph Graph to traverse
+         * @param frontier Current level
+         * @param from First position in the slice
+         * @param to One past the last position in the slice
+         * @param depth Depth of the current level
+         * @param visited Shared visited set
+         * @param visitor Shared visitor
+         * @param stopped Set once any visitor call returns false
+         */
+        ExpandTask(DirectedGraph<V, E> graph, List<V> frontier, int from, int to, int depth,
+                   Visited<V> visited, VertexVisitor<V> visitor, AtomicBoolean stopped) {
+            _graph = graph;
+            _frontier = frontier;
+            _from = from;
+            _to = to;
+            _depth = depth;
+            _visited = visited;
+            _visitor = visitor;
+            _stopped = stopped;
+        }
+
+        @Override
+        protected List<V> compute() {
+            if (_to - _from > PARALLEL_THRESHOLD) {
+                int middle = (_from + _to) >>> 1;
+                ExpandTask<V, E> left = new ExpandTask<>(_graph, _frontier, _from, middle, _depth,
+                        _visited, _visitor, _stopped);
+                ExpandTask<V, E> right = new ExpandTask<>(_graph, _frontier, middle, _to, _depth,
+                        _visited, _visitor, _stopped);
+
+                left.fork();
+
+                List<V> next = right.compute();
+                next.addAll(left.join());
+
+                return next;
+            }
+
+            List<V> next = new ArrayList<>();
+
+            for (int i = _from; i < _to && !_stopped.get(); i++) {
+                V u = _frontier.get(i);
+
+                if (!_visitor.visit(u, _depth)) {
+                    _stopped.set(true);
+                    break;
+                }
+
+                for (Iterator<Vertex<V>> it = _graph.adjacent(u); it.hasNext(); ) {
+                    V v = it.next().getLabel();
+
+                    if (_visited.mark(v)) {
+                        next.add(v);
+                    }
+                }
+            }
+
+            return next;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+// Imports
+import java.util.Map;
+
+
+/**
+ * Result of a HITS ranking: a hub and an authority score per vertex
+ *
+ * <p>A good hub has edges to good authorities, and a good authority has edges
+ * from good hubs. Each set of scores sums to 1. If the iteration limit is
+ * reached first, the scores are those of the last iteration and
+ * {@link #converged()} is false.</p>
+ *
+ * @author blee20@georgefox.edu
+ * @param <V> Label type for vertices
+ */
+public class HitsScores<V> {
+    // Internal State
+    private final Map<V, Double> _hubs;
+    private final Map<V, Double> _authorities;
+    private final int _iterations;
+    private final double _residual;
+    private final boolean _converged;
+
+
+    // Constructor
+    /**
+     * Creates a result from computed scores
+     *
+     * @param hubs Hub score per vertex label
+     * @param authorities Authority score per vertex label
+     * @param iterations Number of iterations run
+     * @param residual Total change in hub scores during the last iteration
+     * @param converged True if the residual fell below the tolerance
+     */
+    HitsScores(Map<V, Double> hubs, Map<V, Double> authorities, int iterations, double residual,
+               boolean converged) {
+        _hubs = hubs;
+        _authorities = authorities;
+        _iterations = iterations;
+        _residual = residual;
+        _converged = converged;
+    }
+
+
+    // Methods
+    /**
+     * Fetches the hub scores
+     *
+     * @return Hub score per vertex label
+     */
+    public Map<V, Double> hubs() {
+        return _hubs;
+    }
+
+
+    /**
+     * Fetches the authority scores
+     *
+     * @return Authority score per vertex label
+     */
+    public Map<V, Double> authorities() {
+        return _authorities;
+    }
+
+
+    /**
+     * Fetches the number of iterations run
+     *
+     * @return Iteration count
+     */
+    public int iterations() {
+        return _iterations;
+    }
+
+
+    /**
+     * Fetches the total change in hub scores (L1 norm) during the last iteration
+     *
+     * @return Residual of the returned scores
+     */
+    public double residual() {
+        return _residual;
+    }
+
+
+    /**
+     * Determines if the iteration converged before reaching its limit
+     *
+     * @return True if the residual fell below the tolerance, else false
+     */
+    public boolean converged() {
+        return _converged;
+    }
+}
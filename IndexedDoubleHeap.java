@@ -0,0 +1,226 @@
+// Imports
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Binary min-heap of int items in {@code [0, capacity)} keyed by double priorities
+ *
+ * <p>Items, keys and each item's heap position are kept in primitive arrays,
+ * so {@link #push} can lower the key of an item already in the heap in place
+ * and no operation allocates.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+public class IndexedDoubleHeap {
+    // Constants
+    private static final int ABSENT = -1;
+
+
+    // Internal State
+    private final int[] _heap;
+    private final int[] _positions;
+    private final double[] _keys;
+    private int _size;
+
+
+    // Constructor
+    /**
+     * Creates an empty heap for items {@code 0} to {@code capacity - 1}
+     *
+     * @param capacity Number of distinct items
+     */
+    public IndexedDoubleHeap(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Error: Capacity cannot be negative");
+        }
+
+        _heap = new int[capacity];
+        _positions = new int[capacity];
+        _keys = new double[capacity];
+
+        Arrays.fill(_positions, ABSENT);
+    }
+
+
+    // Methods
+    /**
+     * Inserts an item, or lowers its key if it is already present with a larger one
+     *
+     * @param item Item
+     * @param key Priority; smaller keys are polled first
+     * @return True if the heap changed, else false
+     */
+    public boolean push(int item, double key) {
+        int position = _positions[item];
+
+        if (position == ABSENT) {
+            _keys[item] = key;
+            _heap[_size] = item;
+            _positions[item] = _size;
+            siftUp(_size++);
+
+            return true;
+        }
+
+        if (key < _keys[item]) {
+            _keys[item] = key;
+            siftUp(position);
+
+            return true;
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Removes the item with the smallest key
+     *
+     * @return Removed item
+     */
+    public int poll() {
+        if (_size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        int top = _heap[0];
+
+        _positions[top] = ABSENT;
+        _size--;
+
+        if (_size > 0) {
+            _heap[0] = _heap[_size];
+            _positions[_heap[0]] = 0;
+            siftDown(0);
+        }
+
+        return top;
+    }
+
+
+    /**
+     * Fetches the smallest key without removing its item
+     *
+     * @return Smallest key
+     */
+    public double peekKey() {
+        if (_size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return _keys[_heap[0]];
+    }
+
+
+    /**
+     * Determines if an item is currently in the heap
+     *
+     * @param item Item
+     * @return True if present, else false
+     */
+    public boolean contains(int item) {
+        return _positions[item] != ABSENT;
+    }
+
+
+    /**
+     * Fetches the number of items in the heap
+     *
+     * @return Number of items
+     */
+    public int size() {
+        return _size;
+    }
+
+
+    /**
+     * Determines if the heap is empty
+     *
+     * @return True if size is 0, else false
+     */
+    public boolean isEmpty() {
+        return _size == 0;
+    }
+
+
+    /**
+     * Removes every item
+     */
+    public void clear() {
+        for (int i = 0; i < _size; i++) {
+            _positions[_heap[i]] = ABSENT;
+        }
+
+        _size = 0;
+    }
+
+
+    // Helper Methods
+    /**
+     * Moves the item at a heap position toward the root until its parent is not larger
+     *
+     * @param position Heap position
+     */
+    private void siftUp(int position) {
+        int item = _heap[position];
+        double key = _keys[item];
+
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+
+            if (_keys[_heap[parent]] <= key) {
+                break;
+            }
+
+            place(_heap[parent], position);
+            position = parent;
+        }
+
+        place(item, position);
+    }
+
+
+    /**
+     * Moves the item at a heap position toward the leaves until no child is smaller
+     *
+     * @param position Heap position
+     */
+    private void siftDown(int position) {
+        int item = _heap[position];
+        double key = _keys[item];
+
+        while (true) {
+            int child = 2 * position + 1;
+
+            if (child >= _size) {
+                break;
+            }
+
+            if (child + 1 < _size && _keys[_heap[child + 1]] < _keys[_heap[child]]) {
+                child++;
+            }
+
+            if (_keys[_heap[child]] >= key) {
+                break;
+            }
+
+            place(_heap[child], position);
+            position = child;
+        }
+
+        place(item, position);
+    }
+
+
+    /**
+     * Stores an item at a heap position and records that position
+     *
+     * @param item Item
+     * @param position Heap position
+     */
+    private void place(int item, int position) {
+        _heap[position] = item;
+        _positions[item] = position;
+    }
+}
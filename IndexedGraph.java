@@ -0,0 +1,26 @@
+/**
+ * Implemented by graphs that assign every vertex a small non-negative integer
+ * index, so that algorithms can keep per-vertex state in primitive arrays
+ * instead of hash maps
+ *
+ * @author blee20@georgefox.edu
+ * @param <V> Label type for vertices
+ */
+public interface IndexedGraph<V> {
+    /**
+     * Fetches the index assigned to a vertex. Indices stay fixed until the
+     * graph is structurally modified
+     *
+     * @param u Vertex label
+     * @return Index of vertex, or -1 if absent
+     */
+    int indexOf(V u);
+
+
+    /**
+     * Fetches an exclusive upper bound on every index currently in use
+     *
+     * @return Index bound
+     */
+    int indexBound();
+}
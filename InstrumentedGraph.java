@@ -0,0 +1,1185 @@
+// Imports
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+
+/**
+ * Decorator that counts and times every call made to a wrapped graph
+ *
+ * <p>Each {@link GraphOperation} has its own {@link LatencyHistogram}, so
+ * counts, means, percentiles and maxima are available per method. Methods
+ * returning iterators are timed up to the point the iterator is returned.
+ * While recording is disabled every call goes straight to the wrapped graph
+ * after one volatile read, without reading the clock. The maximum degree is
+ * tracked on every recorded change, including removals through the returned
+ * iterators, from a per-vertex degree table; the other structural statistics
+ * (average degree, and for a wrapped {@link ListGraph} or
+ * {@link MatrixGraph} its occupancy and resize count) are read from the
+ * graph's counters when asked for. Changes made while recording is disabled, or directly to
+ * the wrapped graph, are not tracked; the table is rebuilt on the first
+ * recorded change after recording is turned back on. Tracking expects one
+ * thread to make changes at a time.</p>
+ *
+ * <p>Metrics can be published through JMX with {@link #register()}, handed to
+ * a {@link MetricsReporter} with {@link #report}, or reported periodically on
+ * a background thread with {@link #startReporting}. Every statistic is a
+ * counter read, so reports never walk the graph and are safe to take while
+ * it is being changed; the figures may be momentarily stale.</p>
+ *
+ * @author blee20@georgefox.edu
+ * @param <V> Label type for vertices
+ * @param <E> Label type for edges
+ */
+public class InstrumentedGraph<V, E> extends DirectedGraph<V, E> {
+    // Constants
+    private static final String DEFAULT_NAME = "graph";
+    private static final String JMX_DOMAIN = "DirectedGraph:type=InstrumentedGraph,name=";
+
+
+    // Internal State
+    private final DirectedGraph<V, E> _graph;
+    private final String _name;
+    private final LatencyHistogram[] _latencies;
+    private final Degrees<V> _degrees;
+    private volatile boolean _enabled;
+    private boolean _stale;
+    private volatile long _failedReports;
+    private ObjectName _objectName;
+    private ScheduledExecutorService _reporting;
+
+
+    // Constructors
+    /**
+     * Creates a recording decorator named {@value #DEFAULT_NAME}
+     *
+     * @param graph Graph to wrap
+     */
+    public InstrumentedGraph(DirectedGraph<V, E> graph) {
+        this(graph, DEFAULT_NAME);
+    }
+
+
+    /**
+     * Creates a recording decorator
+     *
+     * @param graph Graph to wrap
+     * @param name Name used by reporters and in the JMX object name
+     */
+    public InstrumentedGraph(DirectedGraph<V, E> graph, String name) {
+        if (graph == null || name == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        _graph = graph;
+        _name = name;
+        _latencies = new LatencyHistogram[GraphOperation.values().length];
+        _degrees = new Degrees<>();
+        _enabled = true;
+
+        for (int i = 0; i < _latencies.length; i++) {
+            _latencies[i] = new LatencyHistogram();
+        }
+
+        rebuildDegrees();
+    }
+
+
+    // Methods
+    /**
+     * Creates a new vertex and adds it to the graph
+     *
+     * @param u Vertex label
+     */
+    public void add(V u) {
+        if (!_enabled) {
+            _graph.add(u);
+            return;
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            _graph.add(u);
+        }
+        finally {
+            record(GraphOperation.ADD, start);
+        }
+
+        observe(u);
+    }
+
+
+    /**
+     * Adds every label in a collection as a new vertex
+     *
+     * @param labels Vertex labels
+     */
+    public void addAllVertices(Collection<? extends V> labels) {
+        if (!_enabled) {
+            _graph.addAllVertices(labels);
+            return;
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            _graph.addAllVertices(labels);
+        }
+        finally {
+            record(GraphOperation.ADD_ALL_VERTICES, start);
+        }
+
+        for (V u : labels) {
+            observe(u);
+        }
+    }
+
+
+    /**
+     * Determines if the given label is assigned to a vertex
+     *
+     * @param u Vertex label
+     * @return True if vertex with label exists, else false
+     */
+    public boolean contains(V u) {
+        if (!_enabled) {
+            return _graph.contains(u);
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            return _graph.contains(u);
+        }
+        finally {
+            record(GraphOperation.CONTAINS, start);
+        }
+    }
+
+
+    /**
+     * Fetches the vertex with designated label
+     *
+     * @param u Vertex label
+     * @return Vertex of type V with corresponding label
+     */
+    public Vertex<V> get(V u) {
+        if (!_enabled) {
+            return _graph.get(u);
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            return _graph.get(u);
+        }
+        finally {
+            record(GraphOperation.GET, start);
+        }
+    }
+
+
+    /**
+     * Deletes a Vertex object
+     *
+     * @param u Vertex label
+     * @return Deleted vertex's label
+     */
+    public V remove(V u) {
+        if (!_enabled) {
+            return _graph.remove(u);
+        }
+
+        int edges = _graph.edgeCount();
+        long start = System.nanoTime();
+        V label;
+
+        try {
+            label = _graph.remove(u);
+        }
+        finally {
+            record(GraphOperation.REMOVE, start);
+        }
+
+        vertexRemoved(u, edges);
+
+        return label;
+    }
+
+
+    /**
+     * Creates a new edge and assigns it to two vertices on the graph
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @param label Edge label
+     */
+    public void addEdge(V u, V v, E label) {
+        if (!_enabled) {
+            _graph.addEdge(u, v, label);
+            return;
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            _graph.addEdge(u, v, label);
+        }
+        finally {
+            record(GraphOperation.ADD_EDGE, start);
+        }
+
+        observe(u);
+    }
+
+
+    /**
+     * Adds every edge in a sequence
+     *
+     * @param edges Edges to add, read for their endpoints and labels
+     * @param policy What to do with edges that are already present
+     * @return Number of edges newly added
+     */
+    public int addAllEdges(Iterable<Edge<V, E>> edges, DuplicatePolicy policy) {
+        if (!_enabled) {
+            return _graph.addAllEdges(edges, policy);
+        }
+
+        long start = System.nanoTime();
+        int added;
+
+        try {
+            added = _graph.addAllEdges(edges, policy);
+        }
+        finally {
+            record(GraphOperation.ADD_EDGES, start);
+        }
+
+        for (Edge<V, E> edge : edges) {
+            observe(edge.getU());
+        }
+
+        return added;
+    }
+
+
+    /**
+     * Adds the edges {@code src[i] -> dst[i]} labelled {@code labels[i]}
+     *
+     * @param src Source vertex labels
+     * @param dst Destination vertex labels, parallel to src
+     * @param labels Edge labels, parallel to src
+     * @param policy What to do with edges that are already present
+     * @return Number of edges newly added
+     */
+    public int addEdges(V[] src, V[] dst, E[] labels, DuplicatePolicy policy) {
+        if (!_enabled) {
+            return _graph.addEdges(src, dst, labels, policy);
+        }
+
+        long start = System.nanoTime();
+        int added;
+
+        try {
+            added = _graph.addEdges(src, dst, labels, policy);
+        }
+        finally {
+            record(GraphOperation.ADD_EDGES, start);
+        }
+
+        for (V u : src) {
+            observe(u);
+        }
+
+        return added;
+    }
+
+
+    /**
+     * Determines if the given vertices share an edge
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return True if edge exists from u to v, else false
+     */
+    public boolean containsEdge(V u, V v) {
+        if (!_enabled) {
+            return _graph.containsEdge(u, v);
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            return _graph.containsEdge(u, v);
+        }
+        finally {
+            record(GraphOperation.CONTAINS_EDGE, start);
+        }
+    }
+
+
+    /**
+     * Fetches an edge if it exists from u to v
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Edge of type E from u to v
+     */
+    public Edge<V, E> getEdge(V u, V v) {
+        if (!_enabled) {
+            return _graph.getEdge(u, v);
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            return _graph.getEdge(u, v);
+        }
+        finally {
+            record(GraphOperation.GET_EDGE, start);
+        }
+    }
+
+
+    /**
+     * Deletes an Edge object
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Deleted edge's label
+     */
+    public E removeEdge(V u, V v) {
+        if (!_enabled) {
+            return _graph.removeEdge(u, v);
+        }
+
+        long start = System.nanoTime();
+        E label;
+
+        try {
+            label = _graph.removeEdge(u, v);
+        }
+        finally {
+            record(GraphOperation.REMOVE_EDGE, start);
+        }
+
+        observe(u);
+
+        return label;
+    }
+
+
+    /**
+     * Fetches the size of the graph (number of vertices)
+     *
+     * @return Number of vertices in graph
+     */
+    public int size() {
+        return _graph.size();
+    }
+
+
+    /**
+     * Fetches the number of edges emanating from the given vertex
+     *
+     * @param u Source vertex label
+     * @return Number of edges from u to another vertex
+     */
+    public int degree(V u) {
+        if (!_enabled) {
+            return _graph.degree(u);
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            return _graph.degree(u);
+        }
+        finally {
+            record(GraphOperation.DEGREE, start);
+        }
+    }
+
+
+    /**
+     * Fetches the number of edges ending at the given vertex
+     *
+     * @param u Destination vertex label
+     * @return Number of edges from another vertex to u
+     */
+    public int inDegree(V u) {
+        if (!_enabled) {
+            return _graph.inDegree(u);
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            return _graph.inDegree(u);
+        }
+        finally {
+            record(GraphOperation.IN_DEGREE, start);
+        }
+    }
+
+
+    /**
+     * Fetches the number of edges in the entire graph
+     *
+     * @return Number of edges in graph
+     */
+    public int edgeCount() {
+        return _graph.edgeCount();
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all the vertices
+     *
+     * @return A new vertex iterator object
+     */
+    public Iterator<Vertex<V>> vertices() {
+        if (!_enabled) {
+            return _graph.vertices();
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            return new TrackingIterator<Vertex<V>>(_graph.vertices()) {
+                private int _edges;
+
+                @Override
+                void beforeRemove(Vertex<V> last) {
+                    _edges = _graph.edgeCount();
+                }
+
+                @Override
+                void afterRemove(Vertex<V> last) {
+                    vertexRemoved(last.getLabel(), _edges);
+                }
+            };
+        }
+        finally {
+            record(GraphOperation.VERTICES, start);
+        }
+    }
+
+
+    /**
+     * Creates an iterator for iterating through vertices adjacent to u
+     *
+     * @param u Source vertex
+     * @return A new iterator object
+     */
+    public Iterator<Vertex<V>> adjacent(V u) {
+        if (!_enabled) {
+            return _graph.adjacent(u);
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            return new TrackingIterator<Vertex<V>>(_graph.adjacent(u)) {
+                @Override
+                void afterRemove(Vertex<V> last) {
+                    observe(u);
+                }
+            };
+        }
+        finally {
+            record(GraphOperation.ADJACENT, start);
+        }
+    }
+
+
+    /**
+     * Creates an iterator for iterating through vertices with an edge into u
+     *
+     * @param u Destination vertex
+     * @return A new iterator object
+     */
+    public Iterator<Vertex<V>> predecessors(V u) {
+        if (!_enabled) {
+            return _graph.predecessors(u);
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            return new TrackingIterator<Vertex<V>>(_graph.predecessors(u)) {
+                @Override
+                void afterRemove(Vertex<V> last) {
+                    observe(last.getLabel());
+                }
+            };
+        }
+        finally {
+            record(GraphOperation.PREDECESSORS, start);
+        }
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all the edges
+     *
+     * @return A new iterator object
+     */
+    public Iterator<Edge<V, E>> edges() {
+        if (!_enabled) {
+            return _graph.edges();
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            return new TrackingIterator<Edge<V, E>>(_graph.edges()) {
+                @Override
+                void afterRemove(Edge<V, E> last) {
+                    observe(last.getU());
+                }
+            };
+        }
+        finally {
+            record(GraphOperation.EDGES, start);
+        }
+    }
+
+
+    /**
+     * Creates an iterator for iterating through the edges ending at u
+     *
+     * @param u Destination vertex
+     * @return A new iterator object
+     */
+    public Iterator<Edge<V, E>> inEdges(V u) {
+        if (!_enabled) {
+            return _graph.inEdges(u);
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            return new TrackingIterator<Edge<V, E>>(_graph.inEdges(u)) {
+                @Override
+                void afterRemove(Edge<V, E> last) {
+                    observe(last.getU());
+                }
+            };
+        }
+        finally {
+            record(GraphOperation.IN_EDGES, start);
+        }
+    }
+
+
+    /**
+     * Clears the existing graph; recorded metrics are kept
+     */
+    public void clear() {
+        if (!_enabled) {
+            _graph.clear();
+            return;
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            _graph.clear();
+        }
+        finally {
+            record(GraphOperation.CLEAR, start);
+        }
+
+        _degrees.clear();
+        _stale = false;
+    }
+
+
+    /**
+     * Determines if the current graph contains any vertices
+     *
+     * @return True if size is 0, else false
+     */
+    public boolean isEmpty() {
+        return _graph.isEmpty();
+    }
+
+
+    /**
+     * Creates an immutable copy of the wrapped graph; see
+     * {@link DirectedGraph#snapshot()}
+     *
+     * @return Immutable graph equal to this one at the time of the call
+     */
+    public DirectedGraph<V, E> snapshot() {
+        if (!_enabled) {
+            return _graph.snapshot();
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            return _graph.snapshot();
+        }
+        finally {
+            record(GraphOperation.SNAPSHOT, start);
+        }
+    }
+
+
+    /**
+     * Fetches the name given to this graph
+     *
+     * @return Name used by reporters and JMX
+     */
+    public String name() {
+        return _name;
+    }
+
+
+    /**
+     * Determines if calls are currently being recorded
+     *
+     * @return True if recording, else false
+     */
+    public boolean isEnabled() {
+        return _enabled;
+    }
+
+
+    /**
+     * Turns recording on or off; metrics recorded so far are kept. Turning
+     * recording back on marks the degree table for a rebuild, which the next
+     * recorded change does on its own thread
+     *
+     * @param enabled True to record
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled && !_enabled) {
+            _stale = true;
+        }
+
+        _enabled = enabled;
+    }
+
+
+    /**
+     * Fetches the latencies recorded for an operation
+     *
+     * @param operation Timed operation
+     * @return Live histogram for the operation
+     */
+    public LatencyHistogram latency(GraphOperation operation) {
+        if (operation == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        return _latencies[operation.ordinal()];
+    }
+
+
+    /**
+     * Discards every recorded latency
+     */
+    public void reset() {
+        for (LatencyHistogram latency : _latencies) {
+            latency.reset();
+        }
+    }
+
+
+    /**
+     * Fetches the largest out-degree, as tracked by the recorded changes;
+     * safe to call from any thread
+     *
+     * @return Maximum out-degree, or 0 if the graph is empty
+     */
+    public int maxDegree() {
+        return _degrees.max();
+    }
+
+
+    /**
+     * Fetches the mean out-degree
+     *
+     * @return Edges per vertex, or 0 if the graph is empty
+     */
+    public double averageDegree() {
+        int size = _graph.size();
+
+        return size == 0 ? 0.0 : (double) _graph.edgeCount() / size;
+    }
+
+
+    /**
+     * Fetches the fraction of the wrapped graph's storage in use: matrix
+     * cells holding an edge for a MatrixGraph, vertex table slots holding a
+     * vertex for a ListGraph
+     *
+     * @return Occupancy, or NaN for any other graph
+     */
+    public double occupancy() {
+        if (_graph instanceof ListGraph) {
+            return ((ListGraph<V, E>) _graph).occupancy();
+        }
+
+        return _graph instanceof MatrixGraph ? ((MatrixGraph<V, E>) _graph).occupancy() : Double.NaN;
+    }
+
+
+    /**
+     * Fetches how many times the adjacency matrix of a MatrixGraph, or the
+     * vertex tables of a ListGraph, have been resized
+     *
+     * @return Resize count, or -1 for any other graph
+     */
+    public long resizeCount() {
+        if (_graph instanceof ListGraph) {
+            return ((ListGraph<V, E>) _graph).resizeCount();
+        }
+
+        return _graph instanceof MatrixGraph ? ((MatrixGraph<V, E>) _graph).resizeCount() : -1;
+    }
+
+
+    /**
+     * Publishes the metrics on the platform MBean server under
+     * {@code DirectedGraph:type=InstrumentedGraph,name=<name>}
+     *
+     * @return Name the MBean was registered under
+     * @throws IllegalStateException If registration fails, for instance
+     *                               because the name is already taken
+     */
+    public synchronized ObjectName register() {
+        if (_objectName != null) {
+            return _objectName;
+        }
+
+        try {
+            ObjectName objectName = new ObjectName(JMX_DOMAIN + ObjectName.quote(_name));
+
+            ManagementFactory.getPlatformMBeanServer().registerMBean(
+                    new StandardMBean(new Metrics(), GraphMetricsMBean.class), objectName);
+            _objectName = objectName;
+
+            return objectName;
+        }
+        catch (JMException e) {
+            throw new IllegalStateException("Error: Could not register " + _name + " with JMX", e);
+        }
+    }
+
+
+    /**
+     * Removes the MBean published by {@link #register()}, if any
+     */
+    public synchronized void unregister() {
+        if (_objectName == null) {
+            return;
+        }
+
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+            if (server.isRegistered(_objectName)) {
+                server.unregisterMBean(_objectName);
+            }
+        }
+        catch (JMException e) {
+            throw new IllegalStateException("Error: Could not unregister " + _name + " from JMX", e);
+        }
+        finally {
+            _objectName = null;
+        }
+    }
+
+
+    /**
+     * Hands the current metrics to a reporter on the calling thread
+     *
+     * @param reporter Reporter to call
+     */
+    public void report(MetricsReporter reporter) {
+        if (reporter == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        reporter.report(this);
+    }
+
+
+    /**
+     * Calls a reporter at a fixed rate on a background daemon thread,
+     * replacing any reporting already running
+     *
+     * @param reporter Reporter to call
+     * @param period Time between reports
+     * @param unit Unit of period
+     */
+    public synchronized void startReporting(MetricsReporter reporter, long period, TimeUnit unit) {
+        if (reporter == null || unit == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        stopReporting();
+
+        _reporting = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "metrics-" + _name);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        _reporting.scheduleAtFixedRate(() -> {
+            // An exception would cancel every later run, so skip this report only
+            try {
+                reporter.report(this);
+            }
+            catch (RuntimeException e) {
+                _failedReports++;
+            }
+        }, period, period, unit);
+    }
+
+
+    /**
+     * Fetches how many periodic reports have thrown and been skipped
+     *
+     * @return Failed report count since the graph was created
+     */
+    public long failedReports() {
+        return _failedReports;
+    }
+
+
+    /**
+     * Stops reporting started by {@link #startReporting}, if any
+     */
+    public synchronized void stopReporting() {
+        if (_reporting != null) {
+            _reporting.shutdownNow();
+            _reporting = null;
+        }
+    }
+
+
+    // Helper Methods
+    /**
+     * Records the latency of a call that started at a given time
+     *
+     * @param operation Operation called
+     * @param start {@link System#nanoTime()} when the call started
+     */
+    private void record(GraphOperation operation, long start) {
+        _latencies[operation.ordinal()].record(System.nanoTime() - start);
+    }
+
+
+    /**
+     * Updates the tracked degree of a vertex after a recorded change
+     *
+     * @param u Vertex whose out-edges may have changed
+     */
+    private void observe(V u) {
+        if (_stale) {
+            rebuildDegrees();
+        }
+        else if (_graph.contains(u)) {
+            _degrees.set(u, _graph.degree(u));
+        }
+        else {
+            _degrees.drop(u);
+        }
+    }
+
+
+    /**
+     * Updates the tracked degrees after a vertex has been removed. Edges into
+     * it lowered the degrees of vertices that are not known here, so if there
+     * were any the table is rebuilt, which costs about as much as the removal
+     * itself in a graph without an in-edge index
+     *
+     * @param u Removed vertex
+     * @param edges Edge count before the removal
+     */
+    private void vertexRemoved(V u, int edges) {
+        int out = _degrees.drop(u);
+
+        if (_stale || edges - _graph.edgeCount() > out) {
+            rebuildDegrees();
+        }
+    }
+
+
+    /**
+     * Reads the degree of every vertex into the degree table
+     */
+    private void rebuildDegrees() {
+        _degrees.clear();
+
+        for (Iterator<Vertex<V>> it = _graph.vertices(); it.hasNext(); ) {
+            V u = it.next().getLabel();
+
+            _degrees.set(u, _graph.degree(u));
+        }
+
+        _stale = false;
+    }
+
+
+    /**
+     * Fetches an operation by name
+     *
+     * @param name Operation name
+     * @return Matching operation
+     */
+    private static GraphOperation operation(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        return GraphOperation.valueOf(name);
+    }
+
+
+    // Inner Classes
+    /**
+     * Out-degree of every vertex, with a count of vertices per degree so the
+     * maximum can be kept as degrees rise and fall
+     *
+     * @param <V> Label type for vertices
+     */
+    private static final class Degrees<V> {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final HashMap<V, Integer> _degree = new HashMap<>();
+        private int[] _counts = new int[INITIAL_CAPACITY];
+        private volatile int _max;
+
+        /**
+         * Fetches the largest degree in the table
+         *
+         * @return Maximum degree, or 0 if empty
+         */
+        int max() {
+            return _max;
+        }
+
+        /**
+         * Records the current degree of a vertex
+         *
+         * @param u Vertex label
+         * @param degree Its out-degree
+         */
+        void set(V u, int degree) {
+            Integer old = _degree.put(u, degree);
+
+            if (old != null) {
+                _counts[old]--;
+            }
+
+            if (degree >= _counts.length) {
+                _counts = Arrays.copyOf(_counts, Math.max(degree + 1, _counts.length * 2));
+            }
+
+            _counts[degree]++;
+
+            if (degree > _max) {
+                _max = degree;
+            }
+            else {
+                lower();
+            }
+        }
+
+        /**
+         * Forgets a vertex
+         *
+         * @param u Vertex label
+         * @return Its last recorded degree, or 0 if it was not in the table
+         */
+        int drop(V u) {
+            Integer old = _degree.remove(u);
+
+            if (old == null) {
+                return 0;
+            }
+
+            _counts[old]--;
+            lower();
+
+            return old;
+        }
+
+        /**
+         * Forgets every vertex
+         */
+        void clear() {
+            _degree.clear();
+            Arrays.fill(_counts, 0);
+            _max = 0;
+        }
+
+        /**
+         * Moves the maximum down to the largest degree still held by a vertex
+         */
+        private void lower() {
+            int max = _max;
+
+            while (max > 0 && _counts[max] == 0) {
+                max--;
+            }
+
+            _max = max;
+        }
+    }
+
+
+    /**
+     * Forwards to an iterator of the wrapped graph and updates the tracked
+     * degrees when an element is removed through it
+     *
+     * @param <T> Element type
+     */
+    private abstract class TrackingIterator<T> implements Iterator<T> {
+        private final Iterator<T> _it;
+        private T _last;
+
+        /**
+         * Wraps an iterator
+         *
+         * @param it Iterator of the wrapped graph
+         */
+        TrackingIterator(Iterator<T> it) {
+            _it = it;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return _it.hasNext();
+        }
+
+        @Override
+        public T next() {
+            _last = _it.next();
+
+            return _last;
+        }
+
+        @Override
+        public void remove() {
+            beforeRemove(_last);
+            _it.remove();
+            afterRemove(_last);
+        }
+
+        /**
+         * Called before the last returned element is removed
+         *
+         * @param last Element about to be removed
+         */
+        void beforeRemove(T last) {
+        }
+
+        /**
+         * Called once the last returned element has been removed
+         *
+         * @param last Removed element
+         */
+        abstract void afterRemove(T last);
+    }
+
+
+    /**
+     * JMX adapter over this graph's metrics
+     */
+    private class Metrics implements GraphMetricsMBean {
+        @Override
+        public boolean isEnabled() {
+            return InstrumentedGraph.this.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            InstrumentedGraph.this.setEnabled(enabled);
+        }
+
+        @Override
+        public String[] getOperations() {
+            GraphOperation[] operations = GraphOperation.values();
+            String[] names = new String[operations.length];
+
+            for (int i = 0; i < operations.length; i++) {
+                names[i] = operations[i].name();
+            }
+
+            return names;
+        }
+
+        @Override
+        public int getVertexCount() {
+            return size();
+        }
+
+        @Override
+        public int getEdgeCount() {
+            return edgeCount();
+        }
+
+        @Override
+        public double getAverageDegree() {
+            return averageDegree();
+        }
+
+        @Override
+        public int getMaxDegree() {
+            return maxDegree();
+        }
+
+        @Override
+        public double getOccupancy() {
+            return occupancy();
+        }
+
+        @Override
+        public long getResizeCount() {
+            return resizeCount();
+        }
+
+        @Override
+        public long count(String operation) {
+            return latency(operation(operation)).count();
+        }
+
+        @Override
+        public double meanNanos(String operation) {
+            return latency(operation(operation)).meanNanos();
+        }
+
+        @Override
+        public long percentileNanos(String operation, double percentile) {
+            return latency(operation(operation)).valueAtPercentile(percentile);
+        }
+
+        @Override
+        public long maxNanos(String operation) {
+            return latency(operation(operation)).maxNanos();
+        }
+
+        @Override
+        public void reset() {
+            InstrumentedGraph.this.reset();
+        }
+    }
+}
@@ -0,0 +1,605 @@
+// Imports
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+
+/**
+ * Directed graph specialised for int vertex ids and double edge weights
+ *
+ * <p>Ids are mapped to dense slots through an {@link IntIntHashMap}; each slot
+ * owns a growable {@code int[]} of target slots with a parallel
+ * {@code double[]} of weights. No operation boxes an id or allocates a
+ * {@link Vertex} or {@link Edge}. Use {@link #asDirectedGraph()} where a
+ * {@code DirectedGraph<Integer, Double>} is expected.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+public class IntDirectedGraph {
+    // Constants
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DEFAULT_ROW_CAPACITY = 4;
+    private static final int NOT_FOUND = -1;
+    private static final int DOUBLE = 2;
+    private static final double DEFAULT_WEIGHT = 1.0;
+
+
+    // Internal State
+    private final IntIntHashMap _indices;
+    private int[] _ids;
+    private boolean[] _live;
+    private int[][] _targets;
+    private double[][] _weights;
+    private int[] _degrees;
+    private int[] _freeSlots;
+    private int _freeCount;
+    private int _slotCount;
+    private int _size;
+    private int _edgeCount;
+    private int _modCount;
+
+
+    /**
+     * Callback for {@link #forEachEdge}
+     */
+    @FunctionalInterface
+    public interface EdgeConsumer {
+        /**
+         * Receives one edge
+         *
+         * @param u Source vertex id
+         * @param v Destination vertex id
+         * @param weight Edge weight
+         */
+        void accept(int u, int v, double weight);
+    }
+
+
+    // Constructors
+    /**
+     * Creates an instance of class IntDirectedGraph object; designates to second constructor
+     */
+    public IntDirectedGraph() {
+        this(DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     * Creates an instance of class IntDirectedGraph object
+     *
+     * @param initialCapacity Expected number of vertices
+     */
+    public IntDirectedGraph(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Error: Capacity cannot be negative");
+        }
+
+        if (initialCapacity == 0) {
+            initialCapacity = DEFAULT_CAPACITY;
+        }
+
+        _indices = new IntIntHashMap(initialCapacity, NOT_FOUND);
+        _ids = new int[initialCapacity];
+        _live = new boolean[initialCapacity];
+        _targets = new int[initialCapacity][];
+        _weights = new double[initialCapacity][];
+        _degrees = new int[initialCapacity];
+        _freeSlots = new int[initialCapacity];
+    }
+
+
+    // Methods
+    /**
+     * Creates a new vertex and adds it to the graph
+     *
+     * @param u Vertex id
+     */
+    public void add(int u) {
+        if (_indices.containsKey(u)) {
+            throw new DuplicateVertexException();
+        }
+
+        int slot;
+
+        // Slots freed by remove are reused before the arrays are allowed to grow
+        if (_freeCount > 0) {
+            slot = _freeSlots[--_freeCount];
+        }
+        else {
+            growArrays();
+
+            slot = _slotCount++;
+        }
+
+        _ids[slot] = u;
+        _live[slot] = true;
+        _degrees[slot] = 0;
+        _indices.put(u, slot);
+
+        _size++;
+        _modCount++;
+    }
+
+
+    /**
+     * Determines if the given id is assigned to a vertex
+     *
+     * @param u Vertex id
+     * @return True if vertex exists, else false
+     */
+    public boolean contains(int u) {
+        return _indices.containsKey(u);
+    }
+
+
+    /**
+     * Deletes a vertex together with its incident edges
+     *
+     * @param u Vertex id
+     */
+    public void remove(int u) {
+        int slot = slotOf(u);
+
+        _edgeCount -= _degrees[slot];
+        _targets[slot] = null;
+        _weights[slot] = null;
+        _degrees[slot] = 0;
+
+        // Incoming edges may sit in any other row
+        for (int i = 0; i < _slotCount; i++) {
+            if (_live[i]) {
+                int position = positionOf(i, slot);
+
+                if (position != NOT_FOUND) {
+                    removeAt(i, position);
+                }
+            }
+        }
+
+        _indices.remove(u);
+        _live[slot] = false;
+        _freeSlots[_freeCount++] = slot;
+
+        _size--;
+        _modCount++;
+    }
+
+
+    /**
+     * Creates a new edge with the default weight of 1
+     *
+     * @param u Source vertex id
+     * @param v Destination vertex id
+     */
+    public void addEdge(int u, int v) {
+        addEdge(u, v, DEFAULT_WEIGHT);
+    }
+
+
+    /**
+     * Creates a new weighted edge
+     *
+     * @param u Source vertex id
+     * @param v Destination vertex id
+     * @param weight Edge weight
+     */
+    public void addEdge(int u, int v, double weight) {
+        int uSlot = slotOf(u);
+        int vSlot = slotOf(v);
+
+        // Duplicate edge handler
+        if (positionOf(uSlot, vSlot) != NOT_FOUND) {
+            throw new DuplicateEdgeException();
+        }
+
+        int degree = _degrees[uSlot];
+
+        if (_targets[uSlot] == null) {
+            _targets[uSlot] = new int[DEFAULT_ROW_CAPACITY];
+            _weights[uSlot] = new double[DEFAULT_ROW_CAPACITY];
+        }
+        else if (degree == _targets[uSlot].length) {
+            _targets[uSlot] = Arrays.copyOf(_targets[uSlot], degree * DOUBLE);
+            _weights[uSlot] = Arrays.copyOf(_weights[uSlot], degree * DOUBLE);
+        }
+
+        _targets[uSlot][degree] = vSlot;
+        _weights[uSlot][degree] = weight;
+        _degrees[uSlot]++;
+
+        _edgeCount++;
+        _modCount++;
+    }
+
+
+    /**
+     * Determines if the given vertices share an edge. Rows are unsorted, so this
+     * scans u's out-edges
+     *
+     * @param u Source vertex id
+     * @param v Destination vertex id
+     * @return True if edge exists from u to v, else false
+     */
+    public boolean containsEdge(int u, int v) {
+        return positionOf(slotOf(u), slotOf(v)) != NOT_FOUND;
+    }
+
+
+    /**
+     * Fetches the weight of the edge from u to v
+     *
+     * @param u Source vertex id
+     * @param v Destination vertex id
+     * @return Edge weight
+     */
+    public double getWeight(int u, int v) {
+        int uSlot = slotOf(u);
+
+        return _weights[uSlot][existingPosition(uSlot, slotOf(v))];
+    }
+
+
+    /**
+     * Reassigns the weight of the edge from u to v
+     *
+     * @param u Source vertex id
+     * @param v Destination vertex id
+     * @param weight New edge weight
+     */
+    public void setWeight(int u, int v, double weight) {
+        int uSlot = slotOf(u);
+
+        _weights[uSlot][existingPosition(uSlot, slotOf(v))] = weight;
+    }
+
+
+    /**
+     * Deletes the edge from u to v
+     *
+     * @param u Source vertex id
+     * @param v Destination vertex id
+     * @return Deleted edge's weight
+     */
+    public double removeEdge(int u, int v) {
+        int uSlot = slotOf(u);
+        int position = existingPosition(uSlot, slotOf(v));
+        double weight = _weights[uSlot][position];
+
+        removeAt(uSlot, position);
+        _modCount++;
+
+        return weight;
+    }
+
+
+    /**
+     * Fetches the size of the graph (number of vertices)
+     *
+     * @return Number of vertices in graph
+     */
+    public int size() {
+        return _size;
+    }
+
+
+    /**
+     * Fetches the number of edges emanating from the given vertex
+     *
+     * @param u Source vertex id
+     * @return Number of edges from u to another vertex
+     */
+    public int degree(int u) {
+        return _degrees[slotOf(u)];
+    }
+
+
+    /**
+     * Fetches the number of edges in the entire graph
+     *
+     * @return Number of edges in graph
+     */
+    public int edgeCount() {
+        return _edgeCount;
+    }
+
+
+    /**
+     * Creates an iterator over all vertex ids
+     *
+     * @return A new fail-fast primitive iterator
+     */
+    public PrimitiveIterator.OfInt vertices() {
+        return new SlotIterator(null, _slotCount);
+    }
+
+
+    /**
+     * Creates an iterator over the ids of vertices adjacent to u
+     *
+     * @param u Source vertex id
+     * @return A new fail-fast primitive iterator
+     */
+    public PrimitiveIterator.OfInt adjacent(int u) {
+        int slot = slotOf(u);
+
+        return new SlotIterator(_targets[slot], _degrees[slot]);
+    }
+
+
+    /**
+     * Creates a reusable cursor over every edge
+     *
+     * @return A new fail-fast edge cursor positioned before the first edge
+     */
+    public EdgeCursor edges() {
+        return new EdgeCursor();
+    }
+
+
+    /**
+     * Passes every edge to a consumer without allocating per edge
+     *
+     * @param consumer Edge callback
+     */
+    public void forEachEdge(EdgeConsumer consumer) {
+        int expectedModCount = _modCount;
+
+        for (int i = 0; i < _slotCount; i++) {
+            for (int k = 0; k < _degrees[i]; k++) {
+                consumer.accept(_ids[i], _ids[_targets[i][k]], _weights[i][k]);
+
+                if (_modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Clears the existing graph
+     */
+    public void clear() {
+        Arrays.fill(_live, 0, _slotCount, false);
+        Arrays.fill(_targets, 0, _slotCount, null);
+        Arrays.fill(_weights, 0, _slotCount, null);
+        Arrays.fill(_degrees, 0, _slotCount, 0);
+        _indices.clear();
+
+        _freeCount = 0;
+        _slotCount = 0;
+        _size = 0;
+        _edgeCount = 0;
+        _modCount++;
+    }
+
+
+    /**
+     * Determines if the current graph contains any vertices
+     *
+     * @return True if size is 0, else false
+     */
+    public boolean isEmpty() {
+        return _size == 0;
+    }
+
+
+    /**
+     * Creates a view of this graph through the generic DirectedGraph API;
+     * vertex ids are boxed to Integer and weights to Double on the way out
+     *
+     * @return A live adapter backed by this graph
+     */
+    public DirectedGraph<Integer, Double> asDirectedGraph() {
+        return new IntGraphAdapter(this);
+    }
+
+
+    // Helper Methods
+    /**
+     * Fetches the slot of a vertex that must exist
+     *
+     * @param u Vertex id
+     * @return Slot index
+     */
+    private int slotOf(int u) {
+        int slot = _indices.get(u);
+
+        // Non-existent vertex handler
+        if (slot == NOT_FOUND) {
+            throw new NoSuchVertexException();
+        }
+
+        return slot;
+    }
+
+
+    /**
+     * Finds a target within a row
+     *
+     * @param uSlot Source slot
+     * @param vSlot Destination slot
+     * @return Position within the row, or -1 if absent
+     */
+    private int positionOf(int uSlot, int vSlot) {
+        int[] row = _targets[uSlot];
+
+        for (int k = 0; k < _degrees[uSlot]; k++) {
+            if (row[k] == vSlot) {
+                return k;
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+
+    /**
+     * Finds a target within a row, which must be present
+     *
+     * @param uSlot Source slot
+     * @param vSlot Destination slot
+     * @return Position within the row
+     */
+    private int existingPosition(int uSlot, int vSlot) {
+        int position = positionOf(uSlot, vSlot);
+
+        // Non-existent edge handler
+        if (position == NOT_FOUND) {
+            throw new NoSuchEdgeException();
+        }
+
+        return position;
+    }
+
+
+    /**
+     * Removes the edge at a row position by moving the row's last edge into it
+     *
+     * @param uSlot Source slot
+     * @param position Position within the row
+     */
+    private void removeAt(int uSlot, int position) {
+        int last = --_degrees[uSlot];
+
+        _targets[uSlot][position] = _targets[uSlot][last];
+        _weights[uSlot][position] = _weights[uSlot][last];
+        _edgeCount--;
+    }
+
+
+    /**
+     * If capacity is reached, doubles the capacity of every slot array
+     */
+    private void growArrays() {
+        if (_slotCount == _ids.length) {
+            if (_ids.length > Integer.MAX_VALUE / DOUBLE) {
+                throw new OutOfMemoryError("Error: Integer limit reached");
+            }
+
+            int capacity = _ids.length * DOUBLE;
+
+            _ids = Arrays.copyOf(_ids, capacity);
+            _live = Arrays.copyOf(_live, capacity);
+            _targets = Arrays.copyOf(_targets, capacity);
+            _weights = Arrays.copyOf(_weights, capacity);
+            _degrees = Arrays.copyOf(_degrees, capacity);
+            _freeSlots = Arrays.copyOf(_freeSlots, capacity);
+        }
+    }
+
+
+    // Inner Classes
+    /**
+     * Fail-fast cursor yielding vertex ids, either over all live slots or over
+     * the targets of one row
+     */
+    private class SlotIterator implements PrimitiveIterator.OfInt {
+        private final int[] _row;
+        private final int _end;
+        private final int _expectedModCount = _modCount;
+        private int _next;
+
+        /**
+         * Creates a cursor
+         *
+         * @param row Row of target slots, or null to walk every slot
+         * @param end One past the last position to visit
+         */
+        SlotIterator(int[] row, int end) {
+            _row = row;
+            _end = end;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (_modCount != _expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            // Only the all-slots walk has holes to skip
+            while (_row == null && _next < _end && !_live[_next]) {
+                _next++;
+            }
+
+            return _next < _end;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            int position = _next++;
+
+            return _ids[_row == null ? position : _row[position]];
+        }
+    }
+
+
+    /**
+     * Fail-fast cursor over every edge. A single cursor object is reused for the
+     * whole walk, so iteration allocates nothing per edge
+     */
+    public class EdgeCursor {
+        private final int _expectedModCount = _modCount;
+        private int _slot = 0;
+        private int _position = -1;
+
+        /**
+         * Prevents construction outside the graph
+         */
+        private EdgeCursor() {
+        }
+
+        /**
+         * Moves to the next edge
+         *
+         * @return True if the cursor now rests on an edge, else false
+         */
+        public boolean next() {
+            if (_modCount != _expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            _position++;
+
+            // Skip over exhausted rows and free slots, whose degree is 0
+            while (_slot < _slotCount && _position >= _degrees[_slot]) {
+                _slot++;
+                _position = 0;
+            }
+
+            return _slot < _slotCount;
+        }
+
+        /**
+         * Fetches the current edge's source vertex id
+         *
+         * @return Source vertex id
+         */
+        public int source() {
+            return _ids[_slot];
+        }
+
+        /**
+         * Fetches the current edge's destination vertex id
+         *
+         * @return Destination vertex id
+         */
+        public int target() {
+            return _ids[_targets[_slot][_position]];
+        }
+
+        /**
+         * Fetches the current edge's weight
+         *
+         * @return Edge weight
+         */
+        public double weight() {
+            return _weights[_slot][_position];
+        }
+    }
+}
@@ -0,0 +1,279 @@
+// Imports
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+
+/**
+ * Exposes an {@link IntDirectedGraph} as a {@code DirectedGraph<Integer, Double>}
+ *
+ * <p>The adapter holds no state of its own; every call is forwarded to the
+ * wrapped graph, boxing ids and weights only at this boundary.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+public class IntGraphAdapter extends DirectedGraph<Integer, Double> {
+    // Internal State
+    private final IntDirectedGraph _graph;
+
+
+    // Constructor
+    /**
+     * Creates an adapter over an existing graph
+     *
+     * @param graph Graph to expose
+     */
+    public IntGraphAdapter(IntDirectedGraph graph) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        _graph = graph;
+    }
+
+
+    // Methods
+    /**
+     * Creates a new vertex and adds it to the graph
+     *
+     * @param u Vertex label
+     */
+    public void add(Integer u) {
+        _graph.add(id(u));
+    }
+
+
+    /**
+     * Determines if the given label is assigned to a vertex
+     *
+     * @param u Vertex label
+     * @return True if vertex with label exists, else false
+     */
+    public boolean contains(Integer u) {
+        return _graph.contains(id(u));
+    }
+
+
+    /**
+     * Fetches the vertex with designated label
+     *
+     * @param u Vertex label
+     * @return Vertex with corresponding label
+     */
+    public Vertex<Integer> get(Integer u) {
+        if (!contains(u)) {
+            throw new NoSuchVertexException();
+        }
+
+        return new Vertex<>(u);
+    }
+
+
+    /**
+     * Deletes a Vertex object
+     *
+     * @param u Vertex label
+     * @return Deleted vertex's label
+     */
+    public Integer remove(Integer u) {
+        _graph.remove(id(u));
+
+        return u;
+    }
+
+
+    /**
+     * Creates a new edge and assigns it to two vertices on the graph
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @param label Edge weight
+     */
+    public void addEdge(Integer u, Integer v, Double label) {
+        if (label == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        _graph.addEdge(id(u), id(v), label);
+    }
+
+
+    /**
+     * Determines if the given vertices share an edge
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return True if edge exists from u to v, else false
+     */
+    public boolean containsEdge(Integer u, Integer v) {
+        return _graph.containsEdge(id(u), id(v));
+    }
+
+
+    /**
+     * Fetches an edge if it exists from u to v
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Edge from u to v labeled with its weight
+     */
+    public Edge<Integer, Double> getEdge(Integer u, Integer v) {
+        return new Edge<>(u, v, _graph.getWeight(id(u), id(v)));
+    }
+
+
+    /**
+     * Deletes an Edge object
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Deleted edge's weight
+     */
+    public Double removeEdge(Integer u, Integer v) {
+        return _graph.removeEdge(id(u), id(v));
+    }
+
+
+    /**
+     * Fetches the size of the graph (number of vertices)
+     *
+     * @return Number of vertices in graph
+     */
+    public int size() {
+        return _graph.size();
+    }
+
+
+    /**
+     * Fetches the number of edges emanating from the given vertex
+     *
+     * @param u Source vertex label
+     * @return Number of edges from u to another vertex
+     */
+    public int degree(Integer u) {
+        return _graph.degree(id(u));
+    }
+
+
+    /**
+     * Fetches the number of edges in the entire graph
+     *
+     * @return Number of edges in graph
+     */
+    public int edgeCount() {
+        return _graph.edgeCount();
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all the vertices
+     *
+     * @return A new vertex iterator object
+     */
+    public Iterator<Vertex<Integer>> vertices() {
+        return boxed(_graph.vertices());
+    }
+
+
+    /**
+     * Creates an iterator for iterating through vertices adjacent to u
+     *
+     * @param u Source vertex
+     * @return A new iterator object
+     */
+    public Iterator<Vertex<Integer>> adjacent(Integer u) {
+        return boxed(_graph.adjacent(id(u)));
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all the edges
+     *
+     * @return A new iterator object
+     */
+    public Iterator<Edge<Integer, Double>> edges() {
+        IntDirectedGraph.EdgeCursor cursor = _graph.edges();
+
+        return new Iterator<Edge<Integer, Double>>() {
+            private boolean _ready;
+            private boolean _more;
+
+            @Override
+            public boolean hasNext() {
+                // The cursor can only move forward, so remember whether it already has
+                if (!_ready) {
+                    _more = cursor.next();
+                    _ready = true;
+                }
+
+                return _more;
+            }
+
+            @Override
+            public Edge<Integer, Double> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                _ready = false;
+
+                return new Edge<>(cursor.source(), cursor.target(), cursor.weight());
+            }
+        };
+    }
+
+
+    /**
+     * Clears the existing graph
+     */
+    public void clear() {
+        _graph.clear();
+    }
+
+
+    /**
+     * Determines if the current graph contains any vertices
+     *
+     * @return True if size is 0, else false
+     */
+    public boolean isEmpty() {
+        return _graph.isEmpty();
+    }
+
+
+    // Helper Methods
+    /**
+     * Unboxes a vertex label
+     *
+     * @param u Vertex label
+     * @return Vertex id
+     */
+    private static int id(Integer u) {
+        if (u == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        return u;
+    }
+
+
+    /**
+     * Wraps a primitive id iterator so that it yields Vertex objects
+     *
+     * @param ids Id iterator
+     * @return Vertex iterator
+     */
+    private static Iterator<Vertex<Integer>> boxed(PrimitiveIterator.OfInt ids) {
+        return new Iterator<Vertex<Integer>>() {
+            @Override
+            public boolean hasNext() {
+                return ids.hasNext();
+            }
+
+            @Override
+            public Vertex<Integer> next() {
+                return new Vertex<>(ids.nextInt());
+            }
+        };
+    }
+}
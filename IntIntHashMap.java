@@ -0,0 +1,274 @@
+// Imports
+import java.util.Arrays;
+
+
+/**
+ * Open-addressing hash map from int keys to int values
+ *
+ * <p>Keys and values live in parallel primitive arrays probed linearly, so
+ * lookups never box. Deletion shifts later entries of the same probe run back
+ * instead of leaving tombstones. A designated missing value is returned for
+ * absent keys.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+public class IntIntHashMap {
+    // Constants
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+
+    // Internal State
+    private int[] _keys;
+    private int[] _values;
+    private boolean[] _used;
+    private int _mask;
+    private int _size;
+    private final int _missingValue;
+
+
+    // Constructors
+    /**
+     * Creates an empty map; designates to second constructor
+     *
+     * @param missingValue Value returned by {@link #get} for absent keys
+     */
+    public IntIntHashMap(int missingValue) {
+        this(DEFAULT_CAPACITY, missingValue);
+    }
+
+
+    /**
+     * Creates an empty map sized to hold {@code expected} keys without rehashing
+     *
+     * @param expected Expected number of keys
+     * @param missingValue Value returned by {@link #get} for absent keys
+     */
+    public IntIntHashMap(int expected, int missingValue) {
+        if (expected < 0) {
+            throw new IllegalArgumentException("Error: Capacity cannot be negative");
+        }
+
+        _missingValue = missingValue;
+        allocate(tableSizeFor(expected));
+    }
+
+
+    // Methods
+    /**
+     * Fetches the value mapped to a key
+     *
+     * @param key Key
+     * @return Mapped value, or the missing value if the key is absent
+     */
+    public int get(int key) {
+        int slot = find(key);
+
+        return slot < 0 ? _missingValue : _values[slot];
+    }
+
+
+    /**
+     * Determines if a key is present
+     *
+     * @param key Key
+     * @return True if key is mapped, else false
+     */
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+
+    /**
+     * Maps a key to a value, replacing any previous mapping
+     *
+     * @param key Key
+     * @param value Value
+     * @return Previous value, or the missing value if the key was absent
+     */
+    public int put(int key, int value) {
+        int slot = hash(key) & _mask;
+
+        while (_used[slot]) {
+            if (_keys[slot] == key) {
+                int previous = _values[slot];
+                _values[slot] = value;
+
+                return previous;
+            }
+
+            slot = (slot + 1) & _mask;
+        }
+
+        _used[slot] = true;
+        _keys[slot] = key;
+        _values[slot] = value;
+        _size++;
+
+        if (_size > _keys.length * LOAD_FACTOR) {
+            rehash(_keys.length * 2);
+        }
+
+        return _missingValue;
+    }
+
+
+    /**
+     * Removes the mapping for a key
+     *
+     * @param key Key
+     * @return Removed value, or the missing value if the key was absent
+     */
+    public int remove(int key) {
+        int slot = find(key);
+
+        if (slot < 0) {
+            return _missingValue;
+        }
+
+        int previous = _values[slot];
+
+        // Shift later members of the probe run back into the hole
+        int hole = slot;
+        int next = (hole + 1) & _mask;
+
+        while (_used[next]) {
+            int home = hash(_keys[next]) & _mask;
+
+            // Entry may move only if its home does not lie cyclically in (hole, next]
+            if (((next - home) & _mask) >= ((next - hole) & _mask)) {
+                _keys[hole] = _keys[next];
+                _values[hole] = _values[next];
+                hole = next;
+            }
+
+            next = (next + 1) & _mask;
+        }
+
+        _used[hole] = false;
+        _size--;
+
+        return previous;
+    }
+
+
+    /**
+     * Fetches the number of mappings
+     *
+     * @return Number of keys
+     */
+    public int size() {
+        return _size;
+    }
+
+
+    /**
+     * Determines if the map is empty
+     *
+     * @return True if size is 0, else false
+     */
+    public boolean isEmpty() {
+        return _size == 0;
+    }
+
+
+    /**
+     * Removes every mapping while keeping the current table
+     */
+    public void clear() {
+        Arrays.fill(_used, false);
+        _size = 0;
+    }
+
+
+    // Helper Methods
+    /**
+     * Locates the table slot holding a key
+     *
+     * @param key Key
+     * @return Slot index, or -1 if absent
+     */
+    private int find(int key) {
+        int slot = hash(key) & _mask;
+
+        while (_used[slot]) {
+            if (_keys[slot] == key) {
+                return slot;
+            }
+
+            slot = (slot + 1) & _mask;
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Spreads the key bits so that sequential ids do not cluster
+     *
+     * @param key Key
+     * @return Mixed hash
+     */
+    private static int hash(int key) {
+        int h = key * GOLDEN_RATIO;
+
+        return h ^ (h >>> 16);
+    }
+
+
+    /**
+     * Fetches the power-of-two table size that keeps {@code expected} keys under the load factor
+     *
+     * @param expected Expected number of keys
+     * @return Table size
+     */
+    private static int tableSizeFor(int expected) {
+        long needed = (long) Math.ceil(Math.max(expected, 1) / (double) LOAD_FACTOR);
+
+        if (needed > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Error: Integer limit reached");
+        }
+
+        return Math.max(DEFAULT_CAPACITY, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+
+    /**
+     * Replaces the table with empty arrays of the given size
+     *
+     * @param capacity Table size, a power of two
+     */
+    private void allocate(int capacity) {
+        _keys = new int[capacity];
+        _values = new int[capacity];
+        _used = new boolean[capacity];
+        _mask = capacity - 1;
+    }
+
+
+    /**
+     * Moves every entry into a table of a new size
+     *
+     * @param capacity New table size, a power of two
+     */
+    private void rehash(int capacity) {
+        if (capacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Error: Integer limit reached");
+        }
+
+        int[] keys = _keys;
+        int[] values = _values;
+        boolean[] used = _used;
+
+        allocate(capacity);
+        _size = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                put(keys[i], values[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+// Imports
+import java.util.Arrays;
+
+
+/**
+ * Open-addressing hash map from int keys to non-null object values
+ *
+ * <p>Keys and values live in parallel arrays probed linearly, so lookups
+ * never box the key. An empty slot is marked by a null value, which is why
+ * null values are rejected. Deletion shifts later entries of the same probe
+ * run back instead of leaving tombstones. Tables start small so that many
+ * nearly empty maps stay cheap.</p>
+ *
+ * @author blee20@georgefox.edu
+ * @param <T> Value type
+ */
+public class IntObjectHashMap<T> {
+    // Constants
+    private static final int MIN_CAPACITY = 4;
+    private static final float LOAD_FACTOR = 0.5f;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+
+    // Internal State
+    private int[] _keys;
+    private Object[] _values;
+    private int _mask;
+    private int _size;
+
+
+    // Constructors
+    /**
+     * Creates an empty map with the smallest table
+     */
+    public IntObjectHashMap() {
+        this(1);
+    }
+
+
+    /**
+     * Creates an empty map sized to hold {@code expected} keys without rehashing
+     *
+     * @param expected Expected number of keys
+     */
+    public IntObjectHashMap(int expected) {
+        if (expected < 0) {
+            throw new IllegalArgumentException("Error: Capacity cannot be negative");
+        }
+
+        allocate(tableSizeFor(expected));
+    }
+
+
+    // Methods
+    /**
+     * Fetches the value mapped to a key
+     *
+     * @param key Key
+     * @return Mapped value, or null if the key is absent
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int key) {
+        int slot = find(key);
+
+        return slot < 0 ? null : (T) _values[slot];
+    }
+
+
+    /**
+     * Determines if a key is present
+     *
+     * @param key Key
+     * @return True if key is mapped, else false
+     */
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+
+    /**
+     * Maps a key to a value, replacing any previous mapping
+     *
+     * @param key Key
+     * @param value Value, which must not be null
+     * @return Previous value, or null if the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public T put(int key, T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        int slot = hash(key) & _mask;
+
+        while (_values[slot] != null) {
+            if (_keys[slot] == key) {
+                T previous = (T) _values[slot];
+                _values[slot] = value;
+
+                return previous;
+            }
+
+            slot = (slot + 1) & _mask;
+        }
+
+        _keys[slot] = key;
+        _values[slot] = value;
+        _size++;
+
+        if (_size > _keys.length * LOAD_FACTOR) {
+            rehash(_keys.length * 2);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Removes the mapping for a key
+     *
+     * @param key Key
+     * @return Removed value, or null if the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public T remove(int key) {
+        int slot = find(key);
+
+        if (slot < 0) {
+            return null;
+        }
+
+        T previous = (T) _values[slot];
+
+        // Shift later members of the probe run back into the hole
+        int hole = slot;
+        int next = (hole + 1) & _mask;
+
+        while (_values[next] != null) {
+            int home = hash(_keys[next]) & _mask;
+
+            // Entry may move only if its home does not lie cyclically in (hole, next]
+            if (((next - home) & _mask) >= ((next - hole) & _mask)) {
+                _keys[hole] = _keys[next];
+                _values[hole] = _values[next];
+                hole = next;
+            }
+
+            next = (next + 1) & _mask;
+        }
+
+        _values[hole] = null;
+        _size--;
+
+        return previous;
+    }
+
+
+    /**
+     * Fetches the number of mappings
+     *
+     * @return Number of keys
+     */
+    public int size() {
+        return _size;
+    }
+
+
+    /**
+     * Determines if the map is empty
+     *
+     * @return True if size is 0, else false
+     */
+    public boolean isEmpty() {
+        return _size == 0;
+    }
+
+
+    /**
+     * Removes every mapping while keeping the current table
+     */
+    public void clear() {
+        Arrays.fill(_values, null);
+        _size = 0;
+    }
+
+
+    // Helper Methods
+    /**
+     * Locates the table slot holding a key
+     *
+     * @param key Key
+     * @return Slot index, or -1 if absent
+     */
+    private int find(int key) {
+        int slot = hash(key) & _mask;
+
+        while (_values[slot] != null) {
+            if (_keys[slot] == key) {
+                return slot;
+            }
+
+            slot = (slot + 1) & _mask;
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Spreads the key bits so that sequential ids do not cluster
+     *
+     * @param key Key
+     * @return Mixed hash
+     */
+    private static int hash(int key) {
+        int h = key * GOLDEN_RATIO;
+
+        return h ^ (h >>> 16);
+    }
+
+
+    /**
+     * Fetches the power-of-two table size that keeps {@code expected} keys under the load factor
+     *
+     * @param expected Expected number of keys
+     * @return Table size
+     */
+    private static int tableSizeFor(int expected) {
+        long needed = (long) Math.ceil(Math.max(expected, 1) / (double) LOAD_FACTOR);
+
+        if (needed > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Error: Integer limit reached");
+        }
+
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+
+    /**
+     * Replaces the table with empty arrays of the given size
+     *
+     * @param capacity Table size, a power of two
+     */
+    private void allocate(int capacity) {
+        _keys = new int[capacity];
+        _values = new Object[capacity];
+        _mask = capacity - 1;
+    }
+
+
+    /**
+     * Moves every entry into a table of a new size
+     *
+     * @param capacity New table size, a power of two
+     */
+    @SuppressWarnings("unchecked")
+    private void rehash(int capacity) {
+        if (capacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Error: Integer limit reached");
+        }
+
+        int[] keys = _keys;
+        Object[] values = _values;
+
+        allocate(capacity);
+        _size = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) {
+                put(keys[i], (T) values[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+// Imports
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Converts vertex or edge labels to and from bytes for storage outside the
+ * Java heap, such as graph snapshot files
+ *
+ * <p>Decoding reads with absolute positions only, so one buffer can be shared
+ * by every label in a section without its position ever changing.</p>
+ *
+ * @author blee20@georgefox.edu
+ * @param <T> Label type
+ */
+public interface LabelCodec<T> {
+    /**
+     * Codec for Integer labels, stored as four big-endian bytes
+     */
+    LabelCodec<Integer> INTEGER = new LabelCodec<Integer>() {
+        @Override
+        public byte[] encode(Integer value) {
+            return ByteBuffer.allocate(Integer.BYTES).putInt(value).array();
+        }
+
+        @Override
+        public Integer decode(ByteBuffer buffer, int offset, int length) {
+            return buffer.getInt(offset);
+        }
+    };
+
+
+    /**
+     * Codec for Long labels, stored as eight big-endian bytes
+     */
+    LabelCodec<Long> LONG = new LabelCodec<Long>() {
+        @Override
+        public byte[] encode(Long value) {
+            return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer, int offset, int length) {
+            return buffer.getLong(offset);
+        }
+    };
+
+
+    /**
+     * Codec for Double labels, such as edge weights, stored as eight big-endian bytes
+     */
+    LabelCodec<Double> DOUBLE = new LabelCodec<Double>() {
+        @Override
+        public byte[] encode(Double value) {
+            return ByteBuffer.allocate(Double.BYTES).putDouble(value).array();
+        }
+
+        @Override
+        public Double decode(ByteBuffer buffer, int offset, int length) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+
+    /**
+     * Codec for String labels, stored as UTF-8
+     */
+    LabelCodec<String> STRING = new LabelCodec<String>() {
+        @Override
+        public byte[] encode(String value) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(ByteBuffer buffer, int offset, int length) {
+            byte[] bytes = new byte[length];
+
+            buffer.get(offset, bytes);
+
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+
+    /**
+     * Encodes a label. Equal labels must encode to equal bytes, since stored
+     * labels are looked up by comparing encodings
+     *
+     * @param value Label to encode
+     * @return Encoded bytes
+     */
+    byte[] encode(T value);
+
+
+    /**
+     * Decodes a label without moving the buffer's position
+     *
+     * @param buffer Buffer holding the encoded label
+     * @param offset Absolute position of the first byte
+     * @param length Number of encoded bytes
+     * @return Decoded label
+     */
+    T decode(ByteBuffer buffer, int offset, int length);
+}
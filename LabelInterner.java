@@ -0,0 +1,306 @@
+// Imports
+import java.util.Arrays;
+
+
+/**
+ * Assigns dense int ids to vertex labels
+ *
+ * <p>Labels live in an open-addressing table that stores only ids, with each
+ * label's hash code cached beside it. A lookup compares cached hashes first
+ * and calls {@code equals} only on a hash match, so no Integer boxes or map
+ * entries are created per vertex. Released ids are handed out again, most
+ * recently released first, before the id range grows; callers can therefore
+ * size per-vertex arrays by {@link #bound()} and use ids as indices.</p>
+ *
+ * @author blee20@georgefox.edu
+ * @param <V> Label type for vertices
+ */
+public class LabelInterner<V> {
+    // Constants
+    static final int NOT_FOUND = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DOUBLE = 2;
+    private static final int EMPTY = 0;
+
+
+    // Internal State
+    private Object[] _labels;
+    private int[] _hashes;
+    private int[] _table;
+    private int[] _freeIds;
+    private int _freeCount;
+    private int _bound;
+    private int _size;
+
+
+    // Constructors
+    /**
+     * Creates an empty interner; designates to second constructor
+     */
+    public LabelInterner() {
+        this(DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     * Creates an empty interner sized for an expected number of labels
+     *
+     * @param expected Number of labels to hold without resizing
+     */
+    public LabelInterner(int expected) {
+        if (expected < 0) {
+            throw new IllegalArgumentException("Error: Capacity cannot be negative");
+        }
+
+        int capacity = Math.max(DEFAULT_CAPACITY, expected);
+
+        _labels = new Object[capacity];
+        _hashes = new int[capacity];
+        _freeIds = new int[capacity];
+        _table = new int[tableSlots(capacity)];
+    }
+
+
+    // Methods
+    /**
+     * Fetches the id of a label
+     *
+     * @param label Vertex label
+     * @return Id of the label, or -1 if it has none
+     */
+    public int idOf(V label) {
+        int hash = hash(label);
+        int mask = _table.length - 1;
+
+        for (int slot = hash & mask; _table[slot] != EMPTY; slot = (slot + 1) & mask) {
+            int id = _table[slot] - 1;
+
+            if (_hashes[id] == hash && (_labels[id] == label || _labels[id].equals(label))) {
+                return id;
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+
+    /**
+     * Fetches the id of a label, assigning one if it has none. A released id
+     * is reused when there is one; otherwise the id is {@link #bound()}
+     *
+     * @param label Vertex label
+     * @return Id of the label
+     */
+    public int intern(V label) {
+        int id = idOf(label);
+
+        if (id != NOT_FOUND) {
+            return id;
+        }
+
+        if (_freeCount > 0) {
+            id = _freeIds[--_freeCount];
+        }
+        else {
+            if (_bound == _labels.length) {
+                int capacity = _bound * DOUBLE;
+
+                _labels = Arrays.copyOf(_labels, capacity);
+                _hashes = Arrays.copyOf(_hashes, capacity);
+                _freeIds = Arrays.copyOf(_freeIds, capacity);
+            }
+
+            id = _bound++;
+        }
+
+        // The table is kept at most half full
+        if ((_size + 1) * DOUBLE > _table.length) {
+            rehash(_table.length * DOUBLE);
+        }
+
+        int hash = hash(label);
+
+        _labels[id] = label;
+        _hashes[id] = hash;
+        _table[freeSlot(hash)] = id + 1;
+        _size++;
+
+        return id;
+    }
+
+
+    /**
+     * Removes a label, making its id available for reuse
+     *
+     * @param label Vertex label
+     * @return Id the label had, or -1 if it had none
+     */
+    public int release(V label) {
+        int hash = hash(label);
+        int mask = _table.length - 1;
+        int slot = hash & mask;
+
+        while (_table[slot] != EMPTY) {
+            int id = _table[slot] - 1;
+
+            if (_hashes[id] == hash && (_labels[id] == label || _labels[id].equals(label))) {
+                closeGap(slot);
+
+                _labels[id] = null;
+                _freeIds[_freeCount++] = id;
+                _size--;
+
+                return id;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return NOT_FOUND;
+    }
+
+
+    /**
+     * Fetches the label holding an id
+     *
+     * @param id Label id
+     * @return Label, or null if the id is not in use
+     */
+    @SuppressWarnings("unchecked")
+    public V labelAt(int id) {
+        return id < 0 || id >= _bound ? null : (V) _labels[id];
+    }
+
+
+    /**
+     * Fetches the number of labels held
+     *
+     * @return Number of labels
+     */
+    public int size() {
+        return _size;
+    }
+
+
+    /**
+     * Fetches an exclusive upper bound on every id handed out so far
+     *
+     * @return Id bound
+     */
+    public int bound() {
+        return _bound;
+    }
+
+
+    /**
+     * Fetches the number of released ids waiting to be reused
+     *
+     * @return Free id count
+     */
+    public int freeCount() {
+        return _freeCount;
+    }
+
+
+    /**
+     * Removes every label; ids are handed out from zero again
+     */
+    public void clear() {
+        Arrays.fill(_labels, 0, _bound, null);
+        Arrays.fill(_table, EMPTY);
+
+        _freeCount = 0;
+        _bound = 0;
+        _size = 0;
+    }
+
+
+    // Helper Methods
+    /**
+     * Spreads a label's hash code so that sequential keys do not cluster
+     *
+     * @param label Vertex label
+     * @return Mixed hash code
+     */
+    private static int hash(Object label) {
+        // Null vertex handler
+        if (label == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        int h = label.hashCode() * 0x9E3779B9;
+
+        return h ^ (h >>> 16);
+    }
+
+
+    /**
+     * Fetches the table size for a number of labels
+     *
+     * @param capacity Number of labels
+     * @return Power of two at least twice the capacity
+     */
+    private static int tableSlots(int capacity) {
+        return Integer.highestOneBit(capacity * DOUBLE - 1) << 1;
+    }
+
+
+    /**
+     * Finds the first empty table slot on a hash's probe sequence
+     *
+     * @param hash Mixed hash code
+     * @return Empty slot
+     */
+    private int freeSlot(int hash) {
+        int mask = _table.length - 1;
+        int slot = hash & mask;
+
+        while (_table[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+
+    /**
+     * Rebuilds the table at a new size from the cached hashes
+     *
+     * @param slots New table size, a power of two
+     */
+    private void rehash(int slots) {
+        _table = new int[slots];
+
+        for (int id = 0; id < _bound; id++) {
+            if (_labels[id] != null) {
+                _table[freeSlot(_hashes[id])] = id + 1;
+            }
+        }
+    }
+
+
+    /**
+     * Empties a table slot, shifting later entries of the same probe run back
+     * so that every remaining label is still found without tombstones
+     *
+     * @param gap Slot being emptied
+     */
+    private void closeGap(int gap) {
+        int mask = _table.length - 1;
+        int slot = (gap + 1) & mask;
+
+        while (_table[slot] != EMPTY) {
+            int home = _hashes[_table[slot] - 1] & mask;
+
+            // The entry may fill the gap only if the gap lies between its home and its slot
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                _table[gap] = _table[slot];
+                gap = slot;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        _table[gap] = EMPTY;
+    }
+}
@@ -0,0 +1,126 @@
+// Imports
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Turns one field of a text edge list into a vertex or edge label
+ *
+ * <p>Parsers receive the bytes of the field in place, inside the reader's
+ * input buffer, and must only use absolute reads. The numeric parsers decode
+ * the digits directly without building a String.</p>
+ *
+ * @author blee20@georgefox.edu
+ * @param <T> Label type
+ */
+@FunctionalInterface
+public interface LabelParser<T> {
+    /**
+     * Parser for decimal int fields with an optional sign
+     */
+    LabelParser<Integer> INTEGER = (buffer, offset, length) -> {
+        long value = parseLong(buffer, offset, length);
+
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Error: Value out of int range");
+        }
+
+        return (int) value;
+    };
+
+
+    /**
+     * Parser for decimal long fields with an optional sign
+     */
+    LabelParser<Long> LONG = LabelParser::parseLong;
+
+
+    /**
+     * Parser that keeps the field as a UTF-8 String
+     */
+    LabelParser<String> STRING = (buffer, offset, length) -> {
+        byte[] bytes = new byte[length];
+
+        buffer.get(offset, bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    };
+
+
+    /**
+     * Parser for floating-point fields, such as edge weights
+     */
+    LabelParser<Double> DOUBLE = (buffer, offset, length) ->
+            Double.parseDouble(STRING.parse(buffer, offset, length));
+
+
+    /**
+     * Parses one field
+     *
+     * @param buffer Buffer holding the field
+     * @param offset Absolute position of the first byte
+     * @param length Number of bytes in the field; 0 for a missing label column
+     * @return Parsed label
+     */
+    T parse(ByteBuffer buffer, int offset, int length);
+
+
+    /**
+     * Creates a parser that ignores the field and always returns one value;
+     * used for the label column of unlabelled edge lists
+     *
+     * @param value Label to return
+     * @param <T> Label type
+     * @return Constant parser
+     */
+    static <T> LabelParser<T> constant(T value) {
+        return (buffer, offset, length) -> value;
+    }
+
+
+    /**
+     * Parses a decimal long directly from bytes
+     *
+     * @param buffer Buffer holding the field
+     * @param offset Absolute position of the first byte
+     * @param length Number of bytes in the field
+     * @return Parsed value
+     */
+    static long parseLong(ByteBuffer buffer, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        boolean negative = false;
+
+        if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            negative = buffer.get(i) == '-';
+            i++;
+        }
+
+        if (i == end) {
+            throw new NumberFormatException("Error: Empty number");
+        }
+
+        // Accumulated negatively so that Long.MIN_VALUE parses without overflow
+        long value = 0;
+
+        for (; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Error: Invalid digit");
+            }
+
+            if (value < (Long.MIN_VALUE + digit) / 10) {
+                throw new NumberFormatException("Error: Value out of long range");
+            }
+
+            value = value * 10 - digit;
+        }
+
+        if (!negative && value == Long.MIN_VALUE) {
+            throw new NumberFormatException("Error: Value out of long range");
+        }
+
+        return negative ? value : -value;
+    }
+}
@@ -0,0 +1,191 @@
+// Imports
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Thread-safe histogram of latencies in nanoseconds
+ *
+ * <p>Values are counted in log-linear buckets in the style of HdrHistogram:
+ * values below 16 have a bucket each, and every higher power-of-two range is
+ * split into 16 equal buckets. Any non-negative long fits into one of 976
+ * fixed buckets, percentiles are accurate to within 1/16 (about 6%) of the
+ * value, and recording is a few shifts plus one atomic increment, with
+ * nothing allocated.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+public final class LatencyHistogram {
+    // Constants
+    private static final int SUB_BITS = 4;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BITS + 1) * SUB_COUNT;
+    private static final double PERCENT = 100.0;
+
+
+    // Internal State
+    private final AtomicLongArray _counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder _total = new LongAdder();
+    private final AtomicLong _max = new AtomicLong();
+
+
+    // Methods
+    /**
+     * Records one latency
+     *
+     * @param nanos Latency in nanoseconds; negative values count as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+
+        _counts.incrementAndGet(bucketOf(value));
+        _total.add(value);
+
+        if (value > _max.get()) {
+            _max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+
+    /**
+     * Fetches the number of latencies recorded
+     *
+     * @return Recorded count
+     */
+    public long count() {
+        long count = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            count += _counts.get(i);
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Fetches the sum of every recorded latency
+     *
+     * @return Total in nanoseconds
+     */
+    public long totalNanos() {
+        return _total.sum();
+    }
+
+
+    /**
+     * Fetches the mean recorded latency
+     *
+     * @return Mean in nanoseconds, or 0 if nothing was recorded
+     */
+    public double meanNanos() {
+        long count = count();
+
+        return count == 0 ? 0.0 : (double) totalNanos() / count;
+    }
+
+
+    /**
+     * Fetches the largest recorded latency, exactly
+     *
+     * @return Maximum in nanoseconds, or 0 if nothing was recorded
+     */
+    public long maxNanos() {
+        return _max.get();
+    }
+
+
+    /**
+     * Fetches the latency at or below which a given percentage of the
+     * recorded latencies fall, rounded up to the top of its bucket
+     *
+     * @param percentile Percentage in {@code [0, 100]}
+     * @return Latency in nanoseconds, or 0 if nothing was recorded
+     */
+    public long valueAtPercentile(double percentile) {
+        if (!(percentile >= 0.0 && percentile <= PERCENT)) {
+            throw new IllegalArgumentException("Error: Percentile must be in [0, 100]");
+        }
+
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+
+        // Copied first so that concurrent records cannot push the rank past the end
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = _counts.get(i);
+            count += counts[i];
+        }
+
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / PERCENT * count));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+
+            if (seen >= rank) {
+                return Math.min(highestInBucket(i), maxNanos());
+            }
+        }
+
+        return maxNanos();
+    }
+
+
+    /**
+     * Discards every recorded latency. Latencies recorded concurrently with
+     * a reset may be partly kept
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            _counts.set(i, 0);
+        }
+
+        _total.reset();
+        _max.set(0);
+    }
+
+
+    // Helper Methods
+    /**
+     * Fetches the bucket holding a value
+     *
+     * @param value Non-negative value
+     * @return Bucket index
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+
+        // The top SUB_BITS + 1 bits select the bucket within the value's power of two
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+
+        return (shift + 1) * SUB_COUNT + (int) (value >>> shift) - SUB_COUNT;
+    }
+
+
+    /**
+     * Fetches the largest value that falls into a bucket
+     *
+     * @param bucket Bucket index
+     * @return Upper bound of the bucket, inclusive
+     */
+    private static long highestInBucket(int bucket) {
+        if (bucket < SUB_COUNT) {
+            return bucket;
+        }
+
+        int shift = bucket / SUB_COUNT - 1;
+        long top = bucket % SUB_COUNT + SUB_COUNT;
+
+        long highest = ((top + 1) << shift) - 1;
+
+        // The last bucket ends at Long.MAX_VALUE, whose successor overflows
+        return highest < 0 ? Long.MAX_VALUE : highest;
+    }
+}
@@ -1,31 +1,67 @@
 // Imports
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
-import java.util.ArrayList;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 
 /**
  * Custom ListGraph class
  *
+ * <p>Once {@link #snapshot()} has been called the graph records which
+ * vertices and edges change, so that the next snapshot only rebuilds the
+ * affected rows of the previous one.</p>
+ *
  * @author blee20@georgefox.edu
  * @param <V> Label type for vertices
  * @param <E> Label type for edges
  */
 public class ListGraph<V, E> extends DirectedGraph<V, E> {
+    // Constants
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int INITIAL_TABLE_CAPACITY = 16;
+
+
     // Internal State
-    private final HashMap<V, Vertex<V>> _vertices;
-    private final HashMap<V, HashMap<V, Edge<V, E>>> _adjacencies;
+    private HashMap<V, Vertex<V>> _vertices;
+    private HashMap<V, HashMap<V, E>> _adjacencies;
+    private HashMap<V, HashSet<V>> _predecessors;
+    private FrozenGraph<V, E> _snapshot;
+    private HashSet<V> _changedVertices;
+    private HashMap<V, HashSet<V>> _changedEdges;
     private int _size;
     private int _edgeCount;
+    private int _modCount;
+    private int _tableCapacity;
+    private long _resizeCount;
 
 
-    // Constructor
+    // Constructors
     /**
-     * Creates an instance of class ListGraph object
+     * Creates an instance of class ListGraph object without an in-edge index
      */
     public ListGraph() {
+        this(false);
+    }
+
+
+    /**
+     * Creates an instance of class ListGraph object
+     *
+     * @param trackInEdges True to maintain a predecessor index, making
+     *                     {@link #predecessors}, {@link #inDegree}, {@link #inEdges}
+     *                     and {@link #remove} proportional to degree instead of to size
+     */
+    public ListGraph(boolean trackInEdges) {
         _vertices = new HashMap<>();
         _adjacencies = new HashMap<>();
+        _predecessors = trackInEdges ? new HashMap<>() : null;
+        _changedVertices = new HashSet<>();
+        _changedEdges = new HashMap<>();
+        _tableCapacity = INITIAL_TABLE_CAPACITY;
     }
 
 
@@ -39,8 +75,28 @@ public class ListGraph<V, E> extends DirectedGraph<V, E> {
         // Null and duplicate vertex handler
         duplicateVertex(u);
 
-        _vertices.put(u, new Vertex<>(u));
-        _size++;
+        insertVertex(u);
+    }
+
+
+    /**
+     * Adds every label in a collection as a new vertex. A batch that would
+     * more than double the graph moves the vertex maps into tables sized once
+     * for the final count instead of letting them rehash repeatedly
+     *
+     * @param labels Vertex labels
+     */
+    public void addAllVertices(Collection<? extends V> labels) {
+        // Null and duplicate vertices are handled within this call
+        checkVertexBatch(labels);
+
+        if (labels.size() > _size) {
+            reserve(_size + labels.size());
+        }
+
+        for (V u : labels) {
+            insertVertex(u);
+        }
     }
 
 
@@ -82,9 +138,11 @@ public class ListGraph<V, E> extends DirectedGraph<V, E> {
         // Null and non-existent vertex handler
         noVertex(u);
 
-        _size--;
+        V returnValue = _vertices.remove(u).getLabel();
 
-        return _vertices.remove(u).getLabel();
+        detach(u);
+
+        return returnValue;
     }
 
 
@@ -99,13 +157,93 @@ public class ListGraph<V, E> extends DirectedGraph<V, E> {
         // Duplicate edge, null vertices, and non-existent vertices are handled within
         duplicateEdge(u, v);
 
-        if (!_adjacencies.containsKey(u)) {
-            _adjacencies.put(u, new HashMap<>());
-        }
+        // Null edge handler; a null label would read as an absent edge
+        nullEdge(label);
 
-        _adjacencies.get(u).put(v, new Edge<>(u, v, label));
+        _adjacencies.get(u).put(v, label);
+        touchEdge(u, v);
+
+        if (_predecessors != null) {
+            _predecessors.get(v).add(u);
+        }
 
         _edgeCount++;
+        _modCount++;
+    }
+
+
+    /**
+     * Adds the edges {@code src[i] -> dst[i]} labelled {@code labels[i]}. Each
+     * source is resolved to its adjacency map once, and duplicates are found
+     * by the same {@code putIfAbsent} that stores the edge; under
+     * {@link DuplicatePolicy#THROW} the edges stored so far are removed again
+     * before the exception is thrown
+     *
+     * @param src Source vertex labels
+     * @param dst Destination vertex labels, parallel to src
+     * @param labels Edge labels, parallel to src
+     * @param policy What to do with edges that are already present
+     * @return Number of edges newly added
+     */
+    @SuppressWarnings("unchecked")
+    public int addEdges(V[] src, V[] dst, E[] labels, DuplicatePolicy policy) {
+        // Null labels and mismatched arrays are handled within this call
+        checkEdgeBatch(src, dst, labels, policy);
+
+        int count = src.length;
+        HashMap<V, E>[] rows = (HashMap<V, E>[]) new HashMap[count];
+        HashSet<V>[] columns = _predecessors != null ? (HashSet<V>[]) new HashSet[count] : null;
+
+        for (int i = 0; i < count; i++) {
+            // Null vertex handler
+            nullVertex(src[i]);
+            nullVertex(dst[i]);
+
+            rows[i] = _adjacencies.get(src[i]);
+
+            if (columns != null) {
+                columns[i] = _predecessors.get(dst[i]);
+            }
+
+            // Non-existent vertex handler
+            if (rows[i] == null || (columns != null ? columns[i] == null : !_vertices.containsKey(dst[i]))) {
+                throw new NoSuchVertexException();
+            }
+        }
+
+        int added = 0;
+
+        for (int i = 0; i < count; i++) {
+            touchEdge(src[i], dst[i]);
+
+            if (rows[i].putIfAbsent(dst[i], labels[i]) == null) {
+                if (columns != null) {
+                    columns[i].add(src[i]);
+                }
+
+                added++;
+            }
+            else if (policy == DuplicatePolicy.THROW) {
+                // Every edge stored so far was new, so removing them restores the graph
+                for (int k = i - 1; k >= 0; k--) {
+                    rows[k].remove(dst[k]);
+
+                    if (columns != null) {
+                        columns[k].remove(src[k]);
+                    }
+                }
+
+                throw new DuplicateEdgeException();
+            }
+            else if (policy == DuplicatePolicy.OVERWRITE) {
+                rows[i].put(dst[i], labels[i]);
+            }
+        }
+
+        _edgeCount += added;
+        _modCount++;
+
+        return added;
     }
 
 
@@ -121,12 +259,14 @@ public class ListGraph<V, E> extends DirectedGraph<V, E> {
         noVertex(u);
         noVertex(v);
 
-        return _adjacencies.containsKey(u) && _adjacencies.get(u).containsKey(v);
+        return _adjacencies.get(u).containsKey(v);
     }
 
 
     /**
-     * Fetches an edge if it exists from u to v
+     * Fetches an edge if it exists from u to v. Only the label is stored, so
+     * the edge is a new view and {@link Edge#setLabel} on it does not change
+     * the graph
      *
      * @param u Source vertex label
      * @param v Destination vertex label
@@ -140,7 +280,7 @@ public class ListGraph<V, E> extends DirectedGraph<V, E> {
         // Non-existent edge handler
         noEdge(u, v);
 
-        return _adjacencies.get(u).get(v);
+        return new Edge<>(u, v, _adjacencies.get(u).get(v));
     }
 
 
@@ -155,9 +295,16 @@ public class ListGraph<V, E> extends DirectedGraph<V, E> {
         // Null vertices, non-existent vertices, and non-existent edge are handled within
         noEdge(u, v);
 
+        if (_predecessors != null) {
+            _predecessors.get(v).remove(u);
+        }
+
+        touchEdge(u, v);
+
         _edgeCount--;
+        _modCount++;
 
-        return _adjacencies.get(u).remove(v).getLabel();
+        return _adjacencies.get(u).remove(v);
     }
 
 
@@ -195,59 +342,132 @@ public class ListGraph<V, E> extends DirectedGraph<V, E> {
 
 
     /**
-     * Creates an iterator set for iterating through all the vertices
+     * Creates an iterator for iterating through all the vertices
+     *
+     * <p>The iterator walks the vertex map directly, fails fast if the graph
+     * is modified other than through the iterator, and its {@code remove}
+     * deletes the vertex together with its incident edges.</p>
      *
      * @return A new vertex iterator object
      */
     public Iterator<Vertex<V>> vertices() {
-        ArrayList<Vertex<V>> arr = new ArrayList<>(_vertices.size());
+        Iterator<Vertex<V>> it = _vertices.values().iterator();
 
-        for (Vertex<V> v : _vertices.values()) {
-            arr.add(v);
-        }
+        return new GraphIterator<Vertex<V>>() {
+            private Vertex<V> _last;
+
+            @Override
+            boolean advance() {
+                return it.hasNext();
+            }
+
+            @Override
+            Vertex<V> current() {
+                _last = it.next();
+
+                return _last;
+            }
 
-        return arr.iterator();
+            @Override
+            void removeCurrent() {
+                it.remove();
+                detach(_last.getLabel());
+            }
+        };
     }
 
 
     /**
-     * Creates an iterator set for iterating through vertices adjacent to u
+     * Creates an iterator for iterating through vertices adjacent to u
+     *
+     * <p>The iterator walks u's adjacency map directly, fails fast if the graph
+     * is modified other than through the iterator, and its {@code remove}
+     * deletes the edge from u to the last returned vertex.</p>
      *
      * @param u Source vertex
      * @return A new iterator object
      */
     public Iterator<Vertex<V>> adjacent(V u) {
-        ArrayList<Vertex<V>> arr = new ArrayList<>(_vertices.size());
-
         noVertex(u);
 
-        for (Edge<V, E> edge : _adjacencies.get(u).values()) {
-            if (edge != null) {
-                arr.add(_vertices.get(edge.getV()));
+        Iterator<V> it = _adjacencies.get(u).keySet().iterator();
+
+        return new GraphIterator<Vertex<V>>() {
+            private V _last;
+
+            @Override
+            boolean advance() {
+                return it.hasNext();
             }
-        }
 
-        return arr.iterator();
+            @Override
+            Vertex<V> current() {
+                _last = it.next();
+
+                return _vertices.get(_last);
+            }
+
+            @Override
+            void removeCurrent() {
+                it.remove();
+                unlinkPredecessor(u, _last);
+                touchEdge(u, _last);
+                _edgeCount--;
+            }
+        };
     }
 
 
     /**
-     * Creates an iterator set for iterating through all the edges
+     * Creates an iterator for iterating through all the edges
+     *
+     * <p>The iterator walks the adjacency maps directly, fails fast if the graph
+     * is modified other than through the iterator, and its {@code remove}
+     * deletes the last returned edge. Each edge is created as it is returned.</p>
      *
      * @return A new iterator object
      */
     public Iterator<Edge<V, E>> edges() {
-        ArrayList<Edge<V, E>> arr = new ArrayList<>();
-
-        for (HashMap<V, Edge<V, E>> v : _adjacencies.values()) {
-            for (Edge<V, E> edge : v.values()) {
-                if (edge != null) {
-                    arr.add(edge);
+        Iterator<Map.Entry<V, HashMap<V, E>>> rows = _adjacencies.entrySet().iterator();
+
+        return new GraphIterator<Edge<V, E>>() {
+            private V _source;
+            private Iterator<Map.Entry<V, E>> _row;
+            private Iterator<Map.Entry<V, E>> _lastRow;
+            private Edge<V, E> _last;
+
+            @Override
+            boolean advance() {
+                // Skip over vertices with no outgoing edges
+                while ((_row == null || !_row.hasNext()) && rows.hasNext()) {
+                    Map.Entry<V, HashMap<V, E>> row = rows.next();
+
+                    _source = row.getKey();
+                    _row = row.getValue().entrySet().iterator();
                 }
+
+                return _row != null && _row.hasNext();
+            }
+
+            @Override
+            Edge<V, E> current() {
+                // hasNext may move on to another row before remove is called
+                Map.Entry<V, E> entry = _row.next();
+
+                _lastRow = _row;
+                _last = new Edge<>(_source, entry.getKey(), entry.getValue());
+
+                return _last;
             }
-        }
 
-        return arr.iterator();
+            @Override
+            void removeCurrent() {
+                _lastRow.remove();
+                unlinkPredecessor(_last.getU(), _last.getV());
+                touchEdge(_last.getU(), _last.getV());
+                _edgeCount--;
+            }
+        };
     }
 
 
@@ -258,8 +478,17 @@ public class ListGraph<V, E> extends DirectedGraph<V, E> {
         _vertices.clear();
         _adjacencies.clear();
 
+        if (_predecessors != null) {
+            _predecessors.clear();
+        }
+
+        // The next snapshot is built from scratch
+        _snapshot = null;
+        _changedVertices.clear();
+        _changedEdges.clear();
         _size = 0;
         _edgeCount = 0;
+        _modCount++;
     }
 
 
@@ -273,7 +502,377 @@ public class ListGraph<V, E> extends DirectedGraph<V, E> {
     }
 
 
+    /**
+     * Creates an iterator for iterating through vertices with an edge into u.
+     * With the in-edge index this walks u's predecessor set directly, and its
+     * {@code remove} deletes the edge from the last returned vertex to u
+     *
+     * @param u Destination vertex
+     * @return A new iterator object
+     */
+    public Iterator<Vertex<V>> predecessors(V u) {
+        if (_predecessors == null) {
+            return super.predecessors(u);
+        }
+
+        noVertex(u);
+
+        Iterator<V> it = _predecessors.get(u).iterator();
+
+        return new GraphIterator<Vertex<V>>() {
+            private V _last;
+
+            @Override
+            boolean advance() {
+                return it.hasNext();
+            }
+
+            @Override
+            Vertex<V> current() {
+                _last = it.next();
+
+                return _vertices.get(_last);
+            }
+
+            @Override
+            void removeCurrent() {
+                it.remove();
+                _adjacencies.get(_last).remove(u);
+                touchEdge(_last, u);
+                _edgeCount--;
+            }
+        };
+    }
+
+
+    /**
+     * Fetches the number of edges ending at the given vertex
+     *
+     * @param u Destination vertex label
+     * @return Number of edges from another vertex to u
+     */
+    public int inDegree(V u) {
+        if (_predecessors == null) {
+            return super.inDegree(u);
+        }
+
+        noVertex(u);
+
+        return _predecessors.get(u).size();
+    }
+
+
+    /**
+     * Creates an iterator for iterating through the edges ending at u
+     *
+     * @param u Destination vertex
+     * @return A new iterator object
+     */
+    public Iterator<Edge<V, E>> inEdges(V u) {
+        if (_predecessors == null) {
+            return super.inEdges(u);
+        }
+
+        Iterator<Vertex<V>> it = predecessors(u);
+
+        return new Iterator<Edge<V, E>>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public Edge<V, E> next() {
+                V p = it.next().getLabel();
+
+                return new Edge<>(p, u, _adjacencies.get(p).get(u));
+            }
+
+            @Override
+            public void remove() {
+                it.remove();
+            }
+        };
+    }
+
+
+    /**
+     * Creates an immutable copy of the graph that readers may query from any
+     * thread without locking while this graph keeps changing
+     *
+     * <p>The first snapshot copies every row. Later ones start from the
+     * previous snapshot and replace only the rows of vertices added or removed
+     * since, and the entries of edges added, removed or relabelled since, so
+     * their cost grows with the number of changes rather than with the size of
+     * the graph; everything else is shared between the two. Like every other
+     * mutator this must be called by the thread writing to the graph.</p>
+     *
+     * @return Immutable graph equal to this one at the time of the call
+     */
+    public FrozenGraph<V, E> snapshot() {
+        if (_snapshot != null && _changedVertices.isEmpty() && _changedEdges.isEmpty()) {
+            return _snapshot;
+        }
+
+        PersistentMap<V, FrozenGraph.Row<V, E>> rows;
+
+        if (_snapshot == null) {
+            rows = PersistentMap.empty();
+
+            for (Vertex<V> vertex : _vertices.values()) {
+                rows = rows.put(vertex.getLabel(), frozenRow(vertex));
+            }
+        }
+        else {
+            rows = _snapshot.rows();
+
+            for (V u : _changedVertices) {
+                Vertex<V> vertex = _vertices.get(u);
+
+                rows = vertex == null ? rows.remove(u) : rows.put(u, frozenRow(vertex));
+            }
+
+            for (Map.Entry<V, HashSet<V>> entry : _changedEdges.entrySet()) {
+                V u = entry.getKey();
+
+                // Rows of added or removed vertices were replaced whole above
+                if (_changedVertices.contains(u)) {
+                    continue;
+                }
+
+                FrozenGraph.Row<V, E> row = rows.get(u);
+                HashMap<V, E> live = _adjacencies.get(u);
+                PersistentMap<V, E> edges = row.edges();
+
+                for (V v : entry.getValue()) {
+                    E label = live.get(v);
+
+                    edges = label == null ? edges.remove(v) : edges.put(v, label);
+                }
+
+                if (edges != row.edges()) {
+                    rows = rows.put(u, new FrozenGraph.Row<>(row.vertex(), edges));
+                }
+            }
+
+            _changedVertices.clear();
+            _changedEdges.clear();
+        }
+
+        _snapshot = new FrozenGraph<>(rows, _edgeCount);
+
+        return _snapshot;
+    }
+
+
+    /**
+     * Fetches the number of slots in the vertex-keyed hash tables, which
+     * double once more than three quarters full and never shrink
+     *
+     * @return Current table capacity
+     */
+    public int capacity() {
+        return _tableCapacity;
+    }
+
+
+    /**
+     * Fetches the fraction of vertex table slots holding a vertex
+     *
+     * @return Vertex count divided by capacity
+     */
+    public double occupancy() {
+        return (double) _size / _tableCapacity;
+    }
+
+
+    /**
+     * Fetches how many times the vertex tables have been resized, whether by
+     * growing past the load factor or by {@link #addAllVertices} sizing them
+     * for a batch
+     *
+     * @return Resize count since the graph was created
+     */
+    public long resizeCount() {
+        return _resizeCount;
+    }
+
+
     // Helper Methods
+    /**
+     * Stores a vertex known to be new
+     *
+     * @param u Vertex label
+     */
+    private void insertVertex(V u) {
+        _vertices.put(u, new Vertex<>(u));
+        _adjacencies.put(u, new HashMap<>());
+
+        if (_predecessors != null) {
+            _predecessors.put(u, new HashSet<>());
+        }
+
+        touchVertex(u);
+        _size++;
+        _modCount++;
+
+        // The vertex-keyed maps double once they pass the load factor
+        if (_size > _tableCapacity * LOAD_FACTOR) {
+            _tableCapacity <<= 1;
+            _resizeCount++;
+        }
+    }
+
+
+    /**
+     * Copies the current row of a vertex into persistent form
+     *
+     * @param vertex Vertex object
+     * @return Frozen row holding the vertex and its out-edges
+     */
+    private FrozenGraph.Row<V, E> frozenRow(Vertex<V> vertex) {
+        PersistentMap<V, E> edges = PersistentMap.empty();
+
+        for (Map.Entry<V, E> edge : _adjacencies.get(vertex.getLabel()).entrySet()) {
+            edges = edges.put(edge.getKey(), edge.getValue());
+        }
+
+        return new FrozenGraph.Row<>(vertex, edges);
+    }
+
+
+    /**
+     * Records that a vertex was added or removed, once there is a snapshot to
+     * bring up to date
+     *
+     * @param u Vertex label
+     */
+    private void touchVertex(V u) {
+        if (_snapshot != null) {
+            _changedVertices.add(u);
+        }
+    }
+
+
+    /**
+     * Records that an edge was added, removed or relabelled, once there is a
+     * snapshot to bring up to date
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     */
+    private void touchEdge(V u, V v) {
+        if (_snapshot != null && !_changedVertices.contains(u)) {
+            _changedEdges.computeIfAbsent(u, k -> new HashSet<>()).add(v);
+        }
+    }
+
+
+    /**
+     * Moves the vertex-keyed maps into tables that hold {@code vertices}
+     * entries without rehashing
+     *
+     * @param vertices Expected number of vertices
+     */
+    private void reserve(int vertices) {
+        _vertices = presized(_vertices, vertices);
+        _adjacencies = presized(_adjacencies, vertices);
+
+        if (_predecessors != null) {
+            _predecessors = presized(_predecessors, vertices);
+        }
+
+        // HashMap rounds the requested capacity up to a power of two
+        _tableCapacity = Integer.highestOneBit(tableSize(vertices) - 1) << 1;
+        _resizeCount++;
+        _modCount++;
+    }
+
+
+    /**
+     * Copies a map into a new one sized for an expected number of entries
+     *
+     * @param map Map to copy
+     * @param expected Expected number of entries
+     * @param <K> Key type
+     * @param <T> Value type
+     * @return Presized copy of map
+     */
+    private static <K, T> HashMap<K, T> presized(HashMap<K, T> map, int expected) {
+        HashMap<K, T> copy = new HashMap<>(tableSize(expected));
+
+        copy.putAll(map);
+
+        return copy;
+    }
+
+
+    /**
+     * Fetches the table capacity to request for an expected number of entries
+     *
+     * @param expected Expected number of entries
+     * @return Capacity that holds them without rehashing
+     */
+    private static int tableSize(int expected) {
+        return (int) (expected / LOAD_FACTOR) + 1;
+    }
+
+
+    /**
+     * Drops u from v's predecessor set if the in-edge index is maintained
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     */
+    private void unlinkPredecessor(V u, V v) {
+        if (_predecessors != null) {
+            _predecessors.get(v).remove(u);
+        }
+    }
+
+
+    /**
+     * Drops every edge incident to a vertex that has already been removed from
+     * the vertex map
+     *
+     * @param u Removed vertex label
+     */
+    private void detach(V u) {
+        HashMap<V, E> out = _adjacencies.remove(u);
+
+        _edgeCount -= out.size();
+        touchVertex(u);
+
+        if (_predecessors != null) {
+            // Only the rows of known predecessors can hold an edge into u
+            for (V v : out.keySet()) {
+                if (!v.equals(u)) {
+                    _predecessors.get(v).remove(u);
+                }
+            }
+
+            for (V p : _predecessors.remove(u)) {
+                if (!p.equals(u)) {
+                    _adjacencies.get(p).remove(u);
+                    touchEdge(p, u);
+                    _edgeCount--;
+                }
+            }
+        }
+        else {
+            for (Map.Entry<V, HashMap<V, E>> row : _adjacencies.entrySet()) {
+                if (row.getValue().remove(u) != null) {
+                    touchEdge(row.getKey(), u);
+                    _edgeCount--;
+                }
+            }
+        }
+
+        _size--;
+        _modCount++;
+    }
+
+
     /**
      * Exception handler for null-labeled vertices
      *
@@ -346,4 +945,76 @@ public class ListGraph<V, E> extends DirectedGraph<V, E> {
             throw new DuplicateEdgeException();
         }
     }
+
+
+    // Inner Classes
+    /**
+     * Base for the graph's lazy iterators; tracks the graph's modification
+     * count so that outside changes are detected on the next call
+     *
+     * @param <T> Element type
+     */
+    private abstract class GraphIterator<T> implements Iterator<T> {
+        private int _expectedModCount = _modCount;
+        private boolean _canRemove;
+
+        /**
+         * Positions the underlying cursor at the next element, if any
+         *
+         * @return True if another element exists, else false
+         */
+        abstract boolean advance();
+
+        /**
+         * Consumes and returns the element the cursor is positioned at
+         *
+         * @return Next element
+         */
+        abstract T current();
+
+        /**
+         * Deletes the last returned element from the graph
+         */
+        abstract void removeCurrent();
+
+        @Override
+        public boolean hasNext() {
+            checkForComodification();
+
+            return advance();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            _canRemove = true;
+
+            return current();
+        }
+
+        @Override
+        public void remove() {
+            if (!_canRemove) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+            removeCurrent();
+
+            _canRemove = false;
+            _expectedModCount = ++_modCount;
+        }
+
+        /**
+         * Exception handler for modifications made outside this iterator
+         */
+        private void checkForComodification() {
+            if (_modCount != _expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
 }
@@ -0,0 +1,551 @@
+// Imports
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Read-only graph served directly from a memory-mapped {@link GraphSnapshot} file
+ *
+ * <p>Opening a snapshot maps each section and checks the header; nothing is
+ * deserialised up front. Vertex lookups encode the label and probe the
+ * file's hash table, edge tests binary search a mapped CSR row, and
+ * {@link Vertex} and {@link Edge} objects are only created when a method
+ * returns one. Every mutator throws {@link UnsupportedOperationException}.</p>
+ *
+ * @author blee20@georgefox.edu
+ * @param <V> Label type for vertices
+ * @param <E> Label type for edges
+ */
+public class MappedGraph<V, E> extends DirectedGraph<V, E> implements IndexedGraph<V> {
+    // Constants
+    private static final int NOT_FOUND = -1;
+
+
+    // Internal State
+    private final LabelCodec<V> _vertexCodec;
+    private final LabelCodec<E> _edgeCodec;
+    private final int _size;
+    private final int _edgeCount;
+    private final int _mask;
+    private final IntBuffer _offsets;
+    private final IntBuffer _targets;
+    private final IntBuffer _vertexEnds;
+    private final IntBuffer _edgeEnds;
+    private final IntBuffer _table;
+    private final ByteBuffer _vertexLabels;
+    private final ByteBuffer _edgeLabels;
+
+
+    // Constructor
+    /**
+     * Creates a graph over an open snapshot file
+     *
+     * @param channel Channel positioned anywhere in the snapshot file
+     * @param vertexCodec Decodes vertex labels
+     * @param edgeCodec Decodes edge labels
+     * @throws IOException If the file is not a readable snapshot
+     */
+    private MappedGraph(FileChannel channel, LabelCodec<V> vertexCodec, LabelCodec<E> edgeCodec)
+            throws IOException {
+        ByteBuffer header = map(channel, 0, GraphSnapshot.HEADER_BYTES);
+
+        if (header.getInt() != GraphSnapshot.MAGIC) {
+            throw new IOException("Error: Not a graph snapshot");
+        }
+
+        if (header.getInt() != GraphSnapshot.VERSION) {
+            throw new IOException("Error: Unsupported snapshot version");
+        }
+
+        _vertexCodec = vertexCodec;
+        _edgeCodec = edgeCodec;
+        _size = header.getInt();
+        _edgeCount = header.getInt();
+
+        int slots = header.getInt();
+        long vertexBytes = header.getLong();
+        long edgeBytes = header.getLong();
+        long position = GraphSnapshot.HEADER_BYTES;
+
+        _mask = slots - 1;
+
+        _offsets = map(channel, position, (_size + 1L) * Integer.BYTES).asIntBuffer();
+        position += _offsets.capacity() * (long) Integer.BYTES;
+        _targets = map(channel, position, (long) _edgeCount * Integer.BYTES).asIntBuffer();
+        position += _targets.capacity() * (long) Integer.BYTES;
+        _vertexEnds = map(channel, position, (_size + 1L) * Integer.BYTES).asIntBuffer();
+        position += _vertexEnds.capacity() * (long) Integer.BYTES;
+        _edgeEnds = map(channel, position, (_edgeCount + 1L) * Integer.BYTES).asIntBuffer();
+        position += _edgeEnds.capacity() * (long) Integer.BYTES;
+        _table = map(channel, position, (long) slots * Integer.BYTES).asIntBuffer();
+        position += _table.capacity() * (long) Integer.BYTES;
+        _vertexLabels = map(channel, position, vertexBytes);
+        position += vertexBytes;
+        _edgeLabels = map(channel, position, edgeBytes);
+    }
+
+
+    /**
+     * Opens a snapshot file written by {@link GraphSnapshot#write}. The file
+     * stays mapped for as long as the returned graph is reachable and must not
+     * be modified meanwhile
+     *
+     * @param file Snapshot file
+     * @param vertexCodec Decodes vertex labels; must match the codec used to write
+     * @param edgeCodec Decodes edge labels; must match the codec used to write
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return A read-only graph backed by the file
+     * @throws IOException If the file cannot be read or is not a snapshot
+     */
+    public static <V, E> MappedGraph<V, E> open(Path file, LabelCodec<V> vertexCodec,
+                                                LabelCodec<E> edgeCodec) throws IOException {
+        // Mappings remain valid after the channel that created them is closed
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new MappedGraph<>(channel, vertexCodec, edgeCodec);
+        }
+    }
+
+
+    // Methods
+    /**
+     * Unsupported; mapped graphs are read-only
+     *
+     * @param u Vertex label
+     */
+    public void add(V u) {
+        readOnly();
+    }
+
+
+    /**
+     * Determines if the given label is assigned to a vertex
+     *
+     * @param u Vertex label
+     * @return True if vertex with label exists, else false
+     */
+    public boolean contains(V u) {
+        return vertexIndex(u) != NOT_FOUND;
+    }
+
+
+    /**
+     * Fetches the vertex with designated label
+     *
+     * @param u Vertex label
+     * @return Vertex of type V with corresponding label
+     */
+    public Vertex<V> get(V u) {
+        existingIndex(u);
+
+        return new Vertex<>(u);
+    }
+
+
+    /**
+     * Unsupported; mapped graphs are read-only
+     *
+     * @param u Vertex label
+     * @return Never returns normally
+     */
+    public V remove(V u) {
+        return readOnly();
+    }
+
+
+    /**
+     * Unsupported; mapped graphs are read-only
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @param label Edge label
+     */
+    public void addEdge(V u, V v, E label) {
+        readOnly();
+    }
+
+
+    /**
+     * Determines if the given vertices share an edge
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return True if edge exists from u to v, else false
+     */
+    public boolean containsEdge(V u, V v) {
+        return edgeSlot(existingIndex(u), existingIndex(v)) != NOT_FOUND;
+    }
+
+
+    /**
+     * Fetches an edge if it exists from u to v
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Edge of type E from u to v
+     */
+    public Edge<V, E> getEdge(V u, V v) {
+        int slot = edgeSlot(existingIndex(u), existingIndex(v));
+
+        // Non-existent edge handler
+        if (slot == NOT_FOUND) {
+            throw new NoSuchEdgeException();
+        }
+
+        return new Edge<>(u, v, edgeLabel(slot));
+    }
+
+
+    /**
+     * Unsupported; mapped graphs are read-only
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Never returns normally
+     */
+    public E removeEdge(V u, V v) {
+        return readOnly();
+    }
+
+
+    /**
+     * Fetches the size of the graph (number of vertices)
+     *
+     * @return Number of vertices in graph
+     */
+    public int size() {
+        return _size;
+    }
+
+
+    /**
+     * Fetches the number of edges emanating from the given vertex
+     *
+     * @param u Source vertex label
+     * @return Number of edges from u to another vertex
+     */
+    public int degree(V u) {
+        int index = existingIndex(u);
+
+        return _offsets.get(index + 1) - _offsets.get(index);
+    }
+
+
+    /**
+     * Fetches the number of edges in the entire graph
+     *
+     * @return Number of edges in graph
+     */
+    public int edgeCount() {
+        return _edgeCount;
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all the vertices
+     *
+     * @return A new vertex iterator object
+     */
+    public Iterator<Vertex<V>> vertices() {
+        return new Iterator<Vertex<V>>() {
+            private int _next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return _next < _size;
+            }
+
+            @Override
+            public Vertex<V> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                return new Vertex<>(vertexLabel(_next++));
+            }
+        };
+    }
+
+
+    /**
+     * Creates an iterator for iterating through vertices adjacent to u
+     *
+     * @param u Source vertex
+     * @return A new iterator object
+     */
+    public Iterator<Vertex<V>> adjacent(V u) {
+        int index = existingIndex(u);
+        int end = _offsets.get(index + 1);
+
+        return new Iterator<Vertex<V>>() {
+            private int _next = _offsets.get(index);
+
+            @Override
+            public boolean hasNext() {
+                return _next < end;
+            }
+
+            @Override
+            public Vertex<V> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                return new Vertex<>(vertexLabel(_targets.get(_next++)));
+            }
+        };
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all the edges
+     *
+     * @return A new iterator object
+     */
+    public Iterator<Edge<V, E>> edges() {
+        return new Iterator<Edge<V, E>>() {
+            private int _source = 0;
+            private V _sourceLabel;
+            private int _next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return _next < _edgeCount;
+            }
+
+            @Override
+            public Edge<V, E> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                // Skip rows that have already been exhausted, decoding each source label once
+                while (_offsets.get(_source + 1) <= _next) {
+                    _source++;
+                    _sourceLabel = null;
+                }
+
+                if (_sourceLabel == null) {
+                    _sourceLabel = vertexLabel(_source);
+                }
+
+                Edge<V, E> edge = new Edge<>(_sourceLabel, vertexLabel(_targets.get(_next)), edgeLabel(_next));
+                _next++;
+
+                return edge;
+            }
+        };
+    }
+
+
+    /**
+     * Unsupported; mapped graphs are read-only
+     */
+    public void clear() {
+        readOnly();
+    }
+
+
+    /**
+     * Determines if the current graph contains any vertices
+     *
+     * @return True if size is 0, else false
+     */
+    public boolean isEmpty() {
+        return _size == 0;
+    }
+
+
+    /**
+     * Fetches this graph, which is already read-only
+     *
+     * @return This graph
+     */
+    public MappedGraph<V, E> snapshot() {
+        return this;
+    }
+
+
+    /**
+     * Fetches the dense index assigned to a vertex
+     *
+     * @param u Vertex label
+     * @return Index of vertex, or -1 if absent
+     */
+    public int indexOf(V u) {
+        return vertexIndex(u);
+    }
+
+
+    /**
+     * Fetches an exclusive upper bound on every index in use
+     *
+     * @return Number of vertices
+     */
+    public int indexBound() {
+        return _size;
+    }
+
+
+    // Helper Methods
+    /**
+     * Looks up a label in the file's hash table by its encoding
+     *
+     * @param u Vertex label
+     * @return Index of vertex, or -1 if absent
+     */
+    private int vertexIndex(V u) {
+        // Null vertex handler
+        if (u == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        byte[] key = _vertexCodec.encode(u);
+
+        for (int slot = GraphSnapshot.hash(key) & _mask; ; slot = (slot + 1) & _mask) {
+            int entry = _table.get(slot);
+
+            if (entry == 0) {
+                return NOT_FOUND;
+            }
+
+            if (labelEquals(entry - 1, key)) {
+                return entry - 1;
+            }
+        }
+    }
+
+
+    /**
+     * Fetches the index of a vertex that must exist
+     *
+     * @param u Vertex label
+     * @return Index of vertex
+     */
+    private int existingIndex(V u) {
+        int index = vertexIndex(u);
+
+        // Non-existent vertex handler
+        if (index == NOT_FOUND) {
+            throw new NoSuchVertexException();
+        }
+
+        return index;
+    }
+
+
+    /**
+     * Compares a stored vertex label with an encoded key byte by byte
+     *
+     * @param index Vertex index
+     * @param key Encoded label
+     * @return True if the encodings are identical, else false
+     */
+    private boolean labelEquals(int index, byte[] key) {
+        int start = _vertexEnds.get(index);
+
+        if (_vertexEnds.get(index + 1) - start != key.length) {
+            return false;
+        }
+
+        for (int i = 0; i < key.length; i++) {
+            if (_vertexLabels.get(start + i) != key[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Decodes the label of the vertex at an index
+     *
+     * @param index Vertex index
+     * @return Vertex label
+     */
+    private V vertexLabel(int index) {
+        int start = _vertexEnds.get(index);
+
+        return _vertexCodec.decode(_vertexLabels, start, _vertexEnds.get(index + 1) - start);
+    }
+
+
+    /**
+     * Decodes the label of the edge at a position in the targets section
+     *
+     * @param slot Edge position
+     * @return Edge label
+     */
+    private E edgeLabel(int slot) {
+        int start = _edgeEnds.get(slot);
+
+        return _edgeCodec.decode(_edgeLabels, start, _edgeEnds.get(slot + 1) - start);
+    }
+
+
+    /**
+     * Binary searches row {@code uIndex} for {@code vIndex}
+     *
+     * @param uIndex Source vertex index
+     * @param vIndex Destination vertex index
+     * @return Position of the edge in the targets section, or -1 if absent
+     */
+    private int edgeSlot(int uIndex, int vIndex) {
+        int low = _offsets.get(uIndex);
+        int high = _offsets.get(uIndex + 1) - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int target = _targets.get(middle);
+
+            if (target < vIndex) {
+                low = middle + 1;
+            }
+            else if (target > vIndex) {
+                high = middle - 1;
+            }
+            else {
+                return middle;
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+
+    /**
+     * Maps one section of the file read-only
+     *
+     * @param channel Open snapshot file
+     * @param position Absolute start of the section
+     * @param length Section length in bytes
+     * @return Mapped section
+     * @throws IOException If the section lies outside the file or exceeds 2 GB
+     */
+    private static MappedByteBuffer map(FileChannel channel, long position, long length) throws IOException {
+        if (length > Integer.MAX_VALUE || position + length > channel.size()) {
+            throw new IOException("Error: Truncated or oversized snapshot section");
+        }
+
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+    }
+
+
+    /**
+     * Exception handler for mutators
+     *
+     * @param <T> Declared return type of the calling mutator
+     * @return Never returns normally
+     */
+    private static <T> T readOnly() {
+        throw new UnsupportedOperationException("Error: MappedGraph is read-only");
+    }
+}
@@ -1,6 +1,9 @@
 // Imports
 import java.util.Iterator;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
 
 
 /**
@@ -10,19 +13,30 @@ import java.util.ArrayList;
  * @param <V> Label type for vertices
  * @param <E> Label type for edges
  */
-public class MatrixGraph<V, E> extends DirectedGraph<V, E> {
+public class MatrixGraph<V, E> extends DirectedGraph<V, E> implements IndexedGraph<V> {
     // Constants
     private static final int DEFAULT_CAPACITY = 10;
     private static final int NOT_FOUND = -1;
     private static final int DOUBLE = 2;
+    private static final double COMPACT_THRESHOLD = 0.5;
+    private static final double DEFAULT_GROWTH_FACTOR = 2.0;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final int DEFAULT_IN_CAPACITY = 4;
 
 
     // Instance Variables
     private Vertex<V>[] _vertices;
-    private Edge<V, E>[][] _adjacencyMatrix;
+    private final LabelInterner<V> _interner;
+    private Object[][] _adjacencyMatrix;
     private int _size;
     private int _edgeCount;
     private int _capacity;
+    private int _modCount;
+    private long _resizeCount;
+    private final double _growthFactor;
+    private final boolean _trackInEdges;
+    private int[][] _inSlots;
+    private int[] _inDegrees;
 
 
     /**
@@ -33,25 +47,67 @@ public class MatrixGraph<V, E> extends DirectedGraph<V, E> {
     }
 
 
+    /**
+     * Creates an instance of class MatrixGraph object; designates to third constructor
+     *
+     * @param initialCapacity Starting capacity of the graph
+     */
+    public MatrixGraph(int initialCapacity) {
+        this(initialCapacity, DEFAULT_GROWTH_FACTOR);
+    }
+
+
+    /**
+     * Creates an instance of class MatrixGraph object without an in-edge index;
+     * designates to fourth constructor
+     *
+     * @param initialCapacity Starting capacity of the graph
+     * @param growthFactor Multiplier applied to the capacity whenever it is reached
+     */
+    public MatrixGraph(int initialCapacity, double growthFactor) {
+        this(initialCapacity, growthFactor, false);
+    }
+
+
     /**
      * Creates an instance of class MatrixGraph object
      *
+     * <p>Matrix rows are allocated the first time an edge is stored in them, so
+     * a large initial capacity only costs one reference per vertex up front.</p>
+     *
      * @param initialCapacity Starting capacity of the graph
+     * @param growthFactor Multiplier applied to the capacity whenever it is reached
+     * @param trackInEdges True to keep a list of predecessor slots per vertex, making
+     *                     {@link #predecessors}, {@link #inDegree} and {@link #inEdges}
+     *                     proportional to in-degree and sparing {@link #remove} a column scan
      */
     @SuppressWarnings({"unchecked"})
-    public MatrixGraph(int initialCapacity) {
+    public MatrixGraph(int initialCapacity, double growthFactor, boolean trackInEdges) {
         if (initialCapacity < 0) {
             throw new IllegalArgumentException("Error: Capacity cannot be negative");
         }
 
+        if (!(growthFactor > 1.0)) {
+            throw new IllegalArgumentException("Error: Growth factor must be greater than 1");
+        }
+
         if (initialCapacity == 0) {
             initialCapacity = DEFAULT_CAPACITY;
         }
 
         _vertices = (Vertex<V>[]) new Vertex[initialCapacity];
-        _adjacencyMatrix = (Edge<V, E>[][]) new Edge[initialCapacity][initialCapacity];
+        _interner = new LabelInterner<>(initialCapacity);
+        _adjacencyMatrix = new Object[initialCapacity][];
 
         _capacity = initialCapacity;
+        _growthFactor = growthFactor;
+        _trackInEdges = trackInEdges;
+
+        if (trackInEdges) {
+            _inSlots = new int[initialCapacity][];
+            _inDegrees = new int[initialCapacity];
+        }
+
         _edgeCount = 0;
         _size = 0;
     }
@@ -66,14 +122,26 @@ public class MatrixGraph<V, E> extends DirectedGraph<V, E> {
         // Null and duplicate vertices are handled within this call
         duplicateVertex(u);
 
-        // Array growth handler
-        growArrays();
+        insertVertex(u);
+    }
 
-        Vertex<V> newVertex = new Vertex<>(u);
 
-        _vertices[_size] = newVertex;
+    /**
+     * Adds every label in a collection as a new vertex, growing the graph at
+     * most once for the whole batch
+     *
+     * @param labels Vertex labels
+     */
+    public void addAllVertices(Collection<? extends V> labels) {
+        // Null and duplicate vertices are handled within this call
+        checkVertexBatch(labels);
 
-        _size++;
+        // Freed slots are reused first, so only the remainder needs new capacity
+        ensureCapacity(_interner.bound() + Math.max(0, labels.size() - _interner.freeCount()));
+
+        for (V u : labels) {
+            insertVertex(u);
+        }
     }
 
 
@@ -123,8 +191,8 @@ public class MatrixGraph<V, E> extends DirectedGraph<V, E> {
 
         V returnValue = _vertices[index].getLabel();
 
-        _vertices[index] = null;
-        _size--;
+        removeSlot(index);
+        _modCount++;
 
         return returnValue;
     }
@@ -152,11 +220,72 @@ public class MatrixGraph<V, E> extends DirectedGraph<V, E> {
         // Duplicate edge handler
         duplicateEdge(uIndex, vIndex);
 
-        // Array growth handler
-        growArrays();
-
         _edgeCount++;
-        _adjacencyMatrix[uIndex][vIndex] = new Edge<>(u, v, label);
+        _modCount++;
+        setEdge(uIndex, vIndex, label);
+        linkPredecessor(uIndex, vIndex);
+    }
+
+
+    /**
+     * Adds the edges {@code src[i] -> dst[i]} labelled {@code labels[i]}. Each
+     * endpoint is resolved to its slot once, and duplicates are found by
+     * testing the matrix cell while the batch is applied; under
+     * {@link DuplicatePolicy#THROW} the cells filled so far are cleared again
+     * before the exception is thrown
+     *
+     * @param src Source vertex labels
+     * @param dst Destination vertex labels, parallel to src
+     * @param labels Edge labels, parallel to src
+     * @param policy What to do with edges that are already present
+     * @return Number of edges newly added
+     */
+    public int addEdges(V[] src, V[] dst, E[] labels, DuplicatePolicy policy) {
+        // Null labels and mismatched arrays are handled within this call
+        checkEdgeBatch(src, dst, labels, policy);
+
+        int count = src.length;
+        int[] uSlots = new int[count];
+        int[] vSlots = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            uSlots[i] = vertexIndex(src[i]);
+            vSlots[i] = vertexIndex(dst[i]);
+
+            // Non-existent vertices are handled here
+            noVertex(uSlots[i]);
+            noVertex(vSlots[i]);
+        }
+
+        int added = 0;
+
+        for (int i = 0; i < count; i++) {
+            int uIndex = uSlots[i];
+            int vIndex = vSlots[i];
+
+            if (edgeAt(uIndex, vIndex) == null) {
+                setEdge(uIndex, vIndex, labels[i]);
+                linkPredecessor(uIndex, vIndex);
+                added++;
+            }
+            else if (policy == DuplicatePolicy.THROW) {
+                // Every cell filled so far was empty, so clearing them restores the graph
+                for (int k = i - 1; k >= 0; k--) {
+                    setEdge(uSlots[k], vSlots[k], null);
+                    unlinkPredecessor(uSlots[k], vSlots[k]);
+                }
+
+                throw new DuplicateEdgeException();
+            }
+            else if (policy == DuplicatePolicy.OVERWRITE) {
+                setEdge(uIndex, vIndex, labels[i]);
+            }
+        }
+
+        _edgeCount += added;
+        _modCount++;
+
+        return added;
     }
 
 
@@ -176,12 +305,14 @@ public class MatrixGraph<V, E> extends DirectedGraph<V, E> {
         noVertex(uIndex);
         noVertex(vIndex);
 
-        return _adjacencyMatrix[uIndex][vIndex] != null;
+        return edgeAt(uIndex, vIndex) != null;
     }
 
 
     /**
-     * Fetches an edge if it exists from u to v
+     * Fetches an edge if it exists from u to v. Only the label is stored, so
+     * the edge is a new view and {@link Edge#setLabel} on it does not change
+     * the graph
      *
      * @param u Source vertex label
      * @param v Destination vertex label
@@ -199,7 +330,7 @@ public class MatrixGraph<V, E> extends DirectedGraph<V, E> {
         // Null edge handler
         noEdge(uIndex, vIndex);
 
-        return _adjacencyMatrix[uIndex][vIndex];
+        return edgeView(uIndex, vIndex);
     }
 
 
@@ -222,10 +353,12 @@ public class MatrixGraph<V, E> extends DirectedGraph<V, E> {
         // Null edge handler
         noEdge(uIndex, vIndex);
 
-        E returnValue = _adjacencyMatrix[uIndex][vIndex].getLabel();
+        E returnValue = edgeAt(uIndex, vIndex);
 
-        _adjacencyMatrix[uIndex][vIndex] = null;
+        setEdge(uIndex, vIndex, null);
+        unlinkPredecessor(uIndex, vIndex);
         _edgeCount--;
+        _modCount++;
 
         return returnValue;
     }
@@ -251,15 +384,10 @@ public class MatrixGraph<V, E> extends DirectedGraph<V, E> {
         // Null vertex is handled within this call
         int index = vertexIndex(u);
 
-        int degree = 0;
-
-        for (int i = 0; i < _size; i++) {
-            if (_adjacencyMatrix[index][i] != null) {
-                degree++;
-            }
-        }
+        // Non-existent vertex handler
+        noVertex(index);
 
-        return degree;
+        return rowDegree(index);
     }
 
 
@@ -274,25 +402,50 @@ public class MatrixGraph<V, E> extends DirectedGraph<V, E> {
 
 
     /**
-     * Creates an iterator set for iterating through all the vertices
+     * Creates an iterator for iterating through all the vertices
+     *
+     * <p>The iterator walks the vertex slots directly, fails fast if the graph
+     * is modified other than through the iterator, and its {@code remove}
+     * deletes the vertex together with its incident edges.</p>
      *
      * @return A new Vertex iterator object
      */
     public Iterator<Vertex<V>> vertices() {
-        ArrayList<Vertex<V>> arr = new ArrayList<>(_vertices.length);
+        return new GraphIterator<Vertex<V>>() {
+            private int _next = 0;
+            private int _last;
+
+            @Override
+            boolean advance() {
+                // Skip slots freed by remove
+                while (_next < _interner.bound() && _vertices[_next] == null) {
+                    _next++;
+                }
 
-        for (int i = 0; i < _size; i++) {
-            if (_vertices[i] != null) {
-                arr.add(_vertices[i]);
+                return _next < _interner.bound();
             }
-        }
 
-        return arr.iterator();
+            @Override
+            Vertex<V> current() {
+                _last = _next++;
+
+                return _vertices[_last];
+            }
+
+            @Override
+            void removeCurrent() {
+                removeSlot(_last);
+            }
+        };
     }
 
 
     /**
-     * Creates an iterator set for iterating through vertices adjacent to u
+     * Creates an iterator for iterating through vertices adjacent to u
+     *
+     * <p>The iterator walks u's matrix row directly, fails fast if the graph
+     * is modified other than through the iterator, and its {@code remove}
+     * deletes the edge from u to the last returned vertex.</p>
      *
      * @param u Source vertex
      * @return A new Vertex iterator object
@@ -304,40 +457,92 @@ public class MatrixGraph<V, E> extends DirectedGraph<V, E> {
         // Non-existent vertex handler
         noVertex(adjCol);
 
-        // Initialize an object that supports iteration because we don't do raw implementation for this program
-        ArrayList<Vertex<V>> arr = new ArrayList<>(_size);
+        return new GraphIterator<Vertex<V>>() {
+            private int _next = 0;
+            private int _last;
+
+            @Override
+            boolean advance() {
+                /* The row index stays fixed since we're focused on a singular
+                source vertex; only the destination column moves */
+                while (_next < _interner.bound() && edgeAt(adjCol, _next) == null) {
+                    _next++;
+                }
 
-        // Although it's a 2D array, the column will not change since we're focused on a singular source vertex
-        for (int j = 0; j < _size; j++) {
-            /* If value is not null, get the vertex from the vertices array. The
-            indices should be the same because the length and depth of the 2D
-            array are the same (meaning equivalent indices) */
-            if (_adjacencyMatrix[adjCol][j] != null) {
-                arr.add(_vertices[j]);
+                return _next < _interner.bound();
             }
-        }
 
-        return arr.iterator();
+            @Override
+            Vertex<V> current() {
+                _last = _next++;
+
+                return _vertices[_last];
+            }
+
+            @Override
+            void removeCurrent() {
+                setEdge(adjCol, _last, null);
+                unlinkPredecessor(adjCol, _last);
+                _edgeCount--;
+            }
+        };
     }
 
 
     /**
-     * Creates an iterator set for iterating through all the edges
+     * Creates an iterator for iterating through all the edges
+     *
+     * <p>The iterator walks the matrix in row-major order, skipping rows that
+     * were never allocated, fails fast if the graph is modified other than
+     * through the iterator, and its {@code remove} deletes the last returned
+     * edge.</p>
      *
      * @return A new iterator object
      */
     public Iterator<Edge<V, E>> edges() {
-        ArrayList<Edge<V, E>> arr = new ArrayList<>();
-
-        for (int i = 0; i < _size; i++) {
-            for (int j = 0; j < _size; j++) {
-                if (_adjacencyMatrix[i][j] != null) {
-                    arr.add(_adjacencyMatrix[i][j]);
+        return new GraphIterator<Edge<V, E>>() {
+            private int _row = 0;
+            private int _col = 0;
+            private int _lastRow;
+            private int _lastCol;
+
+            @Override
+            boolean advance() {
+                while (_row < _interner.bound()) {
+                    Object[] row = _adjacencyMatrix[_row];
+
+                    if (row != null) {
+                        while (_col < row.length && row[_col] == null) {
+                            _col++;
+                        }
+
+                        if (_col < row.length) {
+                            return true;
+                        }
+                    }
+
+                    _row++;
+                    _col = 0;
                 }
+
+                return false;
             }
-        }
 
-        return arr.iterator();
+            @Override
+            Edge<V, E> current() {
+                _lastRow = _row;
+                _lastCol = _col++;
+
+                return edgeView(_lastRow, _lastCol);
+            }
+
+            @Override
+            void removeCurrent() {
+                setEdge(_lastRow, _lastCol, null);
+                unlinkPredecessor(_lastRow, _lastCol);
+                _edgeCount--;
+            }
+        };
     }
 
 
@@ -345,16 +550,18 @@ public class MatrixGraph<V, E> extends DirectedGraph<V, E> {
      * Clears the existing graph
      */
     public void clear() {
-        for (int i = 0; i < _size; i++) {
-            _vertices[i] = null;
+        // Dropping the rows releases them; they are reallocated on demand
+        Arrays.fill(_vertices, 0, _interner.bound(), null);
+        Arrays.fill(_adjacencyMatrix, 0, _interner.bound(), null);
 
-            for (int j = 0; j < _size; j++ ) {
-                _adjacencyMatrix[i][j] = null;
-            }
+        if (_trackInEdges) {
+            Arrays.fill(_inDegrees, 0, _interner.bound(), 0);
         }
 
+        _interner.clear();
         _size = 0;
         _edgeCount = 0;
+        _modCount++;
     }
 
 
@@ -368,7 +575,373 @@ public class MatrixGraph<V, E> extends DirectedGraph<V, E> {
     }
 
 
+    /**
+     * Shrinks the matrix to fit the live vertices if occupancy has fallen below
+     * {@value #COMPACT_THRESHOLD} of capacity. Live vertices are renumbered into
+     * consecutive slots, so this is O(capacity^2) and meant to be called explicitly
+     * after heavy removal rather than on every remove
+     *
+     * @return True if the matrix was shrunk, else false
+     */
+    @SuppressWarnings("unchecked")
+    public boolean compact() {
+        int newCapacity = Math.max(DEFAULT_CAPACITY, _size * DOUBLE);
+
+        // A graph created below the default capacity must not grow here
+        if (_size >= _capacity * COMPACT_THRESHOLD || newCapacity >= _capacity) {
+            return false;
+        }
+
+        Vertex<V>[] vArray = (Vertex<V>[]) new Vertex[newCapacity];
+        Object[][] eArray = new Object[newCapacity][];
+        int slotCount = _interner.bound();
+        int[] newSlot = new int[slotCount];
+
+        _interner.clear();
+
+        // Live vertices are packed to the front in their existing order; a cleared interner counts up from zero
+        for (int i = 0; i < slotCount; i++) {
+            if (_vertices[i] != null) {
+                newSlot[i] = _interner.intern(_vertices[i].getLabel());
+                vArray[newSlot[i]] = _vertices[i];
+            }
+        }
+
+        for (int i = 0; i < slotCount; i++) {
+            Object[] row = _adjacencyMatrix[i];
+
+            if (_vertices[i] != null && row != null) {
+                Object[] newRow = new Object[newCapacity];
+
+                for (int j = 0; j < row.length; j++) {
+                    if (row[j] != null) {
+                        newRow[newSlot[j]] = row[j];
+                    }
+                }
+
+                eArray[newSlot[i]] = newRow;
+            }
+        }
+
+        _vertices = vArray;
+        _adjacencyMatrix = eArray;
+        _capacity = newCapacity;
+        _resizeCount++;
+        _modCount++;
+
+        if (_trackInEdges) {
+            // Slot numbers changed, so the predecessor lists are rebuilt from the rows
+            _inSlots = new int[newCapacity][];
+            _inDegrees = new int[newCapacity];
+
+            for (int i = 0; i < _interner.bound(); i++) {
+                Object[] row = _adjacencyMatrix[i];
+
+                for (int j = 0; row != null && j < row.length; j++) {
+                    if (row[j] != null) {
+                        linkPredecessor(i, j);
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Grows the graph so that at least {@code minCapacity} vertices fit without
+     * further resizing; intended for bulk loaders that know the final size
+     *
+     * @param minCapacity Required capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Error: Integer limit reached");
+        }
+
+        if (minCapacity > _capacity) {
+            resize(minCapacity);
+        }
+    }
+
+
+    /**
+     * Shrinks the capacity down to the highest slot in use. Unlike {@link #compact()}
+     * slots are not renumbered, so free slots below the highest live one are kept
+     */
+    public void trimToSize() {
+        resize(Math.max(_interner.bound(), 1));
+    }
+
+
+    /**
+     * Creates an iterator for iterating through vertices with an edge into u.
+     * With the in-edge index this walks u's predecessor list directly, and its
+     * {@code remove} deletes the edge from the last returned vertex to u
+     *
+     * @param u Destination vertex
+     * @return A new Vertex iterator object
+     */
+    public Iterator<Vertex<V>> predecessors(V u) {
+        if (!_trackInEdges) {
+            return super.predecessors(u);
+        }
+
+        int index = vertexIndex(u);
+
+        // Non-existent vertex handler
+        noVertex(index);
+
+        return new GraphIterator<Vertex<V>>() {
+            private int _next = 0;
+            private int _last;
+
+            @Override
+            boolean advance() {
+                return _next < _inDegrees[index];
+            }
+
+            @Override
+            Vertex<V> current() {
+                _last = _inSlots[index][_next++];
+
+                return _vertices[_last];
+            }
+
+            @Override
+            void removeCurrent() {
+                setEdge(_last, index, null);
+                unlinkPredecessor(_last, index);
+                _edgeCount--;
+
+                // The list's last entry was moved into the vacated position
+                _next--;
+            }
+        };
+    }
+
+
+    /**
+     * Fetches the number of edges ending at the given vertex
+     *
+     * @param u Destination vertex label
+     * @return Number of edges from another vertex to u
+     */
+    public int inDegree(V u) {
+        if (!_trackInEdges) {
+            return super.inDegree(u);
+        }
+
+        int index = vertexIndex(u);
+
+        // Non-existent vertex handler
+        noVertex(index);
+
+        return _inDegrees[index];
+    }
+
+
+    /**
+     * Creates an iterator for iterating through the edges ending at u
+     *
+     * @param u Destination vertex
+     * @return A new iterator object
+     */
+    public Iterator<Edge<V, E>> inEdges(V u) {
+        if (!_trackInEdges) {
+            return super.inEdges(u);
+        }
+
+        int index = vertexIndex(u);
+        Iterator<Vertex<V>> it = predecessors(u);
+
+        return new Iterator<Edge<V, E>>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public Edge<V, E> next() {
+                return edgeView(_interner.idOf(it.next().getLabel()), index);
+            }
+
+            @Override
+            public void remove() {
+                it.remove();
+            }
+        };
+    }
+
+
+    /**
+     * Fetches the slot assigned to a vertex
+     *
+     * @param u Vertex label
+     * @return Slot of vertex, or -1 if absent
+     */
+    public int indexOf(V u) {
+        return vertexIndex(u);
+    }
+
+
+    /**
+     * Fetches an exclusive upper bound on every slot currently in use
+     *
+     * @return Number of slots handed out so far
+     */
+    public int indexBound() {
+        return _interner.bound();
+    }
+
+
+    /**
+     * Fetches the number of vertices the matrix holds before it must grow
+     *
+     * @return Current capacity
+     */
+    public int capacity() {
+        return _capacity;
+    }
+
+
+    /**
+     * Fetches the fraction of matrix cells holding an edge
+     *
+     * @return Edge count divided by capacity squared
+     */
+    public double occupancy() {
+        return (double) _edgeCount / ((double) _capacity * _capacity);
+    }
+
+
+    /**
+     * Fetches how many times the capacity has changed, whether by growing
+     * when full, {@link #ensureCapacity}, {@link #trimToSize} or {@link #compact()}
+     *
+     * @return Resize count since the graph was created
+     */
+    public long resizeCount() {
+        return _resizeCount;
+    }
+
+
     // Helper Methods
+    /**
+     * Places a vertex known to be new into a free slot
+     *
+     * @param u Vertex label
+     */
+    private void insertVertex(V u) {
+        // Slots freed by remove are reused before the matrix is allowed to grow
+        if (_interner.freeCount() == 0) {
+            // Array growth handler
+            growArrays();
+        }
+
+        int index = _interner.intern(u);
+
+        _vertices[index] = new Vertex<>(u);
+
+        _size++;
+        _modCount++;
+    }
+
+
+    /**
+     * Records uIndex as a predecessor of vIndex if the in-edge index is maintained
+     *
+     * @param uIndex Source vertex index
+     * @param vIndex Destination vertex index
+     */
+    private void linkPredecessor(int uIndex, int vIndex) {
+        if (_trackInEdges) {
+            int[] list = _inSlots[vIndex];
+            int degree = _inDegrees[vIndex];
+
+            if (list == null) {
+                list = new int[DEFAULT_IN_CAPACITY];
+            }
+            else if (degree == list.length) {
+                list = Arrays.copyOf(list, degree * DOUBLE);
+            }
+
+            list[degree] = uIndex;
+            _inSlots[vIndex] = list;
+            _inDegrees[vIndex]++;
+        }
+    }
+
+
+    /**
+     * Drops uIndex from vIndex's predecessors if the in-edge index is maintained;
+     * the last predecessor is moved into the vacated position
+     *
+     * @param uIndex Source vertex index
+     * @param vIndex Destination vertex index
+     */
+    private void unlinkPredecessor(int uIndex, int vIndex) {
+        if (_trackInEdges) {
+            int[] list = _inSlots[vIndex];
+
+            for (int k = 0; k < _inDegrees[vIndex]; k++) {
+                if (list[k] == uIndex) {
+                    list[k] = list[--_inDegrees[vIndex]];
+
+                    return;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Frees a vertex slot along with every edge incident to it
+     *
+     * @param index Slot of the vertex to remove
+     */
+    private void removeSlot(int index) {
+        // Incident edges are cleared so the slot is clean when it is reused
+        if (_trackInEdges) {
+            Object[] row = _adjacencyMatrix[index];
+
+            for (int j = 0; row != null && j < row.length; j++) {
+                if (row[j] != null && j != index) {
+                    unlinkPredecessor(index, j);
+                }
+            }
+
+            // Only known predecessors can hold an edge into this column
+            for (int k = 0; k < _inDegrees[index]; k++) {
+                int p = _inSlots[index][k];
+
+                if (p != index) {
+                    setEdge(p, index, null);
+                    _edgeCount--;
+                }
+            }
+
+            _inDegrees[index] = 0;
+        }
+        else {
+            for (int i = 0; i < _interner.bound(); i++) {
+                if (i != index && edgeAt(i, index) != null) {
+                    setEdge(i, index, null);
+                    _edgeCount--;
+                }
+            }
+        }
+
+        _edgeCount -= rowDegree(index);
+        _adjacencyMatrix[index] = null;
+
+        _interner.release(_vertices[index].getLabel());
+        _vertices[index] = null;
+        _size--;
+    }
+
+
     /**
      * Exception handler for null-labeled vertices
      *
@@ -427,7 +1000,7 @@ public class MatrixGraph<V, E> extends DirectedGraph<V, E> {
      * @param vIndex Destination vertex index
      */
     private void noEdge(int uIndex, int vIndex) {
-        if (_adjacencyMatrix[uIndex][vIndex] == null) {
+        if (edgeAt(uIndex, vIndex) == null) {
             throw new NoSuchEdgeException();
         }
     }
@@ -443,7 +1016,7 @@ public class MatrixGraph<V, E> extends DirectedGraph<V, E> {
         /* An edge is considered a duplicate based off of index
         and not off of label. Two edges may share the same label
         so long as they exist at separate indices in the matrix */
-        if (_adjacencyMatrix[uIndex][vIndex] != null) {
+        if (edgeAt(uIndex, vIndex) != null) {
             throw new DuplicateEdgeException();
         }
     }
@@ -459,42 +1032,201 @@ public class MatrixGraph<V, E> extends DirectedGraph<V, E> {
         // Checks that provided vertex isn't null
         nullVertex(u);
 
-        int index = NOT_FOUND;
+        // Labels are matched by equals/hashCode, so boxed values compare correctly
+        return _interner.idOf(u);
+    }
+
+
+    /**
+     * Fetches the edge label stored in a cell, treating unallocated or short rows as empty
+     *
+     * @param uIndex Source vertex index
+     * @param vIndex Destination vertex index
+     * @return Label in the cell, or null if there is no edge
+     */
+    @SuppressWarnings("unchecked")
+    private E edgeAt(int uIndex, int vIndex) {
+        Object[] row = _adjacencyMatrix[uIndex];
 
-        for (int i = 0; i < _size && index == NOT_FOUND; i++) {
-            if (_vertices[i].getLabel() == u) {
-                index = i;
+        return row == null || vIndex >= row.length ? null : (E) row[vIndex];
+    }
+
+
+    /**
+     * Creates an Edge for a stored cell; cells hold only labels, so edges are
+     * built when they are handed out
+     *
+     * @param uIndex Source vertex index
+     * @param vIndex Destination vertex index
+     * @return New edge over the cell's label
+     */
+    private Edge<V, E> edgeView(int uIndex, int vIndex) {
+        return new Edge<>(_vertices[uIndex].getLabel(), _vertices[vIndex].getLabel(), edgeAt(uIndex, vIndex));
+    }
+
+
+    /**
+     * Stores an edge label in a cell, allocating or widening the row if needed
+     *
+     * @param uIndex Source vertex index
+     * @param vIndex Destination vertex index
+     * @param label Label to store, or null to clear the cell
+     */
+    private void setEdge(int uIndex, int vIndex, E label) {
+        Object[] row = _adjacencyMatrix[uIndex];
+
+        if (row == null || vIndex >= row.length) {
+            // Clearing a cell that was never allocated is a no-op
+            if (label == null) {
+                return;
             }
+
+            row = row == null ? new Object[_capacity] : Arrays.copyOf(row, _capacity);
+            _adjacencyMatrix[uIndex] = row;
         }
 
-        return index;
+        row[vIndex] = label;
     }
 
 
     /**
-     * If capacity is reached, increases the capacity of the MatrixGraph
+     * Counts the edges stored in a row
+     *
+     * @param uIndex Source vertex index
+     * @return Number of non-null cells in the row
+     */
+    private int rowDegree(int uIndex) {
+        Object[] row = _adjacencyMatrix[uIndex];
+        int degree = 0;
+
+        if (row != null) {
+            for (Object label : row) {
+                if (label != null) {
+                    degree++;
+                }
+            }
+        }
+
+        return degree;
+    }
+
+
+    /**
+     * If capacity is reached, increases the capacity of the MatrixGraph by the growth factor
      */
-    @SuppressWarnings("unchecked")
     private void growArrays() {
-        if (_capacity > Integer.MAX_VALUE / 2) {
+        if (_capacity == MAX_CAPACITY) {
             throw new OutOfMemoryError("Error: Integer limit reached");
         }
 
-        if (_size == _capacity) {
-            Vertex<V>[] vArray = (Vertex<V>[]) new Vertex[_capacity * DOUBLE];
-            Edge<V, E>[][] eArray = (Edge<V, E>[][]) new Edge[_capacity * DOUBLE][_capacity * DOUBLE];
+        if (_interner.bound() == _capacity) {
+            long grown = (long) (_capacity * _growthFactor);
+
+            resize((int) Math.min(MAX_CAPACITY, Math.max(grown, _capacity + 1L)));
+        }
+    }
 
-            for (int i = 0; i < _vertices.length; i++) {
-                vArray[i] = _vertices[i];
 
-                for (int j = 0; j < _adjacencyMatrix[i].length; j++) {
-                    eArray[i][j] = _adjacencyMatrix[i][j];
+    /**
+     * Changes the capacity of the MatrixGraph. Only the vertex array and the outer
+     * row array are copied; existing rows are shared and are widened lazily by
+     * {@link #setEdge}, or truncated here when shrinking
+     *
+     * @param newCapacity New capacity, at least the number of slots in use
+     */
+    private void resize(int newCapacity) {
+        _vertices = Arrays.copyOf(_vertices, newCapacity);
+        _adjacencyMatrix = Arrays.copyOf(_adjacencyMatrix, newCapacity);
+
+        if (_trackInEdges) {
+            _inSlots = Arrays.copyOf(_inSlots, newCapacity);
+            _inDegrees = Arrays.copyOf(_inDegrees, newCapacity);
+        }
+
+        if (newCapacity < _capacity) {
+            for (int i = 0; i < newCapacity; i++) {
+                if (_adjacencyMatrix[i] != null && _adjacencyMatrix[i].length > newCapacity) {
+                    _adjacencyMatrix[i] = Arrays.copyOf(_adjacencyMatrix[i], newCapacity);
                 }
             }
+        }
 
-            _capacity *= DOUBLE;
-            _vertices = vArray;
-            _adjacencyMatrix = eArray;
+        if (newCapacity != _capacity) {
+            _resizeCount++;
+        }
+
+        _capacity = newCapacity;
+    }
+
+
+    // Inner Classes
+    /**
+     * Base for the graph's lazy iterators; tracks the graph's modification
+     * count so that outside changes are detected on the next call
+     *
+     * @param <T> Element type
+     */
+    private abstract class GraphIterator<T> implements Iterator<T> {
+        private int _expectedModCount = _modCount;
+        private boolean _canRemove;
+
+        /**
+         * Positions the cursor at the next element, if any
+         *
+         * @return True if another element exists, else false
+         */
+        abstract boolean advance();
+
+        /**
+         * Consumes and returns the element the cursor is positioned at
+         *
+         * @return Next element
+         */
+        abstract T current();
+
+        /**
+         * Deletes the last returned element from the graph
+         */
+        abstract void removeCurrent();
+
+        @Override
+        public boolean hasNext() {
+            checkForComodification();
+
+            return advance();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            _canRemove = true;
+
+            return current();
+        }
+
+        @Override
+        public void remove() {
+            if (!_canRemove) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+            removeCurrent();
+
+            _canRemove = false;
+            _expectedModCount = ++_modCount;
+        }
+
+        /**
+         * Exception handler for modifications made outside this iterator
+         */
+        private void checkForComodification() {
+            if (_modCount != _expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
         }
     }
 }
@@ -0,0 +1,62 @@
+// Imports
+import java.io.PrintStream;
+
+
+/**
+ * Receives the metrics of an {@link InstrumentedGraph}, either on demand
+ * through {@link InstrumentedGraph#report} or periodically through
+ * {@link InstrumentedGraph#startReporting}
+ *
+ * @author blee20@georgefox.edu
+ */
+@FunctionalInterface
+public interface MetricsReporter {
+    // Constants
+    double P50 = 50.0;
+    double P99 = 99.0;
+
+
+    /**
+     * Publishes the current metrics of a graph
+     *
+     * @param graph Instrumented graph to read
+     */
+    void report(InstrumentedGraph<?, ?> graph);
+
+
+    /**
+     * Creates a reporter that prints one line per operation that has been
+     * called, followed by one line of structural statistics
+     *
+     * @param out Destination stream
+     * @return A new reporter
+     */
+    static MetricsReporter printing(PrintStream out) {
+        if (out == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        return graph -> {
+            for (GraphOperation operation : GraphOperation.values()) {
+                LatencyHistogram latency = graph.latency(operation);
+                long count = latency.count();
+
+                if (count > 0) {
+                    out.printf("%-10s %-16s count=%-9d mean=%8.0f ns p50=%8d ns p99=%8d ns max=%10d ns%n",
+                            graph.name(), operation, count, latency.meanNanos(), latency.valueAtPercentile(P50),
+                            latency.valueAtPercentile(P99), latency.maxNanos());
+                }
+            }
+
+            out.printf("%-10s %-16s n=%-9d m=%-9d maxdeg=%-6d avgdeg=%.2f", graph.name(), "STRUCTURE",
+                    graph.size(), graph.edgeCount(), graph.maxDegree(), graph.averageDegree());
+
+            // Storage statistics only exist for a wrapped ListGraph or MatrixGraph
+            if (graph.resizeCount() >= 0) {
+                out.printf(" occupancy=%.4f resizes=%d", graph.occupancy(), graph.resizeCount());
+            }
+
+            out.println();
+        };
+    }
+}
@@ -0,0 +1,333 @@
+// Imports
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+
+/**
+ * Block allocator over direct ByteBuffers, used to keep bulk graph storage
+ * outside the Java heap
+ *
+ * <p>Memory is taken from a list of direct buffers ("chunks") that double in
+ * size as the arena grows, and handed out as blocks whose sizes are powers of
+ * two. A block is named by a {@code long} address packing its chunk number
+ * and offset, so callers hold no object per block. Freed blocks go on a free
+ * list for their size class and are reused before a chunk is extended. The
+ * only on-heap state is one small object per chunk plus the free lists.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+public class OffHeapArena {
+    // Constants
+    static final long NULL = -1L;
+    private static final int MIN_CLASS = 3;
+    private static final int MAX_CLASS = 30;
+    private static final int DEFAULT_CHUNK_BYTES = 1 << 20;
+    private static final int MAX_CHUNK_BYTES = 1 << MAX_CLASS;
+    private static final int OFFSET_BITS = 32;
+    private static final long OFFSET_MASK = 0xFFFFFFFFL;
+    private static final int DEFAULT_FREE_CAPACITY = 16;
+    private static final int DOUBLE = 2;
+    private static final Cleaner CLEANER = Cleaner.find();
+
+
+    // Internal State
+    private ByteBuffer[] _chunks;
+    private int _chunkCount;
+    private int _used;
+    private long[][] _freeBlocks;
+    private int[] _freeCounts;
+    private long _reserved;
+    private long _allocated;
+
+
+    // Constructor
+    /**
+     * Creates an empty arena; no memory is reserved until the first allocation
+     */
+    public OffHeapArena() {
+        _chunks = new ByteBuffer[DOUBLE];
+        _freeBlocks = new long[MAX_CLASS + 1][];
+        _freeCounts = new int[MAX_CLASS + 1];
+    }
+
+
+    // Methods
+    /**
+     * Allocates a block of at least {@code bytes} bytes
+     *
+     * @param bytes Requested size, at most 1 GB
+     * @return Address of the block
+     */
+    public long allocate(int bytes) {
+        int sizeClass = sizeClass(bytes);
+
+        if (_freeCounts[sizeClass] > 0) {
+            _allocated += 1L << sizeClass;
+
+            return _freeBlocks[sizeClass][--_freeCounts[sizeClass]];
+        }
+
+        int blockBytes = 1 << sizeClass;
+
+        // The tail of a chunk too short for the block is abandoned
+        if (_chunkCount == 0 || _chunks[_chunkCount - 1].capacity() - _used < blockBytes) {
+            addChunk(blockBytes);
+        }
+
+        long address = ((long) (_chunkCount - 1) << OFFSET_BITS) | _used;
+
+        _used += blockBytes;
+        _allocated += blockBytes;
+
+        return address;
+    }
+
+
+    /**
+     * Returns a block to the arena for reuse
+     *
+     * @param address Address returned by {@link #allocate}
+     * @param bytes Size that was requested for the block
+     */
+    public void free(long address, int bytes) {
+        int sizeClass = sizeClass(bytes);
+        long[] stack = _freeBlocks[sizeClass];
+
+        if (stack == null) {
+            stack = new long[DEFAULT_FREE_CAPACITY];
+        }
+        else if (_freeCounts[sizeClass] == stack.length) {
+            stack = Arrays.copyOf(stack, stack.length * DOUBLE);
+        }
+
+        stack[_freeCounts[sizeClass]++] = address;
+        _freeBlocks[sizeClass] = stack;
+        _allocated -= 1L << sizeClass;
+    }
+
+
+    /**
+     * Fetches the usable size of the block that a request of {@code bytes} receives
+     *
+     * @param bytes Requested size
+     * @return Block size in bytes
+     */
+    public static int blockSize(int bytes) {
+        return 1 << sizeClass(bytes);
+    }
+
+
+    /**
+     * Fetches the chunk holding a block, for absolute reads and writes
+     *
+     * @param address Block address
+     * @return Backing direct buffer
+     */
+    public ByteBuffer buffer(long address) {
+        return _chunks[(int) (address >>> OFFSET_BITS)];
+    }
+
+
+    /**
+     * Fetches the position of a block within its chunk
+     *
+     * @param address Block address
+     * @return Absolute offset in {@link #buffer}
+     */
+    public static int offset(long address) {
+        return (int) (address & OFFSET_MASK);
+    }
+
+
+    /**
+     * Reads an int at a byte offset inside a block
+     *
+     * @param address Block address
+     * @param at Offset within the block
+     * @return Stored value
+     */
+    public int getInt(long address, int at) {
+        return buffer(address).getInt(offset(address) + at);
+    }
+
+
+    /**
+     * Writes an int at a byte offset inside a block
+     *
+     * @param address Block address
+     * @param at Offset within the block
+     * @param value Value to store
+     */
+    public void putInt(long address, int at, int value) {
+        buffer(address).putInt(offset(address) + at, value);
+    }
+
+
+    /**
+     * Reads a long at a byte offset inside a block
+     *
+     * @param address Block address
+     * @param at Offset within the block
+     * @return Stored value
+     */
+    public long getLong(long address, int at) {
+        return buffer(address).getLong(offset(address) + at);
+    }
+
+
+    /**
+     * Writes a long at a byte offset inside a block
+     *
+     * @param address Block address
+     * @param at Offset within the block
+     * @param value Value to store
+     */
+    public void putLong(long address, int at, long value) {
+        buffer(address).putLong(offset(address) + at, value);
+    }
+
+
+    /**
+     * Writes a byte array at the start of a block
+     *
+     * @param address Block address
+     * @param bytes Bytes to store
+     */
+    public void putBytes(long address, byte[] bytes) {
+        buffer(address).put(offset(address), bytes);
+    }
+
+
+    /**
+     * Copies the start of one block into another
+     *
+     * @param from Source block address
+     * @param to Destination block address
+     * @param bytes Number of bytes to copy
+     */
+    public void copy(long from, long to, int bytes) {
+        buffer(to).put(offset(to), buffer(from), offset(from), bytes);
+    }
+
+
+    /**
+     * Fetches the number of bytes currently handed out in blocks
+     *
+     * @return Allocated bytes
+     */
+    public long allocatedBytes() {
+        return _allocated;
+    }
+
+
+    /**
+     * Fetches the number of bytes reserved in direct buffers
+     *
+     * @return Reserved bytes
+     */
+    public long reservedBytes() {
+        return _reserved;
+    }
+
+
+    /**
+     * Releases every chunk. Existing addresses become invalid; the arena may be
+     * used again and will reserve fresh memory on demand
+     */
+    public void release() {
+        for (int i = 0; i < _chunkCount; i++) {
+            CLEANER.clean(_chunks[i]);
+            _chunks[i] = null;
+        }
+
+        Arrays.fill(_freeBlocks, null);
+        Arrays.fill(_freeCounts, 0);
+
+        _chunkCount = 0;
+        _used = 0;
+        _reserved = 0;
+        _allocated = 0;
+    }
+
+
+    // Helper Methods
+    /**
+     * Fetches the size class (log2 of the block size) serving a request
+     *
+     * @param bytes Requested size
+     * @return Size class
+     */
+    private static int sizeClass(int bytes) {
+        if (bytes < 0 || bytes > MAX_CHUNK_BYTES) {
+            throw new IllegalArgumentException("Error: Block size out of range");
+        }
+
+        return Math.max(MIN_CLASS, Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(bytes, 1) - 1));
+    }
+
+
+    /**
+     * Reserves a new chunk twice the size of the last, or large enough for one block
+     *
+     * @param blockBytes Size of the block that did not fit
+     */
+    private void addChunk(int blockBytes) {
+        int last = _chunkCount == 0 ? DEFAULT_CHUNK_BYTES / DOUBLE : _chunks[_chunkCount - 1].capacity();
+        int bytes = Math.max(blockBytes, (int) Math.min(MAX_CHUNK_BYTES, (long) last * DOUBLE));
+
+        if (_chunkCount == _chunks.length) {
+            _chunks = Arrays.copyOf(_chunks, _chunkCount * DOUBLE);
+        }
+
+        _chunks[_chunkCount++] = ByteBuffer.allocateDirect(bytes);
+        _used = 0;
+        _reserved += bytes;
+    }
+
+
+    // Inner Classes
+    /**
+     * Frees a direct buffer's memory immediately when the JDK allows it, and
+     * otherwise leaves it to the garbage collector
+     */
+    private interface Cleaner {
+        /**
+         * Frees a direct buffer; the buffer must not be used afterwards
+         *
+         * @param buffer Direct buffer
+         */
+        void clean(ByteBuffer buffer);
+
+
+        /**
+         * Locates {@code sun.misc.Unsafe.invokeCleaner} reflectively, falling back to a no-op
+         *
+         * @return Cleaner for this JDK
+         */
+        static Cleaner find() {
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field field = unsafeClass.getDeclaredField("theUnsafe");
+
+                field.setAccessible(true);
+
+                Object unsafe = field.get(null);
+                Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+
+                return buffer -> {
+                    try {
+                        invokeCleaner.invoke(unsafe, buffer);
+                    }
+                    catch (ReflectiveOperationException e) {
+                        // The buffer is reclaimed by the garbage collector instead
+                    }
+                };
+            }
+            catch (ReflectiveOperationException | RuntimeException e) {
+                return buffer -> { };
+            }
+        }
+    }
+}
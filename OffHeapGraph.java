@@ -0,0 +1,737 @@
+// Imports
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Adjacency list graph whose edges live outside the Java heap
+ *
+ * <p>Vertex labels are interned on-heap to dense slots. Each slot's out-edges
+ * are a block in an {@link OffHeapArena} holding one 16-byte entry per edge:
+ * the target slot, the encoded label's length, and the address of the label
+ * bytes, which are written through a {@link LabelCodec} into their own arena
+ * block. The heap therefore holds a few primitive arrays per vertex and no
+ * object per edge; {@link Edge} objects are decoded on demand. Rows are
+ * unsorted, so edge lookups scan the source's out-edges, and {@link #remove}
+ * scans every row for incoming edges.</p>
+ *
+ * <p>Call {@link #close()} to free the off-heap memory deterministically;
+ * every later call throws {@link IllegalStateException}.</p>
+ *
+ * @author blee20@georgefox.edu
+ * @param <V> Label type for vertices
+ * @param <E> Label type for edges
+ */
+public class OffHeapGraph<V, E> extends DirectedGraph<V, E> implements IndexedGraph<V>, AutoCloseable {
+    // Constants
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DEFAULT_ROW_CAPACITY = 4;
+    private static final int NOT_FOUND = -1;
+    private static final int DOUBLE = 2;
+    private static final int ENTRY_BYTES = 16;
+    private static final int TARGET_AT = 0;
+    private static final int LENGTH_AT = 4;
+    private static final int LABEL_AT = 8;
+
+
+    // Internal State
+    private final LabelCodec<E> _codec;
+    private final OffHeapArena _arena;
+    private final LabelInterner<V> _interner;
+    private Vertex<V>[] _vertices;
+    private long[] _rows;
+    private int[] _capacities;
+    private int[] _degrees;
+    private int _size;
+    private int _edgeCount;
+    private int _modCount;
+    private boolean _closed;
+
+
+    // Constructors
+    /**
+     * Creates an instance of class OffHeapGraph object; designates to second constructor
+     *
+     * @param codec Encodes and decodes edge labels
+     */
+    public OffHeapGraph(LabelCodec<E> codec) {
+        this(codec, DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     * Creates an instance of class OffHeapGraph object
+     *
+     * @param codec Encodes and decodes edge labels
+     * @param initialCapacity Expected number of vertices
+     */
+    @SuppressWarnings("unchecked")
+    public OffHeapGraph(LabelCodec<E> codec, int initialCapacity) {
+        if (codec == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Error: Capacity cannot be negative");
+        }
+
+        if (initialCapacity == 0) {
+            initialCapacity = DEFAULT_CAPACITY;
+        }
+
+        _codec = codec;
+        _arena = new OffHeapArena();
+        _interner = new LabelInterner<>(initialCapacity);
+        _vertices = (Vertex<V>[]) new Vertex[initialCapacity];
+        _rows = new long[initialCapacity];
+        _capacities = new int[initialCapacity];
+        _degrees = new int[initialCapacity];
+    }
+
+
+    // Methods
+    /**
+     * Creates a new vertex and adds it to the graph
+     *
+     * @param u Vertex label
+     */
+    public void add(V u) {
+        // Null and duplicate vertices are handled within this call
+        if (vertexIndex(u) != NOT_FOUND) {
+            throw new DuplicateVertexException();
+        }
+
+        // Slots freed by remove are reused before the arrays are allowed to grow
+        if (_interner.freeCount() == 0) {
+            growArrays();
+        }
+
+        int slot = _interner.intern(u);
+
+        _vertices[slot] = new Vertex<>(u);
+        _rows[slot] = OffHeapArena.NULL;
+
+        _size++;
+        _modCount++;
+    }
+
+
+    /**
+     * Determines if the given label is assigned to a vertex
+     *
+     * @param u Vertex label
+     * @return True if vertex with label exists, else false
+     */
+    public boolean contains(V u) {
+        // Null vertices are handled within this call
+        return vertexIndex(u) != NOT_FOUND;
+    }
+
+
+    /**
+     * Fetches the vertex with designated label
+     *
+     * @param u Vertex label
+     * @return Vertex of type V with corresponding label
+     */
+    public Vertex<V> get(V u) {
+        return _vertices[existingIndex(u)];
+    }
+
+
+    /**
+     * Deletes a Vertex object together with its incident edges
+     *
+     * @param u Vertex label
+     * @return Deleted vertex's label
+     */
+    public V remove(V u) {
+        int slot = existingIndex(u);
+        V returnValue = _vertices[slot].getLabel();
+
+        // Incoming edges may sit in any other row
+        for (int i = 0; i < _interner.bound(); i++) {
+            if (i != slot && _vertices[i] != null) {
+                int position = positionOf(i, slot);
+
+                if (position != NOT_FOUND) {
+                    removeAt(i, position);
+                }
+            }
+        }
+
+        freeRow(slot);
+
+        _interner.release(returnValue);
+        _vertices[slot] = null;
+
+        _size--;
+        _modCount++;
+
+        return returnValue;
+    }
+
+
+    /**
+     * Creates a new edge and assigns it to two vertices on the graph
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @param label Edge label
+     */
+    public void addEdge(V u, V v, E label) {
+        int uSlot = existingIndex(u);
+        int vSlot = existingIndex(v);
+
+        // Null edge handler
+        if (label == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        // Duplicate edge handler
+        if (positionOf(uSlot, vSlot) != NOT_FOUND) {
+            throw new DuplicateEdgeException();
+        }
+
+        ensureRowCapacity(uSlot);
+
+        byte[] bytes = _codec.encode(label);
+        long labelAddress = _arena.allocate(bytes.length);
+        long entry = entry(uSlot, _degrees[uSlot]);
+
+        _arena.putBytes(labelAddress, bytes);
+        _arena.putInt(entry, TARGET_AT, vSlot);
+        _arena.putInt(entry, LENGTH_AT, bytes.length);
+        _arena.putLong(entry, LABEL_AT, labelAddress);
+        _degrees[uSlot]++;
+
+        _edgeCount++;
+        _modCount++;
+    }
+
+
+    /**
+     * Determines if the given vertices share an edge. Rows are unsorted, so this
+     * scans u's out-edges
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return True if edge exists from u to v, else false
+     */
+    public boolean containsEdge(V u, V v) {
+        return positionOf(existingIndex(u), existingIndex(v)) != NOT_FOUND;
+    }
+
+
+    /**
+     * Fetches an edge if it exists from u to v
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Edge of type E from u to v, decoded from off-heap storage
+     */
+    public Edge<V, E> getEdge(V u, V v) {
+        int uSlot = existingIndex(u);
+        int position = existingPosition(uSlot, existingIndex(v));
+
+        return new Edge<>(u, v, labelAt(entry(uSlot, position)));
+    }
+
+
+    /**
+     * Deletes an Edge object
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Deleted edge's label
+     */
+    public E removeEdge(V u, V v) {
+        int uSlot = existingIndex(u);
+        int position = existingPosition(uSlot, existingIndex(v));
+        E returnValue = labelAt(entry(uSlot, position));
+
+        removeAt(uSlot, position);
+        _modCount++;
+
+        return returnValue;
+    }
+
+
+    /**
+     * Fetches the size of the graph (number of vertices)
+     *
+     * @return Number of vertices in graph
+     */
+    public int size() {
+        checkOpen();
+
+        return _size;
+    }
+
+
+    /**
+     * Fetches the number of edges emanating from the given vertex
+     *
+     * @param u Source vertex label
+     * @return Number of edges from u to another vertex
+     */
+    public int degree(V u) {
+        return _degrees[existingIndex(u)];
+    }
+
+
+    /**
+     * Fetches the number of edges in the entire graph
+     *
+     * @return Number of edges in graph
+     */
+    public int edgeCount() {
+        checkOpen();
+
+        return _edgeCount;
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all the vertices
+     *
+     * @return A new vertex iterator object
+     */
+    public Iterator<Vertex<V>> vertices() {
+        checkOpen();
+
+        return new GraphIterator<Vertex<V>>() {
+            private int _next = skipEmpty(0);
+
+            @Override
+            boolean advance() {
+                return _next < _interner.bound();
+            }
+
+            @Override
+            Vertex<V> current() {
+                Vertex<V> vertex = _vertices[_next];
+                _next = skipEmpty(_next + 1);
+
+                return vertex;
+            }
+        };
+    }
+
+
+    /**
+     * Creates an iterator for iterating through vertices adjacent to u
+     *
+     * @param u Source vertex
+     * @return A new iterator object
+     */
+    public Iterator<Vertex<V>> adjacent(V u) {
+        int slot = existingIndex(u);
+
+        return new GraphIterator<Vertex<V>>() {
+            private int _next = 0;
+
+            @Override
+            boolean advance() {
+                return _next < _degrees[slot];
+            }
+
+            @Override
+            Vertex<V> current() {
+                return _vertices[_arena.getInt(entry(slot, _next++), TARGET_AT)];
+            }
+        };
+    }
+
+
+    /**
+     * Creates an iterator for iterating through all the edges; each edge is
+     * decoded from off-heap storage as it is returned
+     *
+     * @return A new iterator object
+     */
+    public Iterator<Edge<V, E>> edges() {
+        checkOpen();
+
+        return new GraphIterator<Edge<V, E>>() {
+            private int _row = 0;
+            private int _next = 0;
+
+            @Override
+            boolean advance() {
+                // Skip over empty slots and vertices with no outgoing edges
+                while (_row < _interner.bound() && (_vertices[_row] == null || _next >= _degrees[_row])) {
+                    _row++;
+                    _next = 0;
+                }
+
+                return _row < _interner.bound();
+            }
+
+            @Override
+            Edge<V, E> current() {
+                long entry = entry(_row, _next++);
+
+                return new Edge<>(_vertices[_row].getLabel(),
+                        _vertices[_arena.getInt(entry, TARGET_AT)].getLabel(), labelAt(entry));
+            }
+        };
+    }
+
+
+    /**
+     * Clears the existing graph and returns its off-heap memory
+     */
+    public void clear() {
+        checkOpen();
+
+        _arena.release();
+        Arrays.fill(_vertices, 0, _interner.bound(), null);
+        Arrays.fill(_degrees, 0, _interner.bound(), 0);
+        Arrays.fill(_capacities, 0, _interner.bound(), 0);
+
+        _interner.clear();
+        _size = 0;
+        _edgeCount = 0;
+        _modCount++;
+    }
+
+
+    /**
+     * Determines if the current graph contains any vertices
+     *
+     * @return True if size is 0, else false
+     */
+    public boolean isEmpty() {
+        checkOpen();
+
+        return _size == 0;
+    }
+
+
+    /**
+     * Fetches the slot assigned to a vertex
+     *
+     * @param u Vertex label
+     * @return Slot of vertex, or -1 if absent
+     */
+    public int indexOf(V u) {
+        return vertexIndex(u);
+    }
+
+
+    /**
+     * Fetches an exclusive upper bound on every slot currently in use
+     *
+     * @return Number of slots handed out so far
+     */
+    public int indexBound() {
+        checkOpen();
+
+        return _interner.bound();
+    }
+
+
+    /**
+     * Fetches the number of off-heap bytes currently reserved by the graph
+     *
+     * @return Reserved bytes
+     */
+    public long offHeapBytes() {
+        return _arena.reservedBytes();
+    }
+
+
+    /**
+     * Frees the graph's off-heap memory. Calling close again has no effect;
+     * any other call afterwards throws {@link IllegalStateException}
+     */
+    @Override
+    public void close() {
+        if (!_closed) {
+            _closed = true;
+            _arena.release();
+            _interner.clear();
+            _vertices = null;
+            _rows = null;
+        }
+    }
+
+
+    // Helper Methods
+    /**
+     * Exception handler for use after {@link #close()}
+     */
+    private void checkOpen() {
+        if (_closed) {
+            throw new IllegalStateException("Error: Graph is closed");
+        }
+    }
+
+
+    /**
+     * Fetches the slot of a given vertex
+     *
+     * @param u Vertex label
+     * @return Slot of vertex, or -1 if absent
+     */
+    private int vertexIndex(V u) {
+        checkOpen();
+
+        // Null vertex handler
+        if (u == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        return _interner.idOf(u);
+    }
+
+
+    /**
+     * Fetches the slot of a vertex that must exist
+     *
+     * @param u Vertex label
+     * @return Slot of vertex
+     */
+    private int existingIndex(V u) {
+        int slot = vertexIndex(u);
+
+        // Non-existent vertex handler
+        if (slot == NOT_FOUND) {
+            throw new NoSuchVertexException();
+        }
+
+        return slot;
+    }
+
+
+    /**
+     * Fetches the address of an entry within a row
+     *
+     * @param slot Source slot
+     * @param position Position within the row
+     * @return Entry address
+     */
+    private long entry(int slot, int position) {
+        return _rows[slot] + (long) position * ENTRY_BYTES;
+    }
+
+
+    /**
+     * Decodes the label referenced by an entry
+     *
+     * @param entry Entry address
+     * @return Edge label
+     */
+    private E labelAt(long entry) {
+        long labelAddress = _arena.getLong(entry, LABEL_AT);
+        ByteBuffer buffer = _arena.buffer(labelAddress);
+
+        return _codec.decode(buffer, OffHeapArena.offset(labelAddress), _arena.getInt(entry, LENGTH_AT));
+    }
+
+
+    /**
+     * Finds a target within a row
+     *
+     * @param uSlot Source slot
+     * @param vSlot Destination slot
+     * @return Position within the row, or -1 if absent
+     */
+    private int positionOf(int uSlot, int vSlot) {
+        for (int k = 0; k < _degrees[uSlot]; k++) {
+            if (_arena.getInt(entry(uSlot, k), TARGET_AT) == vSlot) {
+                return k;
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+
+    /**
+     * Finds a target within a row, which must be present
+     *
+     * @param uSlot Source slot
+     * @param vSlot Destination slot
+     * @return Position within the row
+     */
+    private int existingPosition(int uSlot, int vSlot) {
+        int position = positionOf(uSlot, vSlot);
+
+        // Non-existent edge handler
+        if (position == NOT_FOUND) {
+            throw new NoSuchEdgeException();
+        }
+
+        return position;
+    }
+
+
+    /**
+     * Removes the edge at a row position, freeing its label and moving the
+     * row's last entry into the vacated position
+     *
+     * @param uSlot Source slot
+     * @param position Position within the row
+     */
+    private void removeAt(int uSlot, int position) {
+        long entry = entry(uSlot, position);
+        int last = --_degrees[uSlot];
+
+        _arena.free(_arena.getLong(entry, LABEL_AT), _arena.getInt(entry, LENGTH_AT));
+
+        if (position != last) {
+            _arena.copy(entry(uSlot, last), entry, ENTRY_BYTES);
+        }
+
+        _edgeCount--;
+    }
+
+
+    /**
+     * Frees a row block together with the labels of its edges
+     *
+     * @param slot Source slot
+     */
+    private void freeRow(int slot) {
+        for (int k = 0; k < _degrees[slot]; k++) {
+            long entry = entry(slot, k);
+
+            _arena.free(_arena.getLong(entry, LABEL_AT), _arena.getInt(entry, LENGTH_AT));
+        }
+
+        if (_rows[slot] != OffHeapArena.NULL) {
+            _arena.free(_rows[slot], _capacities[slot] * ENTRY_BYTES);
+        }
+
+        _edgeCount -= _degrees[slot];
+        _rows[slot] = OffHeapArena.NULL;
+        _capacities[slot] = 0;
+        _degrees[slot] = 0;
+    }
+
+
+    /**
+     * Makes room for one more entry in a row, moving it to a block twice the size if full
+     *
+     * @param slot Source slot
+     */
+    private void ensureRowCapacity(int slot) {
+        int degree = _degrees[slot];
+
+        if (degree < _capacities[slot]) {
+            return;
+        }
+
+        int capacity = degree == 0 ? DEFAULT_ROW_CAPACITY : degree * DOUBLE;
+
+        if ((long) capacity * ENTRY_BYTES > Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("Error: Row size limit reached");
+        }
+
+        long row = _arena.allocate(capacity * ENTRY_BYTES);
+
+        if (_rows[slot] != OffHeapArena.NULL) {
+            _arena.copy(_rows[slot], row, degree * ENTRY_BYTES);
+            _arena.free(_rows[slot], _capacities[slot] * ENTRY_BYTES);
+        }
+
+        _rows[slot] = row;
+        _capacities[slot] = capacity;
+    }
+
+
+    /**
+     * Skips empty slots
+     *
+     * @param from First slot to consider
+     * @return Next occupied slot, or the slot count if none remain
+     */
+    private int skipEmpty(int from) {
+        while (from < _interner.bound() && _vertices[from] == null) {
+            from++;
+        }
+
+        return from;
+    }
+
+
+    /**
+     * If capacity is reached, doubles the capacity of every slot array
+     */
+    private void growArrays() {
+        if (_interner.bound() == _vertices.length) {
+            if (_vertices.length > Integer.MAX_VALUE / DOUBLE) {
+                throw new OutOfMemoryError("Error: Integer limit reached");
+            }
+
+            int capacity = _vertices.length * DOUBLE;
+
+            _vertices = Arrays.copyOf(_vertices, capacity);
+            _rows = Arrays.copyOf(_rows, capacity);
+            _capacities = Arrays.copyOf(_capacities, capacity);
+            _degrees = Arrays.copyOf(_degrees, capacity);
+        }
+    }
+
+
+    // Inner Classes
+    /**
+     * Base for the graph's lazy iterators; fails fast if the graph is modified
+     * or closed after the iterator is created
+     *
+     * @param <T> Element type
+     */
+    private abstract class GraphIterator<T> implements Iterator<T> {
+        private final int _expectedModCount = _modCount;
+
+        /**
+         * Positions the iterator on the next element if one remains
+         *
+         * @return True if another element remains, else false
+         */
+        abstract boolean advance();
+
+
+        /**
+         * Fetches the element the iterator is positioned on and moves past it
+         *
+         * @return Current element
+         */
+        abstract T current();
+
+
+        @Override
+        public boolean hasNext() {
+            checkForComodification();
+
+            return advance();
+        }
+
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return current();
+        }
+
+
+        /**
+         * Exception handler for outside modification or a closed graph
+         */
+        private void checkForComodification() {
+            checkOpen();
+
+            if (_modCount != _expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+// Imports
+import java.util.Map;
+
+
+/**
+ * Result of a PageRank ranking: a score per vertex and how the iteration ended
+ *
+ * <p>If the iteration limit is reached first, the scores are those of the last
+ * iteration and {@link #converged()} is false; {@link #residual()} tells how
+ * far they still moved.</p>
+ *
+ * @author blee20@georgefox.edu
+ * @param <V> Label type for vertices
+ */
+public class PageRankScores<V> {
+    // Internal State
+    private final Map<V, Double> _scores;
+    private final int _iterations;
+    private final double _residual;
+    private final boolean _converged;
+
+
+    // Constructor
+    /**
+     * Creates a result from computed scores
+     *
+     * @param scores Score per vertex label
+     * @param iterations Number of iterations run
+     * @param residual Total change in scores during the last iteration
+     * @param converged True if the residual fell below the tolerance
+     */
+    PageRankScores(Map<V, Double> scores, int iterations, double residual, boolean converged) {
+        _scores = scores;
+        _iterations = iterations;
+        _residual = residual;
+        _converged = converged;
+    }
+
+
+    // Methods
+    /**
+     * Fetches the scores
+     *
+     * @return Score per vertex label, summing to 1
+     */
+    public Map<V, Double> scores() {
+        return _scores;
+    }
+
+
+    /**
+     * Fetches the number of iterations run
+     *
+     * @return Iteration count
+     */
+    public int iterations() {
+        return _iterations;
+    }
+
+
+    /**
+     * Fetches the total change in scores (L1 norm) during the last iteration
+     *
+     * @return Residual of the returned scores
+     */
+    public double residual() {
+        return _residual;
+    }
+
+
+    /**
+     * Determines if the iteration converged before reaching its limit
+     *
+     * @return True if the residual fell below the tolerance, else false
+     */
+    public boolean converged() {
+        return _converged;
+    }
+}
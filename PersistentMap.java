@@ -0,0 +1,559 @@
+// Imports
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Immutable hash map with structural sharing (a hash array mapped trie)
+ *
+ * <p>Keys are placed by successive 5-bit slices of their hash code in a trie
+ * of nodes with up to 32 children, each node storing only its occupied
+ * children behind a bitmap. {@link #put} and {@link #remove} copy the path
+ * from the root to the changed entry, at most seven small nodes, and share
+ * everything else with the original map, so an old version stays valid and
+ * unchanged. Instances can be read from any thread without locking.</p>
+ *
+ * @author blee20@georgefox.edu
+ * @param <K> Key type
+ * @param <T> Value type
+ */
+public final class PersistentMap<K, T> implements Iterable<Map.Entry<K, T>> {
+    // Constants
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int HASH_BITS = 32;
+    private static final int PAIR = 2;
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(null, 0);
+
+
+    // Internal State
+    private final Object _root;
+    private final int _size;
+
+
+    // Constructor
+    /**
+     * Creates a map over a trie
+     *
+     * @param root Root node, or null when empty
+     * @param size Number of entries
+     */
+    private PersistentMap(Object root, int size) {
+        _root = root;
+        _size = size;
+    }
+
+
+    // Methods
+    /**
+     * Fetches the empty map
+     *
+     * @param <K> Key type
+     * @param <T> Value type
+     * @return Shared empty instance
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, T> PersistentMap<K, T> empty() {
+        return (PersistentMap<K, T>) EMPTY;
+    }
+
+
+    /**
+     * Fetches the value mapped to a key
+     *
+     * @param key Key to look up
+     * @return Value, or null if the key is absent
+     */
+    @SuppressWarnings("unchecked")
+    public T get(Object key) {
+        int hash = hash(key);
+        Object node = _root;
+
+        for (int shift = 0; node != null; shift += BITS) {
+            if (node instanceof Collision) {
+                Object[] array = ((Collision) node)._array;
+
+                for (int i = 0; i < array.length; i += PAIR) {
+                    if (key.equals(array[i])) {
+                        return (T) array[i + 1];
+                    }
+                }
+
+                return null;
+            }
+
+            Branch branch = (Branch) node;
+            int bit = bit(hash, shift);
+
+            if ((branch._bitmap & bit) == 0) {
+                return null;
+            }
+
+            int at = branch.index(bit);
+            Object k = branch._array[at];
+
+            if (k == null) {
+                node = branch._array[at + 1];
+            }
+            else {
+                return key.equals(k) ? (T) branch._array[at + 1] : null;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Determines if a key is present
+     *
+     * @param key Key to look up
+     * @return True if the key is mapped, else false
+     */
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+
+    /**
+     * Creates a map with one entry added or replaced
+     *
+     * @param key Key, not null
+     * @param value Value, not null
+     * @return New map, or this map if the entry was already present
+     */
+    public PersistentMap<K, T> put(K key, T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        boolean[] added = new boolean[1];
+        Object root = _root == null ? branch(0, key, value) : put(_root, hash(key), 0, key, value, added);
+
+        if (_root == null) {
+            added[0] = true;
+        }
+
+        return root == _root ? this : new PersistentMap<>(root, added[0] ? _size + 1 : _size);
+    }
+
+
+    /**
+     * Creates a map without a key
+     *
+     * @param key Key to remove
+     * @return New map, or this map if the key was absent
+     */
+    public PersistentMap<K, T> remove(Object key) {
+        if (_root == null) {
+            hash(key);
+
+            return this;
+        }
+
+        Object root = remove(_root, hash(key), 0, key);
+
+        return root == _root ? this : new PersistentMap<>(root, _size - 1);
+    }
+
+
+    /**
+     * Fetches the number of entries
+     *
+     * @return Entry count
+     */
+    public int size() {
+        return _size;
+    }
+
+
+    /**
+     * Determines if the map has no entries
+     *
+     * @return True if size is 0, else false
+     */
+    public boolean isEmpty() {
+        return _size == 0;
+    }
+
+
+    /**
+     * Creates an iterator over the entries in trie order
+     *
+     * @return A new iterator object
+     */
+    @Override
+    public Iterator<Map.Entry<K, T>> iterator() {
+        return new EntryIterator<>(_root);
+    }
+
+
+    // Helper Methods
+    /**
+     * Spreads a key's hash code
+     *
+     * @param key Key
+     * @return Mixed hash code
+     */
+    private static int hash(Object key) {
+        // Null key handler
+        if (key == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        int h = key.hashCode();
+
+        return h ^ (h >>> (HASH_BITS / PAIR));
+    }
+
+
+    /**
+     * Fetches the bitmap bit selected by a hash at a trie level
+     *
+     * @param hash Mixed hash code
+     * @param shift Bits already consumed
+     * @return Single-bit mask
+     */
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+
+    /**
+     * Creates a branch holding one entry
+     *
+     * @param shift Bits already consumed at this level
+     * @param key Key
+     * @param value Value
+     * @return New branch
+     */
+    private static Branch branch(int shift, Object key, Object value) {
+        return new Branch(bit(hash(key), shift), new Object[] {key, value});
+    }
+
+
+    /**
+     * Adds or replaces an entry below a node, copying the path to it
+     *
+     * @param node Current node
+     * @param hash Mixed hash of the key
+     * @param shift Bits already consumed
+     * @param key Key
+     * @param value Value
+     * @param added Set to true if the key was new
+     * @return Replacement node, or the same node if nothing changed
+     */
+    private static Object put(Object node, int hash, int shift, Object key, Object value, boolean[] added) {
+        if (node instanceof Collision) {
+            Object[] array = ((Collision) node)._array;
+
+            for (int i = 0; i < array.length; i += PAIR) {
+                if (key.equals(array[i])) {
+                    return array[i + 1] == value ? node : new Collision(with(array, i + 1, value));
+                }
+            }
+
+            added[0] = true;
+
+            return new Collision(insert(array, array.length, key, value));
+        }
+
+        Branch branch = (Branch) node;
+        int bit = bit(hash, shift);
+        int at = branch.index(bit);
+
+        if ((branch._bitmap & bit) == 0) {
+            added[0] = true;
+
+            return new Branch(branch._bitmap | bit, insert(branch._array, at, key, value));
+        }
+
+        Object k = branch._array[at];
+        Object v = branch._array[at + 1];
+        Object child;
+
+        if (k == null) {
+            child = put(v, hash, shift + BITS, key, value, added);
+
+            if (child == v) {
+                return node;
+            }
+        }
+        else if (key.equals(k)) {
+            return v == value ? node : new Branch(branch._bitmap, with(branch._array, at + 1, value));
+        }
+        else {
+            // Two keys share this slot, so they move down into a new child
+            added[0] = true;
+            child = merge(shift + BITS, k, v, key, value);
+        }
+
+        Object[] array = with(branch._array, at + 1, child);
+
+        array[at] = null;
+
+        return new Branch(branch._bitmap, array);
+    }
+
+
+    /**
+     * Creates the smallest subtrie holding two entries whose keys differ
+     *
+     * @param shift Bits already consumed at the new level
+     * @param k1 First key
+     * @param v1 First value
+     * @param k2 Second key
+     * @param v2 Second value
+     * @return New node
+     */
+    private static Object merge(int shift, Object k1, Object v1, Object k2, Object v2) {
+        int h1 = hash(k1);
+        int h2 = hash(k2);
+
+        // Once every hash bit is used up the keys have equal hashes
+        if (shift >= HASH_BITS) {
+            return new Collision(new Object[] {k1, v1, k2, v2});
+        }
+
+        int b1 = bit(h1, shift);
+        int b2 = bit(h2, shift);
+
+        if (b1 == b2) {
+            return new Branch(b1, new Object[] {null, merge(shift + BITS, k1, v1, k2, v2)});
+        }
+
+        return new Branch(b1 | b2, Integer.compareUnsigned(b1, b2) < 0
+                ? new Object[] {k1, v1, k2, v2} : new Object[] {k2, v2, k1, v1});
+    }
+
+
+    /**
+     * Removes an entry below a node, copying the path to it
+     *
+     * @param node Current node
+     * @param hash Mixed hash of the key
+     * @param shift Bits already consumed
+     * @param key Key
+     * @return Replacement node, null if the node became empty, or the same
+     *         node if the key was absent
+     */
+    private static Object remove(Object node, int hash, int shift, Object key) {
+        if (node instanceof Collision) {
+            Object[] array = ((Collision) node)._array;
+
+            for (int i = 0; i < array.length; i += PAIR) {
+                if (key.equals(array[i])) {
+                    return array.length == PAIR ? null : new Collision(without(array, i));
+                }
+            }
+
+            return node;
+        }
+
+        Branch branch = (Branch) node;
+        int bit = bit(hash, shift);
+
+        if ((branch._bitmap & bit) == 0) {
+            return node;
+        }
+
+        int at = branch.index(bit);
+        Object k = branch._array[at];
+
+        if (k == null) {
+            Object child = branch._array[at + 1];
+            Object replaced = remove(child, hash, shift + BITS, key);
+
+            if (replaced == child) {
+                return node;
+            }
+
+            if (replaced != null) {
+                return new Branch(branch._bitmap, with(branch._array, at + 1, replaced));
+            }
+        }
+        else if (!key.equals(k)) {
+            return node;
+        }
+
+        return branch._bitmap == bit ? null : new Branch(branch._bitmap ^ bit, without(branch._array, at));
+    }
+
+
+    /**
+     * Copies an array with one element replaced
+     *
+     * @param array Source array
+     * @param at Position to replace
+     * @param value New element
+     * @return Copy of the array
+     */
+    private static Object[] with(Object[] array, int at, Object value) {
+        Object[] copy = array.clone();
+
+        copy[at] = value;
+
+        return copy;
+    }
+
+
+    /**
+     * Copies an array with a key-value pair inserted
+     *
+     * @param array Source array
+     * @param at Position of the new pair
+     * @param key Key
+     * @param value Value
+     * @return Copy of the array, two elements longer
+     */
+    private static Object[] insert(Object[] array, int at, Object key, Object value) {
+        Object[] copy = new Object[array.length + PAIR];
+
+        System.arraycopy(array, 0, copy, 0, at);
+        System.arraycopy(array, at, copy, at + PAIR, array.length - at);
+        copy[at] = key;
+        copy[at + 1] = value;
+
+        return copy;
+    }
+
+
+    /**
+     * Copies an array with a key-value pair removed
+     *
+     * @param array Source array
+     * @param at Position of the pair
+     * @return Copy of the array, two elements shorter
+     */
+    private static Object[] without(Object[] array, int at) {
+        Object[] copy = Arrays.copyOf(array, array.length - PAIR);
+
+        System.arraycopy(array, at + PAIR, copy, at, array.length - at - PAIR);
+
+        return copy;
+    }
+
+
+    // Inner Classes
+    /**
+     * Trie node storing its occupied children as (key, value) pairs, or
+     * (null, child node) for slots shared by several keys
+     */
+    private static final class Branch {
+        private final int _bitmap;
+        private final Object[] _array;
+
+        /**
+         * Creates a branch
+         *
+         * @param bitmap Occupied slots
+         * @param array Pairs for the occupied slots, in slot order
+         */
+        Branch(int bitmap, Object[] array) {
+            _bitmap = bitmap;
+            _array = array;
+        }
+
+        /**
+         * Fetches where a slot's pair starts in the array
+         *
+         * @param bit Slot bit
+         * @return Array position of the pair
+         */
+        int index(int bit) {
+            return Integer.bitCount(_bitmap & (bit - 1)) * PAIR;
+        }
+    }
+
+
+    /**
+     * Leaf for keys whose hash codes are fully equal, as (key, value) pairs
+     */
+    private static final class Collision {
+        private final Object[] _array;
+
+        /**
+         * Creates a collision leaf
+         *
+         * @param array Key-value pairs
+         */
+        Collision(Object[] array) {
+            _array = array;
+        }
+    }
+
+
+    /**
+     * Depth-first walk over the trie
+     *
+     * @param <K> Key type
+     * @param <T> Value type
+     */
+    private static final class EntryIterator<K, T> implements Iterator<Map.Entry<K, T>> {
+        private final Object[][] _arrays = new Object[HASH_BITS / BITS + PAIR][];
+        private final int[] _positions = new int[HASH_BITS / BITS + PAIR];
+        private int _depth = -1;
+
+        /**
+         * Creates an iterator starting at a root
+         *
+         * @param root Root node, or null
+         */
+        EntryIterator(Object root) {
+            if (root != null) {
+                push(root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            // Descend into child nodes and pop finished ones until a pair is next
+            while (_depth >= 0) {
+                Object[] array = _arrays[_depth];
+                int at = _positions[_depth];
+
+                if (at == array.length) {
+                    _depth--;
+                }
+                else if (array[at] == null) {
+                    _positions[_depth] += PAIR;
+                    push(array[at + 1]);
+                }
+                else {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            Object[] array = _arrays[_depth];
+            int at = _positions[_depth];
+
+            _positions[_depth] += PAIR;
+
+            return new AbstractMap.SimpleImmutableEntry<>((K) array[at], (T) array[at + 1]);
+        }
+
+        /**
+         * Starts walking a node
+         *
+         * @param node Branch or collision leaf
+         */
+        private void push(Object node) {
+            _depth++;
+            _arrays[_depth] = node instanceof Branch ? ((Branch) node)._array : ((Collision) node)._array;
+            _positions[_depth] = 0;
+        }
+    }
+}
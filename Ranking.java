@@ -0,0 +1,573 @@
+// Imports
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+
+/**
+ * Vertex ranking over DirectedGraphs: PageRank, personalized PageRank, degree
+ * centrality and HITS
+ *
+ * <p>The graph is converted to {@link CsrGraph} form once, together with its
+ * transpose, and every iteration then pulls scores along in-edges using only
+ * {@code double[]} arrays allocated before the first iteration. Each sweep over
+ * the vertices is split into fixed ranges that run on the common fork-join
+ * pool once the graph has at least {@code PARALLEL_THRESHOLD} vertices; the
+ * ranges are combined in a fixed order, so results do not depend on the
+ * number of cores. The tolerance is per vertex: iteration stops once the
+ * scores are estimated to be within {@code n * tolerance} of their limit in
+ * total (L1 norm), so the same tolerance suits graphs of any size. The
+ * estimate extrapolates the last change by the rate at which changes have
+ * been shrinking, so a slowly converging iteration is not stopped merely
+ * because each step is small. Reaching the iteration limit first
+ * is not an error. The scores of the last iteration are returned, and the
+ * result reports whether they converged and how far they still moved.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+public final class Ranking {
+    // Constants
+    static final double DEFAULT_DAMPING = 0.85;
+    static final double DEFAULT_TOLERANCE = 1e-9;
+    static final double DEFAULT_HITS_TOLERANCE = 1e-8;
+    static final int DEFAULT_MAX_ITERATIONS = 200;
+    static final int DEFAULT_HITS_MAX_ITERATIONS = 2000;
+    private static final int PARALLEL_THRESHOLD = 1 << 12;
+    private static final float LOAD_FACTOR = 0.75f;
+
+
+    /**
+     * Prevents instantiation of this utility class
+     */
+    private Ranking() {
+    }
+
+
+    // Methods
+    /**
+     * Computes PageRank with the default damping factor, tolerance and
+     * iteration limit
+     *
+     * @param graph Graph to rank
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return Score per vertex label, summing to 1
+     */
+    public static <V, E> PageRankScores<V> pageRank(DirectedGraph<V, E> graph) {
+        return pageRank(graph, DEFAULT_DAMPING, DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS);
+    }
+
+
+    /**
+     * Computes PageRank. A random surfer follows a uniformly chosen out-edge
+     * with probability {@code damping} and otherwise jumps to a uniformly
+     * chosen vertex; the rank of a dangling vertex, which has no out-edges,
+     * is spread over every vertex
+     *
+     * @param graph Graph to rank
+     * @param damping Probability of following an edge, in {@code [0, 1)}
+     * @param tolerance Change per vertex below which iteration stops
+     * @param maxIterations Maximum number of iterations
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return Score per vertex label, summing to 1
+     */
+    public static <V, E> PageRankScores<V> pageRank(DirectedGraph<V, E> graph, double damping, double tolerance,
+                                                 int maxIterations) {
+        checkParameters(damping, tolerance, maxIterations);
+
+        CsrGraph<V, E> csr = csr(graph);
+        double[] teleport = new double[csr.size()];
+
+        Arrays.fill(teleport, 1.0 / csr.size());
+
+        return powerIteration(csr, teleport, damping, tolerance, maxIterations);
+    }
+
+
+    /**
+     * Computes personalized PageRank with the default damping factor,
+     * tolerance and iteration limit
+     *
+     * @param graph Graph to rank
+     * @param personalization Non-negative jump weight per vertex label;
+     *                        missing vertices weigh 0
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return Score per vertex label, summing to 1
+     */
+    public static <V, E> PageRankScores<V> personalizedPageRank(DirectedGraph<V, E> graph,
+                                                                Map<V, Double> personalization) {
+        return personalizedPageRank(graph, personalization, DEFAULT_DAMPING, DEFAULT_TOLERANCE,
+                DEFAULT_MAX_ITERATIONS);
+    }
+
+
+    /**
+     * Computes personalized PageRank: like {@link #pageRank}, except that
+     * jumps, including those out of dangling vertices, land on a vertex with
+     * probability proportional to its personalization weight
+     *
+     * @param graph Graph to rank
+     * @param personalization Non-negative jump weight per vertex label;
+     *                        missing vertices weigh 0
+     * @param damping Probability of following an edge, in {@code [0, 1)}
+     * @param tolerance Change per vertex below which iteration stops
+     * @param maxIterations Maximum number of iterations
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return Score per vertex label, summing to 1
+     */
+    public static <V, E> PageRankScores<V> personalizedPageRank(DirectedGraph<V, E> graph,
+                                                                Map<V, Double> personalization, double damping,
+                                                                double tolerance, int maxIterations) {
+        checkParameters(damping, tolerance, maxIterations);
+
+        if (personalization == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        CsrGraph<V, E> csr = csr(graph);
+        double[] teleport = new double[csr.size()];
+        double total = 0.0;
+
+        for (Map.Entry<V, Double> entry : personalization.entrySet()) {
+            int index = csr.vertexIndex(entry.getKey());
+            Double weight = entry.getValue();
+
+            // Non-existent vertex handler
+            if (index < 0) {
+                throw new NoSuchVertexException();
+            }
+
+            if (weight == null || !(weight >= 0.0) || weight.isInfinite()) {
+                throw new IllegalArgumentException("Error: Personalization weights must be finite and non-negative");
+            }
+
+            teleport[index] = weight;
+            total += weight;
+        }
+
+        if (total == 0.0 && csr.size() > 0) {
+            throw new IllegalArgumentException("Error: Personalization weights must not all be zero");
+        }
+
+        for (int i = 0; i < teleport.length; i++) {
+            teleport[i] /= total;
+        }
+
+        return powerIteration(csr, teleport, damping, tolerance, maxIterations);
+    }
+
+
+    /**
+     * Computes in-degree centrality: each vertex's in-degree divided by
+     * {@code n - 1}, the most edges that can end at one vertex without self-loops
+     *
+     * @param graph Graph to rank
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return Score per vertex label
+     */
+    public static <V, E> Map<V, Double> inDegreeCentrality(DirectedGraph<V, E> graph) {
+        CsrGraph<V, E> csr = csr(graph);
+        double[] scores = new double[csr.size()];
+        double scale = 1.0 / Math.max(csr.size() - 1, 1);
+
+        for (int target : csr.targets()) {
+            scores[target] += scale;
+        }
+
+        return byLabel(csr, scores);
+    }
+
+
+    /**
+     * Computes out-degree centrality: each vertex's out-degree divided by
+     * {@code n - 1}, the most edges that can start at one vertex without self-loops
+     *
+     * @param graph Graph to rank
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return Score per vertex label
+     */
+    public static <V, E> Map<V, Double> outDegreeCentrality(DirectedGraph<V, E> graph) {
+        CsrGraph<V, E> csr = csr(graph);
+        int[] offsets = csr.offsets();
+        double[] scores = new double[csr.size()];
+        double scale = 1.0 / Math.max(csr.size() - 1, 1);
+
+        for (int u = 0; u < scores.length; u++) {
+            scores[u] = (offsets[u + 1] - offsets[u]) * scale;
+        }
+
+        return byLabel(csr, scores);
+    }
+
+
+    /**
+     * Computes HITS hub and authority scores with a looser tolerance and a
+     * higher iteration limit than PageRank's. HITS converges at a rate set by
+     * the gap between the two largest eigenvalues of {@code A^T A}, which is
+     * often small; a random graph with one large component can need several
+     * hundred iterations, each a pass over every edge in both directions
+     *
+     * @param graph Graph to rank
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return Hub and authority scores
+     */
+    public static <V, E> HitsScores<V> hits(DirectedGraph<V, E> graph) {
+        return hits(graph, DEFAULT_HITS_TOLERANCE, DEFAULT_HITS_MAX_ITERATIONS);
+    }
+
+
+    /**
+     * Computes HITS hub and authority scores. Each iteration sets every
+     * authority score to the sum of the hub scores of its predecessors and
+     * every hub score to the sum of the authority scores of its successors,
+     * then rescales both to sum to 1. A graph without edges gives every
+     * vertex equal scores
+     *
+     * @param graph Graph to rank
+     * @param tolerance Change in hub score per vertex below which iteration stops
+     * @param maxIterations Maximum number of iterations
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return Hub and authority scores
+     */
+    public static <V, E> HitsScores<V> hits(DirectedGraph<V, E> graph, double tolerance, int maxIterations) {
+        checkParameters(0.0, tolerance, maxIterations);
+
+        CsrGraph<V, E> csr = csr(graph);
+        int n = csr.size();
+        int[] offsets = csr.offsets();
+        int[] targets = csr.targets();
+        int[][] reversed = csr.transpose();
+        int[] inOffsets = reversed[0];
+        int[] sources = reversed[1];
+        double[] hubs = new double[n];
+        double[] next = new double[n];
+        double[] authorities = new double[n];
+
+        Arrays.fill(hubs, 1.0 / n);
+        Arrays.fill(authorities, 1.0 / n);
+
+        if (targets.length == 0) {
+            return new HitsScores<>(byLabel(csr, hubs), byLabel(csr, authorities), 0, 0.0, true);
+        }
+
+        double threshold = tolerance * n;
+        double change = Double.NaN;
+        double error = Double.POSITIVE_INFINITY;
+        int iteration = 0;
+
+        while (iteration < maxIterations && !(error < threshold)) {
+            double[] current = hubs;
+            double[] updated = next;
+
+            double authorityTotal = sweep(n, (from, to) -> {
+                double sum = 0.0;
+
+                for (int v = from; v < to; v++) {
+                    double score = 0.0;
+
+                    for (int k = inOffsets[v]; k < inOffsets[v + 1]; k++) {
+                        score += current[sources[k]];
+                    }
+
+                    authorities[v] = score;
+                    sum += score;
+                }
+
+                return sum;
+            });
+
+            double hubTotal = sweep(n, (from, to) -> {
+                double sum = 0.0;
+
+                for (int u = from; u < to; u++) {
+                    double score = 0.0;
+
+                    for (int k = offsets[u]; k < offsets[u + 1]; k++) {
+                        score += authorities[targets[k]];
+                    }
+
+                    updated[u] = score / authorityTotal;
+                    sum += updated[u];
+                }
+
+                return sum;
+            });
+
+            double previous = change;
+
+            // Rescale both score sets and measure the change in hub scores
+            change = sweep(n, (from, to) -> {
+                double sum = 0.0;
+
+                for (int u = from; u < to; u++) {
+                    authorities[u] /= authorityTotal;
+                    updated[u] /= hubTotal;
+                    sum += Math.abs(updated[u] - current[u]);
+                }
+
+                return sum;
+            });
+
+            error = remainingError(change, previous);
+            hubs = updated;
+            next = current;
+            iteration++;
+        }
+
+        return new HitsScores<>(byLabel(csr, hubs), byLabel(csr, authorities), iteration, change,
+                error < threshold);
+    }
+
+
+    // Helper Methods
+    /**
+     * Runs the PageRank power iteration: each vertex's new score is the
+     * damped sum of its predecessors' scores, each divided by that
+     * predecessor's out-degree, plus its share of the jump probability
+     *
+     * @param csr Graph to rank
+     * @param teleport Jump probability per vertex index, summing to 1
+     * @param damping Probability of following an edge
+     * @param tolerance Change per vertex below which iteration stops
+     * @param maxIterations Maximum number of iterations
+     * @param <V> Label type for vertices
+     * @return Scores and how the iteration ended
+     */
+    private static <V> PageRankScores<V> powerIteration(CsrGraph<V, ?> csr, double[] teleport, double damping,
+                                                        double tolerance, int maxIterations) {
+        int n = csr.size();
+        int[] offsets = csr.offsets();
+        int[][] reversed = csr.transpose();
+        int[] inOffsets = reversed[0];
+        int[] sources = reversed[1];
+        double[] ranks = teleport.clone();
+        double[] next = new double[n];
+        double[] shares = new double[n];
+
+        if (n == 0) {
+            return new PageRankScores<>(byLabel(csr, ranks), 0, 0.0, true);
+        }
+
+        double threshold = tolerance * n;
+        double change = Double.NaN;
+        double error = Double.POSITIVE_INFINITY;
+        int iteration = 0;
+
+        while (iteration < maxIterations && !(error < threshold)) {
+            double[] current = ranks;
+            double[] updated = next;
+
+            // Each vertex passes its rank evenly to its successors; dangling ones pass it to everyone
+            double dangling = sweep(n, (from, to) -> {
+                double sum = 0.0;
+
+                for (int u = from; u < to; u++) {
+                    int degree = offsets[u + 1] - offsets[u];
+
+                    if (degree == 0) {
+                        shares[u] = 0.0;
+                        sum += current[u];
+                    }
+                    else {
+                        shares[u] = current[u] / degree;
+                    }
+                }
+
+                return sum;
+            });
+
+            double jump = 1.0 - damping + damping * dangling;
+
+            double previous = change;
+
+            change = sweep(n, (from, to) -> {
+                double sum = 0.0;
+
+                for (int v = from; v < to; v++) {
+                    double incoming = 0.0;
+
+                    for (int k = inOffsets[v]; k < inOffsets[v + 1]; k++) {
+                        incoming += shares[sources[k]];
+                    }
+
+                    updated[v] = damping * incoming + jump * teleport[v];
+                    sum += Math.abs(updated[v] - current[v]);
+                }
+
+                return sum;
+            });
+
+            error = remainingError(change, previous);
+            ranks = updated;
+            next = current;
+            iteration++;
+        }
+
+        return new PageRankScores<>(byLabel(csr, ranks), iteration, change, error < threshold);
+    }
+
+
+    /**
+     * Estimates how far the scores still are from their limit. If each change
+     * is the previous one times a rate below 1, the changes still to come sum
+     * to {@code change * rate / (1 - rate)}
+     *
+     * @param change Total change in the last iteration
+     * @param previous Total change in the iteration before, or NaN if none
+     * @return Estimated remaining distance, or infinity if changes are not shrinking
+     */
+    private static double remainingError(double change, double previous) {
+        if (change == 0.0) {
+            return 0.0;
+        }
+
+        if (!(change < previous)) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        double rate = change / previous;
+
+        return change * rate / (1.0 - rate);
+    }
+
+
+    /**
+     * Applies a kernel to every vertex index and sums its results, splitting
+     * the indices into ranges that run in parallel on large graphs
+     *
+     * @param n Number of vertices
+     * @param kernel Work for one range of vertex indices
+     * @return Sum of the kernel's results over all ranges
+     */
+    private static double sweep(int n, RangeKernel kernel) {
+        if (n < PARALLEL_THRESHOLD) {
+            return kernel.apply(0, n);
+        }
+
+        return ForkJoinPool.commonPool().invoke(new SweepTask(kernel, 0, n));
+    }
+
+
+    /**
+     * Maps each vertex label to its score
+     *
+     * @param csr Graph whose indices the scores follow
+     * @param scores Score per vertex index
+     * @param <V> Label type for vertices
+     * @return A new map
+     */
+    private static <V> Map<V, Double> byLabel(CsrGraph<V, ?> csr, double[] scores) {
+        HashMap<V, Double> result = new HashMap<>((int) (scores.length / LOAD_FACTOR) + 1);
+
+        for (int i = 0; i < scores.length; i++) {
+            result.put(csr.vertexAt(i).getLabel(), scores[i]);
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Exception handler for iteration parameters
+     *
+     * @param damping Probability of following an edge
+     * @param tolerance Convergence tolerance
+     * @param maxIterations Iteration limit
+     */
+    private static void checkParameters(double damping, double tolerance, int maxIterations) {
+        if (!(damping >= 0.0 && damping < 1.0)) {
+            throw new IllegalArgumentException("Error: Damping factor must be in [0, 1)");
+        }
+
+        if (!(tolerance > 0.0)) {
+            throw new IllegalArgumentException("Error: Tolerance must be positive");
+        }
+
+        if (maxIterations <= 0) {
+            throw new IllegalArgumentException("Error: Iteration limit must be positive");
+        }
+    }
+
+
+    /**
+     * Fetches the graph as a CsrGraph, converting it if needed
+     *
+     * @param graph Graph to rank
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return Compressed form of the graph
+     */
+    @SuppressWarnings("unchecked")
+    private static <V, E> CsrGraph<V, E> csr(DirectedGraph<V, E> graph) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        return graph instanceof CsrGraph ? (CsrGraph<V, E>) graph : new CsrGraph<>(graph);
+    }
+
+
+    // Inner Classes
+    /**
+     * Work applied to one range of vertex indices during a sweep
+     */
+    @FunctionalInterface
+    private interface RangeKernel {
+        /**
+         * Processes the vertex indices {@code [from, to)}
+         *
+         * @param from First index
+         * @param to One past the last index
+         * @return Partial sum contributed by the range
+         */
+        double apply(int from, int to);
+    }
+
+
+    /**
+     * Splits a sweep in half until ranges fall below the parallel threshold
+     */
+    private static class SweepTask extends RecursiveTask<Double> {
+        private final RangeKernel _kernel;
+        private final int _from;
+        private final int _to;
+
+        /**
+         * Creates a task over a range of vertex indices
+         *
+         * @param kernel Work for each range
+         * @param from First index
+         * @param to One past the last index
+         */
+        SweepTask(RangeKernel kernel, int from, int to) {
+            _kernel = kernel;
+            _from = from;
+            _to = to;
+        }
+
+        @Override
+        protected Double compute() {
+            if (_to - _from <= PARALLEL_THRESHOLD) {
+                return _kernel.apply(_from, _to);
+            }
+
+            int middle = (_from + _to) >>> 1;
+            SweepTask left = new SweepTask(_kernel, _from, middle);
+
+            left.fork();
+
+            double right = new SweepTask(_kernel, middle, _to).compute();
+
+            return left.join() + right;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+// Imports
+import java.util.Arrays;
+import java.util.BitSet;
+
+
+/**
+ * Reachability labels for a DAG that answer most queries without a search
+ *
+ * <p>One iterative depth-first pass over the {@link CsrGraph} form gives every
+ * vertex its post-order number, the interval of post-order numbers in its DFS
+ * subtree, and the smallest post-order number among all its descendants. A
+ * vertex whose number lies inside u's subtree interval is reachable from u.
+ * A vertex finished after u, or with a descendant numbered below all of u's,
+ * is not. Only the pairs left over need a search, and that search skips every
+ * vertex the labels rule out. The labels take three ints per vertex and take
+ * linear time to build.</p>
+ *
+ * <p>The index describes the graph as it was when built, and is not updated
+ * when that graph changes. It is immutable, so any number of threads may
+ * query it.</p>
+ *
+ * @author blee20@georgefox.edu
+ * @param <V> Label type for vertices
+ */
+public class ReachabilityIndex<V> {
+    // Constants
+    private static final int UNVISITED = 0;
+    private static final int ACTIVE = 1;
+    private static final int FINISHED = 2;
+    private static final int INITIAL_STACK = 16;
+
+
+    // Internal State
+    private final CsrGraph<V, ?> _graph;
+    private final int[] _post;
+    private final int[] _subtreeLow;
+    private final int[] _low;
+
+
+    // Constructor
+    /**
+     * Labels every vertex of an acyclic graph
+     *
+     * @param graph Graph to index
+     * @param <E> Label type for edges
+     * @throws CycleException If the graph contains a cycle
+     */
+    public <E> ReachabilityIndex(DirectedGraph<V, E> graph) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+        }
+
+        CsrGraph<V, E> csr = graph instanceof CsrGraph ? (CsrGraph<V, E>) graph : new CsrGraph<>(graph);
+        int n = csr.size();
+        int[] offsets = csr.offsets();
+        int[] targets = csr.targets();
+
+        _graph = csr;
+        _post = new int[n];
+        _subtreeLow = new int[n];
+        _low = new int[n];
+
+        int[] state = new int[n];
+        // Each stack frame is a vertex and the slot of its next out-edge
+        int[] stack = new int[n];
+        int[] cursor = new int[n];
+        int finished = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (state[root] != UNVISITED) {
+                continue;
+            }
+
+            int top = 0;
+
+            stack[0] = root;
+            cursor[0] = offsets[root];
+            state[root] = ACTIVE;
+            _subtreeLow[root] = finished;
+
+            while (top >= 0) {
+                int u = stack[top];
+
+                if (cursor[top] < offsets[u + 1]) {
+                    int w = targets[cursor[top]++];
+
+                    if (state[w] == ACTIVE) {
+                        throw new CycleException("Error: Graph contains a cycle");
+                    }
+
+                    if (state[w] == UNVISITED) {
+                        top++;
+                        stack[top] = w;
+                        cursor[top] = offsets[w];
+                        state[w] = ACTIVE;
+                        _subtreeLow[w] = finished;
+                    }
+                }
+                else {
+                    // Every successor is finished by now, so their lows are final
+                    int low = finished;
+
+                    for (int k = offsets[u]; k < offsets[u + 1]; k++) {
+                        low = Math.min(low, _low[targets[k]]);
+                    }
+
+                    _post[u] = finished++;
+                    _low[u] = Math.min(low, _subtreeLow[u]);
+                    state[u] = FINISHED;
+                    top--;
+                }
+            }
+        }
+    }
+
+
+    // Methods
+    /**
+     * Determines if there is a path from u to v. Every vertex reaches itself
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return True if v is reachable from u, else false
+     */
+    public boolean isReachable(V u, V v) {
+        int source = indexOf(u);
+        int target = indexOf(v);
+
+        if (source == target || inSubtree(source, target)) {
+            return true;
+        }
+
+        if (ruledOut(source, target)) {
+            return false;
+        }
+
+        int[] offsets = _graph.offsets();
+        int[] targets = _graph.targets();
+        BitSet seen = new BitSet(_graph.size());
+        int[] stack = new int[INITIAL_STACK];
+        int top = 0;
+
+        stack[0] = source;
+        seen.set(source);
+
+        while (top >= 0) {
+            int x = stack[top--];
+
+            for (int k = offsets[x]; k < offsets[x + 1]; k++) {
+                int w = targets[k];
+
+                if (w == target || inSubtree(w, target)) {
+                    return true;
+                }
+
+                if (!seen.get(w) && !ruledOut(w, target)) {
+                    if (++top == stack.length) {
+                        stack = Arrays.copyOf(stack, stack.length * 2);
+                    }
+
+                    seen.set(w);
+                    stack[top] = w;
+                }
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Determines if the labels alone decide a query, so that
+     * {@link #isReachable} will not need to search
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return True if the query is answered without a search, else false
+     */
+    public boolean isLabelled(V u, V v) {
+        int source = indexOf(u);
+        int target = indexOf(v);
+
+        return source == target || inSubtree(source, target) || ruledOut(source, target);
+    }
+
+
+    // Helper Methods
+    /**
+     * Determines if v is a descendant of u in the DFS forest, which proves
+     * that u reaches v
+     *
+     * @param u Source vertex index
+     * @param v Destination vertex index
+     * @return True if v lies in u's subtree, else false
+     */
+    private boolean inSubtree(int u, int v) {
+        return _subtreeLow[u] <= _post[v] && _post[v] < _post[u];
+    }
+
+
+    /**
+     * Determines if the labels prove that u cannot reach v. In a DAG every
+     * descendant of u finishes before u, and its descendants are among u's
+     *
+     * @param u Source vertex index
+     * @param v Destination vertex index
+     * @return True if v is certainly unreachable from u, else false
+     */
+    private boolean ruledOut(int u, int v) {
+        return _post[v] > _post[u] || _low[v] < _low[u];
+    }
+
+
+    /**
+     * Fetches the index of a vertex that must exist
+     *
+     * @param u Vertex label
+     * @return Index of vertex
+     */
+    private int indexOf(V u) {
+        // Null vertices are handled within this call
+        int index = _graph.vertexIndex(u);
+
+        // Non-existent vertex handler
+        if (index < 0) {
+            throw new NoSuchVertexException();
+        }
+
+        return index;
+    }
+}
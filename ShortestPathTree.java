@@ -0,0 +1,121 @@
+// Imports
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Result of a single-source shortest path search
+ *
+ * <p>Distances and parent pointers are stored in primitive arrays indexed by
+ * the dense vertex indices of the {@link CsrGraph} the search ran on; paths
+ * are only built when {@link #pathTo} is called.</p>
+ *
+ * @author blee20@georgefox.edu
+ * @param <V> Label type for vertices
+ */
+public class ShortestPathTree<V> {
+    // Constants
+    static final int NO_PARENT = -1;
+
+
+    // Internal State
+    private final CsrGraph<V, ?> _graph;
+    private final int _source;
+    private final double[] _distances;
+    private final int[] _parents;
+
+
+    // Constructor
+    /**
+     * Creates a tree over arrays filled in by a search
+     *
+     * @param graph Graph the search ran on
+     * @param source Index of the source vertex
+     * @param distances Distance per vertex index, infinite if unreached
+     * @param parents Predecessor index per vertex on its shortest path, or {@link #NO_PARENT}
+     */
+    ShortestPathTree(CsrGraph<V, ?> graph, int source, double[] distances, int[] parents) {
+        _graph = graph;
+        _source = source;
+        _distances = distances;
+        _parents = parents;
+    }
+
+
+    // Methods
+    /**
+     * Fetches the source vertex of the search
+     *
+     * @return Source vertex label
+     */
+    public V source() {
+        return _graph.vertexAt(_source).getLabel();
+    }
+
+
+    /**
+     * Determines if a vertex was reached from the source
+     *
+     * @param v Vertex label
+     * @return True if a path exists, else false
+     */
+    public boolean hasPathTo(V v) {
+        return _distances[index(v)] != Double.POSITIVE_INFINITY;
+    }
+
+
+    /**
+     * Fetches the length of the shortest path to a vertex
+     *
+     * @param v Vertex label
+     * @return Path weight, or positive infinity if v is unreachable
+     */
+    public double distanceTo(V v) {
+        return _distances[index(v)];
+    }
+
+
+    /**
+     * Builds the shortest path from the source to a vertex
+     *
+     * @param v Destination vertex label
+     * @return Vertex labels from source to v inclusive, or an empty list if v is unreachable
+     */
+    public List<V> pathTo(V v) {
+        int index = index(v);
+
+        if (_distances[index] == Double.POSITIVE_INFINITY) {
+            return Collections.emptyList();
+        }
+
+        ArrayList<V> path = new ArrayList<>();
+
+        for (int i = index; i != NO_PARENT; i = _parents[i]) {
+            path.add(_graph.vertexAt(i).getLabel());
+        }
+
+        Collections.reverse(path);
+
+        return path;
+    }
+
+
+    // Helper Methods
+    /**
+     * Fetches the index of a vertex that must exist
+     *
+     * @param v Vertex label
+     * @return Index of vertex
+     */
+    private int index(V v) {
+        int index = _graph.vertexIndex(v);
+
+        // Non-existent vertex handler
+        if (index < 0) {
+            throw new NoSuchVertexException();
+        }
+
+        return index;
+    }
+}
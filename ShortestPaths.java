@@ -0,0 +1,323 @@
+// Imports
+import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
+
+
+/**
+ * Single-source shortest paths over weighted DirectedGraphs
+ *
+ * <p>Edge weights are read once through a caller-supplied extractor into a
+ * {@code double[]} parallel to the {@link CsrGraph} arrays, so the search loops
+ * only touch primitive arrays and relaxing an edge never allocates. Graphs that
+ * are not already a CsrGraph are converted first; callers running many
+ * searches should convert once and pass the CsrGraph in.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+public final class ShortestPaths {
+    /**
+     * Prevents instantiation of this utility class
+     */
+    private ShortestPaths() {
+    }
+
+
+    // Methods
+    /**
+     * Computes shortest paths from a source with Dijkstra's algorithm
+     *
+     * @param graph Graph to search
+     * @param source Source vertex label
+     * @param weight Extracts a non-negative weight from each edge label
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return Shortest path tree rooted at source
+     */
+    public static <V, E> ShortestPathTree<V> dijkstra(DirectedGraph<V, E> graph, V source,
+                                                      ToDoubleFunction<? super E> weight) {
+        CsrGraph<V, E> csr = csr(graph);
+        int start = sourceIndex(csr, source);
+        double[] weights = weights(csr, weight, false);
+        int[] offsets = csr.offsets();
+        int[] targets = csr.targets();
+        int n = csr.size();
+
+        double[] distances = unreached(n);
+        int[] parents = orphans(n);
+        IndexedDoubleHeap heap = new IndexedDoubleHeap(n);
+
+        distances[start] = 0.0;
+        heap.push(start, 0.0);
+
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            double base = distances[u];
+
+            for (int slot = offsets[u]; slot < offsets[u + 1]; slot++) {
+                int v = targets[slot];
+                double candidate = base + weights[slot];
+
+                if (candidate < distances[v]) {
+                    distances[v] = candidate;
+                    parents[v] = u;
+                    heap.push(v, candidate);
+                }
+            }
+        }
+
+        return new ShortestPathTree<>(csr, start, distances, parents);
+    }
+
+
+    /**
+     * Computes shortest paths from a source with the Bellman-Ford algorithm,
+     * which accepts negative weights. Each pass relaxes only the out-edges of
+     * vertices whose distance changed in the previous pass, and the search
+     * stops early once a pass changes nothing
+     *
+     * @param graph Graph to search
+     * @param source Source vertex label
+     * @param weight Extracts a weight from each edge label
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return Shortest path tree rooted at source
+     * @throws CycleException If a negative-weight cycle is reachable from source
+     */
+    public static <V, E> ShortestPathTree<V> bellmanFord(DirectedGraph<V, E> graph, V source,
+                                                         ToDoubleFunction<? super E> weight) {
+        CsrGraph<V, E> csr = csr(graph);
+        int start = sourceIndex(csr, source);
+        double[] weights = weights(csr, weight, true);
+        int[] offsets = csr.offsets();
+        int[] targets = csr.targets();
+        int n = csr.size();
+
+        double[] distances = unreached(n);
+        int[] parents = orphans(n);
+
+        // Vertices changed in the current and next pass, kept as two swapped work lists
+        int[] current = new int[n];
+        int[] next = new int[n];
+        boolean[] queued = new boolean[n];
+        int currentCount = 1;
+
+        distances[start] = 0.0;
+        current[0] = start;
+
+        for (int pass = 0; currentCount > 0; pass++) {
+            // A shortest path has at most n - 1 edges, so any change in pass n means a cycle
+            if (pass == n) {
+                throw new CycleException("Error: Negative cycle reachable from source");
+            }
+
+            int nextCount = 0;
+
+            for (int k = 0; k < currentCount; k++) {
+                int u = current[k];
+                double base = distances[u];
+
+                for (int slot = offsets[u]; slot < offsets[u + 1]; slot++) {
+                    int v = targets[slot];
+                    double candidate = base + weights[slot];
+
+                    if (candidate < distances[v]) {
+                        distances[v] = candidate;
+                        parents[v] = u;
+
+                        if (!queued[v]) {
+                            queued[v] = true;
+                            next[nextCount++] = v;
+                        }
+                    }
+                }
+            }
+
+            for (int k = 0; k < nextCount; k++) {
+                queued[next[k]] = false;
+            }
+
+            int[] swap = current;
+            current = next;
+            next = swap;
+            currentCount = nextCount;
+        }
+
+        return new ShortestPathTree<>(csr, start, distances, parents);
+    }
+
+
+    /**
+     * Computes a shortest path from source to target with A* search. The
+     * heuristic must never overestimate the remaining distance to target;
+     * with such a heuristic the tree's distance and path to target are exact,
+     * while other vertices may be unreached or hold upper bounds
+     *
+     * @param graph Graph to search
+     * @param source Source vertex label
+     * @param target Target vertex label
+     * @param weight Extracts a non-negative weight from each edge label
+     * @param heuristic Estimates the remaining distance from a vertex to target
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return Partial shortest path tree rooted at source
+     */
+    public static <V, E> ShortestPathTree<V> aStar(DirectedGraph<V, E> graph, V source, V target,
+                                                   ToDoubleFunction<? super E> weight,
+                                                   ToDoubleFunction<? super V> heuristic) {
+        CsrGraph<V, E> csr = csr(graph);
+        int start = sourceIndex(csr, source);
+        int goal = sourceIndex(csr, target);
+        double[] weights = weights(csr, weight, false);
+        int[] offsets = csr.offsets();
+        int[] targets = csr.targets();
+        int n = csr.size();
+
+        double[] distances = unreached(n);
+        int[] parents = orphans(n);
+        IndexedDoubleHeap heap = new IndexedDoubleHeap(n);
+
+        // Heuristic values are computed at most once per vertex; NaN marks "not yet asked"
+        double[] estimates = new double[n];
+        Arrays.fill(estimates, Double.NaN);
+
+        distances[start] = 0.0;
+        heap.push(start, estimate(csr, heuristic, estimates, start));
+
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+
+            if (u == goal) {
+                break;
+            }
+
+            double base = distances[u];
+
+            for (int slot = offsets[u]; slot < offsets[u + 1]; slot++) {
+                int v = targets[slot];
+                double candidate = base + weights[slot];
+
+                if (candidate < distances[v]) {
+                    distances[v] = candidate;
+                    parents[v] = u;
+                    heap.push(v, candidate + estimate(csr, heuristic, estimates, v));
+                }
+            }
+        }
+
+        return new ShortestPathTree<>(csr, start, distances, parents);
+    }
+
+
+    // Helper Methods
+    /**
+     * Fetches the graph as a CsrGraph, converting it if needed
+     *
+     * @param graph Graph to search
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return Compressed form of the graph
+     */
+    @SuppressWarnings("unchecked")
+    private static <V, E> CsrGraph<V, E> csr(DirectedGraph<V, E> graph) {
+        return graph instanceof CsrGraph ? (CsrGraph<V, E>) graph : new CsrGraph<>(graph);
+    }
+
+
+    /**
+     * Fetches the index of a vertex that must exist
+     *
+     * @param csr Graph to search
+     * @param u Vertex label
+     * @param <V> Label type for vertices
+     * @return Index of vertex
+     */
+    private static <V> int sourceIndex(CsrGraph<V, ?> csr, V u) {
+        // Null vertices are handled within this call
+        int index = csr.vertexIndex(u);
+
+        // Non-existent vertex handler
+        if (index < 0) {
+            throw new NoSuchVertexException();
+        }
+
+        return index;
+    }
+
+
+    /**
+     * Extracts every edge weight into an array parallel to the targets array
+     *
+     * @param csr Graph to search
+     * @param weight Extracts a weight from each edge label
+     * @param allowNegative False to reject negative weights
+     * @param <E> Label type for edges
+     * @return Weight per edge slot
+     */
+    private static <E> double[] weights(CsrGraph<?, E> csr, ToDoubleFunction<? super E> weight,
+                                        boolean allowNegative) {
+        double[] weights = new double[csr.edgeCount()];
+
+        for (int slot = 0; slot < weights.length; slot++) {
+            double w = weight.applyAsDouble(csr.labelAt(slot));
+
+            // Invalid weight handler
+            if (Double.isNaN(w) || (!allowNegative && w < 0.0)) {
+                throw new IllegalArgumentException("Error: Invalid edge weight " + w);
+            }
+
+            weights[slot] = w;
+        }
+
+        return weights;
+    }
+
+
+    /**
+     * Fetches the heuristic estimate for a vertex, computing it on first use
+     *
+     * @param csr Graph to search
+     * @param heuristic Estimates the remaining distance from a vertex
+     * @param estimates Cached estimates, NaN where not yet computed
+     * @param index Vertex index
+     * @param <V> Label type for vertices
+     * @return Estimate for the vertex
+     */
+    private static <V> double estimate(CsrGraph<V, ?> csr, ToDoubleFunction<? super V> heuristic,
+                                       double[] estimates, int index) {
+        if (Double.isNaN(estimates[index])) {
+            estimates[index] = heuristic.applyAsDouble(csr.vertexAt(index).getLabel());
+        }
+
+        return estimates[index];
+    }
+
+
+    /**
+     * Creates a distance array with every vertex unreached
+     *
+     * @param n Number of vertices
+     * @return Array filled with positive infinity
+     */
+    private static double[] unreached(int n) {
+        double[] distances = new double[n];
+
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+
+        return distances;
+    }
+
+
+    /**
+     * Creates a parent array with no vertex linked
+     *
+     * @param n Number of vertices
+     * @return Array filled with {@link ShortestPathTree#NO_PARENT}
+     */
+    private static int[] orphans(int n) {
+        int[] parents = new int[n];
+
+        Arrays.fill(parents, ShortestPathTree.NO_PARENT);
+
+        return parents;
+    }
+}
@@ -0,0 +1,670 @@
+// Imports
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Strongly connected components of a DirectedGraph
+ *
+ * <p>The graph is converted once to {@link CsrGraph} form and each vertex's
+ * component id is stored in an {@code int[]} indexed by its CSR index. Both
+ * algorithms are iterative, so graphs with millions of vertices and very long
+ * paths cannot overflow the call stack.</p>
+ *
+ * @author blee20@georgefox.edu
+ * @param <V> Label type for vertices
+ */
+public class StrongComponents<V> {
+    // Constants
+    private static final int UNVISITED = -1;
+    private static final int DONE = -1;
+    private static final int PARALLEL_THRESHOLD = 1 << 12;
+    private static final int INDEX_BITS = 32;
+    private static final long INDEX_MASK = 0xFFFFFFFFL;
+
+
+    // Internal State
+    private final CsrGraph<V, ?> _graph;
+    private final int[] _components;
+    private final int _count;
+
+
+    // Constructor
+    /**
+     * Creates a result over a filled-in component array
+     *
+     * @param graph Graph the components were computed on
+     * @param components Component id per vertex index
+     * @param count Number of components
+     */
+    private StrongComponents(CsrGraph<V, ?> graph, int[] components, int count) {
+        _graph = graph;
+        _components = components;
+        _count = count;
+    }
+
+
+    // Methods
+    /**
+     * Computes strongly connected components with an iterative version of
+     * Tarjan's algorithm. Component ids follow a topological order of the
+     * condensation: every edge between two components runs from the lower id
+     * to the higher one
+     *
+     * @param graph Graph to decompose
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return Components of the graph
+     */
+    public static <V, E> StrongComponents<V> tarjan(DirectedGraph<V, E> graph) {
+        CsrGraph<V, E> csr = csr(graph);
+        int n = csr.size();
+        Search search = new Search(csr.offsets(), csr.targets(), null, null, n);
+        AtomicInteger ids = new AtomicInteger();
+
+        search.tarjan(all(n), n, 0, ids);
+
+        // Tarjan finishes sink components first, so reversing the ids gives a topological numbering
+        int count = ids.get();
+
+        for (int i = 0; i < n; i++) {
+            search._components[i] = count - 1 - search._components[i];
+        }
+
+        return new StrongComponents<>(csr, search._components, count);
+    }
+
+
+    /**
+     * Computes strongly connected components with the forward-backward
+     * algorithm on the common fork-join pool. A random pivot's forward and
+     * backward reachable sets intersect in its component; the three remaining
+     * pieces cannot share a component, so they are decomposed in parallel.
+     * Vertices with no in-edges or no out-edges inside a piece are trimmed
+     * off first, and pieces below {@value #PARALLEL_THRESHOLD} vertices are
+     * finished with Tarjan's algorithm. Component ids are in no particular order
+     *
+     * @param graph Graph to decompose
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return Components of the graph
+     */
+    public static <V, E> StrongComponents<V> forwardBackward(DirectedGraph<V, E> graph) {
+        CsrGraph<V, E> csr = csr(graph);
+        int n = csr.size();
+        // Transposed CSR arrays for the backward searches
+        int[][] reversed = csr.transpose();
+        Search search = new Search(csr.offsets(), csr.targets(), reversed[0], reversed[1], n);
+        AtomicInteger ids = new AtomicInteger();
+
+        ForkJoinPool.commonPool().invoke(new SplitTask(search, all(n), n, search.newColor(), ids));
+
+        return new StrongComponents<>(csr, search._components, ids.get());
+    }
+
+
+    /**
+     * Fetches the number of components
+     *
+     * @return Component count
+     */
+    public int count() {
+        return _count;
+    }
+
+
+    /**
+     * Fetches the component id of a vertex
+     *
+     * @param u Vertex label
+     * @return Component id in {@code [0, count())}
+     */
+    public int componentOf(V u) {
+        return _components[indexOf(u)];
+    }
+
+
+    /**
+     * Determines if two vertices lie on a common cycle, or are the same vertex
+     *
+     * @param u First vertex label
+     * @param v Second vertex label
+     * @return True if both are in the same component, else false
+     */
+    public boolean sameComponent(V u, V v) {
+        return componentOf(u) == componentOf(v);
+    }
+
+
+    /**
+     * Fetches the dense index used for a vertex in {@link #ids()}
+     *
+     * @param u Vertex label
+     * @return Index of vertex
+     */
+    public int indexOf(V u) {
+        int index = _graph.vertexIndex(u);
+
+        // Non-existent vertex handler
+        if (index < 0) {
+            throw new NoSuchVertexException();
+        }
+
+        return index;
+    }
+
+
+    /**
+     * Fetches the component id of every vertex, indexed by {@link #indexOf}
+     *
+     * @return Shared array, which must not be modified
+     */
+    public int[] ids() {
+        return _components;
+    }
+
+
+    /**
+     * Determines if the graph has a cycle: a component with more than one
+     * vertex, or a self-loop
+     *
+     * @return True if the graph is not a DAG, else false
+     */
+    public boolean hasCycle() {
+        if (_count < _graph.size()) {
+            return true;
+        }
+
+        int[] offsets = _graph.offsets();
+        int[] targets = _graph.targets();
+
+        for (int u = 0; u < _graph.size(); u++) {
+            for (int k = offsets[u]; k < offsets[u + 1]; k++) {
+                if (targets[k] == u) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Builds the condensation: one vertex per component, labelled with its
+     * id, and one edge per connected pair of components, labelled with the
+     * number of original edges between them. The result is always a DAG
+     *
+     * @return A new ListGraph
+     */
+    public ListGraph<Integer, Integer> condensation() {
+        int[] offsets = _graph.offsets();
+        int[] targets = _graph.targets();
+        long[] keys = new long[targets.length];
+        int m = 0;
+
+        // Inter-component edges are packed as (from, to) keys and counted after sorting
+        for (int u = 0; u < _graph.size(); u++) {
+            for (int k = offsets[u]; k < offsets[u + 1]; k++) {
+                int from = _components[u];
+                int to = _components[targets[k]];
+
+                if (from != to) {
+                    keys[m++] = ((long) from << INDEX_BITS) | to;
+                }
+            }
+        }
+
+        Arrays.sort(keys, 0, m);
+
+        ArrayList<Integer> vertices = new ArrayList<>(_count);
+        ArrayList<Integer> src = new ArrayList<>();
+        ArrayList<Integer> dst = new ArrayList<>();
+        ArrayList<Integer> weights = new ArrayList<>();
+
+        for (int c = 0; c < _count; c++) {
+            vertices.add(c);
+        }
+
+        for (int k = 0; k < m; ) {
+            int run = k;
+
+            while (run < m && keys[run] == keys[k]) {
+                run++;
+            }
+
+            src.add((int) (keys[k] >>> INDEX_BITS));
+            dst.add((int) (keys[k] & INDEX_MASK));
+            weights.add(run - k);
+            k = run;
+        }
+
+        ListGraph<Integer, Integer> dag = new ListGraph<>();
+
+        dag.addAllVertices(vertices);
+        dag.addEdges(src.toArray(new Integer[0]), dst.toArray(new Integer[0]), weights.toArray(new Integer[0]),
+                DuplicatePolicy.THROW);
+
+        return dag;
+    }
+
+
+    // Helper Methods
+    /**
+     * Fetches the graph as a CsrGraph, converting it if needed
+     *
+     * @param graph Graph to decompose
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     * @return Compressed form of the graph
+     */
+    @SuppressWarnings("unchecked")
+    private static <V, E> CsrGraph<V, E> csr(DirectedGraph<V, E> graph) {
+        return graph instanceof CsrGraph ? (CsrGraph<V, E>) graph : new CsrGraph<>(graph);
+    }
+
+
+    /**
+     * Creates the list {@code 0, 1, ..., n - 1}
+     *
+     * @param n Vertex count
+     * @return Every vertex index
+     */
+    private static int[] all(int n) {
+        int[] members = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            members[i] = i;
+        }
+
+        return members;
+    }
+
+
+    // Inner Classes
+    /**
+     * Per-vertex state shared by every search over one graph. Concurrent tasks
+     * always work on disjoint vertex sets, so each array element is written by
+     * one task at a time
+     */
+    private static class Search {
+        private final int[] _offsets;
+        private final int[] _targets;
+        private final int[] _inOffsets;
+        private final int[] _sources;
+        private final int[] _components;
+        private final int[] _colors;
+        private final int[] _index;
+        private final int[] _low;
+        private final boolean[] _onStack;
+        private final int[] _inDegree;
+        private final int[] _outDegree;
+        private final AtomicInteger _nextColor = new AtomicInteger();
+
+        /**
+         * Creates fresh state for a graph
+         *
+         * @param offsets CSR row offsets
+         * @param targets CSR targets
+         * @param inOffsets Transposed row offsets, or null if only Tarjan is used
+         * @param sources Transposed targets, or null if only Tarjan is used
+         * @param n Vertex count
+         */
+        Search(int[] offsets, int[] targets, int[] inOffsets, int[] sources, int n) {
+            _offsets = offsets;
+            _targets = targets;
+            _inOffsets = inOffsets;
+            _sources = sources;
+            _components = new int[n];
+            _colors = new int[n];
+            _index = new int[n];
+            _low = new int[n];
+            _onStack = new boolean[n];
+            _inDegree = inOffsets == null ? null : new int[n];
+            _outDegree = inOffsets == null ? null : new int[n];
+
+            Arrays.fill(_index, UNVISITED);
+        }
+
+        /**
+         * Hands out a color not used by any other vertex set
+         *
+         * @return New color
+         */
+        int newColor() {
+            return _nextColor.getAndIncrement();
+        }
+
+        /**
+         * Runs Tarjan's algorithm over the first {@code count} members, following
+         * only edges between vertices of the given color. An explicit stack of
+         * (vertex, next edge) frames replaces recursion
+         *
+         * @param members Vertices of the set
+         * @param count Number of members
+         * @param color Color shared by every member
+         * @param ids Source of component ids
+         */
+        void tarjan(int[] members, int count, int color, AtomicInteger ids) {
+            int[] frames = new int[count];
+            int[] cursors = new int[count];
+            int[] stack = new int[count];
+            int order = 0;
+            int top = 0;
+
+            for (int r = 0; r < count; r++) {
+                int root = members[r];
+
+                if (_index[root] != UNVISITED) {
+                    continue;
+                }
+
+                int depth = 0;
+
+                _index[root] = order;
+                _low[root] = order++;
+                _onStack[root] = true;
+                stack[top++] = root;
+                frames[depth] = root;
+                cursors[depth++] = _offsets[root];
+
+                while (depth > 0) {
+                    int u = frames[depth - 1];
+                    int k = cursors[depth - 1];
+
+                    if (k < _offsets[u + 1]) {
+                        int w = _targets[k];
+
+                        cursors[depth - 1]++;
+
+                        if (_colors[w] != color) {
+                            continue;
+                        }
+
+                        if (_index[w] == UNVISITED) {
+                            _index[w] = order;
+                            _low[w] = order++;
+                            _onStack[w] = true;
+                            stack[top++] = w;
+                            frames[depth] = w;
+                            cursors[depth++] = _offsets[w];
+                        }
+                        else if (_onStack[w]) {
+                            _low[u] = Math.min(_low[u], _index[w]);
+                        }
+
+                        continue;
+                    }
+
+                    // Every edge of u has been followed; return to the caller frame
+                    depth--;
+
+                    if (depth > 0) {
+                        int parent = frames[depth - 1];
+
+                        _low[parent] = Math.min(_low[parent], _low[u]);
+                    }
+
+                    if (_low[u] == _index[u]) {
+                        int id = ids.getAndIncrement();
+                        int w;
+
+                        do {
+                            w = stack[--top];
+                            _onStack[w] = false;
+                            _components[w] = id;
+                            _colors[w] = DONE;
+                        }
+                        while (w != u);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Recolors every member of the set reachable from a pivot along
+         * forward or backward edges
+         *
+         * @param pivot Start vertex, which must carry one of the accepted colors
+         * @param forward True to follow out-edges, false to follow in-edges
+         * @param from Color a vertex must carry to be reached
+         * @param alsoFrom Second accepted color, or {@code from} again
+         * @param to Color given to vertices that carried {@code from}
+         * @param queue Scratch queue at least as long as the set
+         * @param onBoth Color given to vertices that carried {@code alsoFrom}, when
+         *               it differs from {@code from}
+         */
+        void reach(int pivot, boolean forward, int from, int alsoFrom, int to, int[] queue, int onBoth) {
+            int[] offsets = forward ? _offsets : _inOffsets;
+            int[] edges = forward ? _targets : _sources;
+            int head = 0;
+            int tail = 0;
+
+            queue[tail++] = pivot;
+            _colors[pivot] = _colors[pivot] == alsoFrom && alsoFrom != from ? onBoth : to;
+
+            while (head < tail) {
+                int u = queue[head++];
+
+                for (int k = offsets[u]; k < offsets[u + 1]; k++) {
+                    int w = edges[k];
+                    int c = _colors[w];
+
+                    if (c == from || c == alsoFrom) {
+                        _colors[w] = c == alsoFrom && alsoFrom != from ? onBoth : to;
+                        queue[tail++] = w;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Repeatedly removes members with no in-edges or no out-edges inside
+         * the set, each of which is a component by itself, and compacts the
+         * remaining members to the front of the array
+         *
+         * @param members Vertices of the set
+         * @param count Number of members
+         * @param color Color shared by every member
+         * @param ids Source of component ids
+         * @return Number of members left
+         */
+        int trim(int[] members, int count, int color, AtomicInteger ids) {
+            int[] queue = new int[count];
+            int tail = 0;
+
+            for (int i = 0; i < count; i++) {
+                int u = members[i];
+
+                _outDegree[u] = degree(_offsets, _targets, u, color);
+                _inDegree[u] = degree(_inOffsets, _sources, u, color);
+            }
+
+            for (int i = 0; i < count; i++) {
+                int u = members[i];
+
+                if (_outDegree[u] == 0 || _inDegree[u] == 0) {
+                    _colors[u] = DONE;
+                    queue[tail++] = u;
+                }
+            }
+
+            // A removed vertex lowers its neighbours' degrees, which may expose further vertices
+            for (int head = 0; head < tail; head++) {
+                int u = queue[head];
+
+                _components[u] = ids.getAndIncrement();
+
+                for (int k = _offsets[u]; k < _offsets[u + 1]; k++) {
+                    int w = _targets[k];
+
+                    if (_colors[w] == color && --_inDegree[w] == 0) {
+                        _colors[w] = DONE;
+                        queue[tail++] = w;
+                    }
+                }
+
+                for (int k = _inOffsets[u]; k < _inOffsets[u + 1]; k++) {
+                    int w = _sources[k];
+
+                    if (_colors[w] == color && --_outDegree[w] == 0) {
+                        _colors[w] = DONE;
+                        queue[tail++] = w;
+                    }
+                }
+            }
+
+            return tail == 0 ? count : retain(members, count, color, DONE);
+        }
+
+        /**
+         * Gathers the members carrying a color
+         *
+         * @param members Vertices of the set
+         * @param count Number of members
+         * @param color Color to select
+         * @return New array holding exactly the selected members
+         */
+        int[] collect(int[] members, int count, int color) {
+            int selected = 0;
+
+            for (int i = 0; i < count; i++) {
+                if (_colors[members[i]] == color) {
+                    selected++;
+                }
+            }
+
+            int[] result = new int[selected];
+
+            for (int i = 0, j = 0; j < selected; i++) {
+                if (_colors[members[i]] == color) {
+                    result[j++] = members[i];
+                }
+            }
+
+            return result;
+        }
+
+        /**
+         * Compacts the members still carrying a color to the front of the
+         * array, giving finished members a component id on the way
+         *
+         * @param members Vertices of the set
+         * @param count Number of members
+         * @param color Color to keep
+         * @param finished Component id for finished members, or DONE if they already have one
+         * @return Number of members kept
+         */
+        int retain(int[] members, int count, int color, int finished) {
+            int kept = 0;
+
+            for (int i = 0; i < count; i++) {
+                int u = members[i];
+
+                if (_colors[u] == color) {
+                    members[kept++] = u;
+                }
+                else if (_colors[u] == DONE && finished != DONE) {
+                    _components[u] = finished;
+                }
+            }
+
+            return kept;
+        }
+
+        /**
+         * Counts a vertex's edges that stay inside a color
+         *
+         * @param offsets Row offsets of the direction to count
+         * @param edges Row entries of the direction to count
+         * @param u Vertex index
+         * @param color Color of the set
+         * @return Number of edges into the set
+         */
+        private int degree(int[] offsets, int[] edges, int u, int color) {
+            int degree = 0;
+
+            for (int k = offsets[u]; k < offsets[u + 1]; k++) {
+                if (_colors[edges[k]] == color) {
+                    degree++;
+                }
+            }
+
+            return degree;
+        }
+    }
+
+
+    /**
+     * Decomposes one vertex set: trimmed, then split forward-backward until
+     * the remainder is small enough for Tarjan, forking the F and B pieces
+     */
+    private static class SplitTask extends RecursiveAction {
+        private final Search _search;
+        private final int[] _members;
+        private final int _count;
+        private final int _color;
+        private final AtomicInteger _ids;
+
+        /**
+         * Creates a task for the first {@code count} members, all carrying {@code color}
+         *
+         * @param search Shared search state
+         * @param members Vertices of the set
+         * @param count Number of members
+         * @param color Color of the set
+         * @param ids Source of component ids
+         */
+        SplitTask(Search search, int[] members, int count, int color, AtomicInteger ids) {
+            _search = search;
+            _members = members;
+            _count = count;
+            _color = color;
+            _ids = ids;
+        }
+
+        @Override
+        protected void compute() {
+            int[] members = _members;
+            int count = _search.trim(members, _count, _color, _ids);
+            ArrayList<SplitTask> forked = new ArrayList<>();
+
+            // F and B are forked; the remainder stays on this thread so long runs of splits do not nest
+            while (count >= PARALLEL_THRESHOLD) {
+                int pivot = members[ThreadLocalRandom.current().nextInt(count)];
+                int forward = _search.newColor();
+                int backward = _search.newColor();
+                int[] queue = new int[count];
+
+                // Forward pass marks F; the backward pass then separates B \ F from F and B
+                _search.reach(pivot, true, _color, _color, forward, queue, forward);
+                _search.reach(pivot, false, _color, forward, backward, queue, DONE);
+
+                int[] forwardOnly = _search.collect(members, count, forward);
+                int[] backwardOnly = _search.collect(members, count, backward);
+                SplitTask forwardTask = new SplitTask(_search, forwardOnly, forwardOnly.length, forward, _ids);
+                SplitTask backwardTask = new SplitTask(_search, backwardOnly, backwardOnly.length, backward, _ids);
+
+                // The pivot's component is labelled before the forked tasks can touch F or B
+                count = _search.retain(members, count, _color, _ids.getAndIncrement());
+
+                forwardTask.fork();
+                backwardTask.fork();
+                forked.add(forwardTask);
+                forked.add(backwardTask);
+
+                count = _search.trim(members, count, _color, _ids);
+            }
+
+            _search.tarjan(members, count, _color, _ids);
+
+            for (SplitTask task : forked) {
+                task.join();
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ public class Vertex<V>
 {
     // Internal State
     private final V _label;
+    private final int _hash;
 
 
     // Constructor
@@ -20,6 +21,7 @@ public class Vertex<V>
             throw new IllegalArgumentException("Error: Null is considered an invalid value");
         }
         _label = label;
+        _hash = label.hashCode();
     }
 
 
@@ -35,15 +37,35 @@ public class Vertex<V>
 
 
     /**
-     * Compares the current vertex object to another existing vertex object
-     * @param o Another vertex object
-     * @return True if labels are the same, else false
+     * Compares the current vertex object to another object
+     *
+     * @param o Another object
+     * @return True if o is a vertex with an equal label, else false
      */
-    public boolean equals(Vertex<V> o) {
-        if (o == null) {
-            throw new IllegalArgumentException("Error: Null is considered an invalid value");
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof Vertex)) {
+            return false;
         }
 
-        return getLabel() == o.getLabel();
+        Vertex<?> other = (Vertex<?>) o;
+
+        return _hash == other._hash && _label.equals(other._label);
+    }
+
+
+    /**
+     * Fetches the hash code of the label, computed once when the vertex is
+     * created; labels are expected not to change while in a graph
+     *
+     * @return Hash code
+     */
+    @Override
+    public int hashCode() {
+        return _hash;
     }
 }
@@ -0,0 +1,18 @@
+/**
+ * Callback invoked for each vertex reached by a traversal
+ *
+ * @author blee20@georgefox.edu
+ * @param <V> Label type for vertices
+ */
+@FunctionalInterface
+public interface VertexVisitor<V> {
+    /**
+     * Receives one vertex
+     *
+     * @param u Vertex label
+     * @param depth Number of edges between the start vertex and u along the
+     *              traversal tree, or the position in the order for orderings
+     * @return True to continue the traversal, false to stop it
+     */
+    boolean visit(V u, int depth);
+}
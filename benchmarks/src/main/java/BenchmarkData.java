@@ -0,0 +1,178 @@
+// Imports
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Random;
+
+
+/**
+ * Deterministic graphs shared by the benchmark tasks and {@link RetainedHeap}
+ *
+ * <p>Every vertex is labelled 0 to n - 1 and every random choice comes from a
+ * seed derived from n, so each fork and each implementation sees the same
+ * graph.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+final class BenchmarkData {
+    // Constants
+    static final int EDGES_PER_VERTEX = 4;
+
+
+    /**
+     * Prevents instantiation of this utility class
+     */
+    private BenchmarkData() {
+    }
+
+
+    // Methods
+    /**
+     * Populates a graph with a ring-like pattern: each vertex i links to the
+     * next {@value #EDGES_PER_VERTEX} vertices, labelled 1 to {@value #EDGES_PER_VERTEX}
+     *
+     * @param graph Graph to populate
+     * @param n Number of vertices
+     */
+    static void load(DirectedGraph<Integer, Integer> graph, int n) {
+        for (int i = 0; i < n; i++) {
+            // Boxed values above the Integer cache are deliberately new objects
+            graph.add(Integer.valueOf(i));
+        }
+
+        for (int i = 0; i < n; i++) {
+            for (int k = 1; k <= EDGES_PER_VERTEX; k++) {
+                graph.addEdge(i, (i + k) % n, k);
+            }
+        }
+    }
+
+
+    /**
+     * Populates a graph with {@code n * EDGES_PER_VERTEX / 2} edges between
+     * uniformly random vertex pairs
+     *
+     * @param graph Graph to populate
+     * @param n Number of vertices
+     */
+    static void loadRandom(DirectedGraph<Integer, Integer> graph, int n) {
+        Random random = new Random(n);
+
+        for (int i = 0; i < n; i++) {
+            graph.add(i);
+        }
+
+        for (int e = 0; e < n * EDGES_PER_VERTEX / 2; e++) {
+            int u = random.nextInt(n);
+            int v = random.nextInt(n);
+
+            if (!graph.containsEdge(u, v)) {
+                graph.addEdge(u, v, e);
+            }
+        }
+    }
+
+
+    /**
+     * Populates a graph with vertices 0 to n - 1 and the given edges, all labelled 1
+     *
+     * @param graph Graph to populate
+     * @param n Number of vertices
+     * @param edges Edges as (source, destination) pairs
+     */
+    static void loadEdges(DirectedGraph<Integer, Integer> graph, int n, int[][] edges) {
+        for (int i = 0; i < n; i++) {
+            graph.add(i);
+        }
+
+        for (int[] edge : edges) {
+            graph.addEdge(edge[0], edge[1], 1);
+        }
+    }
+
+
+    /**
+     * Draws {@code n * EDGES_PER_VERTEX / 2} distinct edges that all agree
+     * with one random order of the vertices
+     *
+     * @param n Number of vertices
+     * @return Edges as (source, destination) pairs
+     */
+    static int[][] randomDagEdges(int n) {
+        Random random = new Random(n);
+        int[] rank = new int[n];
+        HashSet<Long> seen = new HashSet<>();
+        ArrayList<int[]> edges = new ArrayList<>();
+
+        for (int i = 0; i < n; i++) {
+            int j = random.nextInt(i + 1);
+
+            rank[i] = rank[j];
+            rank[j] = i;
+        }
+
+        while (edges.size() < n * EDGES_PER_VERTEX / 2) {
+            int u = random.nextInt(n);
+            int v = random.nextInt(n);
+
+            if (rank[u] < rank[v] && seen.add((long) u * n + v)) {
+                edges.add(new int[] {u, v});
+            }
+        }
+
+        return edges.toArray(new int[0][]);
+    }
+
+
+    /**
+     * Populates a graph with each possible edge present with probability
+     * {@code 1 / inverse}; every label is the cached Integer 1
+     *
+     * @param graph Graph to populate
+     * @param n Number of vertices
+     * @param inverse Reciprocal of the density
+     * @param <G> Graph type
+     * @return The populated graph
+     */
+    static <G extends DirectedGraph<Integer, Integer>> G loadDensity(G graph, int n, int inverse) {
+        Random random = new Random(n);
+
+        for (int i = 0; i < n; i++) {
+            graph.add(i);
+        }
+
+        for (int u = 0; u < n; u++) {
+            for (int v = 0; v < n; v++) {
+                if (random.nextInt(inverse) == 0) {
+                    graph.addEdge(u, v, 1);
+                }
+            }
+        }
+
+        return graph;
+    }
+
+
+    /**
+     * Populates a graph with every edge between distinct vertices, all labelled 1
+     *
+     * @param graph Empty graph
+     * @param n Number of vertices
+     * @param <G> Graph type
+     * @return The populated graph
+     */
+    static <G extends DirectedGraph<Integer, Integer>> G loadComplete(G graph, int n) {
+        for (int i = 0; i < n; i++) {
+            graph.add(i);
+        }
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i != j) {
+                    graph.addEdge(i, j, 1);
+                }
+            }
+        }
+
+        return graph;
+    }
+}
@@ -0,0 +1,237 @@
+// Imports
+import benchmarks.GraphFactory;
+import benchmarks.GraphHandle;
+import benchmarks.Workload;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.function.IntFunction;
+
+
+/**
+ * Gives the JMH benchmarks, which must live in a named package, access to the
+ * graph implementations in the default package
+ *
+ * <p>Loaded by name from {@link GraphFactory#INSTANCE}. The read-only
+ * implementations are loaded through a ListGraph: CsrGraph and FrozenGraph
+ * copy it, and MappedGraph maps a snapshot file written from it.
+ * IntGraphAdapter only takes int ids, so it always uses
+ * {@link Workload#ids}, whatever the label type.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+public final class BenchmarkGraphs implements GraphFactory {
+    // Methods
+    /**
+     * Builds a graph holding every vertex of a workload and, if requested,
+     * every edge, labelled with its index in the workload
+     *
+     * @param impl Implementation name, such as {@code ListGraph}
+     * @param workload Labels and edges to use
+     * @param withEdges True to load the edges as well
+     * @return Populated graph
+     */
+    @SuppressWarnings("unchecked")
+    public GraphHandle create(String impl, Workload workload, boolean withEdges) {
+        if (impl.equals("IntGraphAdapter")) {
+            IntGraphAdapter graph = new IntGraphAdapter(new IntDirectedGraph(workload.n));
+
+            return load(new Handle<>(graph, workload.ids, label -> (double) label), workload, withEdges);
+        }
+
+        boolean readOnly = impl.equals("CsrGraph") || impl.equals("FrozenGraph") || impl.equals("MappedGraph");
+        Handle<Object, Integer> handle = new Handle<>(readOnly ? new ListGraph<>() : newGraph(impl),
+                workload.labels, Integer::valueOf);
+
+        load(handle, workload, withEdges);
+
+        if (!readOnly) {
+            return handle;
+        }
+
+        ListGraph<Object, Integer> source = (ListGraph<Object, Integer>) handle._graph;
+        DirectedGraph<Object, Integer> frozen;
+
+        switch (impl) {
+            case "CsrGraph":
+                frozen = new CsrGraph<>(source);
+                break;
+            case "FrozenGraph":
+                frozen = source.snapshot();
+                break;
+            default:
+                frozen = mapped(source, workload.labels[0] instanceof String);
+                break;
+        }
+
+        return new Handle<>(frozen, workload.labels, Integer::valueOf);
+    }
+
+
+    // Helper Methods
+    /**
+     * Creates an empty mutable graph
+     *
+     * @param impl Implementation name
+     * @return Empty graph
+     */
+    private static DirectedGraph<Object, Integer> newGraph(String impl) {
+        switch (impl) {
+            case "ListGraph":
+                return new ListGraph<>();
+            case "MatrixGraph":
+                return new MatrixGraph<>();
+            case "BitMatrixGraph":
+                return new BitMatrixGraph<>();
+            case "ConcurrentListGraph":
+                return new ConcurrentListGraph<>();
+            case "OffHeapGraph":
+                return new OffHeapGraph<>(LabelCodec.INTEGER);
+            case "AdaptiveGraph":
+                return new AdaptiveGraph<>();
+            default:
+                throw new IllegalArgumentException("Error: Unknown implementation " + impl);
+        }
+    }
+
+
+    /**
+     * Adds every vertex of a workload to a graph and, if requested, every edge
+     *
+     * @param handle Empty graph
+     * @param workload Labels and edges to use
+     * @param withEdges True to load the edges as well
+     * @return The same handle
+     */
+    private static GraphHandle load(GraphHandle handle, Workload workload, boolean withEdges) {
+        Object[] labels = handle.labels();
+
+        for (Object label : labels) {
+            handle.add(label);
+        }
+
+        for (int e = 0; withEdges && e < workload.edgeCount(); e++) {
+            handle.addEdge(labels[workload.sources[e]], labels[workload.targets[e]], e);
+        }
+
+        return handle;
+    }
+
+
+    /**
+     * Writes a graph to a snapshot file and maps it back; the file is unlinked
+     * once mapped, which the mapping survives
+     *
+     * @param graph Graph to write
+     * @param strings True for String vertex labels, false for Integer
+     * @return Mapped copy of the graph
+     */
+    @SuppressWarnings("unchecked")
+    private static DirectedGraph<Object, Integer> mapped(DirectedGraph<Object, Integer> graph, boolean strings) {
+        LabelCodec<?> typed = strings ? LabelCodec.STRING : LabelCodec.INTEGER;
+        LabelCodec<Object> codec = (LabelCodec<Object>) typed;
+
+        try {
+            Path file = Files.createTempFile("graph", ".snapshot");
+
+            try {
+                GraphSnapshot.write(graph, file, codec, LabelCodec.INTEGER);
+
+                return MappedGraph.open(file, codec, LabelCodec.INTEGER);
+            }
+            finally {
+                Files.deleteIfExists(file);
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    // Inner Classes
+    /**
+     * Forwards each benchmarked operation to a graph
+     *
+     * @param <V> Label type for vertices
+     * @param <E> Label type for edges
+     */
+    private static final class Handle<V, E> implements GraphHandle {
+        private final DirectedGraph<V, E> _graph;
+        private final Object[] _labels;
+        private final IntFunction<E> _edgeLabel;
+
+        /**
+         * Wraps a graph
+         *
+         * @param graph Graph to forward to
+         * @param labels Vertex labels the graph is keyed by
+         * @param edgeLabel Converts an edge index to the graph's label type
+         */
+        Handle(DirectedGraph<V, E> graph, Object[] labels, IntFunction<E> edgeLabel) {
+            _graph = graph;
+            _labels = labels;
+            _edgeLabel = edgeLabel;
+        }
+
+        @Override
+        public Object[] labels() {
+            return _labels;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void add(Object u) {
+            _graph.add((V) u);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void addEdge(Object u, Object v, int label) {
+            _graph.addEdge((V) u, (V) v, _edgeLabel.apply(label));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean containsEdge(Object u, Object v) {
+            return _graph.containsEdge((V) u, (V) v);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public int degree(Object u) {
+            return _graph.degree((V) u);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Iterator<?> adjacent(Object u) {
+            return _graph.adjacent((V) u);
+        }
+
+        @Override
+        public Iterator<?> edges() {
+            return _graph.edges();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void remove(Object u) {
+            _graph.remove((V) u);
+        }
+
+        @Override
+        public void close() {
+            if (_graph instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) _graph).close();
+                }
+                catch (Exception e) {
+                    throw new IllegalStateException("Error: Graph could not be closed", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,570 @@
+// Imports
+import benchmarks.Task;
+import benchmarks.TaskFactory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+
+/**
+ * Gives the JMH scenario benchmarks access to the graph implementations and
+ * algorithms in the default package
+ *
+ * <p>Loaded by name from {@link TaskFactory#INSTANCE}. Task names are
+ * {@code scenario:variant}; see the {@code @Param} lists of the benchmarks
+ * for every name.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+public final class BenchmarkTasks implements TaskFactory {
+    // Constants
+    private static final int HOT_PAIRS = 256;
+    private static final int QUERIES_PER_CHANGE = 100;
+    private static final int CHANGES_PER_SNAPSHOT = 100;
+    private static final int PROBES = 1 << 12;
+    private static final int WRITE_PERCENT = 10;
+    private static final int PERCENT = 100;
+
+
+    // Methods
+    /**
+     * Loads the data for a task and prepares it to run
+     *
+     * @param name Scenario and variant, such as {@code dijkstra:CsrGraph}
+     * @param size Number of vertices
+     * @return Prepared task
+     */
+    public Task create(String name, int size) {
+        switch (name) {
+            case "dijkstra:ListGraph": {
+                ListGraph<Integer, Integer> list = ring(size);
+
+                return () -> ShortestPaths.dijkstra(list, 0, Integer::doubleValue);
+            }
+            case "dijkstra:CsrGraph": {
+                CsrGraph<Integer, Integer> csr = new CsrGraph<>(ring(size));
+
+                return () -> ShortestPaths.dijkstra(csr, 0, Integer::doubleValue);
+            }
+            case "bellman:CsrGraph": {
+                CsrGraph<Integer, Integer> csr = new CsrGraph<>(ring(size));
+
+                return () -> ShortestPaths.bellmanFord(csr, 0, Integer::doubleValue);
+            }
+            case "astar:CsrGraph": {
+                CsrGraph<Integer, Integer> csr = new CsrGraph<>(ring(size));
+                Integer target = size - 1;
+
+                return () -> ShortestPaths.aStar(csr, 0, target, Integer::doubleValue, u -> 0.0);
+            }
+            case "scc:tarjan(ring)": {
+                CsrGraph<Integer, Integer> csr = new CsrGraph<>(ring(size));
+
+                return () -> StrongComponents.tarjan(csr);
+            }
+            case "scc:fwbw(ring)": {
+                CsrGraph<Integer, Integer> csr = new CsrGraph<>(ring(size));
+
+                return () -> StrongComponents.forwardBackward(csr);
+            }
+            case "scc:tarjan(random)": {
+                CsrGraph<Integer, Integer> csr = new CsrGraph<>(random(size));
+
+                return () -> StrongComponents.tarjan(csr);
+            }
+            case "scc:fwbw(random)": {
+                CsrGraph<Integer, Integer> csr = new CsrGraph<>(random(size));
+
+                return () -> StrongComponents.forwardBackward(csr);
+            }
+            case "pagerank:ListGraph": {
+                ListGraph<Integer, Integer> list = random(size);
+
+                return () -> Ranking.pageRank(list);
+            }
+            case "pagerank:CsrGraph": {
+                CsrGraph<Integer, Integer> csr = new CsrGraph<>(random(size));
+
+                return () -> Ranking.pageRank(csr);
+            }
+            case "hits:CsrGraph": {
+                CsrGraph<Integer, Integer> csr = new CsrGraph<>(random(size));
+
+                return () -> Ranking.hits(csr);
+            }
+            case "snapshot:write":
+                return snapshotTask(size, false);
+            case "snapshot:open+query":
+                return snapshotTask(size, true);
+            case "reach:ListGraph(search)": {
+                int[][] edges = BenchmarkData.randomDagEdges(size);
+                ListGraph<Integer, Integer> plain = new ListGraph<>();
+
+                BenchmarkData.loadEdges(plain, size, edges);
+
+                return new ReachTask(plain, size, edges, (u, v) -> {
+                    boolean[] found = new boolean[1];
+
+                    GraphTraversal.breadthFirst(plain, u, (w, depth) -> !(found[0] = w.equals(v)));
+
+                    return found[0];
+                });
+            }
+            case "reach:CachedGraph": {
+                int[][] edges = BenchmarkData.randomDagEdges(size);
+                CachedGraph<Integer, Integer> cached = new CachedGraph<>(new ListGraph<>());
+
+                BenchmarkData.loadEdges(cached, size, edges);
+
+                return new ReachTask(cached, size, edges, cached::isReachable);
+            }
+            case "reach:Index(build)": {
+                ListGraph<Integer, Integer> plain = new ListGraph<>();
+
+                BenchmarkData.loadEdges(plain, size, BenchmarkData.randomDagEdges(size));
+
+                return () -> new ReachabilityIndex<>(plain);
+            }
+            case "reach:ReachabilityIndex": {
+                int[][] edges = BenchmarkData.randomDagEdges(size);
+                ListGraph<Integer, Integer> plain = new ListGraph<>();
+
+                BenchmarkData.loadEdges(plain, size, edges);
+
+                ReachabilityIndex<Integer> index = new ReachabilityIndex<>(plain);
+
+                // The index answers for the graph as built, so nothing is toggled
+                return new ReachTask(null, size, edges, index::isReachable);
+            }
+            case "metrics:ListGraph":
+                return probeTask(ring(size), size);
+            case "metrics:Instrumented(on)":
+                return probeTask(new InstrumentedGraph<>(ring(size)), size);
+            case "metrics:Instrumented(off)": {
+                InstrumentedGraph<Integer, Integer> disabled = new InstrumentedGraph<>(ring(size));
+
+                disabled.setEnabled(false);
+
+                return probeTask(disabled, size);
+            }
+            case "concurrent:ListGraph(locked)": {
+                ListGraph<Integer, Integer> locked = ring(size);
+
+                return () -> {
+                    synchronized (locked) {
+                        return randomOperation(locked, size);
+                    }
+                };
+            }
+            case "concurrent:ConcurrentListGraph": {
+                ConcurrentListGraph<Integer, Integer> striped = new ConcurrentListGraph<>();
+
+                BenchmarkData.load(striped, size);
+
+                return () -> randomOperation(striped, size);
+            }
+            case "bulkload:MatrixGraph":
+                return new Rebuilt<>(MatrixGraph<Integer, Integer>::new, graph -> loaded(graph, size));
+            case "bulkload:MatrixGraph(presized)":
+                return new Rebuilt<>(() -> {
+                    MatrixGraph<Integer, Integer> graph = new MatrixGraph<>();
+
+                    graph.ensureCapacity(size);
+
+                    return graph;
+                }, graph -> loaded(graph, size));
+            case "bulkload:ListGraph":
+                return new Rebuilt<>(ListGraph<Integer, Integer>::new, graph -> loaded(graph, size));
+            case "bulkload:MatrixGraph(batch)":
+                return batchTask(MatrixGraph::new, size);
+            case "bulkload:ListGraph(batch)":
+                return batchTask(ListGraph::new, size);
+            case "toposort:DynamicDag": {
+                int[][] edges = BenchmarkData.randomDagEdges(size);
+
+                return new Rebuilt<>(() -> withVertices(new DynamicDag<>(), size), dag -> {
+                    for (int[] edge : edges) {
+                        dag.addEdge(edge[0], edge[1], 1);
+                    }
+
+                    return dag;
+                });
+            }
+            case "toposort:ListGraph(full sort)": {
+                int[][] edges = BenchmarkData.randomDagEdges(size);
+
+                return new Rebuilt<>(() -> withVertices(new ListGraph<>(), size), graph -> {
+                    Object order = null;
+
+                    for (int[] edge : edges) {
+                        graph.addEdge(edge[0], edge[1], 1);
+                        order = GraphTraversal.topologicalOrder(graph);
+                    }
+
+                    return order;
+                });
+            }
+            case "cow:CsrGraph(copy)": {
+                ListGraph<Integer, Integer> graph = ring(size);
+
+                return () -> new CsrGraph<>(graph);
+            }
+            case "cow:snapshot":
+                return snapshotChurnTask(size);
+            default:
+                throw new IllegalArgumentException("Error: Unknown task " + name);
+        }
+    }
+
+
+    // Helper Methods
+    /**
+     * Creates a ListGraph holding the ring-like pattern
+     *
+     * @param n Number of vertices
+     * @return Populated graph
+     */
+    private static ListGraph<Integer, Integer> ring(int n) {
+        ListGraph<Integer, Integer> graph = new ListGraph<>();
+
+        BenchmarkData.load(graph, n);
+
+        return graph;
+    }
+
+
+    /**
+     * Creates a ListGraph holding random edges
+     *
+     * @param n Number of vertices
+     * @return Populated graph
+     */
+    private static ListGraph<Integer, Integer> random(int n) {
+        ListGraph<Integer, Integer> graph = new ListGraph<>();
+
+        BenchmarkData.loadRandom(graph, n);
+
+        return graph;
+    }
+
+
+    /**
+     * Loads the ring-like pattern into a graph and returns it
+     *
+     * @param graph Empty graph
+     * @param n Number of vertices
+     * @return The same graph
+     */
+    private static Object loaded(DirectedGraph<Integer, Integer> graph, int n) {
+        BenchmarkData.load(graph, n);
+
+        return graph;
+    }
+
+
+    /**
+     * Adds vertices 0 to n - 1 to a graph
+     *
+     * @param graph Empty graph
+     * @param n Number of vertices
+     * @param <G> Graph type
+     * @return The same graph
+     */
+    private static <G extends DirectedGraph<Integer, Integer>> G withVertices(G graph, int n) {
+        for (int i = 0; i < n; i++) {
+            graph.add(i);
+        }
+
+        return graph;
+    }
+
+
+    /**
+     * Creates a task that loads the ring-like pattern through the bulk API
+     *
+     * @param factory Creates an empty graph
+     * @param n Number of vertices
+     * @return Prepared task
+     */
+    private static Task batchTask(Supplier<DirectedGraph<Integer, Integer>> factory, int n) {
+        ArrayList<Integer> labels = new ArrayList<>(n);
+        Integer[] src = new Integer[n * BenchmarkData.EDGES_PER_VERTEX];
+        Integer[] dst = new Integer[src.length];
+        Integer[] weights = new Integer[src.length];
+
+        for (int i = 0; i < n; i++) {
+            labels.add(i);
+
+            for (int k = 1; k <= BenchmarkData.EDGES_PER_VERTEX; k++) {
+                int e = i * BenchmarkData.EDGES_PER_VERTEX + k - 1;
+
+                src[e] = i;
+                dst[e] = (i + k) % n;
+                weights[e] = k;
+            }
+        }
+
+        return new Rebuilt<>(factory, graph -> {
+            graph.addAllVertices(labels);
+            graph.addEdges(src, dst, weights, DuplicatePolicy.THROW);
+
+            return graph;
+        });
+    }
+
+
+    /**
+     * Creates a task that writes a snapshot file, or maps it and probes one
+     * edge per vertex; the file is deleted when the task is closed
+     *
+     * @param n Number of vertices
+     * @param query True to map and probe, false to write
+     * @return Prepared task
+     */
+    private static Task snapshotTask(int n, boolean query) {
+        ListGraph<Integer, Integer> graph = ring(n);
+        Path file;
+
+        try {
+            file = Files.createTempFile("graph", ".snapshot");
+            GraphSnapshot.write(graph, file, LabelCodec.INTEGER, LabelCodec.INTEGER);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return new Task() {
+            @Override
+            public Object run() {
+                try {
+                    if (!query) {
+                        GraphSnapshot.write(graph, file, LabelCodec.INTEGER, LabelCodec.INTEGER);
+
+                        return file;
+                    }
+
+                    MappedGraph<Integer, Integer> mapped = MappedGraph.open(file, LabelCodec.INTEGER,
+                            LabelCodec.INTEGER);
+                    int found = 0;
+
+                    for (int i = 0; i < n; i++) {
+                        found += mapped.containsEdge(i, (i + 1) % n) ? 1 : 0;
+                    }
+
+                    return found;
+                }
+                catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public void close() {
+                try {
+                    Files.deleteIfExists(file);
+                }
+                catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+
+    /**
+     * Creates a task that takes an incremental snapshot after
+     * {@value #CHANGES_PER_SNAPSHOT} untimed random edge changes
+     *
+     * @param n Number of vertices
+     * @return Prepared task
+     */
+    private static Task snapshotChurnTask(int n) {
+        ListGraph<Integer, Integer> graph = ring(n);
+        Random random = new Random(n);
+
+        // The first snapshot copies every row; later ones reuse it
+        graph.snapshot();
+
+        return new Task() {
+            @Override
+            public void reset() {
+                for (int change = 0; change < CHANGES_PER_SNAPSHOT; change++) {
+                    Integer u = random.nextInt(n);
+                    Integer v = random.nextInt(n);
+
+                    if (graph.containsEdge(u, v)) {
+                        graph.removeEdge(u, v);
+                    }
+                    else {
+                        graph.addEdge(u, v, change);
+                    }
+                }
+            }
+
+            @Override
+            public Object run() {
+                return graph.snapshot();
+            }
+        };
+    }
+
+
+    /**
+     * Creates a task that makes one containsEdge call on the next of a fixed
+     * set of pseudo-random pairs
+     *
+     * @param graph Graph to probe
+     * @param n Number of vertices
+     * @return Prepared task
+     */
+    private static Task probeTask(DirectedGraph<Integer, Integer> graph, int n) {
+        Random random = new Random(n);
+        Integer[] sources = new Integer[PROBES];
+        Integer[] targets = new Integer[PROBES];
+
+        for (int i = 0; i < PROBES; i++) {
+            sources[i] = random.nextInt(n);
+            targets[i] = random.nextInt(n);
+        }
+
+        int[] next = new int[1];
+
+        return () -> {
+            int i = next[0]++ & (PROBES - 1);
+
+            return graph.containsEdge(sources[i], targets[i]);
+        };
+    }
+
+
+    /**
+     * Performs one random read or write; writes that would collide are skipped
+     *
+     * @param graph Graph to operate on
+     * @param n Number of vertices in the graph
+     * @return Result of the read, or null for a write
+     */
+    private static Object randomOperation(DirectedGraph<Integer, Integer> graph, int n) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int u = random.nextInt(n);
+        int v = random.nextInt(n);
+        int dice = random.nextInt(PERCENT);
+
+        if (dice < WRITE_PERCENT / 2) {
+            try {
+                graph.addEdge(u, v, dice);
+            }
+            catch (DuplicateEdgeException e) {
+                // Another thread got there first
+            }
+
+            return null;
+        }
+
+        if (dice < WRITE_PERCENT) {
+            try {
+                graph.removeEdge(u, v);
+            }
+            catch (NoSuchEdgeException e) {
+                // Nothing to remove
+            }
+
+            return null;
+        }
+
+        return (dice & 1) == 0 ? graph.containsEdge(u, v) : graph.degree(u);
+    }
+
+
+    // Inner Classes
+    /**
+     * A task whose graph is rebuilt, untimed, before every run
+     *
+     * @param <G> Graph type
+     */
+    private static final class Rebuilt<G> implements Task {
+        private final Supplier<G> _fresh;
+        private final Function<G, Object> _work;
+        private G _graph;
+
+        /**
+         * Creates a task from a graph factory and the work to time
+         *
+         * @param fresh Creates the starting graph
+         * @param work Timed work against the graph
+         */
+        Rebuilt(Supplier<G> fresh, Function<G, Object> work) {
+            _fresh = fresh;
+            _work = work;
+        }
+
+        @Override
+        public void reset() {
+            _graph = _fresh.get();
+        }
+
+        @Override
+        public Object run() {
+            return _work.apply(_graph);
+        }
+    }
+
+
+    /**
+     * One reachability query per run over {@value #HOT_PAIRS} fixed pairs,
+     * toggling one edge of the graph every {@value #QUERIES_PER_CHANGE} queries
+     */
+    private static final class ReachTask implements Task {
+        private final DirectedGraph<Integer, Integer> _graph;
+        private final int[][] _edges;
+        private final int[][] _pairs;
+        private final BiPredicate<Integer, Integer> _query;
+        private final Random _random;
+        private int _count;
+
+        /**
+         * Creates a query task
+         *
+         * @param graph Graph to change, or null to leave the graph static
+         * @param n Number of vertices
+         * @param edges Edges that may be removed and re-added
+         * @param query Answers one query
+         */
+        ReachTask(DirectedGraph<Integer, Integer> graph, int n, int[][] edges, BiPredicate<Integer, Integer> query) {
+            _graph = graph;
+            _edges = edges;
+            _query = query;
+            _random = new Random(n);
+            _pairs = new int[HOT_PAIRS][];
+
+            for (int i = 0; i < HOT_PAIRS; i++) {
+                _pairs[i] = new int[] {_random.nextInt(n), _random.nextInt(n)};
+            }
+        }
+
+        @Override
+        public Object run() {
+            if (_graph != null && _count++ % QUERIES_PER_CHANGE == 0) {
+                int[] edge = _edges[_random.nextInt(_edges.length)];
+
+                if (_graph.containsEdge(edge[0], edge[1])) {
+                    _graph.removeEdge(edge[0], edge[1]);
+                }
+                else {
+                    _graph.addEdge(edge[0], edge[1], 1);
+                }
+            }
+
+            int[] pair = _pairs[_random.nextInt(HOT_PAIRS)];
+
+            return _query.test(pair[0], pair[1]);
+        }
+    }
+}
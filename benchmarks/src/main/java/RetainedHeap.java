@@ -0,0 +1,157 @@
+// Imports
+import java.util.function.Supplier;
+
+
+/**
+ * Measures how much heap a graph retains per edge, which JMH does not
+ * report; its GC profiler counts allocation, not what stays live
+ *
+ * <p>Run with {@code java -cp benchmarks/target/benchmarks.jar RetainedHeap
+ * [memory|density] [size]} and a heap large enough for the graph, e.g.
+ * {@code -Xmx4g} for memory at size 2500000 (10M edges). The figure is the
+ * heap delta around building the graph, each side taken as the smallest
+ * used heap seen over several full collections.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+public final class RetainedHeap {
+    // Constants
+    private static final int DEFAULT_SIZE = 4000;
+    private static final int GC_ROUNDS = 10;
+    private static final int DENSITY_STEPS = 8;
+    private static final int OWN_LABEL_STRIDE = 64;
+
+
+    /**
+     * Prevents instantiation of this utility class
+     */
+    private RetainedHeap() {
+    }
+
+
+    /**
+     * Entry point
+     *
+     * @param args Optional scenario name followed by optional vertex count
+     */
+    public static void main(String[] args) {
+        String scenario = args.length > 0 ? args[0] : "memory";
+        int size = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SIZE;
+
+        switch (scenario) {
+            case "memory":
+                memory(size);
+                break;
+            case "density":
+                density(size);
+                break;
+            default:
+                throw new IllegalArgumentException("Error: Unknown scenario " + scenario);
+        }
+    }
+
+
+    // Scenarios
+    /**
+     * Reports a ListGraph over the ring-like pattern with {@code size}
+     * vertices, and a complete MatrixGraph and BitMatrixGraph with about as
+     * many edges. BitMatrixGraph is measured storing every label, with every
+     * label equal to its default, and with one edge in 64 carrying a label of
+     * its own. Every edge label is a cached small Integer, so the figures
+     * count the graph's own structures only
+     *
+     * @param size Vertex count of the ListGraph
+     */
+    private static void memory(int size) {
+        long edges = (long) size * BenchmarkData.EDGES_PER_VERTEX;
+        int dense = (int) Math.ceil(Math.sqrt(edges)) + 1;
+
+        report("memory", "ListGraph", () -> {
+            ListGraph<Integer, Integer> graph = new ListGraph<>();
+
+            BenchmarkData.load(graph, size);
+
+            return graph;
+        });
+
+        report("memory", "MatrixGraph(complete)", () -> BenchmarkData.loadComplete(new MatrixGraph<>(dense), dense));
+        report("memory", "BitMatrixGraph", () ->
+                BenchmarkData.loadComplete(new BitMatrixGraph<Integer, Integer>(dense, null), dense));
+        report("memory", "BitMatrixGraph(shared)", () ->
+                BenchmarkData.loadComplete(new BitMatrixGraph<Integer, Integer>(dense, 1), dense));
+        report("memory", "BitMatrixGraph(1/64)", () -> {
+            BitMatrixGraph<Integer, Integer> graph =
+                    BenchmarkData.loadComplete(new BitMatrixGraph<Integer, Integer>(dense, 1), dense);
+
+            for (int u = 0; u < dense; u++) {
+                for (int v = u % OWN_LABEL_STRIDE; v < dense; v += OWN_LABEL_STRIDE) {
+                    if (u != v) {
+                        graph.removeEdge(u, v);
+                        graph.addEdge(u, v, 2);
+                    }
+                }
+            }
+
+            return graph;
+        });
+    }
+
+
+    /**
+     * Reports ListGraph, MatrixGraph and AdaptiveGraph on {@code size / 4}
+     * vertices at densities from 1/256 to 1/2, to find where a matrix
+     * becomes the smaller layout
+     *
+     * @param size Four times the vertex count
+     */
+    private static void density(int size) {
+        int n = size / 4;
+
+        for (int shift = DENSITY_STEPS; shift >= 1; shift--) {
+            int inverse = 1 << shift;
+            String tag = "(1/" + inverse + ")";
+
+            report("density", "ListGraph" + tag, () -> BenchmarkData.loadDensity(new ListGraph<>(), n, inverse));
+            report("density", "MatrixGraph" + tag, () -> BenchmarkData.loadDensity(new MatrixGraph<>(n), n, inverse));
+            report("density", "AdaptiveGraph" + tag,
+                    () -> BenchmarkData.loadDensity(new AdaptiveGraph<>(), n, inverse));
+        }
+    }
+
+
+    // Helper Methods
+    /**
+     * Builds a graph and prints how much heap it retains per edge
+     *
+     * @param scenario Scenario name
+     * @param impl Implementation name
+     * @param factory Builds the populated graph
+     */
+    private static void report(String scenario, String impl, Supplier<DirectedGraph<Integer, Integer>> factory) {
+        long before = usedHeap();
+        DirectedGraph<Integer, Integer> graph = factory.get();
+        long after = usedHeap();
+        long edges = graph.edgeCount();
+
+        System.out.printf("%-10s %-22s m=%-9d %8.1f bytes/edge%n", scenario, impl, edges,
+                (double) (after - before) / edges);
+    }
+
+
+    /**
+     * Fetches the heap in use after several full collections
+     *
+     * @return Smallest used heap observed, in bytes
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+
+        for (int round = 0; round < GC_ROUNDS; round++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+
+        return used;
+    }
+}
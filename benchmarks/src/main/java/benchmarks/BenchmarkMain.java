@@ -0,0 +1,45 @@
+package benchmarks;
+
+// Imports
+import java.util.Arrays;
+
+
+/**
+ * Entry point of {@code benchmarks.jar}
+ *
+ * <p>Accepts the usual JMH command line, for example
+ * {@code java -jar benchmarks/target/benchmarks.jar GraphQuery -p impl=ListGraph,CsrGraph -p size=4000},
+ * and adds {@code -prof gc} unless the GC profiler is already named, so
+ * every result carries its allocation rate and bytes per operation.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+public final class BenchmarkMain {
+    /**
+     * Prevents instantiation of this utility class
+     */
+    private BenchmarkMain() {
+    }
+
+
+    /**
+     * Runs, lists or describes the benchmarks as JMH's own launcher would
+     *
+     * @param args JMH command line options
+     * @throws Exception If JMH cannot run the benchmarks
+     */
+    public static void main(String[] args) throws Exception {
+        if (Arrays.asList(args).contains("gc")) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        String[] withGc = new String[args.length + 2];
+
+        withGc[0] = "-prof";
+        withGc[1] = "gc";
+        System.arraycopy(args, 0, withGc, 2, args.length);
+
+        org.openjdk.jmh.Main.main(withGc);
+    }
+}
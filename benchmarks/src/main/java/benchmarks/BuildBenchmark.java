@@ -0,0 +1,91 @@
+package benchmarks;
+
+// Imports
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Tasks that build or change a graph and so cannot simply be repeated
+ *
+ * <p>Each invocation is preceded by an untimed {@link Task#reset}, which
+ * empties the graph for the {@code bulkload} and {@code toposort} tasks and,
+ * for {@code cow:snapshot}, makes a hundred random edge changes; the timed
+ * part is then the load, the ordered inserts, or the incremental snapshot
+ * alone. {@code toposort:ListGraph(full sort)} re-sorts after every insert
+ * and is quadratic, so keep its size small.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+@State(Scope.Thread)
+public class BuildBenchmark {
+    // Internal State
+    @Param({
+        "bulkload:MatrixGraph", "bulkload:MatrixGraph(presized)", "bulkload:ListGraph",
+        "bulkload:MatrixGraph(batch)", "bulkload:ListGraph(batch)",
+        "toposort:DynamicDag", "toposort:ListGraph(full sort)",
+        "cow:CsrGraph(copy)", "cow:snapshot"
+    })
+    public String task;
+
+    @Param({"1000", "4000"})
+    public int size;
+
+    private Task _task;
+
+
+    // Methods
+    /**
+     * Loads the data for the current task
+     */
+    @Setup(Level.Trial)
+    public void load() {
+        _task = TaskFactory.INSTANCE.create(task, size);
+    }
+
+
+    /**
+     * Restores the task's starting state before each shot
+     */
+    @Setup(Level.Invocation)
+    public void reset() {
+        _task.reset();
+    }
+
+
+    /**
+     * Releases the task's files and buffers
+     */
+    @TearDown(Level.Trial)
+    public void close() {
+        _task.close();
+    }
+
+
+    /**
+     * Runs the task once
+     *
+     * @return The task's result
+     */
+    @Benchmark
+    public Object run() {
+        return _task.run();
+    }
+}
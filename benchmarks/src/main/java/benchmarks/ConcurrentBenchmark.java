@@ -0,0 +1,78 @@
+package benchmarks;
+
+// Imports
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * A read-mostly mix of containsEdge, degree, addEdge and removeEdge against
+ * one graph shared by every benchmark thread
+ *
+ * <p>Ten percent of operations are writes. {@code ListGraph(locked)}
+ * serialises every call on the graph's monitor, the baseline that
+ * {@code ConcurrentListGraph} is meant to beat; change the thread count with
+ * {@code -t}.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentBenchmark {
+    // Internal State
+    @Param({"concurrent:ListGraph(locked)", "concurrent:ConcurrentListGraph"})
+    public String task;
+
+    @Param({"4000"})
+    public int size;
+
+    private Task _task;
+
+
+    // Methods
+    /**
+     * Loads the shared graph
+     */
+    @Setup(Level.Trial)
+    public void load() {
+        _task = TaskFactory.INSTANCE.create(task, size);
+    }
+
+
+    /**
+     * Releases the shared graph
+     */
+    @TearDown(Level.Trial)
+    public void close() {
+        _task.close();
+    }
+
+
+    /**
+     * Performs one random operation
+     *
+     * @return The operation's result
+     */
+    @Benchmark
+    public Object run() {
+        return _task.run();
+    }
+}
@@ -0,0 +1,34 @@
+package benchmarks;
+
+
+/**
+ * Instantiates the classes that give this package access to the graph
+ * implementations, which live in the default package and cannot be imported
+ *
+ * @author blee20@georgefox.edu
+ */
+final class DefaultPackage {
+    /**
+     * Prevents instantiation of this utility class
+     */
+    private DefaultPackage() {
+    }
+
+
+    /**
+     * Creates an instance of a default-package class through its no-argument constructor
+     *
+     * @param name Class name
+     * @param type Interface the class implements
+     * @param <T> Interface type
+     * @return The new instance
+     */
+    static <T> T instantiate(String name, Class<T> type) {
+        try {
+            return type.cast(Class.forName(name).getDeclaredConstructor().newInstance());
+        }
+        catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Error: " + name + " is missing from the class path", e);
+        }
+    }
+}
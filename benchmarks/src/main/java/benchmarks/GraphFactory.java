@@ -0,0 +1,26 @@
+package benchmarks;
+
+
+/**
+ * Builds the graph a benchmark runs against; see {@link GraphHandle}
+ *
+ * @author blee20@georgefox.edu
+ */
+public interface GraphFactory {
+    /**
+     * The default-package factory, loaded reflectively because it cannot be imported
+     */
+    GraphFactory INSTANCE = DefaultPackage.instantiate("BenchmarkGraphs", GraphFactory.class);
+
+
+    /**
+     * Builds a graph holding every vertex of a workload and, if requested,
+     * every edge
+     *
+     * @param impl Implementation name, such as {@code ListGraph}
+     * @param workload Labels and edges to use
+     * @param withEdges True to load the edges as well
+     * @return Populated graph
+     */
+    GraphHandle create(String impl, Workload workload, boolean withEdges);
+}
@@ -0,0 +1,97 @@
+package benchmarks;
+
+// Imports
+import java.util.Iterator;
+
+
+/**
+ * The graph operations under benchmark, as seen from a named package
+ *
+ * <p>JMH will not generate benchmarks for classes in the default package, and
+ * a named package cannot import the graph classes, which live there. The
+ * default-package {@code BenchmarkGraphs} class implements this interface
+ * over a {@code DirectedGraph<Object, Integer>}. A fork only ever creates one
+ * implementation, so each call site here stays monomorphic once compiled.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+public interface GraphHandle extends AutoCloseable {
+    /**
+     * Fetches the vertex labels this graph is keyed by, indexed like the
+     * workload's vertices
+     *
+     * @return {@link Workload#labels}, or {@link Workload#ids} for graphs keyed by int
+     */
+    Object[] labels();
+
+
+    /**
+     * Creates a new vertex and adds it to the graph
+     *
+     * @param u Vertex label
+     */
+    void add(Object u);
+
+
+    /**
+     * Creates a new edge between two existing vertices
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @param label Edge label
+     */
+    void addEdge(Object u, Object v, int label);
+
+
+    /**
+     * Determines if the given vertices share an edge
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return True if edge exists from u to v, else false
+     */
+    boolean containsEdge(Object u, Object v);
+
+
+    /**
+     * Fetches the number of edges emanating from the given vertex
+     *
+     * @param u Source vertex label
+     * @return Number of edges from u to another vertex
+     */
+    int degree(Object u);
+
+
+    /**
+     * Creates an iterator over the vertices adjacent to u
+     *
+     * @param u Source vertex label
+     * @return A new iterator object
+     */
+    Iterator<?> adjacent(Object u);
+
+
+    /**
+     * Creates an iterator over every edge
+     *
+     * @return A new iterator object
+     */
+    Iterator<?> edges();
+
+
+    /**
+     * Deletes a vertex and every edge touching it
+     *
+     * @param u Vertex label
+     */
+    void remove(Object u);
+
+
+    /**
+     * Releases the graph's native memory, if it holds any; OffHeapGraph
+     * buffers would otherwise stay allocated until a collection happens to
+     * free them, skewing the GC profiler's figures
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,129 @@
+package benchmarks;
+
+// Imports
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Operations that use up the graph they run against
+ *
+ * <p>Adding every edge or removing every vertex can only happen once per
+ * graph, so each invocation gets a freshly built graph, untimed, and performs
+ * the whole batch. The figures are therefore per batch, not per call: divide
+ * by the edge count for {@code addEdges} and by {@code size} for
+ * {@code removeVertices}. CsrGraph, FrozenGraph and MappedGraph are read-only
+ * and are not measured here.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(2)
+public class GraphMutationBenchmark {
+    // Inner Classes
+    /**
+     * Workload parameters plus the mutable implementations
+     */
+    @State(Scope.Thread)
+    public abstract static class MutableState extends WorkloadState {
+        @Param({"ListGraph", "MatrixGraph", "BitMatrixGraph", "ConcurrentListGraph", "OffHeapGraph", "AdaptiveGraph",
+            "IntGraphAdapter"})
+        public String impl;
+
+        GraphHandle graph;
+
+        /**
+         * Releases the graph used by the batch that just ran
+         */
+        @TearDown(Level.Invocation)
+        public void close() {
+            graph.close();
+        }
+    }
+
+
+    /**
+     * A graph holding the workload's vertices but none of its edges
+     */
+    @State(Scope.Thread)
+    public static class VerticesOnly extends MutableState {
+        /**
+         * Builds an edgeless graph before each batch
+         */
+        @Setup(Level.Invocation)
+        public void build() {
+            graph = GraphFactory.INSTANCE.create(impl, workload(), false);
+        }
+    }
+
+
+    /**
+     * A graph holding the whole workload
+     */
+    @State(Scope.Thread)
+    public static class Loaded extends MutableState {
+        /**
+         * Builds a full graph before each batch
+         */
+        @Setup(Level.Invocation)
+        public void build() {
+            graph = GraphFactory.INSTANCE.create(impl, workload(), true);
+        }
+    }
+
+
+    // Methods
+    /**
+     * Adds every edge of the workload in workload order
+     *
+     * @param state Edgeless graph
+     * @return The graph, so the additions cannot be discarded
+     */
+    @Benchmark
+    public GraphHandle addEdges(VerticesOnly state) {
+        Workload workload = state.workload();
+        Object[] labels = state.graph.labels();
+        GraphHandle graph = state.graph;
+
+        for (int e = 0; e < workload.edgeCount(); e++) {
+            graph.addEdge(labels[workload.sources[e]], labels[workload.targets[e]], e);
+        }
+
+        return graph;
+    }
+
+
+    /**
+     * Removes every vertex in visiting order
+     *
+     * @param state Loaded graph
+     * @return The graph, so the removals cannot be discarded
+     */
+    @Benchmark
+    public GraphHandle removeVertices(Loaded state) {
+        Workload workload = state.workload();
+        Object[] labels = state.graph.labels();
+        GraphHandle graph = state.graph;
+
+        for (int i = 0; i < workload.n; i++) {
+            graph.remove(labels[workload.order[i]]);
+        }
+
+        return graph;
+    }
+}
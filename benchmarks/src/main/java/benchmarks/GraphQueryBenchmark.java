@@ -0,0 +1,162 @@
+package benchmarks;
+
+// Imports
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+
+/**
+ * Read-only operations against a fully loaded graph
+ *
+ * <p>Each call probes the next edge or vertex of the workload, wrapping
+ * around, so a measurement cycles through the whole graph in workload order.
+ * Throughput gives the mean cost and SampleTime the latency percentiles.
+ * {@code edges} walks every edge per call, so its figures are per full
+ * scan.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GraphQueryBenchmark {
+    // Inner Classes
+    /**
+     * A graph loaded once per trial, with cursors into the workload
+     */
+    @State(Scope.Thread)
+    public static class LoadedGraph extends WorkloadState {
+        @Param({"ListGraph", "MatrixGraph", "BitMatrixGraph", "ConcurrentListGraph", "OffHeapGraph", "AdaptiveGraph",
+            "IntGraphAdapter", "CsrGraph", "FrozenGraph", "MappedGraph"})
+        public String impl;
+
+        GraphHandle graph;
+        Object[] vertexLabels;
+        int[] sources;
+        int[] targets;
+        int[] order;
+        private int _edge;
+        private int _vertex;
+
+        /**
+         * Builds the graph for the current parameters
+         */
+        @Setup(Level.Trial)
+        public void load() {
+            Workload workload = workload();
+
+            graph = GraphFactory.INSTANCE.create(impl, workload, true);
+            vertexLabels = graph.labels();
+            sources = workload.sources;
+            targets = workload.targets;
+            order = workload.order;
+        }
+
+        /**
+         * Releases the graph
+         */
+        @TearDown(Level.Trial)
+        public void close() {
+            graph.close();
+        }
+
+        /**
+         * Fetches the next edge index, wrapping around
+         *
+         * @return Index into sources and targets
+         */
+        int nextEdge() {
+            int e = _edge;
+
+            _edge = e + 1 == sources.length ? 0 : e + 1;
+
+            return e;
+        }
+
+        /**
+         * Fetches the next vertex in visiting order, wrapping around
+         *
+         * @return Vertex label
+         */
+        Object nextVertex() {
+            int i = _vertex;
+
+            _vertex = i + 1 == order.length ? 0 : i + 1;
+
+            return vertexLabels[order[i]];
+        }
+    }
+
+
+    // Methods
+    /**
+     * Probes one edge; every other probe is reversed, so roughly half of them miss
+     *
+     * @param state Loaded graph
+     * @return Whether the edge exists
+     */
+    @Benchmark
+    public boolean containsEdge(LoadedGraph state) {
+        int e = state.nextEdge();
+        Object u = state.vertexLabels[state.sources[e]];
+        Object v = state.vertexLabels[(e & 1) == 0 ? state.targets[e] : state.sources[e]];
+
+        return state.graph.containsEdge(u, v);
+    }
+
+
+    /**
+     * Fetches the out-degree of one vertex
+     *
+     * @param state Loaded graph
+     * @return The degree
+     */
+    @Benchmark
+    public int degree(LoadedGraph state) {
+        return state.graph.degree(state.nextVertex());
+    }
+
+
+    /**
+     * Walks the successors of one vertex
+     *
+     * @param state Loaded graph
+     * @param sink Consumes each successor
+     */
+    @Benchmark
+    public void adjacent(LoadedGraph state, Blackhole sink) {
+        for (Iterator<?> it = state.graph.adjacent(state.nextVertex()); it.hasNext(); ) {
+            sink.consume(it.next());
+        }
+    }
+
+
+    /**
+     * Walks every edge of the graph
+     *
+     * @param state Loaded graph
+     * @param sink Consumes each edge
+     */
+    @Benchmark
+    public void edges(LoadedGraph state, Blackhole sink) {
+        for (Iterator<?> it = state.graph.edges(); it.hasNext(); ) {
+            sink.consume(it.next());
+        }
+    }
+}
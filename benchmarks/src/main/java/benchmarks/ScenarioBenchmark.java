@@ -0,0 +1,84 @@
+package benchmarks;
+
+// Imports
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Algorithms and queries that leave their graph unchanged, so one graph is
+ * loaded per trial and the task is repeated against it
+ *
+ * <p>Runs on a {@code ListGraph} include its conversion to CSR form, which
+ * every algorithm pays on a non-CSR graph; {@code CsrGraph} runs reuse one
+ * converted copy. The {@code reach} tasks other than the index toggle one
+ * edge every hundred queries, so the cache is invalidated as it would be in
+ * use. {@code metrics} tasks make one containsEdge call per operation.</p>
+ *
+ * @author blee20@georgefox.edu
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ScenarioBenchmark {
+    // Internal State
+    @Param({
+        "dijkstra:ListGraph", "dijkstra:CsrGraph", "bellman:CsrGraph", "astar:CsrGraph",
+        "scc:tarjan(ring)", "scc:fwbw(ring)", "scc:tarjan(random)", "scc:fwbw(random)",
+        "pagerank:ListGraph", "pagerank:CsrGraph", "hits:CsrGraph",
+        "snapshot:write", "snapshot:open+query",
+        "reach:ListGraph(search)", "reach:CachedGraph", "reach:Index(build)", "reach:ReachabilityIndex",
+        "metrics:ListGraph", "metrics:Instrumented(on)", "metrics:Instrumented(off)"
+    })
+    public String task;
+
+    @Param({"4000", "32000"})
+    public int size;
+
+    private Task _task;
+
+
+    // Methods
+    /**
+     * Loads the graph for the current task
+     */
+    @Setup(Level.Trial)
+    public void load() {
+        _task = TaskFactory.INSTANCE.create(task, size);
+    }
+
+
+    /**
+     * Releases the task's files and buffers
+     */
+    @TearDown(Level.Trial)
+    public void close() {
+        _task.close();
+    }
+
+
+    /**
+     * Runs the task once
+     *
+     * @return The task's result
+     */
+    @Benchmark
+    public Object run() {
+        return _task.run();
+    }
+}
@@ -0,0 +1,33 @@
+package benchmarks;
+
+
+/**
+ * One prepared piece of work from a benchmark scenario, such as a shortest
+ * path search over a loaded graph; see {@link TaskFactory}
+ *
+ * @author blee20@georgefox.edu
+ */
+public interface Task extends AutoCloseable {
+    /**
+     * Performs the measured work once
+     *
+     * @return A result, so the work cannot be discarded
+     */
+    Object run();
+
+
+    /**
+     * Restores the state {@link #run} consumes; called untimed before each
+     * run by benchmarks that measure single shots
+     */
+    default void reset() {
+    }
+
+
+    /**
+     * Releases files and native memory held by the task
+     */
+    @Override
+    default void close() {
+    }
+}
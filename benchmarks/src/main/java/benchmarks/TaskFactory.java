@@ -0,0 +1,25 @@
+package benchmarks;
+
+
+/**
+ * Prepares the scenario tasks run by {@link ScenarioBenchmark},
+ * {@link BuildBenchmark} and {@link ConcurrentBenchmark}
+ *
+ * @author blee20@georgefox.edu
+ */
+public interface TaskFactory {
+    /**
+     * The default-package factory, loaded reflectively because it cannot be imported
+     */
+    TaskFactory INSTANCE = DefaultPackage.instantiate("BenchmarkTasks", TaskFactory.class);
+
+
+    /**
+     * Loads the data for a task and prepares it to run
+     *
+     * @param name Scenario and variant, such as {@code dijkstra:CsrGraph}
+     * @param size Number of vertices
+     * @return Prepared task
+     */
+    Task create(String name, int size);
+}
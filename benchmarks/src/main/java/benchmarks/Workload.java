@@ -0,0 +1,103 @@
+package benchmarks;
+
+// Imports
+import java.util.HashSet;
+import java.util.Random;
+
+
+/**
+ * A fixed set of vertex labels, edges and vertex visiting order, generated
+ * from a constant seed so every fork and implementation sees the same graph
+ *
+ * @author blee20@georgefox.edu
+ */
+public final class Workload {
+    // Constants
+    private static final long SEED = 42L;
+    private static final int INDEX_BITS = 32;
+
+
+    // Internal State
+    public final int n;
+    public final Object[] labels;
+    public final Object[] ids;
+    public final int[] sources;
+    public final int[] targets;
+    public final int[] order;
+
+
+    // Constructor
+    /**
+     * Generates a workload; random workloads draw distinct edges and shuffle
+     * the vertex order, sequential ones give each vertex a run of successors
+     *
+     * @param n Number of vertices
+     * @param density Fraction of the V^2 possible edges present
+     * @param strings True for String labels, false for Integer labels
+     * @param random True for random access order, false for sequential
+     */
+    public Workload(int n, double density, boolean strings, boolean random) {
+        Random rng = new Random(SEED);
+        int m = (int) Math.min((long) n * n, Math.max(1L, Math.round(density * n * n)));
+
+        this.n = n;
+        labels = new Object[n];
+        order = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            labels[i] = strings ? "v" + i : Integer.valueOf(i);
+            order[i] = i;
+        }
+
+        // Graphs keyed by int ids cannot take String labels
+        ids = strings ? new Object[n] : labels;
+
+        for (int i = 0; strings && i < n; i++) {
+            ids[i] = i;
+        }
+
+        sources = new int[m];
+        targets = new int[m];
+
+        if (random) {
+            HashSet<Long> seen = new HashSet<>(m * 2);
+
+            for (int e = 0; e < m; ) {
+                int u = rng.nextInt(n);
+                int v = rng.nextInt(n);
+
+                if (seen.add(((long) u << INDEX_BITS) | v)) {
+                    sources[e] = u;
+                    targets[e] = v;
+                    e++;
+                }
+            }
+
+            for (int i = n - 1; i > 0; i--) {
+                int j = rng.nextInt(i + 1);
+                int swap = order[i];
+                order[i] = order[j];
+                order[j] = swap;
+            }
+        }
+        else {
+            int perVertex = (m + n - 1) / n;
+
+            for (int e = 0; e < m; e++) {
+                sources[e] = e / perVertex;
+                targets[e] = (sources[e] + e % perVertex) % n;
+            }
+        }
+    }
+
+
+    // Methods
+    /**
+     * Fetches the number of edges in the workload
+     *
+     * @return Edge count
+     */
+    public int edgeCount() {
+        return sources.length;
+    }
+}
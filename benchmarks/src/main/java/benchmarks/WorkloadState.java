@@ -0,0 +1,45 @@
+package benchmarks;
+
+// Imports
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Workload parameters shared by every benchmark state
+ *
+ * @author blee20@georgefox.edu
+ */
+@State(Scope.Thread)
+public abstract class WorkloadState {
+    // Internal State
+    @Param({"1000", "4000"})
+    public int size;
+
+    @Param({"0.001", "0.01"})
+    public double density;
+
+    @Param({"int", "string"})
+    public String labels;
+
+    @Param({"sequential", "random"})
+    public String order;
+
+    private Workload _workload;
+
+
+    // Methods
+    /**
+     * Fetches the workload for the current parameters, generating it on first use
+     *
+     * @return Labels and edges to use
+     */
+    public Workload workload() {
+        if (_workload == null) {
+            _workload = new Workload(size, density, labels.equals("string"), order.equals("random"));
+        }
+
+        return _workload;
+    }
+}
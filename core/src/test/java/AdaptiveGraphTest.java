@@ -0,0 +1,94 @@
+// Imports
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Iterator;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Checks that {@link AdaptiveGraph} migrates however its density changes
+ *
+ * @author blee20@georgefox.edu
+ */
+class AdaptiveGraphTest {
+    // Constants
+    private static final int N = AdaptiveGraph.MIN_DENSE_SIZE;
+
+
+    // Tests
+    /**
+     * A complete graph becomes dense, and removing its edges through the
+     * edge iterator turns it back into a ListGraph once the walk ends
+     */
+    @Test
+    void iteratorRemovalMigratesWhenExhausted() {
+        AdaptiveGraph<Integer, Integer> graph = complete();
+
+        assertTrue(graph.isDense());
+
+        Iterator<Edge<Integer, Integer>> it = graph.edges();
+
+        while (it.hasNext()) {
+            it.next();
+            it.remove();
+
+            // No migration while the iterator is still in use
+            assertTrue(graph.isDense());
+        }
+
+        assertEquals(0, graph.edgeCount());
+        assertFalse(graph.isDense());
+        assertEquals(2, graph.migrationCount());
+    }
+
+
+    /**
+     * An iterator abandoned after its removals leaves the check to the next
+     * change made through the graph
+     */
+    @Test
+    void abandonedIteratorMigratesOnNextChange() {
+        AdaptiveGraph<Integer, Integer> graph = complete();
+
+        for (int u = 0; u < N; u++) {
+            Iterator<Vertex<Integer>> it = graph.adjacent(u);
+
+            for (int v = 1; v < N; v++) {
+                it.next();
+                it.remove();
+            }
+        }
+
+        assertTrue(graph.isDense());
+
+        graph.add(N);
+
+        assertFalse(graph.isDense());
+        assertEquals(N, graph.edgeCount());
+    }
+
+
+    // Helper Methods
+    /**
+     * Builds a complete graph on {@link #N} vertices, self-loops included
+     *
+     * @return Populated graph
+     */
+    private static AdaptiveGraph<Integer, Integer> complete() {
+        AdaptiveGraph<Integer, Integer> graph = new AdaptiveGraph<>();
+
+        for (int u = 0; u < N; u++) {
+            graph.add(u);
+        }
+
+        for (int u = 0; u < N; u++) {
+            for (int v = 0; v < N; v++) {
+                graph.addEdge(u, v, u * N + v);
+            }
+        }
+
+        return graph;
+    }
+}
@@ -0,0 +1,105 @@
+// Imports
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Iterator;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Bit rows and the sparse label store of {@link BitMatrixGraph}
+ *
+ * @author blee20@georgefox.edu
+ */
+class BitMatrixGraphTest {
+    // Constants
+    private static final int N = 150;
+
+
+    // Tests
+    /**
+     * Stored labels survive the matrix growing past its initial capacity,
+     * and edges with the default label read back as the default
+     */
+    @Test
+    void labelsSurviveGrowth() {
+        BitMatrixGraph<Integer, String> graph = new BitMatrixGraph<>(4, "-");
+
+        for (int u = 0; u < N; u++) {
+            graph.add(u);
+        }
+
+        for (int u = 0; u < N; u++) {
+            graph.addEdge(u, (u + 1) % N, u % 10 == 0 ? "own" + u : "-");
+        }
+
+        for (int u = 0; u < N; u++) {
+            assertEquals(u % 10 == 0 ? "own" + u : "-", graph.getEdge(u, (u + 1) % N).getLabel());
+        }
+
+        assertEquals(N, graph.edgeCount());
+    }
+
+
+    /**
+     * Removing an edge or a vertex drops its stored label, so a later edge in
+     * the same cell without a label of its own reads back as the default
+     */
+    @Test
+    void removedLabelsDoNotLeak() {
+        BitMatrixGraph<Integer, String> graph = new BitMatrixGraph<>(8, "-");
+
+        for (int u = 0; u < 4; u++) {
+            graph.add(u);
+        }
+
+        graph.addEdge(0, 1, "a");
+        graph.addEdge(2, 3, "b");
+        graph.addEdge(1, 3, "c");
+
+        assertEquals("a", graph.removeEdge(0, 1));
+
+        graph.addEdge(0, 1, "-");
+        graph.remove(3);
+        graph.add(3);
+        graph.addEdge(2, 3, "-");
+        graph.addEdge(1, 3, "-");
+
+        assertEquals("-", graph.getEdge(0, 1).getLabel());
+        assertEquals("-", graph.getEdge(2, 3).getLabel());
+        assertEquals("-", graph.getEdge(1, 3).getLabel());
+    }
+
+
+    /**
+     * Without a default label every label is stored and read back, through
+     * getEdge, edges() and inEdges()
+     */
+    @Test
+    void everyLabelIsStoredWithoutDefault() {
+        BitMatrixGraph<Integer, Integer> graph = new BitMatrixGraph<>();
+
+        for (int u = 0; u < N; u++) {
+            graph.add(u);
+        }
+
+        for (int u = 0; u < N; u++) {
+            graph.addEdge(u, (u * 7) % N, u);
+        }
+
+        for (Iterator<Edge<Integer, Integer>> it = graph.edges(); it.hasNext(); ) {
+            Edge<Integer, Integer> edge = it.next();
+
+            assertEquals(edge.getU(), edge.getLabel());
+        }
+
+        for (Iterator<Edge<Integer, Integer>> it = graph.inEdges(0); it.hasNext(); ) {
+            assertEquals(0, it.next().getLabel());
+        }
+
+        assertTrue(graph.containsEdge(3, 21));
+        assertFalse(graph.containsEdge(21, 3));
+        assertEquals(1, graph.degree(3));
+    }
+}
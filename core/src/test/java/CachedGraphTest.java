@@ -0,0 +1,162 @@
+// Imports
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Cached reachability and shortest-path answers from {@link CachedGraph}
+ *
+ * @author blee20@georgefox.edu
+ */
+class CachedGraphTest {
+    // Constants
+    private static final int RANDOM_VERTICES = 30;
+    private static final int RANDOM_STEPS = 3000;
+    private static final int SMALL_CAPACITY = 16;
+    private static final long SEED = 29L;
+
+
+    // Tests
+    /**
+     * A repeated query is answered from the cache, and the least recently
+     * used answer is evicted once the cache is full
+     */
+    @Test
+    void repeatedQueriesHitAndOldOnesAreEvicted() {
+        CachedGraph<String, Integer> graph = new CachedGraph<>(sample(), 2);
+
+        assertEquals(List.of("a", "b", "d"), graph.shortestPath("a", "d"));
+        assertTrue(graph.isReachable("a", "d"));
+        assertEquals(1, graph.missCount());
+        assertEquals(1, graph.hitCount());
+
+        assertFalse(graph.isReachable("d", "a"));
+        assertTrue(graph.isReachable("c", "d"));
+
+        assertEquals(2, graph.cachedQueries());
+        assertEquals(3, graph.missCount());
+
+        graph.isReachable("a", "d");
+
+        assertEquals(4, graph.missCount());
+        assertThrows(IllegalArgumentException.class, () -> new CachedGraph<>(sample(), 0));
+    }
+
+
+    /**
+     * Adding an edge revives unreachable answers and shortens cached paths,
+     * while removals drop exactly the paths that used the removed element
+     */
+    @Test
+    void changesInvalidateAffectedAnswers() {
+        CachedGraph<String, Integer> graph = new CachedGraph<>(sample());
+
+        assertFalse(graph.isReachable("d", "a"));
+        assertEquals(List.of("a", "b", "d"), graph.shortestPath("a", "d"));
+
+        graph.addEdge("d", "a", 0);
+
+        assertTrue(graph.isReachable("d", "a"));
+
+        graph.addEdge("a", "d", 0);
+
+        assertEquals(List.of("a", "d"), graph.shortestPath("a", "d"));
+
+        graph.removeEdge("a", "d");
+
+        assertEquals(List.of("a", "b", "d"), graph.shortestPath("a", "d"));
+
+        graph.remove("b");
+
+        assertEquals(List.of("a", "c", "d"), graph.shortestPath("a", "d"));
+        assertThrows(NoSuchVertexException.class, () -> graph.isReachable("a", "b"));
+    }
+
+
+    /**
+     * A seeded run of random changes and queries through a small cache
+     * always agrees with a fresh breadth-first search
+     */
+    @Test
+    void randomChangesMatchFreshSearches() {
+        ListGraph<Integer, Integer> plain = new ListGraph<>(true);
+        CachedGraph<Integer, Integer> graph = new CachedGraph<>(plain, SMALL_CAPACITY);
+        Random random = new Random(SEED);
+
+        for (int u = 0; u < RANDOM_VERTICES; u++) {
+            graph.add(u);
+        }
+
+        for (int i = 0; i < RANDOM_STEPS; i++) {
+            int u = random.nextInt(RANDOM_VERTICES);
+            int v = random.nextInt(RANDOM_VERTICES);
+            int step = random.nextInt(4);
+
+            if (step == 0 && u != v && !graph.containsEdge(u, v)) {
+                graph.addEdge(u, v, i);
+            }
+            else if (step == 1 && graph.containsEdge(u, v)) {
+                graph.removeEdge(u, v);
+            }
+            else {
+                Map<Integer, Integer> depths = depths(plain, u);
+                List<Integer> path = graph.shortestPath(u, v);
+
+                assertEquals(depths.containsKey(v), graph.isReachable(u, v));
+                assertEquals(depths.containsKey(v) ? depths.get(v) + 1 : 0, path.size());
+            }
+        }
+
+        assertTrue(graph.hitCount() > 0);
+    }
+
+
+    // Helper Methods
+    /**
+     * Builds {@code a->b, a->c, b->d, c->d}
+     *
+     * @return Populated graph
+     */
+    private static ListGraph<String, Integer> sample() {
+        ListGraph<String, Integer> graph = new ListGraph<>(true);
+
+        for (String u : new String[] {"a", "b", "c", "d"}) {
+            graph.add(u);
+        }
+
+        graph.addEdge("a", "b", 0);
+        graph.addEdge("a", "c", 0);
+        graph.addEdge("b", "d", 0);
+        graph.addEdge("c", "d", 0);
+
+        return graph;
+    }
+
+
+    /**
+     * Runs a breadth-first search and records each reached vertex's depth
+     *
+     * @param graph Graph to traverse
+     * @param start Start vertex
+     * @return Depth of every reached vertex
+     */
+    private static Map<Integer, Integer> depths(DirectedGraph<Integer, Integer> graph, int start) {
+        Map<Integer, Integer> depths = new HashMap<>();
+
+        GraphTraversal.breadthFirst(graph, start, (u, depth) -> {
+            depths.put(u, depth);
+
+            return true;
+        });
+
+        return depths;
+    }
+}
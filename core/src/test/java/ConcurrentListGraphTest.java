@@ -0,0 +1,201 @@
+// Imports
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Stress tests for {@link ConcurrentListGraph}
+ *
+ * @author blee20@georgefox.edu
+ */
+class ConcurrentListGraphTest {
+    // Constants
+    private static final int THREADS = 4;
+    private static final int LABELS = 8;
+    private static final int ROUNDS = 2000;
+    private static final int OPS_PER_ROUND = 50;
+    private static final int SOURCES = 20000;
+    private static final int RACES = 20;
+
+
+    // Tests
+    /**
+     * Removes, re-adds and links the same few labels from several threads at
+     * once, then checks that the edge count matches the edges actually stored
+     * and that every stored edge points at a live vertex
+     *
+     * @throws Exception If a worker fails
+     */
+    @Test
+    void removeReAddAndAddEdgeKeepEdgesConsistent() throws Exception {
+        ConcurrentListGraph<Integer, Integer> graph = new ConcurrentListGraph<>();
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                List<Future<?>> workers = new ArrayList<>();
+
+                for (int t = 0; t < THREADS; t++) {
+                    workers.add(pool.submit(() -> {
+                        barrier.await();
+                        churn(graph);
+                        return null;
+                    }));
+                }
+
+                for (Future<?> worker : workers) {
+                    worker.get();
+                }
+
+                assertConsistent(graph);
+            }
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+
+    /**
+     * Re-adds a label while its removal is still sweeping incoming edges and
+     * links every other vertex to the new vertex; none of those links may be
+     * lost to the old vertex's sweep
+     *
+     * @throws Exception If a worker fails
+     */
+    @Test
+    void removeSweepKeepsEdgesIntoReAddedVertex() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        Integer target = -1;
+
+        try {
+            for (int race = 0; race < RACES; race++) {
+                ConcurrentListGraph<Integer, Integer> graph = new ConcurrentListGraph<>();
+
+                graph.add(target);
+
+                // Only half the sources link to the vertex being removed
+                for (int x = 0; x < SOURCES; x++) {
+                    graph.add(x);
+
+                    if ((x & 1) == 0) {
+                        graph.addEdge(x, target, x);
+                    }
+                }
+
+                Future<?> remover = pool.submit(() -> graph.remove(target));
+                Future<?> linker = pool.submit(() -> {
+                    while (graph.contains(target)) {
+                        Thread.onSpinWait();
+                    }
+
+                    graph.add(target);
+
+                    // Opposite to the sweep's order, so the two cross mid-way
+                    for (int x = SOURCES - 1; x >= 0; x--) {
+                        graph.addEdge(x, target, -x);
+                    }
+
+                    return null;
+                });
+
+                remover.get();
+                linker.get();
+
+                for (int x = 0; x < SOURCES; x++) {
+                    assertTrue(graph.containsEdge(x, target), "lost edge from " + x);
+                }
+
+                assertEquals(SOURCES, graph.edgeCount());
+            }
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+
+    /**
+     * Checks that an edge into a vertex re-added under a removed label
+     * survives the sweep of the removed vertex's incoming edges
+     */
+    @Test
+    void edgeIntoReAddedVertexSurvivesRemove() {
+        ConcurrentListGraph<Integer, Integer> graph = new ConcurrentListGraph<>();
+
+        graph.add(1);
+        graph.add(2);
+        graph.addEdge(1, 2, 0);
+        graph.remove(2);
+        graph.add(2);
+        graph.addEdge(1, 2, 1);
+
+        assertTrue(graph.containsEdge(1, 2));
+        assertEquals(1, graph.edgeCount());
+        assertEquals(1, graph.getEdge(1, 2).getLabel());
+    }
+
+
+    // Helper Methods
+    /**
+     * Performs a burst of random operations over a small set of labels
+     *
+     * @param graph Graph under test
+     */
+    private static void churn(ConcurrentListGraph<Integer, Integer> graph) {
+        ThreadLocalRandom rng = ThreadLocalRandom.current();
+
+        for (int i = 0; i < OPS_PER_ROUND; i++) {
+            int u = rng.nextInt(LABELS);
+            int v = rng.nextInt(LABELS);
+
+            try {
+                switch (rng.nextInt(3)) {
+                    case 0:
+                        graph.remove(u);
+                        break;
+                    case 1:
+                        graph.add(u);
+                        break;
+                    default:
+                        graph.addEdge(u, v, i);
+                        break;
+                }
+            }
+            catch (NoSuchVertexException | DuplicateVertexException | DuplicateEdgeException e) {
+                // Expected when another thread got there first
+            }
+        }
+    }
+
+
+    /**
+     * Compares the edge counter against a full scan once the graph is quiet
+     *
+     * @param graph Graph under test
+     */
+    private static void assertConsistent(ConcurrentListGraph<Integer, Integer> graph) {
+        int edges = 0;
+
+        for (Iterator<Edge<Integer, Integer>> it = graph.edges(); it.hasNext(); ) {
+            Edge<Integer, Integer> edge = it.next();
+
+            assertTrue(graph.contains(edge.getU()), "edge from removed vertex " + edge.getU());
+            assertTrue(graph.contains(edge.getV()), "edge into removed vertex " + edge.getV());
+            edges++;
+        }
+
+        assertEquals(edges, graph.edgeCount());
+    }
+}
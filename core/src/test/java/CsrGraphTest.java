@@ -0,0 +1,125 @@
+// Imports
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Copying, edge-list loading and immutability of {@link CsrGraph}
+ *
+ * @author blee20@georgefox.edu
+ */
+class CsrGraphTest {
+    // Tests
+    /**
+     * A copy answers every query as the source graph does
+     */
+    @Test
+    void copyMatchesSource() {
+        ListGraph<String, Integer> source = sample();
+        CsrGraph<String, Integer> csr = new CsrGraph<>(source);
+
+        assertEquals(source.size(), csr.size());
+        assertEquals(source.edgeCount(), csr.edgeCount());
+        assertEquals(edgeSet(source), edgeSet(csr));
+
+        for (Iterator<Vertex<String>> it = source.vertices(); it.hasNext(); ) {
+            String u = it.next().getLabel();
+
+            assertTrue(csr.contains(u));
+            assertEquals(source.degree(u), csr.degree(u));
+        }
+
+        assertEquals(3, csr.getEdge("a", "c").getLabel());
+        assertTrue(csr.containsEdge("d", "a"));
+        assertFalse(csr.containsEdge("a", "d"));
+        assertThrows(NoSuchEdgeException.class, () -> csr.getEdge("c", "b"));
+        assertThrows(NoSuchVertexException.class, () -> csr.degree("z"));
+    }
+
+
+    /**
+     * Loading from edges takes the vertices from the endpoints
+     */
+    @Test
+    void fromEdgesTakesVerticesFromEndpoints() {
+        List<Edge<String, Integer>> edges = new ArrayList<>();
+
+        edges.add(new Edge<>("x", "y", 1));
+        edges.add(new Edge<>("y", "z", 2));
+        edges.add(new Edge<>("x", "z", 3));
+
+        CsrGraph<String, Integer> csr = CsrGraph.fromEdges(edges);
+
+        assertEquals(3, csr.size());
+        assertEquals(3, csr.edgeCount());
+        assertEquals(2, csr.degree("x"));
+        assertEquals(0, csr.degree("z"));
+        assertEquals(2, csr.getEdge("y", "z").getLabel());
+    }
+
+
+    /**
+     * Every mutator is rejected and a snapshot is the graph itself
+     */
+    @Test
+    void mutatorsAreRejected() {
+        CsrGraph<String, Integer> csr = new CsrGraph<>(sample());
+
+        assertThrows(UnsupportedOperationException.class, () -> csr.add("e"));
+        assertThrows(UnsupportedOperationException.class, () -> csr.addEdge("b", "a", 9));
+        assertThrows(UnsupportedOperationException.class, () -> csr.removeEdge("a", "b"));
+        assertThrows(UnsupportedOperationException.class, () -> csr.remove("a"));
+        assertThrows(UnsupportedOperationException.class, csr::clear);
+        assertEquals(csr, csr.snapshot());
+    }
+
+
+    // Helper Methods
+    /**
+     * Builds {@code a->b, a->c, b->c, c->d, d->a}, labelled 1 to 5
+     *
+     * @return Populated graph
+     */
+    private static ListGraph<String, Integer> sample() {
+        ListGraph<String, Integer> graph = new ListGraph<>();
+
+        for (String u : new String[] {"a", "b", "c", "d"}) {
+            graph.add(u);
+        }
+
+        graph.addEdge("a", "b", 1);
+        graph.addEdge("b", "c", 2);
+        graph.addEdge("a", "c", 3);
+        graph.addEdge("c", "d", 4);
+        graph.addEdge("d", "a", 5);
+
+        return graph;
+    }
+
+
+    /**
+     * Describes every edge of a graph, ignoring order
+     *
+     * @param graph Graph to describe
+     * @return Sorted edge descriptions
+     */
+    private static TreeSet<String> edgeSet(DirectedGraph<String, Integer> graph) {
+        TreeSet<String> edges = new TreeSet<>();
+
+        for (Iterator<Edge<String, Integer>> it = graph.edges(); it.hasNext(); ) {
+            Edge<String, Integer> edge = it.next();
+
+            edges.add(edge.getU() + "->" + edge.getV() + ":" + edge.getLabel());
+        }
+
+        return edges;
+    }
+}
@@ -0,0 +1,182 @@
+// Imports
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Topological order kept by {@link DynamicDag} as edges and vertices change
+ *
+ * @author blee20@georgefox.edu
+ */
+class DynamicDagTest {
+    // Constants
+    private static final int RANDOM_VERTICES = 200;
+    private static final int RANDOM_EDGES = 2000;
+    private static final long SEED = 17L;
+
+
+    // Tests
+    /**
+     * Edges against the current order move vertices so that every edge
+     * points forward
+     */
+    @Test
+    void backwardEdgesReorderVertices() {
+        DynamicDag<String, Integer> dag = new DynamicDag<>();
+
+        for (String u : new String[] {"a", "b", "c", "d", "e"}) {
+            dag.add(u);
+        }
+
+        assertEquals(List.of("a", "b", "c", "d", "e"), dag.order());
+
+        dag.addEdge("e", "a", 0);
+        dag.addEdge("d", "e", 0);
+        dag.addEdge("b", "c", 0);
+
+        assertTrue(dag.isBefore("d", "a"));
+        assertEquals(5, dag.order().size());
+        assertOrderRespectsEdges(dag);
+    }
+
+
+    /**
+     * An edge that would close a cycle is rejected and leaves the graph and
+     * the order as they were
+     */
+    @Test
+    void cyclesAreRejectedWithoutChanges() {
+        DynamicDag<String, Integer> dag = new DynamicDag<>();
+
+        for (String u : new String[] {"a", "b", "c"}) {
+            dag.add(u);
+        }
+
+        dag.addEdge("a", "b", 0);
+        dag.addEdge("b", "c", 0);
+
+        List<String> before = List.copyOf(dag.order());
+
+        assertThrows(CycleException.class, () -> dag.addEdge("c", "a", 0));
+        assertThrows(CycleException.class, () -> dag.addEdge("b", "b", 0));
+        assertFalse(dag.containsEdge("c", "a"));
+        assertEquals(2, dag.edgeCount());
+        assertEquals(before, dag.order());
+    }
+
+
+    /**
+     * Removing a vertex keeps the relative order of the rest, and wrapping a
+     * graph orders its existing vertices or rejects a cycle
+     */
+    @Test
+    void removalAndWrappingKeepOrder() {
+        ListGraph<String, Integer> graph = new ListGraph<>();
+
+        for (String u : new String[] {"c", "b", "a"}) {
+            graph.add(u);
+        }
+
+        graph.addEdge("a", "b", 0);
+        graph.addEdge("b", "c", 0);
+
+        DynamicDag<String, Integer> dag = new DynamicDag<>(graph);
+
+        assertEquals(List.of("a", "b", "c"), dag.order());
+
+        dag.remove("b");
+        dag.add("d");
+
+        assertEquals(List.of("a", "c", "d"), dag.order());
+        assertEquals(0, dag.edgeCount());
+
+        graph.addEdge("d", "a", 0);
+        graph.addEdge("a", "d", 0);
+
+        assertThrows(CycleException.class, () -> new DynamicDag<>(graph));
+    }
+
+
+    /**
+     * Random insertions keep the order valid, and an edge is rejected
+     * exactly when its target already reaches its source
+     */
+    @Test
+    void randomEdgesKeepOrderValid() {
+        DynamicDag<Integer, Integer> dag = new DynamicDag<>();
+        Random random = new Random(SEED);
+
+        for (int u = 0; u < RANDOM_VERTICES; u++) {
+            dag.add(u);
+        }
+
+        for (int i = 0; i < RANDOM_EDGES; i++) {
+            int u = random.nextInt(RANDOM_VERTICES);
+            int v = random.nextInt(RANDOM_VERTICES);
+
+            if (u == v || dag.containsEdge(u, v)) {
+                continue;
+            }
+
+            boolean closesCycle = reaches(dag, v, u);
+
+            try {
+                dag.addEdge(u, v, i);
+
+                assertFalse(closesCycle);
+            } catch (CycleException e) {
+                assertTrue(closesCycle);
+            }
+        }
+
+        assertOrderRespectsEdges(dag);
+    }
+
+
+    // Helper Methods
+    /**
+     * Asserts that every edge's source is ordered ahead of its target
+     *
+     * @param dag DAG to check
+     * @param <V> Label type for vertices
+     */
+    private static <V> void assertOrderRespectsEdges(DynamicDag<V, Integer> dag) {
+        List<V> order = dag.order();
+
+        for (Iterator<Edge<V, Integer>> it = dag.edges(); it.hasNext(); ) {
+            Edge<V, Integer> edge = it.next();
+
+            assertTrue(dag.isBefore(edge.getU(), edge.getV()));
+            assertTrue(order.indexOf(edge.getU()) < order.indexOf(edge.getV()));
+        }
+    }
+
+
+    /**
+     * Determines by breadth-first search if v is reachable from u
+     *
+     * @param graph Graph to search
+     * @param u Start vertex
+     * @param v Target vertex
+     * @param <V> Label type for vertices
+     * @return True if a path leads from u to v, else false
+     */
+    private static <V> boolean reaches(DirectedGraph<V, ?> graph, V u, V v) {
+        boolean[] found = {false};
+
+        GraphTraversal.breadthFirst(graph, u, (w, depth) -> {
+            found[0] = w.equals(v);
+
+            return !found[0];
+        });
+
+        return found[0];
+    }
+}
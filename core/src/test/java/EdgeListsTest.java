@@ -0,0 +1,126 @@
+// Imports
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+
+/**
+ * Round trips and error reporting for {@link EdgeLists}
+ *
+ * @author blee20@georgefox.edu
+ */
+class EdgeListsTest {
+    // Constants
+    private static final int BATCH = 1 << 16;
+
+
+    // Internal State
+    @TempDir
+    Path dir;
+
+
+    // Tests
+    /**
+     * CSV labels holding line breaks, quotes and commas read back unchanged
+     *
+     * @throws IOException If the file cannot be used
+     */
+    @Test
+    void csvRoundTripsLineBreaks() throws IOException {
+        String[] labels = {"line1\nline2", "crlf\r\nend", "say \"hi\"", "a,b", "\"\n\""};
+        ListGraph<String, String> graph = new ListGraph<>();
+
+        for (int i = 0; i < labels.length; i++) {
+            graph.add(labels[i]);
+            graph.add("v" + i);
+            graph.addEdge(labels[i], "v" + i, labels[labels.length - 1 - i]);
+        }
+
+        Path file = dir.resolve("graph.csv");
+        ListGraph<String, String> copy = new ListGraph<>();
+
+        assertEquals(labels.length, EdgeLists.write(graph, file, EdgeListFormat.CSV));
+        assertEquals(labels.length, EdgeLists.read(file, EdgeListFormat.CSV, copy,
+                LabelParser.STRING, LabelParser.STRING, DuplicatePolicy.THROW));
+
+        for (int i = 0; i < labels.length; i++) {
+            assertEquals(labels[labels.length - 1 - i], copy.getEdge(labels[i], "v" + i).getLabel());
+        }
+    }
+
+
+    /**
+     * Line breaks cannot be written in the unquoted formats
+     */
+    @Test
+    void tsvRejectsLineBreaks() {
+        ListGraph<String, String> graph = new ListGraph<>();
+
+        graph.add("a\nb");
+        graph.add("c");
+        graph.addEdge("a\nb", "c", "x");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> EdgeLists.write(graph, dir.resolve("graph.tsv"), EdgeListFormat.TSV));
+    }
+
+
+    /**
+     * Line numbers in errors count the physical lines of multi-line records
+     *
+     * @throws IOException If the file cannot be used
+     */
+    @Test
+    void malformedLineNumberCountsEmbeddedBreaks() throws IOException {
+        Path file = write("\"a\nb\",c,1\nd\n");
+
+        IOException e = assertThrows(IOException.class, () -> EdgeLists.read(file, EdgeListFormat.CSV,
+                new ListGraph<String, Integer>(), LabelParser.STRING, LabelParser.INTEGER, DuplicatePolicy.THROW));
+
+        assertTrue(e.getMessage().contains("line 3"), e.getMessage());
+    }
+
+
+    /**
+     * A duplicate caught when a full batch is flushed mid-file surfaces as a
+     * DuplicateEdgeException, as one caught by the final flush does
+     *
+     * @throws IOException If the file cannot be used
+     */
+    @Test
+    void duplicatesAreReportedTheSameWayEverywhere() throws IOException {
+        StringBuilder text = new StringBuilder("0,1,0\n0,1,1\n");
+
+        for (int i = 2; i <= BATCH; i++) {
+            text.append(i).append(',').append(i + 1).append(',').append(i).append('\n');
+        }
+
+        Path midStream = write(text.toString());
+        Path atEnd = write("0,1,0\n0,1,1\n");
+
+        assertThrows(DuplicateEdgeException.class, () -> EdgeLists.read(midStream, EdgeListFormat.CSV,
+                new ListGraph<Integer, Integer>(), LabelParser.INTEGER, LabelParser.INTEGER, DuplicatePolicy.THROW));
+        assertThrows(DuplicateEdgeException.class, () -> EdgeLists.read(atEnd, EdgeListFormat.CSV,
+                new ListGraph<Integer, Integer>(), LabelParser.INTEGER, LabelParser.INTEGER, DuplicatePolicy.THROW));
+    }
+
+
+    // Helper Methods
+    /**
+     * Writes text to a new temporary file
+     *
+     * @param text File contents
+     * @return Path of the file
+     * @throws IOException If the file cannot be written
+     */
+    private Path write(String text) throws IOException {
+        return Files.write(Files.createTempFile(dir, "edges", ".csv"), text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,229 @@
+// Imports
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+
+/**
+ * Checks ListGraph and MatrixGraph, which store bare edge labels rather than
+ * Edge objects, through the iterators, bulk loading, strong components and
+ * DynamicDag
+ *
+ * @author blee20@georgefox.edu
+ */
+class EdgeStorageTest {
+    // Constants
+    private static final int N = 6;
+
+
+    // Tests
+    /**
+     * Supplies an empty graph of each label-storing implementation
+     *
+     * @return Graph factories
+     */
+    static Stream<Supplier<DirectedGraph<Integer, String>>> graphs() {
+        return Stream.of(ListGraph::new, MatrixGraph::new);
+    }
+
+
+    /**
+     * A null edge label is rejected and leaves the graph unchanged
+     *
+     * @param factory Graph under test
+     */
+    @ParameterizedTest
+    @MethodSource("graphs")
+    void nullLabelIsRejected(Supplier<DirectedGraph<Integer, String>> factory) {
+        DirectedGraph<Integer, String> graph = ring(factory.get());
+
+        graph.removeEdge(0, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> graph.addEdge(0, 1, null));
+        assertFalse(graph.containsEdge(0, 1));
+        assertEquals(N - 1, graph.edgeCount());
+    }
+
+
+    /**
+     * getEdge and edges() rebuild each edge with its stored label
+     *
+     * @param factory Graph under test
+     */
+    @ParameterizedTest
+    @MethodSource("graphs")
+    void edgesCarryStoredLabels(Supplier<DirectedGraph<Integer, String>> factory) {
+        DirectedGraph<Integer, String> graph = ring(factory.get());
+        int seen = 0;
+
+        for (Iterator<Edge<Integer, String>> it = graph.edges(); it.hasNext(); ) {
+            Edge<Integer, String> edge = it.next();
+
+            assertEquals((edge.getU() + 1) % N, edge.getV());
+            assertEquals(label(edge.getU(), edge.getV()), edge.getLabel());
+            seen++;
+        }
+
+        assertEquals(N, seen);
+        assertEquals(label(2, 3), graph.getEdge(2, 3).getLabel());
+    }
+
+
+    /**
+     * Iterator removal deletes the edge, and other changes fail fast
+     *
+     * @param factory Graph under test
+     */
+    @ParameterizedTest
+    @MethodSource("graphs")
+    void iteratorsRemoveAndFailFast(Supplier<DirectedGraph<Integer, String>> factory) {
+        DirectedGraph<Integer, String> graph = ring(factory.get());
+        Iterator<Edge<Integer, String>> edges = graph.edges();
+
+        edges.next();
+        edges.remove();
+
+        assertEquals(N - 1, graph.edgeCount());
+
+        Iterator<Vertex<Integer>> adjacent = graph.adjacent(3);
+
+        adjacent.next();
+        adjacent.remove();
+
+        assertFalse(graph.containsEdge(3, 4));
+
+        Iterator<Vertex<Integer>> vertices = graph.vertices();
+
+        vertices.next();
+        graph.addEdge(3, 4, label(3, 4));
+
+        assertThrows(ConcurrentModificationException.class, vertices::next);
+    }
+
+
+    /**
+     * Bulk loading honours each duplicate policy
+     *
+     * @param factory Graph under test
+     */
+    @ParameterizedTest
+    @MethodSource("graphs")
+    void bulkLoadAppliesPolicy(Supplier<DirectedGraph<Integer, String>> factory) {
+        DirectedGraph<Integer, String> graph = ring(factory.get());
+        Integer[] src = {0, 0};
+        Integer[] dst = {1, 2};
+        String[] labels = {"new01", "new02"};
+
+        assertThrows(DuplicateEdgeException.class, () -> graph.addEdges(src, dst, labels, DuplicatePolicy.THROW));
+        assertFalse(graph.containsEdge(0, 2));
+
+        assertEquals(1, graph.addEdges(src, dst, labels, DuplicatePolicy.SKIP));
+        assertEquals(label(0, 1), graph.getEdge(0, 1).getLabel());
+
+        graph.removeEdge(0, 2);
+        graph.addEdges(src, dst, labels, DuplicatePolicy.OVERWRITE);
+
+        assertEquals("new01", graph.getEdge(0, 1).getLabel());
+        assertEquals(N + 1, graph.edgeCount());
+    }
+
+
+    /**
+     * Strong components split where the ring is broken
+     *
+     * @param factory Graph under test
+     */
+    @ParameterizedTest
+    @MethodSource("graphs")
+    void strongComponentsFollowEdges(Supplier<DirectedGraph<Integer, String>> factory) {
+        DirectedGraph<Integer, String> graph = ring(factory.get());
+
+        assertEquals(1, StrongComponents.tarjan(graph).count());
+
+        graph.removeEdge(N - 1, 0);
+
+        StrongComponents<Integer> tarjan = StrongComponents.tarjan(graph);
+        StrongComponents<Integer> forwardBackward = StrongComponents.forwardBackward(graph);
+
+        assertEquals(N, tarjan.count());
+        assertEquals(N, forwardBackward.count());
+        assertFalse(tarjan.hasCycle());
+    }
+
+
+    /**
+     * DynamicDag keeps its order over either storage and rejects cycles
+     *
+     * @param factory Graph under test
+     */
+    @ParameterizedTest
+    @MethodSource("graphs")
+    void dynamicDagOrdersEdges(Supplier<DirectedGraph<Integer, String>> factory) {
+        DynamicDag<Integer, String> dag = new DynamicDag<>(factory.get());
+
+        for (int u = 0; u < N; u++) {
+            dag.add(u);
+        }
+
+        for (int u = N - 1; u > 0; u--) {
+            dag.addEdge(u, u - 1, label(u, u - 1));
+        }
+
+        List<Integer> order = dag.order();
+        Map<Integer, Integer> position = new HashMap<>();
+
+        for (int i = 0; i < order.size(); i++) {
+            position.put(order.get(i), i);
+        }
+
+        for (int u = N - 1; u > 0; u--) {
+            assertTrue(position.get(u) < position.get(u - 1));
+        }
+
+        assertThrows(CycleException.class, () -> dag.addEdge(0, N - 1, label(0, N - 1)));
+        assertFalse(dag.containsEdge(0, N - 1));
+    }
+
+
+    // Helper Methods
+    /**
+     * Fills a graph with the ring {@code 0 -> 1 -> ... -> N-1 -> 0}
+     *
+     * @param graph Empty graph
+     * @return The same graph
+     */
+    private static DirectedGraph<Integer, String> ring(DirectedGraph<Integer, String> graph) {
+        for (int u = 0; u < N; u++) {
+            graph.add(u);
+        }
+
+        for (int u = 0; u < N; u++) {
+            graph.addEdge(u, (u + 1) % N, label(u, (u + 1) % N));
+        }
+
+        return graph;
+    }
+
+
+    /**
+     * Builds the label used for an edge
+     *
+     * @param u Source vertex label
+     * @param v Destination vertex label
+     * @return Edge label
+     */
+    private static String label(int u, int v) {
+        return u + "->" + v;
+    }
+}
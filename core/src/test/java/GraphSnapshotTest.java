@@ -0,0 +1,114 @@
+// Imports
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+
+/**
+ * Writing {@link GraphSnapshot} files and serving them through {@link MappedGraph}
+ *
+ * @author blee20@georgefox.edu
+ */
+class GraphSnapshotTest {
+    // Internal State
+    @TempDir
+    Path dir;
+
+
+    // Tests
+    /**
+     * A mapped snapshot answers every query as the written graph does
+     *
+     * @throws IOException If the snapshot cannot be used
+     */
+    @Test
+    void mappedGraphMatchesWrittenGraph() throws IOException {
+        ListGraph<String, Long> graph = sample();
+        Path file = dir.resolve("graph.snapshot");
+
+        GraphSnapshot.write(graph, file, LabelCodec.STRING, LabelCodec.LONG);
+
+        MappedGraph<String, Long> mapped = MappedGraph.open(file, LabelCodec.STRING, LabelCodec.LONG);
+
+        assertEquals(graph.size(), mapped.size());
+        assertEquals(graph.edgeCount(), mapped.edgeCount());
+        assertEquals(edgeSet(graph), edgeSet(mapped));
+        assertEquals(2, mapped.degree("π"));
+        assertEquals(30L, mapped.getEdge("π", "c").getLabel());
+        assertTrue(mapped.containsEdge("c", "π"));
+        assertFalse(mapped.containsEdge("c", "b"));
+        assertTrue(mapped.contains("lonely"));
+        assertFalse(mapped.contains("missing"));
+        assertThrows(NoSuchEdgeException.class, () -> mapped.getEdge("b", "π"));
+        assertThrows(UnsupportedOperationException.class, () -> mapped.add("new"));
+    }
+
+
+    /**
+     * An empty graph round trips, and a file that is not a snapshot is
+     * rejected
+     *
+     * @throws IOException If the files cannot be used
+     */
+    @Test
+    void emptyGraphAndForeignFiles() throws IOException {
+        Path empty = dir.resolve("empty.snapshot");
+        Path foreign = Files.write(dir.resolve("foreign.snapshot"), new byte[64]);
+
+        GraphSnapshot.write(new ListGraph<String, Long>(), empty, LabelCodec.STRING, LabelCodec.LONG);
+
+        assertTrue(MappedGraph.open(empty, LabelCodec.STRING, LabelCodec.LONG).isEmpty());
+        assertThrows(IOException.class, () -> MappedGraph.open(foreign, LabelCodec.STRING, LabelCodec.LONG));
+    }
+
+
+    // Helper Methods
+    /**
+     * Builds {@code π->b (10), π->c (30), b->c (20), c->π (40)} plus an
+     * isolated vertex; one label is outside ASCII to exercise the codec
+     *
+     * @return Populated graph
+     */
+    private static ListGraph<String, Long> sample() {
+        ListGraph<String, Long> graph = new ListGraph<>();
+
+        for (String u : new String[] {"π", "b", "c", "lonely"}) {
+            graph.add(u);
+        }
+
+        graph.addEdge("π", "b", 10L);
+        graph.addEdge("π", "c", 30L);
+        graph.addEdge("b", "c", 20L);
+        graph.addEdge("c", "π", 40L);
+
+        return graph;
+    }
+
+
+    /**
+     * Describes every edge of a graph, ignoring order
+     *
+     * @param graph Graph to describe
+     * @return Sorted edge descriptions
+     */
+    private static TreeSet<String> edgeSet(DirectedGraph<String, Long> graph) {
+        TreeSet<String> edges = new TreeSet<>();
+
+        for (Iterator<Edge<String, Long>> it = graph.edges(); it.hasNext(); ) {
+            Edge<String, Long> edge = it.next();
+
+            edges.add(edge.getU() + "->" + edge.getV() + ":" + edge.getLabel());
+        }
+
+        return edges;
+    }
+}
@@ -0,0 +1,160 @@
+// Imports
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Orders and depths produced by {@link GraphTraversal}
+ *
+ * @author blee20@georgefox.edu
+ */
+class GraphTraversalTest {
+    // Constants
+    private static final int TREE_SIZE = 20000;
+
+
+    // Tests
+    /**
+     * Breadth-first search reports each reachable vertex once, at its
+     * distance, over both a hash-keyed and an indexed graph
+     */
+    @Test
+    void breadthFirstReportsDistances() {
+        ListGraph<String, Integer> graph = diamond();
+        Map<String, Integer> expected = Map.of("a", 0, "b", 1, "c", 1, "d", 2, "e", 3);
+
+        assertEquals(expected, breadthFirst(graph, "a"));
+        assertEquals(expected, breadthFirst(new CsrGraph<>(graph), "a"));
+        assertEquals(Map.of("e", 0), breadthFirst(graph, "e"));
+    }
+
+
+    /**
+     * Depth-first search visits in preorder, and a visitor returning false
+     * ends the walk
+     */
+    @Test
+    void depthFirstVisitsInPreorderAndStops() {
+        ListGraph<Integer, Integer> chain = new ListGraph<>();
+
+        for (int u = 0; u < 5; u++) {
+            chain.add(u);
+        }
+
+        for (int u = 0; u < 4; u++) {
+            chain.addEdge(u, u + 1, 0);
+        }
+
+        List<Integer> order = new ArrayList<>();
+        List<Integer> depths = new ArrayList<>();
+
+        GraphTraversal.depthFirst(chain, 0, (u, depth) -> {
+            order.add(u);
+            depths.add(depth);
+
+            return u < 2;
+        });
+
+        assertEquals(List.of(0, 1, 2), order);
+        assertEquals(List.of(0, 1, 2), depths);
+    }
+
+
+    /**
+     * A topological order puts every edge's source first, and a cycle is
+     * rejected
+     */
+    @Test
+    void topologicalOrderRespectsEdges() {
+        ListGraph<String, Integer> graph = diamond();
+        List<String> order = GraphTraversal.topologicalOrder(graph);
+
+        assertEquals(graph.size(), order.size());
+        assertTrue(order.indexOf("a") < order.indexOf("b"));
+        assertTrue(order.indexOf("b") < order.indexOf("d"));
+        assertTrue(order.indexOf("c") < order.indexOf("d"));
+        assertTrue(order.indexOf("d") < order.indexOf("e"));
+
+        graph.addEdge("e", "a", 0);
+
+        assertThrows(CycleException.class, () -> GraphTraversal.topologicalOrder(graph));
+    }
+
+
+    /**
+     * Parallel breadth-first search reaches the same vertices at the same
+     * depths as the sequential one, on a tree wide enough to split levels
+     */
+    @Test
+    void parallelBreadthFirstMatchesSequential() {
+        ListGraph<Integer, Integer> tree = new ListGraph<>();
+
+        for (int u = 0; u < TREE_SIZE; u++) {
+            tree.add(u);
+        }
+
+        for (int u = 1; u < TREE_SIZE; u++) {
+            tree.addEdge((u - 1) / 2, u, 0);
+        }
+
+        Map<Integer, Integer> parallel = new ConcurrentHashMap<>();
+
+        GraphTraversal.parallelBreadthFirst(tree, 0, (u, depth) -> parallel.put(u, depth) == null);
+
+        assertEquals(breadthFirst(tree, 0), parallel);
+    }
+
+
+    // Helper Methods
+    /**
+     * Builds {@code a->b, a->c, b->d, c->d, d->e} plus an isolated f
+     *
+     * @return Populated graph
+     */
+    private static ListGraph<String, Integer> diamond() {
+        ListGraph<String, Integer> graph = new ListGraph<>();
+
+        for (String u : new String[] {"a", "b", "c", "d", "e", "f"}) {
+            graph.add(u);
+        }
+
+        graph.addEdge("a", "b", 0);
+        graph.addEdge("a", "c", 0);
+        graph.addEdge("b", "d", 0);
+        graph.addEdge("c", "d", 0);
+        graph.addEdge("d", "e", 0);
+
+        return graph;
+    }
+
+
+    /**
+     * Runs a sequential breadth-first search and records each vertex's depth,
+     * failing if any vertex is reported twice
+     *
+     * @param graph Graph to traverse
+     * @param start Start vertex
+     * @param <V> Label type for vertices
+     * @return Depth of every reached vertex
+     */
+    private static <V> Map<V, Integer> breadthFirst(DirectedGraph<V, Integer> graph, V start) {
+        Map<V, Integer> depths = new HashMap<>();
+
+        GraphTraversal.breadthFirst(graph, start, (u, depth) -> {
+            assertNull(depths.put(u, depth));
+
+            return true;
+        });
+
+        return depths;
+    }
+}
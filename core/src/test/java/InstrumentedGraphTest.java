@@ -0,0 +1,269 @@
+// Imports
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Recording, degree tracking and reporting in {@link InstrumentedGraph}
+ *
+ * @author blee20@georgefox.edu
+ */
+class InstrumentedGraphTest {
+    // Constants
+    private static final int LABELS = 30;
+    private static final int REPORTED_LABELS = 2000;
+    private static final int OPS = 20000;
+    private static final long SEED = 23;
+    private static final long RUN_MILLIS = 300;
+
+
+    // Tests
+    /**
+     * Each recorded call is counted against its operation
+     */
+    @Test
+    void callsAreCountedPerOperation() {
+        InstrumentedGraph<Integer, Integer> graph = new InstrumentedGraph<>(new ListGraph<>());
+
+        graph.add(0);
+        graph.add(1);
+        graph.addEdge(0, 1, 7);
+        graph.containsEdge(0, 1);
+        graph.setEnabled(false);
+        graph.containsEdge(1, 0);
+
+        assertEquals(2, graph.latency(GraphOperation.ADD).count());
+        assertEquals(1, graph.latency(GraphOperation.ADD_EDGE).count());
+        assertEquals(1, graph.latency(GraphOperation.CONTAINS_EDGE).count());
+    }
+
+
+    /**
+     * The tracked maximum degree matches a scan of the graph through random
+     * changes, vertex removals with in-edges and removals through iterators
+     */
+    @Test
+    void maxDegreeIsTrackedThroughEveryChange() {
+        InstrumentedGraph<Integer, Integer> graph = new InstrumentedGraph<>(new ListGraph<>(true));
+        Random random = new Random(SEED);
+
+        for (int op = 0; op < OPS; op++) {
+            mutate(graph, random, LABELS);
+
+            assertEquals(scanMaxDegree(graph), graph.maxDegree(), "after op " + op);
+        }
+    }
+
+
+    /**
+     * Changes made while recording is off are picked up by the first recorded
+     * change after it is turned back on
+     */
+    @Test
+    void maxDegreeIsRebuiltAfterReEnabling() {
+        InstrumentedGraph<Integer, Integer> graph = new InstrumentedGraph<>(new ListGraph<>());
+
+        for (int u = 0; u < 4; u++) {
+            graph.add(u);
+        }
+
+        graph.setEnabled(false);
+        graph.addEdge(0, 1, 0);
+        graph.addEdge(0, 2, 0);
+        graph.setEnabled(true);
+        graph.addEdge(3, 1, 0);
+
+        assertEquals(2, graph.maxDegree());
+    }
+
+
+    /**
+     * A wrapped ListGraph reports its vertex table growth: one doubling past
+     * each load factor threshold, and one resize for a presized batch
+     */
+    @Test
+    void listGraphTableCountersAreReported() {
+        ListGraph<Integer, Integer> list = new ListGraph<>();
+        InstrumentedGraph<Integer, Integer> graph = new InstrumentedGraph<>(list);
+
+        for (int u = 0; u < 12; u++) {
+            graph.add(u);
+        }
+
+        assertEquals(16, list.capacity());
+        assertEquals(0, graph.resizeCount());
+
+        graph.add(12);
+
+        assertEquals(32, list.capacity());
+        assertEquals(1, graph.resizeCount());
+        assertEquals(13.0 / 32, graph.occupancy());
+
+        graph.addAllVertices(IntStream.range(13, 100).boxed().collect(Collectors.toList()));
+
+        assertEquals(256, list.capacity());
+        assertEquals(2, graph.resizeCount());
+    }
+
+
+    /**
+     * Printing reports every millisecond keeps producing output while another
+     * thread adds and removes vertices and edges; a report that walked the
+     * graph would soon fail and end reporting
+     */
+    @Test
+    void periodicReportingSurvivesConcurrentChanges() {
+        InstrumentedGraph<Integer, Integer> graph = new InstrumentedGraph<>(new ListGraph<>(true));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes, true, StandardCharsets.UTF_8);
+        Random random = new Random(SEED);
+
+        graph.startReporting(MetricsReporter.printing(out), 1, TimeUnit.MILLISECONDS);
+
+        try {
+            int early = churnFor(graph, random, bytes);
+            int late = churnFor(graph, random, bytes);
+
+            assertTrue(late > early, "reporting stopped at " + early + " bytes");
+        }
+        finally {
+            graph.stopReporting();
+        }
+    }
+
+
+    /**
+     * A report that throws is skipped without cancelling later reports
+     *
+     * @throws InterruptedException If interrupted while waiting
+     */
+    @Test
+    void failedReportDoesNotStopReporting() throws InterruptedException {
+        InstrumentedGraph<Integer, Integer> graph = new InstrumentedGraph<>(new ListGraph<>());
+        AtomicInteger calls = new AtomicInteger();
+
+        graph.startReporting(g -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("Error: First report fails");
+            }
+        }, 1, TimeUnit.MILLISECONDS);
+
+        try {
+            Thread.sleep(RUN_MILLIS);
+        }
+        finally {
+            graph.stopReporting();
+        }
+
+        assertTrue(calls.get() > 1);
+        assertEquals(1, graph.failedReports());
+    }
+
+
+    // Helper Methods
+    /**
+     * Changes a graph at random for a while
+     *
+     * @param graph Graph to change
+     * @param random Source of choices
+     * @param bytes Report output
+     * @return Size of the report output afterwards
+     */
+    private static int churnFor(InstrumentedGraph<Integer, Integer> graph, Random random,
+                                ByteArrayOutputStream bytes) {
+        long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RUN_MILLIS);
+
+        while (System.nanoTime() < end) {
+            mutate(graph, random, REPORTED_LABELS);
+        }
+
+        return bytes.size();
+    }
+
+
+    /**
+     * Applies one random change to a graph, which must keep an in-edge index
+     *
+     * @param graph Graph to change
+     * @param random Source of choices
+     * @param labels Number of distinct vertex labels to use
+     */
+    private static void mutate(InstrumentedGraph<Integer, Integer> graph, Random random, int labels) {
+        Integer u = random.nextInt(labels);
+        Integer v = random.nextInt(labels);
+        int choice = random.nextInt(100);
+
+        if (!graph.contains(u)) {
+            graph.add(u);
+        }
+        else if (choice < 50) {
+            if (graph.contains(v) && !graph.containsEdge(u, v)) {
+                graph.addEdge(u, v, choice);
+            }
+        }
+        else if (choice < 65) {
+            if (graph.contains(v) && graph.containsEdge(u, v)) {
+                graph.removeEdge(u, v);
+            }
+        }
+        else if (choice < 72) {
+            graph.remove(u);
+        }
+        else if (choice < 80) {
+            removeFirst(graph.adjacent(u));
+        }
+        else if (choice < 86) {
+            removeFirst(graph.edges());
+        }
+        else if (choice < 90) {
+            removeFirst(graph.vertices());
+        }
+        else if (choice < 95) {
+            removeFirst(graph.inEdges(u));
+        }
+        else if (choice == 99) {
+            graph.clear();
+        }
+    }
+
+
+    /**
+     * Removes the first element of an iterator, if any
+     *
+     * @param it Iterator to use
+     */
+    private static void removeFirst(Iterator<?> it) {
+        if (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+
+    /**
+     * Finds the largest out-degree by visiting every vertex
+     *
+     * @param graph Graph to scan
+     * @return Maximum out-degree
+     */
+    private static int scanMaxDegree(DirectedGraph<Integer, Integer> graph) {
+        int max = 0;
+
+        for (Iterator<Vertex<Integer>> it = graph.vertices(); it.hasNext(); ) {
+            max = Math.max(max, graph.degree(it.next().getLabel()));
+        }
+
+        return max;
+    }
+}
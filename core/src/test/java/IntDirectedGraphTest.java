@@ -0,0 +1,165 @@
+// Imports
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Primitive ids and weights in {@link IntDirectedGraph}, and its
+ * {@link IntGraphAdapter} view
+ *
+ * @author blee20@georgefox.edu
+ */
+class IntDirectedGraphTest {
+    // Constants
+    private static final double EPSILON = 1e-12;
+
+
+    // Tests
+    /**
+     * Weights are stored, updated and returned on removal, and edges default
+     * to a weight of 1
+     */
+    @Test
+    void weightsRoundTrip() {
+        IntDirectedGraph graph = sample();
+
+        assertEquals(2.5, graph.getWeight(10, 20), EPSILON);
+        assertEquals(1.0, graph.getWeight(20, 30), EPSILON);
+
+        graph.setWeight(10, 20, 4.0);
+
+        assertEquals(4.0, graph.removeEdge(10, 20), EPSILON);
+        assertFalse(graph.containsEdge(10, 20));
+        assertEquals(3, graph.edgeCount());
+        assertThrows(DuplicateEdgeException.class, () -> graph.addEdge(20, 30));
+        assertThrows(DuplicateVertexException.class, () -> graph.add(10));
+    }
+
+
+    /**
+     * Removing a vertex drops its edges in both directions, and its slot is
+     * reused by the next vertex without leaking the old edges
+     */
+    @Test
+    void removeDropsIncidentEdgesAndReusesSlot() {
+        IntDirectedGraph graph = sample();
+
+        graph.remove(20);
+
+        assertEquals(3, graph.size());
+        assertEquals(2, graph.edgeCount());
+        assertEquals(1, graph.degree(10));
+        assertFalse(graph.contains(20));
+
+        graph.add(99);
+
+        assertEquals(0, graph.degree(99));
+        assertEquals(edgeSet("10->30", "30->10"), edges(graph));
+    }
+
+
+    /**
+     * Adjacent ids, the edge cursor and forEachEdge agree, and the cursor
+     * fails fast on outside changes
+     */
+    @Test
+    void iterationAgreesAndFailsFast() {
+        IntDirectedGraph graph = sample();
+        TreeSet<Integer> adjacent = new TreeSet<>();
+
+        for (PrimitiveIterator.OfInt it = graph.adjacent(10); it.hasNext(); ) {
+            adjacent.add(it.nextInt());
+        }
+
+        TreeSet<String> visited = new TreeSet<>();
+
+        graph.forEachEdge((u, v, weight) -> visited.add(u + "->" + v));
+
+        assertEquals(new TreeSet<>(List.of(20, 30)), adjacent);
+        assertEquals(edges(graph), visited);
+
+        IntDirectedGraph.EdgeCursor cursor = graph.edges();
+
+        cursor.next();
+        graph.addEdge(30, 20);
+
+        assertThrows(ConcurrentModificationException.class, cursor::next);
+    }
+
+
+    /**
+     * The adapter exposes the same graph through the DirectedGraph API, and
+     * changes through it reach the primitive graph
+     */
+    @Test
+    void adapterViewsTheSameGraph() {
+        IntDirectedGraph graph = sample();
+        DirectedGraph<Integer, Double> view = graph.asDirectedGraph();
+
+        assertEquals(4, view.size());
+        assertEquals(2.5, view.getEdge(10, 20).getLabel(), EPSILON);
+
+        view.addEdge(40, 10, 7.0);
+
+        assertTrue(graph.containsEdge(40, 10));
+        assertEquals(7.0, graph.getWeight(40, 10), EPSILON);
+    }
+
+
+    // Helper Methods
+    /**
+     * Builds {@code 10->20 (2.5), 10->30, 20->30, 30->10} plus an isolated 40
+     *
+     * @return Populated graph
+     */
+    private static IntDirectedGraph sample() {
+        IntDirectedGraph graph = new IntDirectedGraph(2);
+
+        for (int u : new int[] {10, 20, 30, 40}) {
+            graph.add(u);
+        }
+
+        graph.addEdge(10, 20, 2.5);
+        graph.addEdge(10, 30);
+        graph.addEdge(20, 30);
+        graph.addEdge(30, 10);
+
+        return graph;
+    }
+
+
+    /**
+     * Describes every edge through the edge cursor
+     *
+     * @param graph Graph to describe
+     * @return Sorted edge descriptions
+     */
+    private static TreeSet<String> edges(IntDirectedGraph graph) {
+        TreeSet<String> edges = new TreeSet<>();
+
+        for (IntDirectedGraph.EdgeCursor cursor = graph.edges(); cursor.next(); ) {
+            edges.add(cursor.source() + "->" + cursor.target());
+        }
+
+        return edges;
+    }
+
+
+    /**
+     * Collects edge descriptions into a sorted set
+     *
+     * @param edges Edge descriptions
+     * @return Sorted set of them
+     */
+    private static TreeSet<String> edgeSet(String... edges) {
+        return new TreeSet<>(List.of(edges));
+    }
+}
@@ -0,0 +1,57 @@
+// Imports
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Capacity management in {@link MatrixGraph}
+ *
+ * @author blee20@georgefox.edu
+ */
+class MatrixGraphTest {
+    // Tests
+    /**
+     * compact() never grows a graph created below the default capacity
+     */
+    @Test
+    void compactDoesNotGrowSmallGraph() {
+        MatrixGraph<Integer, Integer> graph = new MatrixGraph<>(4);
+
+        graph.add(0);
+
+        assertFalse(graph.compact());
+        assertEquals(4, graph.capacity());
+    }
+
+
+    /**
+     * compact() shrinks a sparse graph and keeps its vertices and edges
+     */
+    @Test
+    void compactShrinksAfterRemoval() {
+        MatrixGraph<Integer, Integer> graph = new MatrixGraph<>();
+
+        for (int u = 0; u < 100; u++) {
+            graph.add(u);
+        }
+
+        graph.addEdge(97, 98, 1);
+        graph.addEdge(98, 99, 2);
+
+        for (int u = 0; u < 97; u++) {
+            graph.remove(u);
+        }
+
+        int before = graph.capacity();
+
+        assertTrue(graph.compact());
+        assertTrue(graph.capacity() < before);
+        assertEquals(3, graph.size());
+        assertEquals(2, graph.getEdge(98, 99).getLabel());
+        assertTrue(graph.containsEdge(97, 98));
+        assertFalse(graph.compact());
+    }
+}
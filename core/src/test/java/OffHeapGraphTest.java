@@ -0,0 +1,151 @@
+// Imports
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Edges stored outside the heap by {@link OffHeapGraph}
+ *
+ * @author blee20@georgefox.edu
+ */
+class OffHeapGraphTest {
+    // Constants
+    private static final int FAN_OUT = 40;
+
+
+    // Tests
+    /**
+     * Labels round trip through the codec, including rows that outgrow
+     * their first off-heap block
+     */
+    @Test
+    void labelsRoundTripThroughRowGrowth() {
+        try (OffHeapGraph<Integer, String> graph = new OffHeapGraph<>(LabelCodec.STRING, 2)) {
+            for (int u = 0; u <= FAN_OUT; u++) {
+                graph.add(u);
+            }
+
+            for (int v = 1; v <= FAN_OUT; v++) {
+                graph.addEdge(0, v, "edge-" + v);
+            }
+
+            assertEquals(FAN_OUT, graph.degree(0));
+            assertEquals(FAN_OUT, graph.edgeCount());
+            assertEquals("edge-1", graph.getEdge(0, 1).getLabel());
+            assertEquals("edge-" + FAN_OUT, graph.getEdge(0, FAN_OUT).getLabel());
+            assertTrue(graph.offHeapBytes() > 0);
+            assertThrows(DuplicateEdgeException.class, () -> graph.addEdge(0, 1, "again"));
+            assertThrows(NoSuchEdgeException.class, () -> graph.getEdge(1, 0));
+        }
+    }
+
+
+    /**
+     * Removing edges and vertices keeps every row consistent, and a freed
+     * slot does not carry old edges into the next vertex
+     */
+    @Test
+    void removalsKeepRowsConsistent() {
+        try (OffHeapGraph<String, String> graph = sample()) {
+            assertEquals("b-c", graph.removeEdge("b", "c"));
+            assertFalse(graph.containsEdge("b", "c"));
+
+            assertEquals("a", graph.remove("a"));
+            assertEquals(2, graph.size());
+            assertEquals(1, graph.edgeCount());
+            assertEquals(edgeSet("c->b:c-b"), edges(graph));
+
+            graph.add("e");
+
+            assertEquals(0, graph.degree("e"));
+            assertEquals(1, graph.edgeCount());
+        }
+    }
+
+
+    /**
+     * Iterators fail fast on outside changes, and a closed graph rejects
+     * every later call
+     */
+    @Test
+    void iteratorsFailFastAndCloseIsFinal() {
+        OffHeapGraph<String, String> graph = sample();
+        Iterator<Edge<String, String>> it = graph.edges();
+
+        it.next();
+        graph.addEdge("c", "a", "c-a");
+
+        assertThrows(ConcurrentModificationException.class, it::next);
+
+        graph.clear();
+
+        assertTrue(graph.isEmpty());
+        assertEquals(0, graph.edgeCount());
+
+        graph.close();
+        graph.close();
+
+        assertThrows(IllegalStateException.class, graph::size);
+        assertThrows(IllegalStateException.class, () -> graph.add("a"));
+    }
+
+
+    // Helper Methods
+    /**
+     * Builds {@code a->b, a->c, b->c, c->b}, each labelled with its endpoints
+     *
+     * @return Populated graph
+     */
+    private static OffHeapGraph<String, String> sample() {
+        OffHeapGraph<String, String> graph = new OffHeapGraph<>(LabelCodec.STRING);
+
+        for (String u : new String[] {"a", "b", "c"}) {
+            graph.add(u);
+        }
+
+        graph.addEdge("a", "b", "a-b");
+        graph.addEdge("a", "c", "a-c");
+        graph.addEdge("b", "c", "b-c");
+        graph.addEdge("c", "b", "c-b");
+
+        return graph;
+    }
+
+
+    /**
+     * Describes every edge of a graph, ignoring order
+     *
+     * @param graph Graph to describe
+     * @return Sorted edge descriptions
+     */
+    private static TreeSet<String> edges(DirectedGraph<String, String> graph) {
+        TreeSet<String> edges = new TreeSet<>();
+
+        for (Iterator<Edge<String, String>> it = graph.edges(); it.hasNext(); ) {
+            Edge<String, String> edge = it.next();
+
+            edges.add(edge.getU() + "->" + edge.getV() + ":" + edge.getLabel());
+        }
+
+        return edges;
+    }
+
+
+    /**
+     * Collects edge descriptions into a sorted set
+     *
+     * @param edges Edge descriptions
+     * @return Sorted set of them
+     */
+    private static TreeSet<String> edgeSet(String... edges) {
+        return new TreeSet<>(List.of(edges));
+    }
+}
@@ -0,0 +1,266 @@
+// Imports
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * PageRank, degree centrality and HITS scores from {@link Ranking}
+ *
+ * @author blee20@georgefox.edu
+ */
+class RankingTest {
+    // Constants
+    private static final double EPSILON = 1e-7;
+    private static final double DAMPING = 0.85;
+    private static final int REFERENCE_ITERATIONS = 500;
+    private static final int LARGE_SIZE = 5000;
+    private static final int LARGE_EDGES = 20000;
+    private static final long SEED = 23L;
+
+
+    // Tests
+    /**
+     * A cycle ranks every vertex equally, and a star with a dangling centre
+     * matches a plain power iteration
+     */
+    @Test
+    void pageRankMatchesReference() {
+        ListGraph<String, Integer> cycle = new ListGraph<>();
+
+        for (String u : new String[] {"a", "b", "c"}) {
+            cycle.add(u);
+        }
+
+        cycle.addEdge("a", "b", 0);
+        cycle.addEdge("b", "c", 0);
+        cycle.addEdge("c", "a", 0);
+
+        PageRankScores<String> even = Ranking.pageRank(cycle);
+
+        assertTrue(even.converged());
+        assertEquals(1.0 / 3, even.scores().get("b"), EPSILON);
+
+        ListGraph<Integer, Integer> star = star();
+        PageRankScores<Integer> scores = Ranking.pageRank(star);
+
+        assertTrue(scores.converged());
+        assertScoresMatch(reference(star, uniform(star.size())), scores.scores());
+        assertTrue(scores.scores().get(0) > scores.scores().get(1));
+    }
+
+
+    /**
+     * Personalized PageRank jumps only to weighted vertices, and invalid
+     * weights are rejected
+     */
+    @Test
+    void personalizedPageRankFollowsWeights() {
+        ListGraph<Integer, Integer> star = star();
+        double[] teleport = new double[star.size()];
+
+        teleport[1] = 1.0;
+
+        PageRankScores<Integer> scores = Ranking.personalizedPageRank(star, Map.of(1, 2.0));
+
+        assertScoresMatch(reference(star, teleport), scores.scores());
+        assertEquals(0.0, scores.scores().get(2), EPSILON);
+        assertThrows(NoSuchVertexException.class, () -> Ranking.personalizedPageRank(star, Map.of(99, 1.0)));
+        assertThrows(IllegalArgumentException.class, () -> Ranking.personalizedPageRank(star, Map.of(1, 0.0)));
+        assertThrows(IllegalArgumentException.class, () -> Ranking.pageRank(star, 1.0, 1e-9, 10));
+    }
+
+
+    /**
+     * Degree centrality divides each degree by {@code n - 1}
+     */
+    @Test
+    void degreeCentralityScalesDegrees() {
+        ListGraph<Integer, Integer> star = star();
+        Map<Integer, Double> in = Ranking.inDegreeCentrality(star);
+        Map<Integer, Double> out = Ranking.outDegreeCentrality(star);
+
+        assertEquals(1.0, in.get(0), EPSILON);
+        assertEquals(0.0, in.get(1), EPSILON);
+        assertEquals(0.0, out.get(0), EPSILON);
+        assertEquals(1.0 / 3, out.get(2), EPSILON);
+    }
+
+
+    /**
+     * HITS favours the hub with the most out-edges and the authority with
+     * the most in-edges, and an edgeless graph scores every vertex equally
+     */
+    @Test
+    void hitsSeparatesHubsAndAuthorities() {
+        ListGraph<String, Integer> graph = new ListGraph<>();
+
+        for (String u : new String[] {"a", "b", "c", "x", "y", "z"}) {
+            graph.add(u);
+        }
+
+        graph.addEdge("a", "x", 0);
+        graph.addEdge("a", "y", 0);
+        graph.addEdge("a", "z", 0);
+        graph.addEdge("b", "x", 0);
+
+        HitsScores<String> scores = Ranking.hits(graph);
+        Map<String, Double> hubs = scores.hubs();
+        Map<String, Double> authorities = scores.authorities();
+
+        assertTrue(scores.converged());
+        assertEquals(1.0, sum(hubs), EPSILON);
+        assertEquals(1.0, sum(authorities), EPSILON);
+        assertTrue(hubs.get("a") > hubs.get("b"));
+        assertEquals(0.0, hubs.get("c"), EPSILON);
+        assertEquals(0.0, hubs.get("x"), EPSILON);
+        assertTrue(authorities.get("x") > authorities.get("y"));
+        assertEquals(authorities.get("y"), authorities.get("z"), EPSILON);
+
+        ListGraph<String, Integer> edgeless = new ListGraph<>();
+
+        edgeless.add("p");
+        edgeless.add("q");
+
+        assertEquals(0.5, Ranking.hits(edgeless).authorities().get("q"), EPSILON);
+    }
+
+
+    /**
+     * A graph large enough to be split across the fork-join pool ranks the
+     * same as a plain power iteration
+     */
+    @Test
+    void parallelPageRankMatchesReference() {
+        ListGraph<Integer, Integer> graph = new ListGraph<>();
+        Random random = new Random(SEED);
+
+        for (int u = 0; u < LARGE_SIZE; u++) {
+            graph.add(u);
+        }
+
+        for (int i = 0; i < LARGE_EDGES; i++) {
+            int u = random.nextInt(LARGE_SIZE);
+            int v = random.nextInt(LARGE_SIZE);
+
+            if (u != v && !graph.containsEdge(u, v)) {
+                graph.addEdge(u, v, 0);
+            }
+        }
+
+        PageRankScores<Integer> scores = Ranking.pageRank(graph);
+
+        assertTrue(scores.converged());
+        assertEquals(1.0, sum(scores.scores()), EPSILON);
+        assertScoresMatch(reference(graph, uniform(LARGE_SIZE)), scores.scores());
+    }
+
+
+    // Helper Methods
+    /**
+     * Builds a star whose leaves 1 to 3 point at a dangling centre 0
+     *
+     * @return Populated graph
+     */
+    private static ListGraph<Integer, Integer> star() {
+        ListGraph<Integer, Integer> graph = new ListGraph<>();
+
+        for (int u = 0; u < 4; u++) {
+            graph.add(u);
+        }
+
+        for (int u = 1; u < 4; u++) {
+            graph.addEdge(u, 0, 0);
+        }
+
+        return graph;
+    }
+
+
+    /**
+     * Computes PageRank by a fixed number of plain power iterations over
+     * vertices labelled {@code 0} to {@code n - 1}, spreading dangling rank
+     * by the teleport distribution
+     *
+     * @param graph Graph to rank
+     * @param teleport Jump probability per vertex
+     * @return Score per vertex
+     */
+    private static double[] reference(DirectedGraph<Integer, Integer> graph, double[] teleport) {
+        int n = graph.size();
+        double[] rank = teleport.clone();
+
+        for (int i = 0; i < REFERENCE_ITERATIONS; i++) {
+            double[] next = new double[n];
+            double dangling = 0.0;
+
+            for (int u = 0; u < n; u++) {
+                int degree = graph.degree(u);
+
+                if (degree == 0) {
+                    dangling += rank[u];
+                }
+
+                for (Iterator<Vertex<Integer>> it = graph.adjacent(u); it.hasNext(); ) {
+                    next[it.next().getLabel()] += DAMPING * rank[u] / degree;
+                }
+            }
+
+            for (int v = 0; v < n; v++) {
+                next[v] += (1 - DAMPING + DAMPING * dangling) * teleport[v];
+            }
+
+            rank = next;
+        }
+
+        return rank;
+    }
+
+
+    /**
+     * Creates a uniform jump distribution
+     *
+     * @param n Number of vertices
+     * @return Equal probability per vertex
+     */
+    private static double[] uniform(int n) {
+        double[] teleport = new double[n];
+
+        Arrays.fill(teleport, 1.0 / n);
+
+        return teleport;
+    }
+
+
+    /**
+     * Asserts that computed scores match the reference for every vertex
+     *
+     * @param expected Reference score per vertex
+     * @param actual Computed score per vertex label
+     */
+    private static void assertScoresMatch(double[] expected, Map<Integer, Double> actual) {
+        assertEquals(expected.length, actual.size());
+
+        for (int u = 0; u < expected.length; u++) {
+            assertEquals(expected[u], actual.get(u), EPSILON);
+        }
+    }
+
+
+    /**
+     * Adds up every score
+     *
+     * @param scores Score per vertex label
+     * @param <V> Label type for vertices
+     * @return Total score
+     */
+    private static <V> double sum(Map<V, Double> scores) {
+        return scores.values().stream().mapToDouble(Double::doubleValue).sum();
+    }
+}
@@ -0,0 +1,116 @@
+// Imports
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Reachability answers from the labels of a {@link ReachabilityIndex}
+ *
+ * @author blee20@georgefox.edu
+ */
+class ReachabilityIndexTest {
+    // Constants
+    private static final int RANDOM_VERTICES = 120;
+    private static final int RANDOM_EDGES = 300;
+    private static final long SEED = 31L;
+
+
+    // Tests
+    /**
+     * Queries on a small DAG follow its paths, including ones outside the
+     * depth-first tree, and a cycle is rejected
+     */
+    @Test
+    void answersFollowPaths() {
+        ListGraph<String, Integer> graph = new ListGraph<>();
+
+        for (String u : new String[] {"a", "b", "c", "d", "e"}) {
+            graph.add(u);
+        }
+
+        graph.addEdge("a", "b", 0);
+        graph.addEdge("a", "c", 0);
+        graph.addEdge("b", "d", 0);
+        graph.addEdge("c", "d", 0);
+
+        ReachabilityIndex<String> index = new ReachabilityIndex<>(graph);
+
+        assertTrue(index.isReachable("a", "d"));
+        assertTrue(index.isReachable("c", "d"));
+        assertTrue(index.isReachable("e", "e"));
+        assertFalse(index.isReachable("d", "a"));
+        assertFalse(index.isReachable("b", "c"));
+        assertFalse(index.isReachable("a", "e"));
+        assertThrows(NoSuchVertexException.class, () -> index.isReachable("a", "z"));
+
+        graph.addEdge("d", "a", 0);
+
+        assertThrows(CycleException.class, () -> new ReachabilityIndex<>(graph));
+    }
+
+
+    /**
+     * Every pair of a seeded random DAG agrees with a breadth-first search,
+     * and the labels alone decide most of them
+     */
+    @Test
+    void randomDagMatchesSearch() {
+        ListGraph<Integer, Integer> dag = new ListGraph<>();
+        Random random = new Random(SEED);
+
+        for (int u = 0; u < RANDOM_VERTICES; u++) {
+            dag.add(u);
+        }
+
+        // Edges only run from lower to higher labels, so the graph stays acyclic
+        for (int i = 0; i < RANDOM_EDGES; i++) {
+            int u = random.nextInt(RANDOM_VERTICES - 1);
+            int v = u + 1 + random.nextInt(RANDOM_VERTICES - u - 1);
+
+            if (!dag.containsEdge(u, v)) {
+                dag.addEdge(u, v, 0);
+            }
+        }
+
+        ReachabilityIndex<Integer> index = new ReachabilityIndex<>(dag);
+        int labelled = 0;
+
+        for (int u = 0; u < RANDOM_VERTICES; u++) {
+            Set<Integer> reached = reached(dag, u);
+
+            for (int v = 0; v < RANDOM_VERTICES; v++) {
+                assertEquals(reached.contains(v), index.isReachable(u, v));
+
+                if (index.isLabelled(u, v)) {
+                    labelled++;
+                }
+            }
+        }
+
+        assertTrue(labelled > RANDOM_VERTICES * RANDOM_VERTICES / 2);
+    }
+
+
+    // Helper Methods
+    /**
+     * Collects every vertex a breadth-first search reaches
+     *
+     * @param graph Graph to traverse
+     * @param start Start vertex
+     * @return Reached vertices, including start
+     */
+    private static Set<Integer> reached(DirectedGraph<Integer, Integer> graph, int start) {
+        Set<Integer> reached = new HashSet<>();
+
+        GraphTraversal.breadthFirst(graph, start, (u, depth) -> reached.add(u));
+
+        return reached;
+    }
+}
@@ -0,0 +1,125 @@
+// Imports
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Distances and paths from {@link ShortestPaths}, and the
+ * {@link IndexedDoubleHeap} behind them
+ *
+ * @author blee20@georgefox.edu
+ */
+class ShortestPathsTest {
+    // Constants
+    private static final double EPSILON = 1e-12;
+
+
+    // Tests
+    /**
+     * Dijkstra prefers the cheaper detour over the direct edge and reports
+     * unreachable vertices
+     */
+    @Test
+    void dijkstraFindsCheapestPaths() {
+        ShortestPathTree<String> tree = ShortestPaths.dijkstra(sample(), "s", Double::doubleValue);
+
+        assertEquals("s", tree.source());
+        assertEquals(3.0, tree.distanceTo("t"), EPSILON);
+        assertEquals(List.of("s", "a", "b", "t"), tree.pathTo("t"));
+        assertEquals(1.0, tree.distanceTo("a"), EPSILON);
+        assertFalse(tree.hasPathTo("x"));
+        assertEquals(Double.POSITIVE_INFINITY, tree.distanceTo("x"));
+        assertTrue(tree.pathTo("x").isEmpty());
+    }
+
+
+    /**
+     * Negative weights are rejected by Dijkstra, handled by Bellman-Ford, and
+     * a reachable negative cycle is reported
+     */
+    @Test
+    void bellmanFordHandlesNegativeWeights() {
+        ListGraph<String, Double> graph = sample();
+
+        graph.removeEdge("a", "b");
+        graph.addEdge("a", "b", -5.0);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> ShortestPaths.dijkstra(graph, "s", Double::doubleValue));
+
+        ShortestPathTree<String> tree = ShortestPaths.bellmanFord(graph, "s", Double::doubleValue);
+
+        assertEquals(-3.0, tree.distanceTo("t"), EPSILON);
+        assertEquals(List.of("s", "a", "b", "t"), tree.pathTo("t"));
+
+        graph.addEdge("b", "a", 1.0);
+
+        assertThrows(CycleException.class, () -> ShortestPaths.bellmanFord(graph, "s", Double::doubleValue));
+    }
+
+
+    /**
+     * A* with an admissible heuristic finds the same distance as Dijkstra
+     */
+    @Test
+    void aStarMatchesDijkstra() {
+        Map<String, Double> estimate = Map.of("s", 3.0, "a", 2.0, "b", 1.0, "t", 0.0, "x", 0.0);
+        ShortestPathTree<String> tree = ShortestPaths.aStar(sample(), "s", "t", Double::doubleValue, estimate::get);
+
+        assertEquals(3.0, tree.distanceTo("t"), EPSILON);
+        assertEquals(List.of("s", "a", "b", "t"), tree.pathTo("t"));
+    }
+
+
+    /**
+     * The heap polls in key order and lowers a queued item's key in place
+     */
+    @Test
+    void heapPollsInKeyOrderAndDecreasesKeys() {
+        IndexedDoubleHeap heap = new IndexedDoubleHeap(5);
+
+        heap.push(0, 5.0);
+        heap.push(1, 3.0);
+        heap.push(2, 4.0);
+        heap.push(0, 1.0);
+
+        assertEquals(3, heap.size());
+        assertEquals(1.0, heap.peekKey(), EPSILON);
+        assertEquals(0, heap.poll());
+        assertEquals(1, heap.poll());
+        assertEquals(2, heap.poll());
+        assertTrue(heap.isEmpty());
+        assertThrows(NoSuchElementException.class, heap::poll);
+    }
+
+
+    // Helper Methods
+    /**
+     * Builds {@code s->a (1), a->b (1), b->t (1), s->t (10), a->t (5)} plus an
+     * unreachable x
+     *
+     * @return Populated graph
+     */
+    private static ListGraph<String, Double> sample() {
+        ListGraph<String, Double> graph = new ListGraph<>();
+
+        for (String u : new String[] {"s", "a", "b", "t", "x"}) {
+            graph.add(u);
+        }
+
+        graph.addEdge("s", "a", 1.0);
+        graph.addEdge("a", "b", 1.0);
+        graph.addEdge("b", "t", 1.0);
+        graph.addEdge("s", "t", 10.0);
+        graph.addEdge("a", "t", 5.0);
+
+        return graph;
+    }
+}
@@ -0,0 +1,150 @@
+// Imports
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+
+/**
+ * Checks that {@link ListGraph#snapshot()} matches the live graph when taken
+ * and stays unchanged however the graph is modified afterwards
+ *
+ * @author blee20@georgefox.edu
+ */
+class SnapshotTest {
+    // Constants
+    private static final int LABELS = 40;
+    private static final int OPS = 20000;
+    private static final int OPS_PER_SNAPSHOT = 50;
+    private static final long SEED = 21;
+
+
+    // Tests
+    /**
+     * Applies random mutations, including removals through each iterator,
+     * taking a snapshot every few operations. Each snapshot must equal a dump
+     * of the live graph made when it was taken, both then and at the end
+     *
+     * @param trackInEdges True to maintain the predecessor index
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void snapshotsMatchLiveGraphAndNeverChange(boolean trackInEdges) {
+        ListGraph<Integer, Integer> graph = new ListGraph<>(trackInEdges);
+        Random random = new Random(SEED);
+        List<FrozenGraph<Integer, Integer>> snapshots = new ArrayList<>();
+        List<String> dumps = new ArrayList<>();
+
+        for (int op = 1; op <= OPS; op++) {
+            mutate(graph, random, trackInEdges);
+
+            if (op % OPS_PER_SNAPSHOT == 0) {
+                FrozenGraph<Integer, Integer> snapshot = graph.snapshot();
+                String live = dump(graph);
+
+                assertEquals(live, dump(snapshot));
+                snapshots.add(snapshot);
+                dumps.add(live);
+            }
+        }
+
+        for (int i = 0; i < snapshots.size(); i++) {
+            assertEquals(dumps.get(i), dump(snapshots.get(i)), "snapshot " + i);
+        }
+    }
+
+
+    // Helper Methods
+    /**
+     * Applies one random change to a graph
+     *
+     * @param graph Graph to change
+     * @param random Source of choices
+     * @param trackInEdges True if the graph keeps a predecessor index
+     */
+    private static void mutate(ListGraph<Integer, Integer> graph, Random random, boolean trackInEdges) {
+        Integer u = random.nextInt(LABELS);
+        Integer v = random.nextInt(LABELS);
+        int choice = random.nextInt(100);
+
+        if (!graph.contains(u)) {
+            graph.add(u);
+        }
+        else if (choice < 40) {
+            if (graph.contains(v) && !graph.containsEdge(u, v)) {
+                graph.addEdge(u, v, random.nextInt());
+            }
+        }
+        else if (choice < 55) {
+            if (graph.contains(v) && graph.containsEdge(u, v)) {
+                graph.removeEdge(u, v);
+            }
+        }
+        else if (choice < 60) {
+            graph.remove(u);
+        }
+        else if (choice < 70) {
+            removeSome(graph.adjacent(u), random);
+        }
+        else if (choice < 75) {
+            removeSome(graph.edges(), random);
+        }
+        else if (choice < 78) {
+            removeSome(graph.vertices(), random);
+        }
+        else if (choice < 85 && trackInEdges) {
+            removeSome(graph.inEdges(u), random);
+        }
+        else if (choice == 99) {
+            graph.clear();
+        }
+    }
+
+
+    /**
+     * Walks an iterator, removing each element with a small probability
+     *
+     * @param it Iterator to walk
+     * @param random Source of choices
+     */
+    private static void removeSome(Iterator<?> it, Random random) {
+        while (it.hasNext()) {
+            it.next();
+
+            if (random.nextInt(8) == 0) {
+                it.remove();
+            }
+        }
+    }
+
+
+    /**
+     * Describes a graph's vertices, edges, counts and degrees in a form that
+     * does not depend on iteration order
+     *
+     * @param graph Graph to describe
+     * @return Description of the graph
+     */
+    private static String dump(DirectedGraph<Integer, Integer> graph) {
+        TreeSet<String> lines = new TreeSet<>();
+
+        for (Iterator<Vertex<Integer>> it = graph.vertices(); it.hasNext(); ) {
+            Integer u = it.next().getLabel();
+
+            lines.add("vertex " + u + " degree " + graph.degree(u));
+        }
+
+        for (Iterator<Edge<Integer, Integer>> it = graph.edges(); it.hasNext(); ) {
+            Edge<Integer, Integer> edge = it.next();
+
+            lines.add("edge " + edge.getU() + " " + edge.getV() + " " + edge.getLabel());
+        }
+
+        return "size " + graph.size() + " edges " + graph.edgeCount() + " " + lines;
+    }
+}
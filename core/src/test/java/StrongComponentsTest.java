@@ -0,0 +1,158 @@
+// Imports
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Components, cycle detection and condensation from {@link StrongComponents}
+ *
+ * @author blee20@georgefox.edu
+ */
+class StrongComponentsTest {
+    // Constants
+    private static final int RING_COUNT = 3000;
+    private static final int RING_SIZE = 3;
+
+
+    // Tests
+    /**
+     * Tarjan's algorithm groups each cycle and numbers components in
+     * topological order of the condensation
+     */
+    @Test
+    void tarjanGroupsCyclesInTopologicalOrder() {
+        StrongComponents<String> components = StrongComponents.tarjan(sample());
+
+        assertEquals(3, components.count());
+        assertTrue(components.sameComponent("a", "c"));
+        assertTrue(components.sameComponent("d", "e"));
+        assertFalse(components.sameComponent("c", "d"));
+        assertTrue(components.componentOf("a") < components.componentOf("d"));
+        assertTrue(components.componentOf("d") < components.componentOf("f"));
+        assertTrue(components.hasCycle());
+        assertThrows(NoSuchVertexException.class, () -> components.componentOf("z"));
+    }
+
+
+    /**
+     * The condensation has one vertex per component and counts the original
+     * edges between each pair
+     */
+    @Test
+    void condensationCountsEdgesBetweenComponents() {
+        ListGraph<String, Integer> graph = sample();
+
+        graph.addEdge("b", "e", 0);
+
+        StrongComponents<String> components = StrongComponents.tarjan(graph);
+        ListGraph<Integer, Integer> condensation = components.condensation();
+        int abc = components.componentOf("a");
+        int de = components.componentOf("d");
+        int f = components.componentOf("f");
+
+        assertEquals(3, condensation.size());
+        assertEquals(2, condensation.edgeCount());
+        assertEquals(2, condensation.getEdge(abc, de).getLabel());
+        assertEquals(1, condensation.getEdge(de, f).getLabel());
+        assertFalse(StrongComponents.tarjan(condensation).hasCycle());
+    }
+
+
+    /**
+     * A DAG has one component per vertex and no cycle
+     */
+    @Test
+    void dagHasNoCycle() {
+        ListGraph<String, Integer> dag = new ListGraph<>();
+
+        for (String u : new String[] {"a", "b", "c"}) {
+            dag.add(u);
+        }
+
+        dag.addEdge("a", "b", 0);
+        dag.addEdge("a", "c", 0);
+        dag.addEdge("b", "c", 0);
+
+        StrongComponents<String> components = StrongComponents.tarjan(dag);
+
+        assertEquals(3, components.count());
+        assertFalse(components.hasCycle());
+    }
+
+
+    /**
+     * Forward-backward search, on a graph large enough to split in parallel,
+     * finds the same partition as Tarjan's algorithm
+     */
+    @Test
+    void forwardBackwardMatchesTarjan() {
+        ListGraph<Integer, Integer> rings = new ListGraph<>();
+        int n = RING_COUNT * RING_SIZE;
+
+        for (int u = 0; u < n; u++) {
+            rings.add(u);
+        }
+
+        for (int u = 0; u < n; u++) {
+            int ring = u / RING_SIZE;
+
+            rings.addEdge(u, ring * RING_SIZE + (u + 1) % RING_SIZE, 0);
+
+            // Links every ring to the next one, so components are not trivially isolated
+            if (u % RING_SIZE == 0 && ring + 1 < RING_COUNT) {
+                rings.addEdge(u, u + RING_SIZE, 0);
+            }
+        }
+
+        StrongComponents<Integer> tarjan = StrongComponents.tarjan(rings);
+        StrongComponents<Integer> parallel = StrongComponents.forwardBackward(rings);
+        Map<Integer, Integer> mapping = new HashMap<>();
+
+        assertEquals(RING_COUNT, tarjan.count());
+        assertEquals(RING_COUNT, parallel.count());
+
+        // Ids differ between the algorithms, but must map one to one
+        for (int u = 0; u < n; u++) {
+            Integer previous = mapping.putIfAbsent(tarjan.componentOf(u), parallel.componentOf(u));
+
+            if (previous != null) {
+                assertEquals(previous.intValue(), parallel.componentOf(u));
+            }
+        }
+
+        assertEquals(RING_COUNT, mapping.size());
+        assertEquals(RING_COUNT, mapping.values().stream().distinct().count());
+    }
+
+
+    // Helper Methods
+    /**
+     * Builds the cycles {@code a->b->c->a} and {@code d->e->d}, joined by
+     * {@code c->d}, with {@code e->f} leading to a sink f
+     *
+     * @return Populated graph
+     */
+    private static ListGraph<String, Integer> sample() {
+        ListGraph<String, Integer> graph = new ListGraph<>();
+
+        for (String u : new String[] {"a", "b", "c", "d", "e", "f"}) {
+            graph.add(u);
+        }
+
+        graph.addEdge("a", "b", 0);
+        graph.addEdge("b", "c", 0);
+        graph.addEdge("c", "a", 0);
+        graph.addEdge("c", "d", 0);
+        graph.addEdge("d", "e", 0);
+        graph.addEdge("e", "d", 0);
+        graph.addEdge("e", "f", 0);
+
+        return graph;
+    }
+}